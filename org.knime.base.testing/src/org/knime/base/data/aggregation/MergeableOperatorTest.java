@@ -0,0 +1,339 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.base.data.aggregation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.MaxOperator;
+import org.knime.base.data.aggregation.general.MinOperator;
+import org.knime.base.data.aggregation.general.PercentOperator;
+import org.knime.base.data.aggregation.numerical.GeometricStdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.MeanOperator;
+import org.knime.base.data.aggregation.numerical.ProductOperator;
+import org.knime.base.data.aggregation.numerical.RangeOperator;
+import org.knime.base.data.aggregation.numerical.StdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.base.data.aggregation.numerical.VarianceOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Checks for all mergeable operators that merging the partial results of two consecutive parts of a group gives the
+ * result of aggregating the whole group, also after the partial result has been saved and loaded, and that the
+ * primitive compute methods give the same result as the cell based one.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MergeableOperatorTest {
+
+    private static final DataColumnSpec DOUBLE_SPEC = new DataColumnSpecCreator("Double", DoubleCell.TYPE).createSpec();
+
+    private static final DataColumnSpec INT_SPEC = new DataColumnSpecCreator("Int", IntCell.TYPE).createSpec();
+
+    private static final DataColumnSpec LONG_SPEC = new DataColumnSpecCreator("Long", LongCell.TYPE).createSpec();
+
+    private static final int SIZE = 200;
+
+    private static final GlobalSettings SETTINGS = GlobalSettings.builder().setNoOfRows(SIZE).build();
+
+    private static final OperatorColumnSettings COL_SETTINGS =
+        new OperatorColumnSettings(false, DOUBLE_SPEC);
+
+    /** Sum. */
+    @Test
+    public void testSum() throws Exception {
+        checkAll(new SumOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Mean. */
+    @Test
+    public void testMean() throws Exception {
+        checkAll(new MeanOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Variance. */
+    @Test
+    public void testVariance() throws Exception {
+        checkAll(new VarianceOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Standard deviation. */
+    @Test
+    public void testStdDeviation() throws Exception {
+        checkAll(new StdDeviationOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Geometric standard deviation, which considers the logarithm of the values. */
+    @Test
+    public void testGeometricStdDeviation() throws Exception {
+        checkAll(new GeometricStdDeviationOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Product. */
+    @Test
+    public void testProduct() throws Exception {
+        checkAll(new ProductOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Count. */
+    @Test
+    public void testCount() throws Exception {
+        checkAll(new CountOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Percent. */
+    @Test
+    public void testPercent() throws Exception {
+        checkAll(new PercentOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Minimum. */
+    @Test
+    public void testMin() throws Exception {
+        checkAll(new MinOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Maximum. */
+    @Test
+    public void testMax() throws Exception {
+        checkAll(new MaxOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /** Range. */
+    @Test
+    public void testRange() throws Exception {
+        checkAll(new RangeOperator(SETTINGS, COL_SETTINGS));
+    }
+
+    /**
+     * Checks that an operator that got skipped in one part skips the merged result, also after the partial result
+     * has been saved and loaded.
+     */
+    @Test
+    public void testSkippedIsMerged() throws Exception {
+        final AggregationOperator template = new SumOperator(SETTINGS, COL_SETTINGS);
+        final List<DataCell> cells = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            cells.add(new IntCell(Integer.MAX_VALUE / 4));
+        }
+        final AggregationOperator full = compute(template, INT_SPEC, false, cells, 0, cells.size());
+        // the sum of the second part alone exceeds the int range
+        final AggregationOperator first = compute(template, INT_SPEC, false, cells, 0, 3);
+        final AggregationOperator second = compute(template, INT_SPEC, false, cells, 3, cells.size());
+        assertTrue("Missing result expected", second.getResult().isMissing());
+        assertTrue("Second part not skipped", second.isSkipped());
+        first.merge(saveAndLoad(template, INT_SPEC, false, second));
+        assertTrue("Missing result expected", full.getResult().isMissing());
+        assertTrue("Merged result not skipped", first.isSkipped());
+        assertEquals("Unexpected skip message", full.getSkipMessage(), first.getSkipMessage());
+    }
+
+    /**
+     * Checks that minimum and maximum keep the original cells in a column of a general type and in a double column
+     * that also contains int cells, e.g. after concatenating tables.
+     */
+    @Test
+    public void testMinMaxMixedTypeColumn() throws Exception {
+        final DataColumnSpec generalSpec =
+            new DataColumnSpecCreator("General", DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE))
+                .createSpec();
+        final List<DataCell> generalCells = new ArrayList<>();
+        final List<DataCell> numberCells = new ArrayList<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            final DataCell number =
+                i % 2 == 0 ? new IntCell(random.nextInt(1000) - 500) : new DoubleCell(random.nextDouble() * 1000 - 500);
+            numberCells.add(i % 7 == 3 ? DataType.getMissingCell() : number);
+            generalCells.add(i % 3 == 1 ? new StringCell("s" + random.nextInt(1000)) : number);
+        }
+        for (final boolean inclMissing : new boolean[]{false, true}) {
+            checkMixed(new MinOperator(SETTINGS, COL_SETTINGS), generalSpec, inclMissing, generalCells, -1);
+            checkMixed(new MaxOperator(SETTINGS, COL_SETTINGS), generalSpec, inclMissing, generalCells, 1);
+            checkMixed(new MinOperator(SETTINGS, COL_SETTINGS), DOUBLE_SPEC, inclMissing, numberCells, -1);
+            checkMixed(new MaxOperator(SETTINGS, COL_SETTINGS), DOUBLE_SPEC, inclMissing, numberCells, 1);
+        }
+    }
+
+    /**
+     * @param sign -1 if the operator returns the smallest cell, 1 for the largest one
+     */
+    private static void checkMixed(final AggregationOperator template, final DataColumnSpec spec,
+        final boolean inclMissing, final List<DataCell> cells, final int sign) throws Exception {
+        final String name = template.getLabel() + " on " + spec.getName() + " (incl. missing: " + inclMissing + ")";
+        final DataValueComparator comparator = spec.getType().getComparator();
+        DataCell expected = null;
+        for (final DataCell cell : cells) {
+            if (!cell.isMissing() && (expected == null || sign * comparator.compare(cell, expected) > 0)) {
+                expected = cell;
+            }
+        }
+        final AggregationOperator full = compute(template, spec, inclMissing, cells, 0, cells.size());
+        assertEquals(name + ": unexpected result", expected, full.getResult());
+        assertEquals(name + ": unexpected result type", expected.getClass(), full.getResult().getClass());
+        for (final int split : new int[]{0, 1, 3, cells.size() / 2, cells.size() - 1, cells.size()}) {
+            final AggregationOperator first = compute(template, spec, inclMissing, cells, 0, split);
+            final AggregationOperator second = compute(template, spec, inclMissing, cells, split, cells.size());
+            first.merge(saveAndLoad(template, spec, inclMissing, second));
+            assertEquals(name + ": unexpected result after merge at " + split, expected, first.getResult());
+            assertEquals(name + ": unexpected result type after merge at " + split, expected.getClass(),
+                first.getResult().getClass());
+        }
+    }
+
+    private static void checkAll(final AggregationOperator template) throws Exception {
+        for (final DataColumnSpec spec : new DataColumnSpec[]{DOUBLE_SPEC, INT_SPEC, LONG_SPEC}) {
+            for (final boolean inclMissing : new boolean[]{false, true}) {
+                check(template, spec, inclMissing, createCells(spec));
+            }
+        }
+    }
+
+    /** Positive values, every 7th one missing. */
+    private static List<DataCell> createCells(final DataColumnSpec spec) {
+        final Random random = new Random(42);
+        final List<DataCell> cells = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            if (i % 7 == 3) {
+                cells.add(DataType.getMissingCell());
+            } else if (spec == INT_SPEC) {
+                cells.add(new IntCell(1 + random.nextInt(1000)));
+            } else if (spec == LONG_SPEC) {
+                cells.add(new LongCell(1 + random.nextInt(1000)));
+            } else {
+                // close to 1 to keep the product in range
+                cells.add(new DoubleCell(0.5 + random.nextDouble()));
+            }
+        }
+        return cells;
+    }
+
+    private static void check(final AggregationOperator template, final DataColumnSpec spec,
+        final boolean inclMissing, final List<DataCell> cells) throws Exception {
+        final String name = template.getLabel() + " on " + spec.getName() + " (incl. missing: " + inclMissing + ")";
+        final AggregationOperator full = compute(template, spec, inclMissing, cells, 0, cells.size());
+        for (final int split : new int[]{0, 1, 3, cells.size() / 2, cells.size() - 1, cells.size()}) {
+            final AggregationOperator first = compute(template, spec, inclMissing, cells, 0, split);
+            final AggregationOperator second = compute(template, spec, inclMissing, cells, split, cells.size());
+            first.merge(saveAndLoad(template, spec, inclMissing, second));
+            assertEquals(name + ": unexpected missing value count after merge at " + split,
+                full.getMissingValuesCount(), first.getMissingValuesCount());
+            assertResult(name + ": unexpected result after merge at " + split, full, first);
+        }
+        if (!inclMissing) {
+            // the primitive methods are only called for non-missing values
+            final AggregationOperator primitive =
+                template.createInstance(SETTINGS, new OperatorColumnSettings(inclMissing, spec));
+            for (final DataCell cell : cells) {
+                if (cell instanceof IntCell || cell instanceof LongCell) {
+                    primitive.compute(((LongValue)cell).getLongValue());
+                } else if (!cell.isMissing()) {
+                    primitive.compute(((DoubleValue)cell).getDoubleValue());
+                }
+            }
+            assertResult(name + ": unexpected result of primitive methods", full, primitive);
+        }
+    }
+
+    private static AggregationOperator compute(final AggregationOperator template, final DataColumnSpec spec,
+        final boolean inclMissing, final List<DataCell> cells, final int from, final int to) {
+        final AggregationOperator operator =
+            template.createInstance(SETTINGS, new OperatorColumnSettings(inclMissing, spec));
+        for (int i = from; i < to; i++) {
+            operator.compute(new DefaultRow("Row" + i, cells.get(i)), 0);
+        }
+        return operator;
+    }
+
+    private static AggregationOperator saveAndLoad(final AggregationOperator template, final DataColumnSpec spec,
+        final boolean inclMissing, final AggregationOperator operator) throws Exception {
+        final NodeSettings settings = new NodeSettings("state");
+        operator.saveState(settings);
+        final AggregationOperator loaded =
+            template.createInstance(SETTINGS, new OperatorColumnSettings(inclMissing, spec));
+        loaded.loadState(settings);
+        assertEquals("Unexpected skipped flag after loading", operator.isSkipped(), loaded.isSkipped());
+        assertEquals("Unexpected missing value count after loading", operator.getMissingValuesCount(),
+            loaded.getMissingValuesCount());
+        return loaded;
+    }
+
+    /** Compares the results, floating point results with a relative tolerance as the summation order differs. */
+    private static void assertResult(final String message, final AggregationOperator expected,
+        final AggregationOperator actual) {
+        final DataCell expectedCell = expected.getResult();
+        final DataCell actualCell = actual.getResult();
+        if (!expectedCell.isMissing() && !(expectedCell instanceof IntValue || expectedCell instanceof LongValue)
+            && expectedCell instanceof DoubleValue && actualCell instanceof DoubleValue) {
+            final double e = ((DoubleValue)expectedCell).getDoubleValue();
+            final double a = ((DoubleValue)actualCell).getDoubleValue();
+            assertEquals(message, e, a, 1e-9 * Math.max(1, Math.abs(e)));
+        } else {
+            assertEquals(message, expectedCell, actualCell);
+        }
+        assertEquals(message + " (skipped)", expected.isSkipped(), actual.isSkipped());
+    }
+}
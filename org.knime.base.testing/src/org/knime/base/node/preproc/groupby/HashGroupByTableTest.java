@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.data.aggregation.AggregationMethods;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Compares the groups of the {@link HashGroupByTable} with the ones of the {@link BigGroupByTable}, with and without
+ * spilled partitions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashGroupByTableTest {
+
+    private static final List<String> GROUP_COLS = Arrays.asList("Group", "Category");
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    /**
+     * Creates the input table: groups of different sizes, with missing values in group and aggregation columns.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+
+        final DataTableSpec spec = new DataTableSpec(new String[]{"Group", "Category", "Value"},
+            new DataType[]{IntCell.TYPE, StringCell.TYPE, IntCell.TYPE});
+        final BufferedDataContainer container = m_exec.createDataContainer(spec);
+        for (int i = 0; i < 5000; i++) {
+            final DataCell group = i % 97 == 0 ? DataType.getMissingCell() : new IntCell((i * 7919) % 500);
+            final DataCell category = new StringCell("c" + (i % 3));
+            final DataCell value = i % 13 == 0 ? DataType.getMissingCell() : new IntCell(i % 101);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(i), group, category, value));
+        }
+        container.close();
+        m_table = container.getTable();
+    }
+
+    /** Switches the forced spilling off again. */
+    @After
+    public void tearDown() {
+        HashGroupByTable.setRowsBeforeForcedSpill(0);
+    }
+
+    /**
+     * Checks that both tables contain the same groups with the same aggregates and row keys.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testGroups() throws Exception {
+        assertThat("Unexpected groups", getGroups(createHashTable(false)), is(getGroups(createBigTable(false))));
+    }
+
+    /**
+     * Checks that both tables contain the same groups if partitions are spilled repeatedly, also at deeper recursion
+     * levels.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testGroupsWithSpilling() throws Exception {
+        HashGroupByTable.setRowsBeforeForcedSpill(300);
+        assertThat("Unexpected groups", getGroups(createHashTable(false)), is(getGroups(createBigTable(false))));
+    }
+
+    /**
+     * Checks that both tables return the same rows in the same order if the row order is retained.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRetainOrder() throws Exception {
+        assertThat("Unexpected rows", getRows(createHashTable(true)), is(getRows(createBigTable(true))));
+    }
+
+    /**
+     * Checks that both tables return the same rows in the same order if the row order is retained and partitions are
+     * spilled.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRetainOrderWithSpilling() throws Exception {
+        HashGroupByTable.setRowsBeforeForcedSpill(300);
+        assertThat("Unexpected rows", getRows(createHashTable(true)), is(getRows(createBigTable(true))));
+    }
+
+    private GroupByTable createHashTable(final boolean retainOrder) throws Exception {
+        return new HashGroupByTable(m_exec, m_table, GROUP_COLS, createAggregators(), createGlobalSettings(), true,
+            ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, retainOrder);
+    }
+
+    private GroupByTable createBigTable(final boolean retainOrder) throws Exception {
+        return new BigGroupByTable(m_exec, m_table, GROUP_COLS, createAggregators(), createGlobalSettings(), true,
+            ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, retainOrder);
+    }
+
+    private ColumnAggregator[] createAggregators() {
+        final String[] methods = new String[]{"Sum_V2.5.2", "Count", "Mean", "Minimum", "Maximum"};
+        final ColumnAggregator[] aggregators = new ColumnAggregator[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            aggregators[i] = new ColumnAggregator(m_table.getDataTableSpec().getColumnSpec("Value"),
+                AggregationMethods.getMethod4Id(methods[i]));
+        }
+        return aggregators;
+    }
+
+    private GlobalSettings createGlobalSettings() {
+        return GlobalSettings.builder().setGroupColNames(GROUP_COLS).setDataTableSpec(m_table.getDataTableSpec())
+            .setNoOfRows(m_table.size()).build();
+    }
+
+    /** @return the cells of each group mapped to the row keys of its input rows */
+    private static Map<List<DataCell>, Set<RowKey>> getGroups(final GroupByTable table) {
+        final Map<RowKey, Set<RowKey>> hiliteMapping = table.getHiliteMapping();
+        final Map<List<DataCell>, Set<RowKey>> groups = new HashMap<>();
+        for (final DataRow row : table.getBufferedTable()) {
+            final List<DataCell> cells = getCells(row);
+            assertThat("Duplicate group " + cells, groups.containsKey(cells), is(false));
+            groups.put(cells, hiliteMapping.get(row.getKey()));
+        }
+        assertThat("Unexpected number of hilite mappings", hiliteMapping.size(), is(groups.size()));
+        return groups;
+    }
+
+    /** @return the cells of the rows in their order, followed by the row keys of the input rows of the group */
+    private static List<List<Object>> getRows(final GroupByTable table) {
+        final Map<RowKey, Set<RowKey>> hiliteMapping = table.getHiliteMapping();
+        final List<List<Object>> rows = new ArrayList<>();
+        for (final DataRow row : table.getBufferedTable()) {
+            final List<Object> values = new ArrayList<Object>(getCells(row));
+            final List<RowKey> keys = new ArrayList<>(hiliteMapping.get(row.getKey()));
+            Collections.sort(keys, (k1, k2) -> k1.getString().compareTo(k2.getString()));
+            values.add(keys);
+            rows.add(values);
+        }
+        return rows;
+    }
+
+    private static List<DataCell> getCells(final DataRow row) {
+        final List<DataCell> cells = new ArrayList<>(row.getNumCells());
+        for (final DataCell cell : row) {
+            cells.add(cell);
+        }
+        return cells;
+    }
+}
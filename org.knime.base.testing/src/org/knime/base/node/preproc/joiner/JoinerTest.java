@@ -49,13 +49,20 @@
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.CompositionMode;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
@@ -63,16 +70,21 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.DefaultNodeProgressMonitor;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
@@ -405,11 +417,222 @@ public void testSortPartitionsFullOuterJoin() throws Exception {
     }
 
 
-    private Joiner2Settings createReferenceSettings(final String col) {
+    /**
+     * Checks that the parallel join on a single int column, whose keys are encoded as long values, gives the same
+     * result as the hash join, including missing keys and spilled partitions.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParallelJoinIntKeys() throws Exception {
+        checkParallelJoin(CompositionMode.MatchAll, "Key");
+    }
+
+    /**
+     * Checks the parallel join on a single double column, whose keys are encoded as long values, with missing values,
+     * NaN and positive and negative zero.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParallelJoinDoubleKeys() throws Exception {
+        checkParallelJoin(CompositionMode.MatchAll, "Double key");
+    }
+
+    /**
+     * Checks the parallel join on a string column and on the row ids, which use join tuples.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParallelJoinTupleKeys() throws Exception {
+        checkParallelJoin(CompositionMode.MatchAll, "String key");
+        checkParallelJoin(CompositionMode.MatchAll, Joiner2Settings.ROW_KEY_IDENTIFIER);
+    }
+
+    /**
+     * Checks the parallel join on several columns, if all or any of them have to match.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParallelJoinMultipleKeys() throws Exception {
+        checkParallelJoin(CompositionMode.MatchAll, "Key", "String key");
+        checkParallelJoin(CompositionMode.MatchAny, "Key", "String key");
+    }
+
+    /**
+     * Compares the parallel join with the hash join for all join modes, with and without spilled partitions. The
+     * output must be the same, including the row order.
+     */
+    private void checkParallelJoin(final CompositionMode compositionMode, final String... cols) throws Exception {
+        BufferedDataTable leftTable = m_exec.createBufferedDataTable(new KeyTestData(150, 1), m_exec);
+        BufferedDataTable rightTable = m_exec.createBufferedDataTable(new KeyTestData(200, 2), m_exec);
+        for (JoinMode joinMode : JoinMode.values()) {
+            Joiner2Settings settingsRef = createReferenceSettings(cols);
+            settingsRef.setJoinMode(joinMode);
+            settingsRef.setCompositionMode(compositionMode);
+            Joiner joinerRef = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsRef);
+            BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+            for (int rowsBeforeOOM : new int[]{0, 10}) {
+                Joiner2Settings settingsTest = createReferenceSettings(cols);
+                settingsTest.setJoinMode(joinMode);
+                settingsTest.setCompositionMode(compositionMode);
+                settingsTest.setParallelJoin(true);
+                Joiner joinerTest =
+                    new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsTest);
+                joinerTest.setRowsAddedBeforeOOM(rowsBeforeOOM);
+                BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+                compareTables(reference, test);
+            }
+        }
+    }
+
+    /**
+     * Checks that the sort-merge join on sorted inputs gives the same result as the hash join, including the row
+     * order. Missing values are sorted to the start and to the end of the inputs.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSortMergeJoinSortedInput() throws Exception {
+        for (boolean missingsToEnd : new boolean[]{false, true}) {
+            checkSortMergeJoin(true, missingsToEnd, "Key");
+            checkSortMergeJoin(true, missingsToEnd, "Double key");
+            checkSortMergeJoin(true, missingsToEnd, "String key");
+            checkSortMergeJoin(true, missingsToEnd, "Key", "String key");
+        }
+    }
+
+    /**
+     * Checks that the sort-merge join sorts unsorted inputs and joins the same rows as the hash join, and that the
+     * automatic mode then gives the result of the hash join.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSortMergeJoinUnsortedInput() throws Exception {
+        checkSortMergeJoin(false, false, "Key");
+        checkSortMergeJoin(false, false, "Double key");
+        checkSortMergeJoin(false, false, "String key");
+        checkSortMergeJoin(false, false, "Key", "String key");
+    }
+
+    /**
+     * Checks that row ids in alphanumeric order are considered sorted and that the sort-merge join gives the same
+     * result as the hash join on them.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSortMergeJoinRowKeys() throws Exception {
+        BufferedDataTable table = m_exec.createBufferedDataTable(new KeyTestData(150, 1), m_exec);
+        DataTableSpec spec = table.getDataTableSpec();
+        SortMergeJoin join = new SortMergeJoin(new int[]{-1}, new int[]{-1}, spec, spec, new int[0], new int[0], null,
+            false, false, false);
+        assertThat("Row ids in alphanumeric order not sorted", join.isSorted(table, true, m_exec), is(true));
+
+        checkSortMergeJoin(true, false, Joiner2Settings.ROW_KEY_IDENTIFIER);
+    }
+
+    /**
+     * Checks the order used to compare row ids.
+     */
+    @Test
+    public void testCompareAlphanumeric() {
+        assertThat(SortMergeJoin.compareAlphanumeric("Row2", "Row10") < 0, is(true));
+        assertThat(SortMergeJoin.compareAlphanumeric("Row10", "Row2") > 0, is(true));
+        assertThat(SortMergeJoin.compareAlphanumeric("Row10", "Row10"), is(0));
+        assertThat(SortMergeJoin.compareAlphanumeric("Row9_a", "Row9_b") < 0, is(true));
+        assertThat(SortMergeJoin.compareAlphanumeric("Row9", "Row9_b") < 0, is(true));
+        assertThat(SortMergeJoin.compareAlphanumeric("a", "1") > 0, is(true));
+        // row ids are only equal if they are identical
+        assertThat(SortMergeJoin.compareAlphanumeric("Row01", "Row1") != 0, is(true));
+        assertThat(Integer.signum(SortMergeJoin.compareAlphanumeric("Row01", "Row1")),
+            is(-Integer.signum(SortMergeJoin.compareAlphanumeric("Row1", "Row01"))));
+    }
+
+    /**
+     * Checks that an unknown join algorithm is reported as invalid setting and replaced by the hash join in the
+     * dialog.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUnknownJoinAlgorithm() throws Exception {
+        NodeSettings settings = new NodeSettings("joiner");
+        createReferenceSettings("Key").saveSettings(settings);
+        settings.addString("joinAlgorithm", "UnknownJoin");
+        try {
+            new Joiner2Settings().loadSettings(settings);
+            fail("Unknown join algorithm not reported");
+        } catch (InvalidSettingsException e) {
+            // expected
+        }
+        Joiner2Settings dialogSettings = new Joiner2Settings();
+        dialogSettings.setJoinAlgorithm(JoinAlgorithm.SortMergeJoin);
+        dialogSettings.loadSettingsForDialog(settings);
+        assertThat(dialogSettings.getJoinAlgorithm(), is(JoinAlgorithm.HashJoin));
+    }
+
+    /**
+     * Compares the sort-merge join and the automatic mode with the hash join for all join modes.
+     *
+     * @param sorted whether the inputs are sorted by the joining columns
+     * @param missingsToEnd whether missing values are sorted to the end of the inputs
+     */
+    private void checkSortMergeJoin(final boolean sorted, final boolean missingsToEnd, final String... cols)
+        throws Exception {
+        BufferedDataTable leftTable = m_exec.createBufferedDataTable(new KeyTestData(150, 1), m_exec);
+        BufferedDataTable rightTable = m_exec.createBufferedDataTable(new KeyTestData(200, 2), m_exec);
+        if (sorted && !Joiner2Settings.ROW_KEY_IDENTIFIER.equals(cols[0])) {
+            boolean[] ascending = new boolean[cols.length];
+            Arrays.fill(ascending, true);
+            leftTable = new BufferedDataTableSorter(leftTable, Arrays.asList(cols), ascending, missingsToEnd)
+                .sort(m_exec);
+            rightTable = new BufferedDataTableSorter(rightTable, Arrays.asList(cols), ascending, missingsToEnd)
+                .sort(m_exec);
+        }
+        for (JoinMode joinMode : JoinMode.values()) {
+            Joiner2Settings settingsRef = createReferenceSettings(cols);
+            settingsRef.setJoinMode(joinMode);
+            Joiner joinerRef = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsRef);
+            BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+            for (JoinAlgorithm algorithm : new JoinAlgorithm[]{JoinAlgorithm.SortMergeJoin, JoinAlgorithm.Automatic}) {
+                Joiner2Settings settingsTest = createReferenceSettings(cols);
+                settingsTest.setJoinMode(joinMode);
+                settingsTest.setJoinAlgorithm(algorithm);
+                Joiner joinerTest =
+                    new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsTest);
+                BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+                if (sorted || JoinAlgorithm.Automatic.equals(algorithm)) {
+                    compareTables(reference, test);
+                } else {
+                    // sorted inputs give a different row order
+                    assertThat("Unexpected joined rows", getRows(test), is(getRows(reference)));
+                }
+            }
+        }
+    }
+
+    private static Map<RowKey, List<DataCell>> getRows(final BufferedDataTable table) {
+        Map<RowKey, List<DataCell>> rows = new HashMap<RowKey, List<DataCell>>();
+        for (DataRow row : table) {
+            List<DataCell> cells = new ArrayList<DataCell>();
+            for (DataCell cell : row) {
+                cells.add(cell);
+            }
+            rows.put(row.getKey(), cells);
+        }
+        return rows;
+    }
+
+    private Joiner2Settings createReferenceSettings(final String... cols) {
         Joiner2Settings settingsRef = new Joiner2Settings();
-        String[] joinColumns = new String[]{col};
-        settingsRef.setLeftJoinColumns(joinColumns);
-        settingsRef.setRightJoinColumns(joinColumns);
+        settingsRef.setLeftJoinColumns(cols);
+        settingsRef.setRightJoinColumns(cols);
         return settingsRef;
     }
 
@@ -493,4 +716,52 @@ public DataRow next() {
 
     }
 
+    /**
+     * Rows with duplicate and missing keys in an int, a double and a string column. The double keys include NaN and
+     * positive and negative zero.
+     */
+    private static class KeyTestData implements DataTable {
+        private static final double[] DOUBLE_KEYS = new double[]{0.0, -0.0, Double.NaN, 1.5, -2.25, 1e10};
+
+        private final int m_size;
+
+        private final int m_randSeed;
+
+        KeyTestData(final int size, final int randSeed) {
+            m_size = size;
+            m_randSeed = randSeed;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return new DataTableSpec("KeyTestDataSpec", new String[]{"Key", "Double key", "String key"},
+                new DataType[]{IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+        }
+
+        @Override
+        public RowIterator iterator() {
+            final Random rand = new Random(m_randSeed);
+            return new RowIterator() {
+                private int m_count;
+
+                @Override
+                public boolean hasNext() {
+                    return m_count < m_size;
+                }
+
+                @Override
+                public DataRow next() {
+                    final int count = m_count++;
+                    final DataCell key =
+                        rand.nextInt(10) == 0 ? DataType.getMissingCell() : new IntCell(rand.nextInt(60));
+                    final DataCell doubleKey = rand.nextInt(10) == 0 ? DataType.getMissingCell()
+                        : new DoubleCell(DOUBLE_KEYS[rand.nextInt(DOUBLE_KEYS.length)]);
+                    final DataCell stringKey =
+                        rand.nextInt(10) == 0 ? DataType.getMissingCell() : new StringCell("s" + rand.nextInt(40));
+                    return new DefaultRow("Row" + count, key, doubleKey, stringKey);
+                }
+            };
+        }
+    }
+
 }
@@ -55,6 +55,9 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -112,6 +115,9 @@ public abstract class AggregationOperator implements AggregationMethod {
     private final OperatorColumnSettings m_opColSettings;
     private final OperatorData m_operatorData;
 
+    /** The cells of this class are passed to the primitive methods, <code>null</code> if none. */
+    private final Class<? extends DataCell> m_primitiveCellClass;
+
     private long m_missingValuesCount;  // we intentionally do not add it to equals and hashCode in order to not break anything
 
 
@@ -139,6 +145,28 @@ public AggregationOperator(final OperatorData operatorData, final GlobalSettings
         m_opColSettings = opColSettings;
         m_operatorData = operatorData;
         m_missingValuesCount = 0;
+        m_primitiveCellClass = getPrimitiveCellClass(opColSettings);
+    }
+
+    /**
+     * A column of a general type, e.g. the concatenation of an int and a double column, may contain numerical cells
+     * of several types. Only the cells of the numerical column types are passed to the primitive methods, such that
+     * their result has the type of the column.
+     */
+    private static Class<? extends DataCell> getPrimitiveCellClass(final OperatorColumnSettings opColSettings) {
+        final DataColumnSpec spec = opColSettings == null ? null : opColSettings.getOriginalColSpec();
+        if (spec == null) {
+            return null;
+        }
+        final DataType type = spec.getType();
+        if (IntCell.TYPE.equals(type)) {
+            return IntCell.class;
+        } else if (LongCell.TYPE.equals(type)) {
+            return LongCell.class;
+        } else if (DoubleCell.TYPE.equals(type)) {
+            return DoubleCell.class;
+        }
+        return null;
     }
 
     /**
@@ -317,15 +345,57 @@ public final void compute(final DataRow row, final int... idxs) {
             } else {
                 cell = row.getCell(idx);
             }
-            if (inclMissingCells() || !cell.isMissing()) {
-                m_skipped = computeInternal(row, cell);
-            }
             if (cell.isMissing()) {
+                if (inclMissingCells()) {
+                    m_skipped = computeInternal(row, cell);
+                }
                 m_missingValuesCount++;
+            } else if (cell.getClass() == m_primitiveCellClass && supportsPrimitiveValues()) {
+                if (cell instanceof IntCell) {
+                    m_skipped = computeInternal(((IntCell)cell).getIntValue());
+                } else if (cell instanceof LongCell) {
+                    m_skipped = computeInternal(((LongCell)cell).getLongValue());
+                } else {
+                    m_skipped = computeInternal(((DoubleCell)cell).getDoubleValue());
+                }
+            } else {
+                m_skipped = computeInternal(row, cell);
             }
         }
     }
 
+    /**
+     * Considers the given non-missing double value during computation without the need to wrap it into a
+     * {@link DataCell}. Operators that override {@link #computeInternal(double)} do not create any object per value.
+     * The method must only be used for operators that are compatible with {@link org.knime.core.data.DoubleValue}
+     * columns.
+     *
+     * @param value the value to consider during computing
+     * @since 3.6
+     */
+    public final void compute(final double value) {
+        if (m_skipped) {
+            return;
+        }
+        m_skipped = computeInternal(value);
+    }
+
+    /**
+     * Considers the given non-missing long value during computation without the need to wrap it into a
+     * {@link DataCell}. Operators that override {@link #computeInternal(long)} do not create any object per value.
+     * The method must only be used for operators that are compatible with {@link org.knime.core.data.LongValue}
+     * columns.
+     *
+     * @param value the value to consider during computing
+     * @since 3.6
+     */
+    public final void compute(final long value) {
+        if (m_skipped) {
+            return;
+        }
+        m_skipped = computeInternal(value);
+    }
+
     /**
      * @return <code>true</code> if the original {@link DataColumnSpec} should
      * be kept.
@@ -379,6 +449,48 @@ protected boolean computeInternal(final DataRow row, final DataCell cell) {
      */
     protected abstract boolean computeInternal(final DataCell cell);
 
+    /**
+     * Override this method and return <code>true</code> if the operator overrides {@link #computeInternal(double)}
+     * and {@link #computeInternal(long)} and these consider a value the same way {@link #computeInternal(DataCell)}
+     * considers the corresponding cell. {@link #compute(DataRow, int...)} then passes the values of non-missing
+     * {@link IntCell}s, {@link LongCell}s and {@link DoubleCell}s to the primitive methods instead of the cells, if
+     * the type of the column is the type of these cells.
+     * Subclasses of such an operator that override {@link #computeInternal(DataCell)} have to override this method
+     * as well.
+     *
+     * @return <code>true</code> if the values of numerical cells can be considered by the primitive methods
+     * @since 3.6
+     */
+    protected boolean supportsPrimitiveValues() {
+        return false;
+    }
+
+    /**
+     * Override this method to consider a primitive double value without creating a {@link DataCell}. The default
+     * implementation wraps the value into a {@link DoubleCell} and calls {@link #computeInternal(DataCell)}.
+     *
+     * @param value the non-missing value to consider during computing
+     * @return <code>true</code> if this column should be skipped in further calculations
+     * @see #compute(double)
+     * @since 3.6
+     */
+    protected boolean computeInternal(final double value) {
+        return computeInternal(new DoubleCell(value));
+    }
+
+    /**
+     * Override this method to consider a primitive long value without creating a {@link DataCell}. The default
+     * implementation wraps the value into a {@link LongCell} and calls {@link #computeInternal(DataCell)}.
+     *
+     * @param value the non-missing value to consider during computing
+     * @return <code>true</code> if this column should be skipped in further calculations
+     * @see #compute(long)
+     * @since 3.6
+     */
+    protected boolean computeInternal(final long value) {
+        return computeInternal(new LongCell(value));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -449,6 +561,133 @@ public final void reset() {
      */
     protected abstract void resetInternal();
 
+    /**
+     * Override this method and return <code>true</code> if the operator supports combining partial results using
+     * {@link #merge(AggregationOperator)} and storing them using {@link #saveState(NodeSettingsWO)} and
+     * {@link #loadState(NodeSettingsRO)}. This allows to aggregate disjoint parts of a group independently, e.g. in
+     * parallel or in consecutive chunks, and to combine the results afterwards. Subclasses of a mergeable operator
+     * that hold additional state have to override this method as well.
+     *
+     * @return <code>true</code> if the partial results of this operator can be merged
+     * @since 3.6
+     */
+    public boolean isMergeable() {
+        return false;
+    }
+
+    /**
+     * Merges the partial result of the given operator into this operator. Afterwards this operator returns the
+     * result it would have returned if it had considered all values of both operators. The given operator is not
+     * changed.
+     *
+     * @param other an operator of the same class that has aggregated a disjoint part of the group
+     * @throws UnsupportedOperationException if this operator is not {@link #isMergeable() mergeable}
+     * @throws IllegalArgumentException if the other operator is not of the same class
+     * @since 3.6
+     */
+    public final void merge(final AggregationOperator other) {
+        if (!isMergeable()) {
+            throw new UnsupportedOperationException(
+                "Operator '" + getLabel() + "' does not support merging of partial results");
+        }
+        if (other == null || other.getClass() != getClass()) {
+            throw new IllegalArgumentException("Operator to merge must be of class " + getClass().getName());
+        }
+        if (m_skipped) {
+            return;
+        }
+        if (other.m_skipped) {
+            m_skipped = true;
+            m_skipMsg = other.m_skipMsg;
+            return;
+        }
+        m_missingValuesCount += other.m_missingValuesCount;
+        m_skipped = mergeInternal(other);
+    }
+
+    /**
+     * Override this method if the operator is {@link #isMergeable() mergeable}.
+     *
+     * @param other an operator of the same class that has aggregated a disjoint part of the group and that is not
+     *            skipped
+     * @return <code>true</code> if this column should be skipped in further calculations
+     * @see #merge(AggregationOperator)
+     * @since 3.6
+     */
+    protected boolean mergeInternal(final AggregationOperator other) {
+        throw new UnsupportedOperationException(
+            "Operator '" + getLabel() + "' does not support merging of partial results");
+    }
+
+    private static final String CFG_STATE_SKIPPED = "skipped";
+
+    private static final String CFG_STATE_SKIP_MSG = "skipMessage";
+
+    private static final String CFG_STATE_MISSING_COUNT = "missingValuesCount";
+
+    /**
+     * Saves the partial result of this operator, which can be restored in an operator created with the same settings
+     * by {@link #loadState(NodeSettingsRO)}.
+     *
+     * @param settings the settings to write to
+     * @throws UnsupportedOperationException if this operator is not {@link #isMergeable() mergeable}
+     * @since 3.6
+     */
+    public final void saveState(final NodeSettingsWO settings) {
+        if (!isMergeable()) {
+            throw new UnsupportedOperationException(
+                "Operator '" + getLabel() + "' does not support saving of partial results");
+        }
+        settings.addBoolean(CFG_STATE_SKIPPED, m_skipped);
+        settings.addString(CFG_STATE_SKIP_MSG, m_skipMsg);
+        settings.addLong(CFG_STATE_MISSING_COUNT, m_missingValuesCount);
+        saveStateInternal(settings);
+    }
+
+    /**
+     * Replaces the partial result of this operator by the one written by {@link #saveState(NodeSettingsWO)}.
+     *
+     * @param settings the settings to read from
+     * @throws InvalidSettingsException if the settings do not contain a valid state
+     * @throws UnsupportedOperationException if this operator is not {@link #isMergeable() mergeable}
+     * @since 3.6
+     */
+    public final void loadState(final NodeSettingsRO settings) throws InvalidSettingsException {
+        if (!isMergeable()) {
+            throw new UnsupportedOperationException(
+                "Operator '" + getLabel() + "' does not support loading of partial results");
+        }
+        m_skipped = settings.getBoolean(CFG_STATE_SKIPPED);
+        m_skipMsg = settings.getString(CFG_STATE_SKIP_MSG);
+        m_missingValuesCount = settings.getLong(CFG_STATE_MISSING_COUNT);
+        loadStateInternal(settings);
+    }
+
+    /**
+     * Override this method if the operator is {@link #isMergeable() mergeable}.
+     *
+     * @param settings the settings to write the operator specific partial result to
+     * @see #saveState(NodeSettingsWO)
+     * @since 3.6
+     */
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        throw new UnsupportedOperationException(
+            "Operator '" + getLabel() + "' does not support saving of partial results");
+    }
+
+    /**
+     * Override this method if the operator is {@link #isMergeable() mergeable}.
+     *
+     * @param settings the settings to read the operator specific partial result from
+     * @throws InvalidSettingsException if the settings do not contain a valid state
+     * @see #loadState(NodeSettingsRO)
+     * @since 3.6
+     */
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        throw new UnsupportedOperationException(
+            "Operator '" + getLabel() + "' does not support loading of partial results");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,6 +55,9 @@
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Abstract base class for range aggregation operators that perform calculations using the minimal and the maximal
@@ -66,6 +69,10 @@
  */
 public abstract class AbstractRangeOperator extends AggregationOperator {
 
+    private static final String CFG_MIN = "minimum";
+
+    private static final String CFG_MAX = "maximum";
+
     private final DataValueComparator m_comparator;
 
     private DataCell m_min = null;
@@ -160,4 +167,54 @@ protected void resetInternal() {
         m_min = null;
         m_max = null;
     }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final AbstractRangeOperator o = (AbstractRangeOperator)other;
+        if (o.m_min == null || o.m_max == null) {
+            return false;
+        }
+        if (m_min == null || m_comparator.compare(m_min, o.m_min) > 0) {
+            m_min = o.m_min;
+        }
+        if (m_max == null || m_comparator.compare(m_max, o.m_max) < 0) {
+            m_max = o.m_max;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addDataCell(CFG_MIN, m_min == null ? DataType.getMissingCell() : m_min);
+        settings.addDataCell(CFG_MAX, m_max == null ? DataType.getMissingCell() : m_max);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final DataCell min = settings.getDataCell(CFG_MIN);
+        final DataCell max = settings.getDataCell(CFG_MAX);
+        m_min = min.isMissing() ? null : min;
+        m_max = max.isMissing() ? null : max;
+    }
 }
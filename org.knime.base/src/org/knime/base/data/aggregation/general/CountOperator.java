@@ -53,6 +53,9 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the count per group.
@@ -61,6 +64,8 @@
  */
 public class CountOperator extends AggregationOperator {
 
+    private static final String CFG_COUNT = "count";
+
     private final DataType m_type = IntCell.TYPE;
 
     private int m_counter = 0;
@@ -114,6 +119,73 @@ protected boolean computeInternal(final DataCell cell) {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
+        m_counter++;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        m_counter++;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final CountOperator o = (CountOperator)other;
+        m_counter += o.m_counter;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addInt(CFG_COUNT, m_counter);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_counter = settings.getInt(CFG_COUNT);
+    }
+
     /**
      * {@inheritDoc}
      */
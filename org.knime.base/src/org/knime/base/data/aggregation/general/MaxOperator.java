@@ -53,7 +53,14 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the maximum per group.
@@ -62,10 +69,18 @@
  */
 public class MaxOperator extends AggregationOperator {
 
+    private static final String CFG_MAXIMUM = "maximum";
+
     private DataCell m_maxVal = null;
 
     private final DataValueComparator m_comparator;
 
+    private final boolean m_isLong;
+
+    private final boolean m_isInt;
+
+    private final boolean m_supportsPrimitiveValues;
+
     /**Constructor for class MaxOperator.
      * @param globalSettings the global settings
      * @param opColSettings the operator column specific settings
@@ -93,6 +108,12 @@ protected MaxOperator(final OperatorData operatorData,
             m_comparator =
                 opColSettings.getOriginalColSpec().getType().getComparator();
         }
+        final DataType type = opColSettings.getOriginalColSpec() == null ? DoubleCell.TYPE
+            : opColSettings.getOriginalColSpec().getType();
+        // only columns of these types contain nothing but cells the primitive methods can create
+        m_isInt = IntCell.TYPE.equals(type);
+        m_isLong = m_isInt || LongCell.TYPE.equals(type);
+        m_supportsPrimitiveValues = m_isLong || DoubleCell.TYPE.equals(type);
     }
 
     /**
@@ -128,6 +149,83 @@ protected boolean computeInternal(final DataCell cell) {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
+        if (m_maxVal == null || Double.compare(value, ((DoubleValue)m_maxVal).getDoubleValue()) > 0) {
+            m_maxVal = new DoubleCell(value);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        if (!m_isLong) {
+            return computeInternal((double)value);
+        }
+        if (m_maxVal == null || value > ((LongValue)m_maxVal).getLongValue()) {
+            m_maxVal = m_isInt ? new IntCell((int)value) : new LongCell(value);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return m_supportsPrimitiveValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MaxOperator o = (MaxOperator)other;
+        if (o.m_maxVal != null && (m_maxVal == null || m_comparator.compare(o.m_maxVal, m_maxVal) > 0)) {
+            m_maxVal = o.m_maxVal;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addDataCell(CFG_MAXIMUM, m_maxVal == null ? DataType.getMissingCell() : m_maxVal);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final DataCell cell = settings.getDataCell(CFG_MAXIMUM);
+        m_maxVal = cell.isMissing() ? null : cell;
+    }
+
     /**
      * {@inheritDoc}
      */
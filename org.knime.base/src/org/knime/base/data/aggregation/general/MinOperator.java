@@ -53,7 +53,14 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValue;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the minimum per group.
@@ -62,9 +69,17 @@
  */
 public class MinOperator extends AggregationOperator {
 
+    private static final String CFG_MINIMUM = "minimum";
+
     private DataCell m_minVal = null;
     private final DataValueComparator m_comparator;
 
+    private final boolean m_isLong;
+
+    private final boolean m_isInt;
+
+    private final boolean m_supportsPrimitiveValues;
+
     /**Constructor for class MaxOperator.
      * @param globalSettings the global settings
      * @param opColSettings the operator column specific settings
@@ -92,6 +107,12 @@ protected MinOperator(final OperatorData operatorData,
             m_comparator =
                 opColSettings.getOriginalColSpec().getType().getComparator();
         }
+        final DataType type = opColSettings.getOriginalColSpec() == null ? DoubleCell.TYPE
+            : opColSettings.getOriginalColSpec().getType();
+        // only columns of these types contain nothing but cells the primitive methods can create
+        m_isInt = IntCell.TYPE.equals(type);
+        m_isLong = m_isInt || LongCell.TYPE.equals(type);
+        m_supportsPrimitiveValues = m_isLong || DoubleCell.TYPE.equals(type);
     }
 
     /**
@@ -127,6 +148,83 @@ protected boolean computeInternal(final DataCell cell) {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
+        if (m_minVal == null || Double.compare(value, ((DoubleValue)m_minVal).getDoubleValue()) < 0) {
+            m_minVal = new DoubleCell(value);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        if (!m_isLong) {
+            return computeInternal((double)value);
+        }
+        if (m_minVal == null || value < ((LongValue)m_minVal).getLongValue()) {
+            m_minVal = m_isInt ? new IntCell((int)value) : new LongCell(value);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return m_supportsPrimitiveValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MinOperator o = (MinOperator)other;
+        if (o.m_minVal != null && (m_minVal == null || m_comparator.compare(o.m_minVal, m_minVal) < 0)) {
+            m_minVal = o.m_minVal;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addDataCell(CFG_MINIMUM, m_minVal == null ? DataType.getMissingCell() : m_minVal);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final DataCell cell = settings.getDataCell(CFG_MINIMUM);
+        m_minVal = cell.isMissing() ? null : cell;
+    }
+
     /**
      * {@inheritDoc}
      */
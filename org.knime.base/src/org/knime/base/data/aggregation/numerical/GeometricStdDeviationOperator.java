@@ -91,8 +91,16 @@ public AggregationOperator createInstance(
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
-        final double value = ((DoubleValue)cell).getDoubleValue();
-        return super.computeInternal(new DoubleCell(Math.log(value)));
+        return computeInternal(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
+        return super.computeInternal(Math.log(value));
     }
 
     /**
@@ -53,6 +53,9 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the mean per group.
@@ -61,6 +64,9 @@
  */
 public class MeanOperator extends AggregationOperator {
 
+    private static final String CFG_COUNT = "count";
+    private static final String CFG_MEAN = "mean";
+
     private final DataType m_type = DoubleCell.TYPE;
     private int m_count = 0;
     private double m_mean = 0;
@@ -109,13 +115,84 @@ public AggregationOperator createInstance(
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
-        final double d = ((DoubleValue)cell).getDoubleValue();
+        return computeInternal(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
         m_mean = m_mean * ((double)m_count / (m_count + 1))
-                    + d * (1.0 / (m_count + 1));
+                    + value * (1.0 / (m_count + 1));
         m_count++;
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        return computeInternal((double)value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MeanOperator o = (MeanOperator)other;
+        if (o.m_count == 0) {
+            return false;
+        }
+        final double total = (double)m_count + o.m_count;
+        m_mean = m_mean * (m_count / total) + o.m_mean * (o.m_count / total);
+        m_count += o.m_count;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addInt(CFG_COUNT, m_count);
+        settings.addDouble(CFG_MEAN, m_mean);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_count = settings.getInt(CFG_COUNT);
+        m_mean = settings.getDouble(CFG_MEAN);
+    }
+
     /**
      * {@inheritDoc}
      */
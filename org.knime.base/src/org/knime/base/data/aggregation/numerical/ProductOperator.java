@@ -53,6 +53,9 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the product per group.
@@ -61,6 +64,9 @@
  */
 public class ProductOperator extends AggregationOperator {
 
+    private static final String CFG_VALID = "valid";
+    private static final String CFG_PRODUCT = "product";
+
     // TK_TODO: Add long support???
     private final DataType m_type = DoubleCell.TYPE;
     private boolean m_valid = false;
@@ -111,12 +117,81 @@ public AggregationOperator createInstance(
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
+        return computeInternal(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
         m_valid = true;
-        final double d = ((DoubleValue)cell).getDoubleValue();
-        m_product *= d;
+        m_product *= value;
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        return computeInternal((double)value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final ProductOperator o = (ProductOperator)other;
+        if (o.m_valid) {
+            m_valid = true;
+            m_product *= o.m_product;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addBoolean(CFG_VALID, m_valid);
+        settings.addDouble(CFG_PRODUCT, m_product);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_valid = settings.getBoolean(CFG_VALID);
+        m_product = settings.getDouble(CFG_PRODUCT);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -94,11 +94,37 @@ protected StorelessUnivariantStatisticOperator(final OperatorData operatorData,
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
-        double val = ((DoubleValue)cell).getDoubleValue();
-        m_stat.increment(val);
+        return computeInternal(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
+        m_stat.increment(value);
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        return computeInternal((double)value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -58,6 +58,9 @@
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the sum per group.
@@ -66,6 +69,9 @@
  */
 public class SumOperator extends AggregationOperator {
 
+    private static final String CFG_VALID = "valid";
+    private static final String CFG_SUM = "sum";
+
     private final DataType m_type;
     private boolean m_valid = false;
     private double m_sum = 0;
@@ -131,12 +137,79 @@ public AggregationOperator createInstance(
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
+        return computeInternal(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
         m_valid = true;
-        final double d = ((DoubleValue)cell).getDoubleValue();
-        m_sum += d;
+        m_sum += value;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        return computeInternal((double)value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final SumOperator o = (SumOperator)other;
+        m_valid |= o.m_valid;
+        m_sum += o.m_sum;
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addBoolean(CFG_VALID, m_valid);
+        settings.addDouble(CFG_SUM, m_sum);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_valid = settings.getBoolean(CFG_VALID);
+        m_sum = settings.getDouble(CFG_SUM);
+    }
+
     /**
      * {@inheritDoc}
      */
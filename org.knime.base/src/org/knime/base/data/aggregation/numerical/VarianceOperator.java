@@ -53,6 +53,9 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
 
 /**
  * Returns the variance per group.
@@ -61,6 +64,10 @@
  */
 public class VarianceOperator extends AggregationOperator {
 
+    private static final String CFG_COUNT = "count";
+    private static final String CFG_SUM = "sum";
+    private static final String CFG_SUM_SQUARE = "sumSquare";
+
     private final DataType m_type = DoubleCell.TYPE;
 
     private double m_sumSquare = 0;
@@ -111,13 +118,83 @@ public AggregationOperator createInstance(
      */
     @Override
     protected boolean computeInternal(final DataCell cell) {
-        final double d = ((DoubleValue)cell).getDoubleValue();
+        return computeInternal(((DoubleValue)cell).getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final double value) {
         m_validCount++;
-        m_sum += d;
-        m_sumSquare += d * d;
+        m_sum += value;
+        m_sumSquare += value * value;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean computeInternal(final long value) {
+        return computeInternal((double)value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean supportsPrimitiveValues() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean isMergeable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final VarianceOperator o = (VarianceOperator)other;
+        m_validCount += o.m_validCount;
+        m_sum += o.m_sum;
+        m_sumSquare += o.m_sumSquare;
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void saveStateInternal(final NodeSettingsWO settings) {
+        settings.addInt(CFG_COUNT, m_validCount);
+        settings.addDouble(CFG_SUM, m_sum);
+        settings.addDouble(CFG_SUM_SQUARE, m_sumSquare);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void loadStateInternal(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_validCount = settings.getInt(CFG_COUNT);
+        m_sum = settings.getDouble(CFG_SUM);
+        m_sumSquare = settings.getDouble(CFG_SUM_SQUARE);
+    }
+
     /**
      * {@inheritDoc}
      */
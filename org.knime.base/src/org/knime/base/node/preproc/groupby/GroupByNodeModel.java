@@ -158,6 +158,10 @@ public class GroupByNodeModel extends NodeModel {
     /** Configuration key for the in memory option. */
     protected static final String CFG_IN_MEMORY = "inMemory";
 
+    /** Configuration key for the hash aggregation option.
+     * @since 3.6*/
+    protected static final String CFG_HASH_AGGREGATION = "hashAggregation";
+
     /** Configuration key for the aggregation column name policy. */
     protected static final String CFG_COLUMN_NAME_POLICY = "columnNamePolicy";
 
@@ -187,6 +191,8 @@ public class GroupByNodeModel extends NodeModel {
 
     private final SettingsModelBoolean m_inMemory = new SettingsModelBoolean(CFG_IN_MEMORY, false);
 
+    private final SettingsModelBoolean m_hashAggregation = new SettingsModelBoolean(CFG_HASH_AGGREGATION, false);
+
     private final SettingsModelString m_columnNamePolicy =
         new SettingsModelString(GroupByNodeModel.CFG_COLUMN_NAME_POLICY,
                 ColumnNamePolicy.getDefault().getLabel());
@@ -300,6 +306,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_columnNamePolicy.saveSettingsTo(settings);
         m_retainOrder.saveSettingsTo(settings);
         m_inMemory.saveSettingsTo(settings);
+        m_hashAggregation.saveSettingsTo(settings);
         m_valueDelimiter.saveSettingsTo(settings);
         m_version.saveSettingsTo(settings);
     }
@@ -434,6 +441,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         } catch (final InvalidSettingsException e) {
             m_inMemory.setBooleanValue(false);
         }
+        try {
+            // this option was introduced in KNIME 3.6
+            m_hashAggregation.loadSettingsFrom(settings);
+        } catch (final InvalidSettingsException e) {
+            m_hashAggregation.setBooleanValue(false);
+        }
         m_maxUniqueValues.loadSettingsFrom(settings);
         m_enableHilite.loadSettingsFrom(settings);
         try {
@@ -680,6 +693,9 @@ protected final GroupByTable createGroupByTable(final ExecutionContext exec, fin
         if (inMemory || groupByCols.isEmpty()) {
             resultTable = new MemoryGroupByTable(exec, table, groupByCols, aggregators.toArray(new ColumnAggregator[0]),
                 globalSettings, enableHilite, colNamePolicy, retainOrder);
+        } else if (m_hashAggregation.getBooleanValue()) {
+            resultTable = new HashGroupByTable(exec, table, groupByCols, aggregators.toArray(new ColumnAggregator[0]),
+                    globalSettings, enableHilite, colNamePolicy, retainOrder);
         } else {
             resultTable = new BigGroupByTable(exec, table, groupByCols, aggregators.toArray(new ColumnAggregator[0]),
                     globalSettings, enableHilite, colNamePolicy, retainOrder);
@@ -745,6 +761,15 @@ protected boolean isProcessInMemory() {
         return m_inMemory.getBooleanValue();
     }
 
+    /**
+     * @return <code>true</code> if the groups should be aggregated in parallel using hash partitions instead of
+     * sorting the input table, see {@link HashGroupByTable}
+     * @since 3.6
+     */
+    protected boolean isHashAggregation() {
+        return m_hashAggregation.getBooleanValue();
+    }
+
     /**
      * @return <code>true</code> if any sorting should be performed in memory
      * @deprecated sort in memory is no longer required
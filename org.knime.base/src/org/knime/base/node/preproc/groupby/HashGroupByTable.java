@@ -0,0 +1,638 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.MutableInteger;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+
+/**
+ * A data table that groups a given input table by the given columns using a partitioned hash aggregation. The
+ * groups are assigned to {@value #PARTITION_COUNT} partitions by the hash code of their group values. The input is
+ * read once and the rows are handed to several threads, each of them aggregating the groups of its partitions in
+ * memory. Since all rows of a group end up in the same partition no partial results need to be combined.
+ * <p>
+ * If the memory gets low while reading the input, the largest partitions are spilled: their groups are discarded and
+ * their remaining rows are written to disk. Once the input is read, the rows of the spilled partitions that were
+ * read before the spilling are collected as well and each spilled partition is aggregated recursively, partitioned
+ * by other bits of the hash code. In contrast to the {@link BigGroupByTable} the input table is never sorted.
+ * <p>
+ * The groups are returned by partition, i.e. not ordered. The row keys of the input rows are only recorded if
+ * hiliting is enabled.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public class HashGroupByTable extends GroupByTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashGroupByTable.class);
+
+    /** Number of bits of the hash code used to determine the partition per recursion level. */
+    private static final int PARTITION_BITS = 6;
+
+    /** Number of partitions per recursion level. */
+    static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+
+    /** Spilled partitions are not partitioned again beyond this recursion level (32 bits hash code). */
+    private static final int MAX_LEVEL = 32 / PARTITION_BITS - 1;
+
+    /** Number of rows handed to an aggregating thread at once. */
+    private static final int BATCH_SIZE = 1024;
+
+    /** Number of batches per thread that are read ahead of the aggregation. */
+    private static final int MAX_PENDING_BATCHES = 4;
+
+    /** See {@link #setRowsBeforeForcedSpill(int)}. */
+    private static volatile int m_rowsBeforeForcedSpill;
+
+    /**Constructor for class HashGroupByTable.
+     * @param exec the <code>ExecutionContext</code>
+     * @param inDataTable the table to aggregate
+     * @param groupByCols the name of all columns to group by
+     * @param colAggregators the aggregation columns with the aggregation method
+     * to use in the order the columns should be appear in the result table
+     * numerical columns
+     * @param globalSettings the global settings
+     * @param enableHilite <code>true</code> if a row key map should be
+     * maintained to enable hiliting
+     * @param colNamePolicy the {@link ColumnNamePolicy} for the
+     * aggregation columns
+     * @param retainOrder returns the row of the table in the same order as the
+     * input table if set to <code>true</code>
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    public HashGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable inDataTable,
+            final List<String> groupByCols,
+            final ColumnAggregator[] colAggregators,
+            final GlobalSettings globalSettings, final boolean enableHilite,
+            final ColumnNamePolicy colNamePolicy, final boolean retainOrder)
+    throws CanceledExecutionException {
+        super(exec, inDataTable, groupByCols, colAggregators, globalSettings,
+                enableHilite, colNamePolicy, retainOrder);
+    }
+
+    /**
+     * Used for testing, only. Spills partitions as if the memory got low each time the given number of rows has been
+     * read at a recursion level. Applies to all tables created afterwards, as the aggregation runs in the constructor.
+     * @param rows the number of rows read between two spills, 0 to spill on low memory only
+     */
+    static void setRowsBeforeForcedSpill(final int rows) {
+        m_rowsBeforeForcedSpill = rows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected BufferedDataTable createGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable table, final DataTableSpec resultSpec,
+            final int[] groupColIdx) throws CanceledExecutionException {
+        //this method is called by the super constructor, hence no members of this class are used
+        final DataTableSpec spec = table.getDataTableSpec();
+        final ColumnAggregator[] aggregators = getColAggregators();
+        final int[] aggrColIdx = new int[aggregators.length];
+        for (int i = 0, length = aggregators.length; i < length; i++) {
+            aggrColIdx[i] = spec.findColumnIndex(aggregators[i].getOriginalColName());
+        }
+        final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
+        aggregate(exec, table, groupColIdx, aggrColIdx, 0, dc, new MutableInteger(0));
+        dc.close();
+        return dc.getTable();
+    }
+
+    /** The groups of one partition, only accessed by the thread aggregating the partition until it's done. */
+    private static final class Partition {
+
+        private final Map<GroupKey, ColumnAggregator[]> m_groups = new LinkedHashMap<>();
+
+        /** The row keys per group, <code>null</code> if hiliting is disabled. */
+        private final Map<GroupKey, Set<RowKey>> m_rowKeys;
+
+        private Partition(final boolean enableHilite) {
+            m_rowKeys = enableHilite ? new HashMap<>() : null;
+        }
+    }
+
+    /** Rows handed to an aggregating thread, or the notification that a partition has been spilled. */
+    private static final class Batch {
+
+        private final int[] m_partitions;
+
+        private final GroupKey[] m_keys;
+
+        private final DataRow[] m_rows;
+
+        private int m_size;
+
+        /** The partition whose groups are to be discarded or -1. */
+        private final int m_spilledPartition;
+
+        private Batch(final int capacity, final int spilledPartition) {
+            m_partitions = new int[capacity];
+            m_keys = new GroupKey[capacity];
+            m_rows = new DataRow[capacity];
+            m_spilledPartition = spilledPartition;
+        }
+
+        private boolean add(final int partition, final GroupKey key, final DataRow row) {
+            m_partitions[m_size] = partition;
+            m_keys[m_size] = key;
+            m_rows[m_size] = row;
+            return ++m_size == m_rows.length;
+        }
+    }
+
+    /**
+     * Aggregates the batches of rows of the partitions assigned to one thread. The batches are processed by a task on
+     * the {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}, which is only submitted while batches are
+     * pending and ends once it has processed them, so that no thread of the pool is blocked waiting for input. At
+     * most one task per processor runs at a time, hence the groups of a partition are only accessed by one thread at
+     * a time.
+     */
+    private final class BatchProcessor {
+
+        private final Queue<Batch> m_batches = new ConcurrentLinkedQueue<>();
+
+        /** Limits the number of pending batches, i.e. the number of rows held in memory. */
+        private final Semaphore m_capacity = new Semaphore(MAX_PENDING_BATCHES);
+
+        /** Whether a task is submitted that will process the batches added. */
+        private final AtomicBoolean m_scheduled = new AtomicBoolean();
+
+        private final Partition[] m_partitions;
+
+        private final int[] m_aggrColIdx;
+
+        private final AtomicIntegerArray m_groupCounts;
+
+        private final AtomicBoolean m_abort;
+
+        /** The task submitted last, only accessed by the reading thread. */
+        private Future<Void> m_task;
+
+        private BatchProcessor(final Partition[] partitions, final int[] aggrColIdx,
+            final AtomicIntegerArray groupCounts, final AtomicBoolean abort) {
+            m_partitions = partitions;
+            m_aggrColIdx = aggrColIdx;
+            m_groupCounts = groupCounts;
+            m_abort = abort;
+        }
+
+        /** Adds a batch, waits while too many batches are pending unless the task failed or the execution is
+         * canceled. */
+        private void add(final Batch batch, final ExecutionContext exec) throws CanceledExecutionException {
+            if (!m_capacity.tryAcquire()) {
+                waitInvisibly(() -> {
+                    while (!m_capacity.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                        exec.checkCanceled();
+                        if (m_task != null && m_task.isDone()) {
+                            // throws if the task failed, otherwise the next attempt succeeds
+                            m_task.get();
+                        }
+                    }
+                    return null;
+                });
+            }
+            m_batches.add(batch);
+            if (m_scheduled.compareAndSet(false, true)) {
+                m_task = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(ThreadUtils.callableWithContext(this::processBatches));
+            }
+        }
+
+        private Void processBatches() {
+            while (true) {
+                Batch batch;
+                while ((batch = m_batches.poll()) != null) {
+                    if (!m_abort.get()) {
+                        process(batch);
+                    }
+                    m_capacity.release();
+                }
+                m_scheduled.set(false);
+                // a batch may have been added after the queue was found empty but before the flag was cleared
+                if (m_batches.isEmpty() || !m_scheduled.compareAndSet(false, true)) {
+                    return null;
+                }
+            }
+        }
+
+        private void process(final Batch batch) {
+            if (batch.m_spilledPartition >= 0) {
+                m_partitions[batch.m_spilledPartition] = null;
+                return;
+            }
+            for (int i = 0; i < batch.m_size; i++) {
+                final int p = batch.m_partitions[i];
+                Partition partition = m_partitions[p];
+                if (partition == null) {
+                    partition = new Partition(isEnableHilite());
+                    m_partitions[p] = partition;
+                }
+                addRow(partition, batch.m_keys[i], batch.m_rows[i], m_aggrColIdx, m_groupCounts, p);
+            }
+        }
+
+        /** Waits until all batches added are processed. */
+        private void finish() throws CanceledExecutionException {
+            if (m_task != null) {
+                waitInvisibly(m_task::get);
+            }
+        }
+    }
+
+    /**
+     * Aggregates the rows of the given table and adds the groups to the given container. Partitions that are spilled
+     * are aggregated recursively at the next level.
+     */
+    private void aggregate(final ExecutionContext exec, final BufferedDataTable table, final int[] groupColIdx,
+        final int[] aggrColIdx, final int level, final BufferedDataContainer dc, final MutableInteger groupCounter)
+        throws CanceledExecutionException {
+        final int threadCount =
+            Math.max(1, Math.min(PARTITION_COUNT, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+        final Partition[] partitions = new Partition[PARTITION_COUNT];
+        final AtomicIntegerArray groupCounts = new AtomicIntegerArray(PARTITION_COUNT);
+        final AtomicBoolean abort = new AtomicBoolean();
+        final BatchProcessor[] processors = new BatchProcessor[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            processors[t] = new BatchProcessor(partitions, aggrColIdx, groupCounts, abort);
+        }
+        // the rows of the spilled partitions read after the spilling and the index of the first of them
+        final BufferedDataContainer[] spillContainers = new BufferedDataContainer[PARTITION_COUNT];
+        final long[] spillRowIndex = new long[PARTITION_COUNT];
+
+        boolean success = false;
+        try {
+            final Batch[] pending = new Batch[threadCount];
+            final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+            final int rowsBeforeForcedSpill = m_rowsBeforeForcedSpill;
+            final long rowCount = table.size();
+            long rowIndex = 0;
+            try (final CloseableRowIterator it = table.iterator()) {
+                while (it.hasNext()) {
+                    exec.checkCanceled();
+                    if (level == 0) {
+                        final long rowNumber = rowIndex + 1;
+                        exec.setProgress(0.8 * rowIndex / rowCount,
+                            () -> "Aggregating row " + rowNumber + " of " + rowCount);
+                    }
+                    if (memIndicator.lowMemoryActionRequired() || (rowsBeforeForcedSpill > 0 && level < MAX_LEVEL
+                            && rowIndex % rowsBeforeForcedSpill == rowsBeforeForcedSpill - 1)) {
+                        spillPartitions(exec, table, level, rowIndex, groupCounts, spillContainers, spillRowIndex,
+                            pending, processors);
+                    }
+                    final DataRow row = it.next();
+                    final GroupKey key = createGroupKey(row, groupColIdx);
+                    final int p = getPartition(key, level);
+                    if (spillContainers[p] != null) {
+                        spillContainers[p].addRowToTable(row);
+                    } else {
+                        final int t = p % threadCount;
+                        if (pending[t] == null) {
+                            pending[t] = new Batch(BATCH_SIZE, -1);
+                        }
+                        if (pending[t].add(p, key, row)) {
+                            processors[t].add(pending[t], exec);
+                            pending[t] = null;
+                        }
+                    }
+                    rowIndex++;
+                }
+            }
+            for (int t = 0; t < threadCount; t++) {
+                if (pending[t] != null) {
+                    processors[t].add(pending[t], exec);
+                }
+            }
+            for (BatchProcessor processor : processors) {
+                processor.finish();
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                // let the tasks skip the remaining batches
+                abort.set(true);
+            }
+        }
+
+        exec.setMessage("Writing groups...");
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            exec.checkCanceled();
+            if (partitions[p] != null && spillContainers[p] == null) {
+                writeGroups(dc, partitions[p], groupCounter);
+            }
+            partitions[p] = null;
+        }
+        if (level == 0) {
+            exec.setProgress(0.9);
+        }
+        aggregateSpilledPartitions(exec, table, groupColIdx, aggrColIdx, level, spillContainers, spillRowIndex, dc,
+            groupCounter);
+    }
+
+    /** Adds the row to its group of the given partition, called by the aggregating threads. */
+    private void addRow(final Partition partition, final GroupKey key, final DataRow row, final int[] aggrColIdx,
+        final AtomicIntegerArray groupCounts, final int p) {
+        ColumnAggregator[] aggregators = partition.m_groups.get(key);
+        if (aggregators == null) {
+            final ColumnAggregator[] origAggregators = getColAggregators();
+            aggregators = new ColumnAggregator[origAggregators.length];
+            for (int i = 0, length = origAggregators.length; i < length; i++) {
+                aggregators[i] = origAggregators[i].clone();
+            }
+            partition.m_groups.put(key, aggregators);
+            groupCounts.incrementAndGet(p);
+        }
+        final GlobalSettings globalSettings = getGlobalSettings();
+        for (int i = 0, length = aggregators.length; i < length; i++) {
+            aggregators[i].getOperator(globalSettings).compute(row, aggrColIdx[i]);
+        }
+        if (partition.m_rowKeys != null) {
+            Set<RowKey> keySet = partition.m_rowKeys.get(key);
+            if (keySet == null) {
+                keySet = new HashSet<>();
+                partition.m_rowKeys.put(key, keySet);
+            }
+            keySet.add(row.getKey());
+        }
+    }
+
+    /**
+     * Spills the largest partitions that are still aggregated in memory until at least half of the groups in memory
+     * are discarded. Does nothing at the last recursion level, as the partitions can't be split any further.
+     */
+    private void spillPartitions(final ExecutionContext exec, final BufferedDataTable table, final int level,
+        final long rowIndex, final AtomicIntegerArray groupCounts, final BufferedDataContainer[] spillContainers,
+        final long[] spillRowIndex, final Batch[] pending, final BatchProcessor[] processors)
+        throws CanceledExecutionException {
+        if (level >= MAX_LEVEL) {
+            LOGGER.warn("Memory is low. No chance to free memory by spilling groups at level " + level
+                + ", continuing in memory.");
+            return;
+        }
+        // the counts are still updated by the aggregating threads, hence use a snapshot
+        final int[] counts = new int[PARTITION_COUNT];
+        final List<Integer> candidates = new ArrayList<>();
+        long groupsInMemory = 0;
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            counts[p] = groupCounts.get(p);
+            if (spillContainers[p] == null && counts[p] > 0) {
+                candidates.add(p);
+                groupsInMemory += counts[p];
+            }
+        }
+        candidates.sort((p1, p2) -> Integer.compare(counts[p2], counts[p1]));
+        long spilledGroups = 0;
+        final int threadCount = processors.length;
+        for (final int p : candidates) {
+            if (2 * spilledGroups >= groupsInMemory) {
+                break;
+            }
+            spilledGroups += counts[p];
+            // the rows of the partition that are still pending must be aggregated before the partition is discarded
+            final int t = p % threadCount;
+            if (pending[t] != null) {
+                processors[t].add(pending[t], exec);
+                pending[t] = null;
+            }
+            processors[t].add(new Batch(0, p), exec);
+            spillContainers[p] = exec.createDataContainer(table.getDataTableSpec(), false);
+            spillRowIndex[p] = rowIndex;
+        }
+        LOGGER.debug("Memory is low. Spilled " + spilledGroups + " of " + groupsInMemory
+            + " groups at row " + rowIndex + " (level " + level + ")");
+    }
+
+    /**
+     * Collects the rows of each spilled partition that were read before the partition was spilled, and aggregates
+     * them together with the rows read afterwards at the next recursion level.
+     */
+    private void aggregateSpilledPartitions(final ExecutionContext exec, final BufferedDataTable table,
+        final int[] groupColIdx, final int[] aggrColIdx, final int level,
+        final BufferedDataContainer[] spillContainers, final long[] spillRowIndex, final BufferedDataContainer dc,
+        final MutableInteger groupCounter) throws CanceledExecutionException {
+        long maxSpillRowIndex = 0;
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            if (spillContainers[p] != null) {
+                spillContainers[p].close();
+                maxSpillRowIndex = Math.max(maxSpillRowIndex, spillRowIndex[p]);
+            }
+        }
+        if (maxSpillRowIndex == 0) {
+            return;
+        }
+        exec.setMessage("Reading rows of spilled groups...");
+        final BufferedDataContainer[] headContainers = new BufferedDataContainer[PARTITION_COUNT];
+        try (final CloseableRowIterator it =
+                table.iteratorWithFilter(TableFilter.filterRangeOfRows(0, maxSpillRowIndex - 1))) {
+            long rowIndex = 0;
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                final DataRow row = it.next();
+                final int p = getPartition(createGroupKey(row, groupColIdx), level);
+                if (spillContainers[p] != null && rowIndex < spillRowIndex[p]) {
+                    if (headContainers[p] == null) {
+                        headContainers[p] = exec.createDataContainer(table.getDataTableSpec(), false);
+                    }
+                    headContainers[p].addRowToTable(row);
+                }
+                rowIndex++;
+            }
+        }
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            if (spillContainers[p] == null) {
+                continue;
+            }
+            exec.setMessage("Aggregating spilled groups (partition " + p + ", level " + (level + 1) + ")...");
+            final BufferedDataTable tail = spillContainers[p].getTable();
+            if (headContainers[p] == null) {
+                aggregate(exec, tail, groupColIdx, aggrColIdx, level + 1, dc, groupCounter);
+            } else {
+                headContainers[p].close();
+                final BufferedDataTable head = headContainers[p].getTable();
+                // rows keep their input order, the row keys are unique as both are parts of the input table
+                final BufferedDataTable partitionTable =
+                    exec.createConcatenateTable(exec, Optional.empty(), false, head, tail);
+                aggregate(exec, partitionTable, groupColIdx, aggrColIdx, level + 1, dc, groupCounter);
+                exec.clearTable(partitionTable);
+                exec.clearTable(head);
+            }
+            exec.clearTable(tail);
+        }
+    }
+
+    private void writeGroups(final BufferedDataContainer dc, final Partition partition,
+        final MutableInteger groupCounter) {
+        final GlobalSettings globalSettings = getGlobalSettings();
+        for (final Entry<GroupKey, ColumnAggregator[]> entry : partition.m_groups.entrySet()) {
+            final GroupKey groupVals = entry.getKey();
+            final ColumnAggregator[] colAggregators = entry.getValue();
+            final RowKey rowKey = RowKey.createRowKey(groupCounter.intValue());
+            groupCounter.inc();
+            final DataCell[] rowVals = new DataCell[groupVals.size() + colAggregators.length];
+            //add the group values first
+            int valIdx = 0;
+            for (final DataCell groupCell : groupVals.getGroupVals()) {
+                rowVals[valIdx++] = groupCell;
+            }
+            //add the aggregation values
+            for (final ColumnAggregator colAggr : colAggregators) {
+                final AggregationOperator operator = colAggr.getOperator(globalSettings);
+                rowVals[valIdx++] = operator.getResult();
+                if (operator.isSkipped()) {
+                    //add skipped groups and the column that causes the skipping
+                    //into the skipped groups map
+                    addSkippedGroup(colAggr.getOriginalColName(), operator.getSkipMessage(),
+                        groupVals.getGroupVals());
+                }
+            }
+            dc.addRowToTable(new DefaultRow(rowKey, rowVals));
+            //add hilite mappings if enabled
+            if (partition.m_rowKeys != null) {
+                addHiliteMapping(rowKey, partition.m_rowKeys.get(groupVals));
+            }
+        }
+    }
+
+    private static GroupKey createGroupKey(final DataRow row, final int[] groupColIdx) {
+        final DataCell[] groupVals = new DataCell[groupColIdx.length];
+        for (int i = 0, length = groupColIdx.length; i < length; i++) {
+            groupVals[i] = row.getCell(groupColIdx[i]);
+        }
+        return new GroupKey(groupVals);
+    }
+
+    /**
+     * @return the partition of the group at the given recursion level, determined by a different part of the
+     * (mixed) hash code per level
+     */
+    static int getPartition(final GroupKey key, final int level) {
+        // finalization step of MurmurHash3 to spread the bits of poor hash codes (e.g. of integer cells)
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h >>> (level * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+
+    /**
+     * Runs the callable, which waits for the tasks on the global thread pool. If the current thread is itself taken
+     * from a thread pool (e.g. the thread executing the node) it's not counted while waiting, so that the tasks can
+     * make progress even if the pool is busy otherwise.
+     */
+    private static <T> T waitInvisibly(final Callable<T> callable) throws CanceledExecutionException {
+        try {
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                return currentPool.runInvisible(callable);
+            }
+            return callable.call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Aggregation canceled");
+        } catch (CanceledExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Aggregation canceled");
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+}
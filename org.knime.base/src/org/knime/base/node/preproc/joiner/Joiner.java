@@ -63,7 +63,9 @@
 import org.knime.base.data.sort.SortedTable;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.CompositionMode;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.DuplicateHandling;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
+import org.knime.base.node.preproc.joiner.SortMergeJoin.NotSortedException;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
@@ -75,13 +77,19 @@
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.node.util.ConvenienceMethods;
 import org.knime.core.util.UniqueNameGenerator;
 
@@ -350,6 +358,14 @@ private DataTableSpec createSpec(final DataTableSpec[] specs)
             }
         }
 
+        if (JoinAlgorithm.SortMergeJoin.equals(m_settings.getJoinAlgorithm())
+                && !isSortMergeJoinApplicable(specs[0], specs[1])) {
+            m_configWarnings.add("The sort-merge join is not applicable "
+                    + "since the types of the joining columns differ or "
+                    + "rows match if any of the joining columns match. "
+                    + "A hash join is used instead.");
+        }
+
         return new DataTableSpec(outColSpecs.toArray(
                 new DataColumnSpec[outColSpecs.size()]));
     }
@@ -489,10 +505,160 @@ public BufferedDataTable computeJoinTable(
             compareDuplicates(leftTable, rightTable, duplicates);
         }
 
-        BufferedDataTable outerTable = rightTable;
-        BufferedDataTable innerTable = leftTable;
+        setJoinModes();
+
+        if (!JoinAlgorithm.HashJoin.equals(m_settings.getJoinAlgorithm())
+                && isSortMergeJoinApplicable(leftTable.getDataTableSpec(),
+                        rightTable.getDataTableSpec())) {
+            BufferedDataTable joined = computeSortMergeJoinTable(leftTable,
+                    rightTable, joinedTableSpec, exec);
+            if (null != joined) {
+                return joined;
+            }
+        }
+
+        m_inputDataRowSettings = createInputDataRowSettings(leftTable,
+                rightTable);
+        int[] rightSurvivors = getIndicesOf(rightTable.getDataTableSpec(),
+                m_rightSurvivors);
+        m_outputDataRowSettings = new OutputRow.Settings(
+                rightTable.getDataTableSpec(),
+                rightSurvivors);
+
+        double[] progressIntervals = new double[] {0.6, 0.2, 0.2};
+        exec.setProgress(0.0);
+        BufferedDataTable matchesTable;
+        BufferedDataTable leftOuterTable;
+        BufferedDataTable rightOuterTable;
+        if (m_settings.getParallelJoin()
+                && leftTable.size() <= Integer.MAX_VALUE) {
+            PartitionedHashJoin join = new PartitionedHashJoin(
+                    m_inputDataRowSettings, m_outputDataRowSettings,
+                    leftTable.getDataTableSpec(),
+                    rightTable.getDataTableSpec(),
+                    m_retainLeft, m_retainRight);
+            join.setRowsAddedBeforeOOM(m_rowsAddedBeforeForcedOOM);
+            BufferedDataTable[] joined = join.join(leftTable, rightTable,
+                    exec.createSubExecutionContext(progressIntervals[0]));
+            matchesTable = joined[0];
+            leftOuterTable = joined[1];
+            rightOuterTable = joined[2];
+        } else {
+            JoinContainer joinCont = performHybridHashJoin(leftTable,
+                    rightTable, exec, progressIntervals[0]);
+            matchesTable = joinCont.getMatches();
+            leftOuterTable = joinCont.getLeftOuter();
+            rightOuterTable = joinCont.getRightOuter();
+        }
+
+        // numbers are needed to report progress more precisely
+        long numMatches = null != matchesTable ? matchesTable.size() : 0;
+        long numLeftOuter = null != leftOuterTable ? leftOuterTable.size() : 0;
+        long numRightOuter = null != rightOuterTable ? rightOuterTable.size() : 0;
+        long totalNumJoins = numMatches + numLeftOuter + numRightOuter;
+
+        exec.setMessage("Sort Joined Partitions");
+        Comparator<DataRow> joinComp = OutputRow.createRowComparator();
+        SortedTable matches = null != matchesTable
+        ? new SortedTable(matchesTable, joinComp, false,
+                exec.createSubExecutionContext(
+                        progressIntervals[1] * numMatches / totalNumJoins))
+        : null;
+        SortedTable leftOuter = null != leftOuterTable
+        ? new SortedTable(leftOuterTable, joinComp, false,
+                exec.createSubExecutionContext(
+                        progressIntervals[1] * numLeftOuter / totalNumJoins))
+        : null;
+        SortedTable rightOuter = null != rightOuterTable
+        ? new SortedTable(rightOuterTable, joinComp, false,
+                exec.createSubExecutionContext(
+                        progressIntervals[1] * numRightOuter / totalNumJoins))
+        : null;
 
+        exec.setMessage("Merge Joined Partitions");
+        // Build sorted table
+        int[] leftSurvivors = getIndicesOf(leftTable.getDataTableSpec(),
+                m_leftSurvivors);
 
+        DataHiliteOutputContainer oc =
+            new DataHiliteOutputContainer(joinedTableSpec,
+                    m_settings.getEnableHiLite(), leftTable,
+                    leftSurvivors, rightSurvivors,
+                    createRowKeyFactory(leftTable.getDataTableSpec(),
+                            rightTable.getDataTableSpec()));
+        oc.addTableAndFilterDuplicates(matches,
+                exec.createSubExecutionContext(
+                        progressIntervals[2] * numMatches / totalNumJoins));
+        oc.addTableAndFilterDuplicates(leftOuter,
+                exec.createSubExecutionContext(
+                        progressIntervals[2] * numLeftOuter / totalNumJoins));
+        oc.addTableAndFilterDuplicates(rightOuter,
+                exec.createSubExecutionContext(
+                        progressIntervals[2] * numRightOuter / totalNumJoins));
+        oc.close();
+
+        m_leftRowKeyMap = oc.getLeftRowKeyMap();
+        m_rightRowKeyMap = oc.getRightRowKeyMap();
+
+        return oc.getTable();
+    }
+
+    /**
+     * Joins the inputs which are sorted by the joining columns in a single
+     * pass and pushes the joined rows to the output. This is used when the
+     * node is streamed. If the sort-merge join is not applicable to the
+     * settings, the inputs are read completely and joined by the hash join.
+     * Since the inputs are read only once, their order is checked while they
+     * are joined.
+     *
+     * @param leftInput The left input.
+     * @param rightInput The right input.
+     * @param output The output of the joined rows, closed when done.
+     * @param exec The Execution monitor for this execution.
+     * @throws CanceledExecutionException when execution is canceled
+     * @throws InvalidSettingsException when inconsistent settings are provided
+     * @throws InterruptedException when interrupted while reading the inputs
+     *             or writing the output
+     * @throws IllegalArgumentException when an input is not sorted by the
+     *             joining columns
+     */
+    void computeJoinTable(final RowInput leftInput,
+            final RowInput rightInput, final RowOutput output,
+            final ExecutionContext exec)
+    throws CanceledExecutionException, InvalidSettingsException,
+    InterruptedException {
+        DataTableSpec leftSpec = leftInput.getDataTableSpec();
+        DataTableSpec rightSpec = rightInput.getDataTableSpec();
+        if (!isSortMergeJoinApplicable(leftSpec, rightSpec)) {
+            BufferedDataTable leftTable = readTable(leftInput,
+                    exec.createSubExecutionContext(0.1));
+            BufferedDataTable rightTable = readTable(rightInput,
+                    exec.createSubExecutionContext(0.1));
+            output.setFully(computeJoinTable(leftTable, rightTable,
+                    exec.createSubExecutionContext(0.8)));
+            return;
+        }
+        m_runtimeWarnings.clear();
+        DataTableSpec joinedTableSpec = createSpec(new DataTableSpec[] {
+                leftSpec, rightSpec});
+        setJoinModes();
+
+        SortMergeJoin join = createSortMergeJoin(leftSpec, rightSpec,
+                joinedTableSpec);
+        try {
+            join.join(leftInput, rightInput, output, -1, exec);
+        } catch (NotSortedException e) {
+            throw new IllegalArgumentException(e.getMessage() + ". Sort the "
+                    + "input table or execute the node without streaming.", e);
+        }
+        m_leftRowKeyMap = join.getLeftRowKeyMap();
+        m_rightRowKeyMap = join.getRightRowKeyMap();
+    }
+
+    /**
+     * Sets the join modes that are derived from the settings.
+     */
+    private void setJoinModes() {
         m_retainRight = JoinMode.RightOuterJoin.equals(m_settings.getJoinMode())
             || JoinMode.FullOuterJoin.equals(m_settings.getJoinMode());
         m_retainLeft = JoinMode.LeftOuterJoin.equals(m_settings.getJoinMode())
@@ -504,6 +670,179 @@ public BufferedDataTable computeJoinTable(
         m_matchAny = m_settings.getCompositionMode()
             .equals(CompositionMode.MatchAny)
             && m_settings.getLeftJoinColumns().length > 1;
+    }
+
+    /**
+     * The sort-merge join requires that the joining values of both tables
+     * can be sorted in the same order. Hence it is not applicable if a row
+     * matches when any of several joining columns match or if the types of
+     * joining columns differ.
+     *
+     * @param leftSpec The spec of the left input table.
+     * @param rightSpec The spec of the right input table.
+     * @return true if the tables can be joined by the sort-merge join
+     */
+    private boolean isSortMergeJoinApplicable(final DataTableSpec leftSpec,
+            final DataTableSpec rightSpec) {
+        if (m_settings.getCompositionMode().equals(CompositionMode.MatchAny)
+                && m_settings.getLeftJoinColumns().length > 1) {
+            return false;
+        }
+        List<Integer> leftTableJoinIndices = getLeftJoinIndices(leftSpec);
+        List<Integer> rightTableJoinIndices = getRightJoinIndices(rightSpec);
+        for (int i = 0; i < leftTableJoinIndices.size(); i++) {
+            DataType leftType = SortMergeJoin.getJoinColumnType(leftSpec,
+                    leftTableJoinIndices.get(i));
+            DataType rightType = SortMergeJoin.getJoinColumnType(rightSpec,
+                    rightTableJoinIndices.get(i));
+            if (!leftType.equals(rightType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private SortMergeJoin createSortMergeJoin(final DataTableSpec leftSpec,
+            final DataTableSpec rightSpec,
+            final DataTableSpec joinedTableSpec) {
+        return new SortMergeJoin(
+                toIntArray(getLeftJoinIndices(leftSpec)),
+                toIntArray(getRightJoinIndices(rightSpec)),
+                leftSpec, joinedTableSpec,
+                getIndicesOf(leftSpec, m_leftSurvivors),
+                getIndicesOf(rightSpec, m_rightSurvivors),
+                createRowKeyFactory(leftSpec, rightSpec),
+                m_retainLeft, m_retainRight, m_settings.getEnableHiLite());
+    }
+
+    private static int[] toIntArray(final List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Joins the tables by merging them in the order of the joining columns.
+     * The order of both tables is checked before they are merged. When the
+     * sort-merge join is selected an unsorted table is sorted first, in
+     * automatic mode the hash join is used instead.
+     *
+     * @param leftTable The left input table.
+     * @param rightTable The right input table.
+     * @param joinedTableSpec The spec of the joined table.
+     * @param exec The execution context.
+     * @return The joined table or null if a table is not sorted and the
+     *         algorithm is chosen automatically.
+     * @throws CanceledExecutionException when execution is canceled
+     */
+    private BufferedDataTable computeSortMergeJoinTable(
+            final BufferedDataTable leftTable,
+            final BufferedDataTable rightTable,
+            final DataTableSpec joinedTableSpec, final ExecutionContext exec)
+    throws CanceledExecutionException {
+        SortMergeJoin join = createSortMergeJoin(
+                leftTable.getDataTableSpec(), rightTable.getDataTableSpec(),
+                joinedTableSpec);
+        boolean automatic = JoinAlgorithm.Automatic.equals(
+                m_settings.getJoinAlgorithm());
+        exec.setMessage("Check order of top table");
+        boolean leftSorted = join.isSorted(leftTable, true, exec);
+        if (automatic && !leftSorted) {
+            LOGGER.debug("Top input table is not sorted by the joining "
+                    + "columns, using a hash join instead");
+            return null;
+        }
+        exec.setMessage("Check order of bottom table");
+        boolean rightSorted = join.isSorted(rightTable, false, exec);
+        if (automatic && !rightSorted) {
+            LOGGER.debug("Bottom input table is not sorted by the joining "
+                    + "columns, using a hash join instead");
+            return null;
+        }
+        BufferedDataTable left = leftTable;
+        BufferedDataTable right = rightTable;
+        try {
+            if (!leftSorted) {
+                left = sort(leftTable, join.createRowComparator(true),
+                        "Sort top table", exec);
+            }
+            if (!rightSorted) {
+                right = sort(rightTable, join.createRowComparator(false),
+                        "Sort bottom table", exec);
+            }
+            BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(
+                    exec.createDataContainer(joinedTableSpec));
+            join.join(new DataTableRowInput(left),
+                    new DataTableRowInput(right), output,
+                    left.size() + right.size(), exec);
+            m_leftRowKeyMap = join.getLeftRowKeyMap();
+            m_rightRowKeyMap = join.getRightRowKeyMap();
+            return output.getDataTable();
+        } catch (NotSortedException e) {
+            // the order is checked and established above
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Join canceled");
+        } finally {
+            if (left != leftTable) {
+                exec.clearTable(left);
+            }
+            if (right != rightTable) {
+                exec.clearTable(right);
+            }
+        }
+    }
+
+    private BufferedDataTable sort(final BufferedDataTable table,
+            final Comparator<DataRow> comparator, final String message,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        exec.setMessage(message);
+        BufferedDataTableSorter sorter =
+            new BufferedDataTableSorter(table, comparator);
+        sorter.setMaxOpenContainers(m_settings.getMaxOpenFiles());
+        return sorter.sort(exec.createSilentSubExecutionContext(0.0));
+    }
+
+    /**
+     * Reads the input into a table.
+     */
+    private static BufferedDataTable readTable(final RowInput input,
+            final ExecutionContext exec)
+    throws CanceledExecutionException, InterruptedException {
+        exec.setMessage("Read input table");
+        BufferedDataContainer cont =
+            exec.createDataContainer(input.getDataTableSpec());
+        DataRow row;
+        while ((row = input.poll()) != null) {
+            exec.checkCanceled();
+            cont.addRowToTable(row);
+        }
+        input.close();
+        cont.close();
+        return cont.getTable();
+    }
+
+    /**
+     * Joins the tables by the hybrid hash join which reads the partitions of
+     * the left table that fit into memory and joins them with the right table
+     * until all partitions are processed.
+     *
+     * @param leftTable The left input table.
+     * @param rightTable The right input table.
+     * @param exec The execution context.
+     * @param progressDiff The difference in the progress monitor.
+     * @return The closed container with the joined rows.
+     * @throws CanceledExecutionException when execution is canceled
+     */
+    private JoinContainer performHybridHashJoin(
+            final BufferedDataTable leftTable,
+            final BufferedDataTable rightTable, final ExecutionContext exec,
+            final double progressDiff) throws CanceledExecutionException {
+        BufferedDataTable outerTable = rightTable;
+        BufferedDataTable innerTable = leftTable;
 
         if (m_retainLeft && m_matchAny) {
             m_globalLeftOuterJoins = new HashSet<Integer>();
@@ -512,14 +851,6 @@ public BufferedDataTable computeJoinTable(
             }
         }
 
-
-        m_inputDataRowSettings = createInputDataRowSettings(leftTable,
-                rightTable);
-        int[] rightSurvivors = getIndicesOf(rightTable, m_rightSurvivors);
-        m_outputDataRowSettings = new OutputRow.Settings(
-                rightTable.getDataTableSpec(),
-                rightSurvivors);
-
         /* numBits -> numPartitions
          * 0 -> 1
          * 1 -> 2
@@ -546,12 +877,10 @@ public BufferedDataTable computeJoinTable(
         JoinContainer joinCont = new JoinContainer(
                 m_outputDataRowSettings);
 
-        double[] progressIntervals = new double[] {0.6, 0.2, 0.2};
-        exec.setProgress(0.0);
         while (pendingParts.size() > 0) {
             Collection<Integer> processedParts = performJoin(
                     innerTable, outerTable,
-                    joinCont, pendingParts, exec, progressIntervals[0]);
+                    joinCont, pendingParts, exec, progressDiff);
             pendingParts.removeAll(processedParts);
         }
 
@@ -567,55 +896,7 @@ public BufferedDataTable computeJoinTable(
             }
         }
         joinCont.close();
-
-        // numbers are needed to report progress more precisely
-        long totalNumJoins = joinCont.getRowCount();
-        long numMatches = null != joinCont.getMatches() ? joinCont.getMatches().size() : 0;
-        long numLeftOuter = null != joinCont.getLeftOuter() ? joinCont.getLeftOuter().size() : 0;
-        long numRightOuter = null != joinCont.getRightOuter() ? joinCont.getRightOuter().size() : 0;
-
-        exec.setMessage("Sort Joined Partitions");
-        Comparator<DataRow> joinComp = OutputRow.createRowComparator();
-        SortedTable matches = null != joinCont.getMatches()
-        ? new SortedTable(joinCont.getMatches(), joinComp, false,
-                exec.createSubExecutionContext(
-                        progressIntervals[1] * numMatches / totalNumJoins))
-        : null;
-        SortedTable leftOuter = null != joinCont.getLeftOuter()
-        ? new SortedTable(joinCont.getLeftOuter(), joinComp, false,
-                exec.createSubExecutionContext(
-                        progressIntervals[1] * numLeftOuter / totalNumJoins))
-        : null;
-        SortedTable rightOuter = null != joinCont.getRightOuter()
-        ? new SortedTable(joinCont.getRightOuter(), joinComp, false,
-                exec.createSubExecutionContext(
-                        progressIntervals[1] * numRightOuter / totalNumJoins))
-        : null;
-
-        exec.setMessage("Merge Joined Partitions");
-        // Build sorted table
-        int[] leftSurvivors = getIndicesOf(leftTable, m_leftSurvivors);
-
-        DataHiliteOutputContainer oc =
-            new DataHiliteOutputContainer(joinedTableSpec,
-                    m_settings.getEnableHiLite(), leftTable,
-                    leftSurvivors, rightSurvivors,
-                    createRowKeyFactory(leftTable, rightTable));
-        oc.addTableAndFilterDuplicates(matches,
-                exec.createSubExecutionContext(
-                        progressIntervals[2] * numMatches / totalNumJoins));
-        oc.addTableAndFilterDuplicates(leftOuter,
-                exec.createSubExecutionContext(
-                        progressIntervals[2] * numLeftOuter / totalNumJoins));
-        oc.addTableAndFilterDuplicates(rightOuter,
-                exec.createSubExecutionContext(
-                        progressIntervals[2] * numRightOuter / totalNumJoins));
-        oc.close();
-
-        m_leftRowKeyMap = oc.getLeftRowKeyMap();
-        m_rightRowKeyMap = oc.getRightRowKeyMap();
-
-        return oc.getTable();
+        return joinCont;
     }
 
     /** This method start with reading the partitions of the left table defined
@@ -990,7 +1271,7 @@ private void joinInMemory(
     }
 
     private List<Integer> getLeftJoinIndices(
-            final BufferedDataTable leftTable) {
+            final DataTableSpec leftSpec) {
         // Create list of indices for the joining columns (Element of the list
         // is -1 if RowKey should be joined).
         int numJoinAttributes = m_settings.getLeftJoinColumns().length;
@@ -999,15 +1280,14 @@ private List<Integer> getLeftJoinIndices(
         for (int i = 0; i < numJoinAttributes; i++) {
             String joinAttribute = m_settings.getLeftJoinColumns()[i];
             leftTableJoinIndices.add(
-                    leftTable.getDataTableSpec().findColumnIndex(
-                            joinAttribute));
+                    leftSpec.findColumnIndex(joinAttribute));
         }
         return leftTableJoinIndices;
     }
 
 
     private List<Integer> getRightJoinIndices(
-            final BufferedDataTable rightTable) {
+            final DataTableSpec rightSpec) {
         // Create list of indices for the joining columns (Element of the list
         // is -1 if RowKey should be joined).
         int numJoinAttributes = m_settings.getLeftJoinColumns().length;
@@ -1015,18 +1295,18 @@ private List<Integer> getRightJoinIndices(
             new ArrayList<Integer>(numJoinAttributes);
         for (int i = 0; i < numJoinAttributes; i++) {
             String joinAttribute = m_settings.getRightJoinColumns()[i];
-            rightTableJoinIndices.add(rightTable.getDataTableSpec()
-                    .findColumnIndex(joinAttribute));
+            rightTableJoinIndices.add(
+                    rightSpec.findColumnIndex(joinAttribute));
         }
         return rightTableJoinIndices;
     }
 
     private JoinedRowKeyFactory createRowKeyFactory(
-            final BufferedDataTable leftTable,
-            final BufferedDataTable rightTable) {
+            final DataTableSpec leftSpec,
+            final DataTableSpec rightSpec) {
 
 
-        if (useSingleRowKeyFactory(leftTable, rightTable)) {
+        if (useSingleRowKeyFactory(leftSpec, rightSpec)) {
             // This is the special case of row key match row key
             return new UseSingleRowKeyFactory();
         } else {
@@ -1039,10 +1319,10 @@ private JoinedRowKeyFactory createRowKeyFactory(
      * Gives true when the SingleRowKeyFactory should be used.
      */
     private boolean useSingleRowKeyFactory(
-           final BufferedDataTable leftTable,
-           final BufferedDataTable rightTable) {
-        List<Integer> leftTableJoinIndices = getLeftJoinIndices(leftTable);
-        List<Integer> rightTableJoinIndices = getRightJoinIndices(rightTable);
+           final DataTableSpec leftSpec,
+           final DataTableSpec rightSpec) {
+        List<Integer> leftTableJoinIndices = getLeftJoinIndices(leftSpec);
+        List<Integer> rightTableJoinIndices = getRightJoinIndices(rightSpec);
 
         boolean joinRowIdsOnly = true;
         boolean joinRowIds = false;
@@ -1063,8 +1343,10 @@ private boolean useSingleRowKeyFactory(
     private InputRow.Settings createInputDataRowSettings(
             final BufferedDataTable leftTable,
             final BufferedDataTable rightTable) {
-        List<Integer> leftTableJoinIndices = getLeftJoinIndices(leftTable);
-        List<Integer> rightTableJoinIndices = getRightJoinIndices(rightTable);
+        List<Integer> leftTableJoinIndices =
+            getLeftJoinIndices(leftTable.getDataTableSpec());
+        List<Integer> rightTableJoinIndices =
+            getRightJoinIndices(rightTable.getDataTableSpec());
 
 
 
@@ -1140,8 +1422,10 @@ public static  void validateSettings(final Joiner2Settings s)
     private void compareDuplicates(final BufferedDataTable leftTable,
             final BufferedDataTable rightTable, final List<String> duplicates) {
 
-        int[] leftIndex = getIndicesOf(leftTable, duplicates);
-        int[] rightIndex = getIndicesOf(rightTable, duplicates);
+        int[] leftIndex = getIndicesOf(leftTable.getDataTableSpec(),
+                duplicates);
+        int[] rightIndex = getIndicesOf(rightTable.getDataTableSpec(),
+                duplicates);
 
         String[] messages = new String[duplicates.size()];
 
@@ -1194,18 +1478,18 @@ private void compareDuplicates(final BufferedDataTable leftTable,
 
     /**
      * Used in compareDuplicates.
-     * @param table A DataTable
+     * @param spec The spec of a table
      * @param cols Columns of the table
      * @return the indices of the given columns in the table.
      */
-    private int[] getIndicesOf(final BufferedDataTable table,
+    private int[] getIndicesOf(final DataTableSpec spec,
             final List<String> cols) {
         int[] indices = new int[cols.size()];
         int c = 0;
 
         for (String col : cols) {
-            for (int i = 0; i < table.getDataTableSpec().getNumColumns(); i++) {
-                if (table.getSpec().getColumnSpec(i).getName().equals(col)) {
+            for (int i = 0; i < spec.getNumColumns(); i++) {
+                if (spec.getColumnSpec(i).getName().equals(col)) {
                     indices[c] = i;
                 }
             }
@@ -71,6 +71,7 @@
 import javax.swing.event.ChangeListener;
 
 import org.knime.base.node.preproc.joiner.Joiner2Settings.DuplicateHandling;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableSpec;
@@ -126,6 +127,12 @@ public class Joiner2NodeDialog extends NodeDialogPane {
 
     private final JCheckBox m_enableHiLite =
         new JCheckBox("Enable hiliting");
+
+    private final JCheckBox m_parallelJoin =
+        new JCheckBox("Process in parallel");
+
+    private final JComboBox<JoinAlgorithm> m_joinAlgorithm =
+            new JComboBox<>(JoinAlgorithm.values());
     /**
      * Creates a new dialog for the joiner node.
      */
@@ -307,6 +314,19 @@ private JPanel createPerformanceUIControls() {
         c.gridwidth = 2;
         p.add(m_enableHiLite, c);
 
+        c.gridy++;
+        m_parallelJoin.setToolTipText("Joins hash partitions of the top input "
+                + "table in parallel and reads each input table only once.");
+        p.add(m_parallelJoin, c);
+
+        c.gridy++;
+        c.gridwidth = 1;
+        p.add(new JLabel("Join algorithm:"), c);
+        c.gridx++;
+        m_joinAlgorithm.setToolTipText("The sort-merge join reads both input "
+                + "tables once in the order of the joining columns.");
+        p.add(m_joinAlgorithm, c);
+
         p.setBorder(BorderFactory.createTitledBorder("Performance Tuning"));
         return p;
     }
@@ -473,6 +493,8 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         m_maxOpenFiles.setText(Integer.toString(m_settings.getMaxOpenFiles()));
         m_rowKeySeparator.setText(m_settings.getRowKeySeparator());
         m_enableHiLite.setSelected(m_settings.getEnableHiLite());
+        m_parallelJoin.setSelected(m_settings.getParallelJoin());
+        m_joinAlgorithm.setSelectedItem(m_settings.getJoinAlgorithm());
     }
 
     /**
@@ -553,6 +575,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
         m_settings.setMaxOpenFiles(Integer.parseInt(m_maxOpenFiles.getText()));
         m_settings.setRowKeySeparator(m_rowKeySeparator.getText());
         m_settings.setEnableHiLite(m_enableHiLite.isSelected());
+        m_settings.setParallelJoin(m_parallelJoin.isSelected());
+        m_settings.setJoinAlgorithm(
+                (JoinAlgorithm)m_joinAlgorithm.getSelectedItem());
 
         m_settings.saveSettings(settings);
     }
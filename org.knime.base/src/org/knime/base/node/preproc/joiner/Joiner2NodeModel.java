@@ -51,9 +51,11 @@
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Set;
 
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
@@ -65,10 +67,18 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.HiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 /**
  * This is the model of the joiner node. It delegates the dirty work to the
@@ -133,6 +143,15 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         BufferedDataTable[] joinedTable = new BufferedDataTable[]{
                 joiner.computeJoinTable(inData[0], inData[1], exec)};
 
+        setJoinResults(joiner);
+
+        return joinedTable;
+    }
+
+    /**
+     * Sets the warnings and the hilite mapping of the finished join.
+     */
+    private void setJoinResults(final Joiner joiner) {
         if (!joiner.getRuntimeWarnings().isEmpty()) {
             for (String warning : joiner.getRuntimeWarnings()) {
                 setWarningMessage(warning);
@@ -144,8 +163,50 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         m_rightMapper = new DefaultHiLiteMapper(m_rightRowKeyMap);
         m_leftTranslator.setMapper(m_leftMapper);
         m_rightTranslator.setMapper(m_rightMapper);
+    }
 
-        return joinedTable;
+    /**
+     * The inputs are streamable if the sort-merge join is selected, they
+     * must then be sorted by the joining columns.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (JoinAlgorithm.SortMergeJoin.equals(
+                m_settings.getJoinAlgorithm())) {
+            InputPortRole[] result = new InputPortRole[getNrInPorts()];
+            Arrays.fill(result, InputPortRole.NONDISTRIBUTED_STREAMABLE);
+            return result;
+        }
+        return super.getInputPortRoles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(
+            final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!JoinAlgorithm.SortMergeJoin.equals(
+                m_settings.getJoinAlgorithm())) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs,
+                    final PortOutput[] outputs, final ExecutionContext exec)
+                    throws Exception {
+                RowInput left = (RowInput)inputs[0];
+                RowInput right = (RowInput)inputs[1];
+                Joiner joiner = new Joiner(left.getDataTableSpec(),
+                        right.getDataTableSpec(), m_settings);
+                joiner.computeJoinTable(left, right, (RowOutput)outputs[0],
+                        exec);
+                setJoinResults(joiner);
+            }
+        };
     }
 
     /**
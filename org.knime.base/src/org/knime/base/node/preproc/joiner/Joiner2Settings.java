@@ -74,6 +74,8 @@ public class Joiner2Settings {
     private static final String MAX_OPEN_FILES = "maxOpenFiles";
     private static final String ROW_KEY_SEPARATOR = "rowKeySeparator";
     private static final String ENABLE_HILITE = "enableHiLite";
+    private static final String PARALLEL_JOIN = "parallelJoin";
+    private static final String JOIN_ALGORITHM = "joinAlgorithm";
     private static final String VERSION = "version";
 
     /**
@@ -156,6 +158,34 @@ public enum CompositionMode {
         MatchAny;
     }
 
+    /**
+     * This enum holds all algorithms that can be used to join the tables.
+     *
+     * @since 3.6
+     */
+    public enum JoinAlgorithm {
+        /** Join by hash partitions of the top table. */
+        HashJoin("Hash join"),
+        /** Join by merging the tables sorted by the joining columns. */
+        SortMergeJoin("Sort-merge join"),
+        /** Merge the tables if they are already sorted, otherwise use a hash join. */
+        Automatic("Automatic");
+
+        private final String m_text;
+
+        private JoinAlgorithm(final String text) {
+            m_text = text;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return m_text;
+        }
+    }
+
 
     /** Internally used row key identifier. */
     static final String ROW_KEY_IDENTIFIER = "$RowID$";
@@ -184,6 +214,8 @@ public enum CompositionMode {
     private int m_maxOpenFiles = 200;
     private String m_rowKeySeparator = "_";
     private boolean m_enableHiLite = false;
+    private boolean m_parallelJoin = false;
+    private JoinAlgorithm m_joinAlgorithm = JoinAlgorithm.HashJoin;
 
     private String m_version = VERSION_3;
 
@@ -495,6 +527,46 @@ public void setEnableHiLite(final boolean enableHiLite) {
         m_enableHiLite = enableHiLite;
     }
 
+    /**
+     * Returns true when the join should be processed in parallel using hash partitions.
+     *
+     * @return the parallelJoin
+     * @since 3.6
+     */
+    public boolean getParallelJoin() {
+        return m_parallelJoin;
+    }
+
+    /**
+     * Set if the join should be processed in parallel using hash partitions.
+     *
+     * @param parallelJoin the parallelJoin to set
+     * @since 3.6
+     */
+    public void setParallelJoin(final boolean parallelJoin) {
+        m_parallelJoin = parallelJoin;
+    }
+
+    /**
+     * Returns the algorithm that is used to join the tables.
+     *
+     * @return the joinAlgorithm
+     * @since 3.6
+     */
+    public JoinAlgorithm getJoinAlgorithm() {
+        return m_joinAlgorithm;
+    }
+
+    /**
+     * Set the algorithm that is used to join the tables.
+     *
+     * @param joinAlgorithm the joinAlgorithm to set
+     * @since 3.6
+     */
+    public void setJoinAlgorithm(final JoinAlgorithm joinAlgorithm) {
+        m_joinAlgorithm = joinAlgorithm;
+    }
+
     /**
      * Loads the settings from the node settings object.
      *
@@ -531,6 +603,16 @@ public void loadSettings(final NodeSettingsRO settings)
         m_maxOpenFiles = settings.getInt(MAX_OPEN_FILES);
         m_rowKeySeparator = settings.getString(ROW_KEY_SEPARATOR);
         m_enableHiLite = settings.getBoolean(ENABLE_HILITE);
+        // introduced in 3.6
+        m_parallelJoin = settings.getBoolean(PARALLEL_JOIN, false);
+        String joinAlgorithm = settings.getString(
+                JOIN_ALGORITHM, JoinAlgorithm.HashJoin.name());
+        try {
+            m_joinAlgorithm = JoinAlgorithm.valueOf(joinAlgorithm);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidSettingsException("Unknown join algorithm: "
+                    + joinAlgorithm, e);
+        }
 
 
     }
@@ -583,6 +665,13 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
         m_maxOpenFiles = settings.getInt(MAX_OPEN_FILES, 200);
         m_rowKeySeparator = settings.getString(ROW_KEY_SEPARATOR, "_");
         m_enableHiLite = settings.getBoolean(ENABLE_HILITE, false);
+        m_parallelJoin = settings.getBoolean(PARALLEL_JOIN, false);
+        try {
+            m_joinAlgorithm = JoinAlgorithm.valueOf(settings.getString(
+                    JOIN_ALGORITHM, JoinAlgorithm.HashJoin.name()));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            m_joinAlgorithm = JoinAlgorithm.HashJoin;
+        }
 
 
     }
@@ -611,6 +700,8 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addInt(MAX_OPEN_FILES, m_maxOpenFiles);
         settings.addString(ROW_KEY_SEPARATOR, m_rowKeySeparator);
         settings.addBoolean(ENABLE_HILITE, m_enableHiLite);
+        settings.addBoolean(PARALLEL_JOIN, m_parallelJoin);
+        settings.addString(JOIN_ALGORITHM, m_joinAlgorithm.name());
         // save default values for settings that were removed in 2.5, so that
         // a workflow created with 2.5 can be opened in 2.4.
         settings.addInt("numBitsInitial", 6);
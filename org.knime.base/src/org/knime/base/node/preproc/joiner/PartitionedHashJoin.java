@@ -0,0 +1,1008 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.base.node.preproc.joiner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.knime.base.node.preproc.joiner.InputRow.Settings.InDataPort;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+import org.knime.core.util.UniqueNameGenerator;
+
+/**
+ * Join engine used by the {@link Joiner} if the join should be processed in parallel. The join tuples of the left table
+ * are assigned to {@value #PARTITION_COUNT} partitions by a mixed hash code and the hash tables of the partitions are
+ * built in parallel. The rows of the right table are then read once and probed against the hash tables by several
+ * threads. The parallel tasks run on the {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}, one probing task
+ * per thread of the pool. If the join is based on a single integer, long or double column the keys are encoded as long
+ * values and stored in primitive arrays, otherwise {@link JoinTuple}s are used. Keys match if and only if the join
+ * tuples are equal, in particular join tuples containing missing cells never match (see {@link JoinTuple#equals}),
+ * hence they are neither stored nor probed.
+ * <p>
+ * If the memory gets low while reading the left table, the largest partitions are spilled, i.e. their tuples are
+ * written to disk. The right rows that belong to spilled partitions are written to disk as well while probing and are
+ * joined with the spilled partitions afterwards, so neither input table is read more than once.
+ * <p>
+ * The result is returned in the format of the {@link OutputRow}, the caller sorts it by the row indices to obtain a
+ * deterministic row order independent of the number of threads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PartitionedHashJoin {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PartitionedHashJoin.class);
+
+    /** Number of bits of the hash code used to determine the partition. */
+    private static final int PARTITION_BITS = 6;
+
+    /** Number of partitions. */
+    static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+
+    /** Number of right rows handed to a probing thread at once. */
+    private static final int BATCH_SIZE = 1024;
+
+    private final InputRow.Settings m_inputSettings;
+
+    private final OutputRow.Settings m_outputSettings;
+
+    private final boolean m_retainLeft;
+
+    private final boolean m_retainRight;
+
+    private final boolean m_matchAny;
+
+    /** Index of the single join column of the left and right table if the keys are encoded as long values. */
+    private final int m_leftKeyIdx;
+
+    private final int m_rightKeyIdx;
+
+    /** True if the keys are encoded as long values. */
+    private final boolean m_longKeys;
+
+    /** True if the long keys are the bits of double values. */
+    private final boolean m_doubleKeys;
+
+    private final DataTableSpec m_leftSpillSpec;
+
+    private final DataTableSpec m_rightSpillSpec;
+
+    private final int m_threadCount;
+
+    /** The partitions that are joined in memory, <code>null</code> if empty or not loaded. */
+    private final Partition[] m_partitions = new Partition[PARTITION_COUNT];
+
+    /** The tuples of the spilled partitions, <code>null</code> if a partition is not spilled. */
+    private final BufferedDataContainer[] m_leftSpills = new BufferedDataContainer[PARTITION_COUNT];
+
+    /** The right rows that belong to at least one spilled partition. */
+    private BufferedDataContainer m_rightSpill;
+
+    /** One bit per left row that matched, only used for left outer joins. */
+    private AtomicLongArray m_matchedLeft;
+
+    /** One bit per row of the right spill that matched a spilled partition, only used for right outer joins. */
+    private AtomicLongArray m_matchedRight;
+
+    /** See {@link #setRowsAddedBeforeOOM(int)}. */
+    private int m_rowsAddedBeforeForcedOOM;
+
+    /**
+     * @param inputSettings the settings of the input rows
+     * @param outputSettings the settings of the output rows
+     * @param leftSpec the spec of the left table
+     * @param rightSpec the spec of the right table
+     * @param retainLeft <code>true</code> for left and full outer joins
+     * @param retainRight <code>true</code> for right and full outer joins
+     */
+    PartitionedHashJoin(final InputRow.Settings inputSettings, final OutputRow.Settings outputSettings,
+        final DataTableSpec leftSpec, final DataTableSpec rightSpec, final boolean retainLeft,
+        final boolean retainRight) {
+        m_inputSettings = inputSettings;
+        m_outputSettings = outputSettings;
+        m_retainLeft = retainLeft;
+        m_retainRight = retainRight;
+        m_matchAny = inputSettings.getMatchAny();
+        m_threadCount = Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+
+        final List<Integer> leftIndices = inputSettings.getJoiningIndices(InDataPort.Left);
+        final List<Integer> rightIndices = inputSettings.getJoiningIndices(InDataPort.Right);
+        final DataType keyType = getLongKeyType(leftIndices, rightIndices, leftSpec, rightSpec, m_matchAny);
+        m_longKeys = keyType != null;
+        m_doubleKeys = DoubleCell.TYPE.equals(keyType);
+        m_leftKeyIdx = m_longKeys ? leftIndices.get(0) : -1;
+        m_rightKeyIdx = m_longKeys ? rightIndices.get(0) : -1;
+
+        final List<DataColumnSpec> spillCols = new ArrayList<>();
+        spillCols.add(new DataColumnSpecCreator("Row index", IntCell.TYPE).createSpec());
+        if (m_longKeys) {
+            spillCols.add(new DataColumnSpecCreator("Key", LongCell.TYPE).createSpec());
+        } else {
+            for (int i = 0; i < leftIndices.size(); i++) {
+                final int index = leftIndices.get(i);
+                final DataType type = index >= 0 ? leftSpec.getColumnSpec(index).getType() : StringCell.TYPE;
+                spillCols.add(new DataColumnSpecCreator("Key " + i, type).createSpec());
+            }
+        }
+        m_leftSpillSpec = new DataTableSpec(spillCols.toArray(new DataColumnSpec[spillCols.size()]));
+        final UniqueNameGenerator nameGen = new UniqueNameGenerator(rightSpec);
+        m_rightSpillSpec = new DataTableSpec(rightSpec, new DataTableSpec(nameGen.newColumn("Row index",
+            LongCell.TYPE), nameGen.newColumn("Matched", BooleanCell.TYPE)));
+    }
+
+    /**
+     * Used for testing, only. Simulates low memory each time the given number of left rows has been read, and loads
+     * only one spilled partition at a time.
+     * @param maxRows the number of rows read between two low memory events, 0 to disable
+     */
+    void setRowsAddedBeforeOOM(final int maxRows) {
+        m_rowsAddedBeforeForcedOOM = maxRows;
+    }
+
+    /**
+     * @return the type of the single join column if the keys can be encoded as long values, <code>null</code>
+     * otherwise
+     */
+    private static DataType getLongKeyType(final List<Integer> leftIndices, final List<Integer> rightIndices,
+        final DataTableSpec leftSpec, final DataTableSpec rightSpec, final boolean matchAny) {
+        if (matchAny || leftIndices.size() != 1 || leftIndices.get(0) < 0 || rightIndices.get(0) < 0) {
+            return null;
+        }
+        final DataType type = leftSpec.getColumnSpec(leftIndices.get(0)).getType();
+        if (!type.equals(rightSpec.getColumnSpec(rightIndices.get(0)).getType())) {
+            // cells of different types never match
+            return null;
+        }
+        if (type.equals(IntCell.TYPE) || type.equals(LongCell.TYPE) || type.equals(DoubleCell.TYPE)) {
+            return type;
+        }
+        return null;
+    }
+
+    /**
+     * Joins the given tables.
+     *
+     * @param leftTable the left table, its tuples are kept in the hash tables
+     * @param rightTable the right table which is probed against the hash tables
+     * @param exec the execution context
+     * @return the matches, the left outer and the right outer joins in the format of the {@link OutputRow}, an
+     *         element is <code>null</code> if there are no such rows
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    BufferedDataTable[] join(final BufferedDataTable leftTable, final BufferedDataTable rightTable,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        if (m_retainLeft) {
+            m_matchedLeft = new AtomicLongArray(wordCount(leftTable.size()));
+        }
+        final Output[] outputs = new Output[m_threadCount];
+        for (int t = 0; t < m_threadCount; t++) {
+            outputs[t] = new Output(exec, t);
+        }
+        // the tasks submitted to the global thread pool, canceled at the end in case a probing thread still waits
+        final List<Future<?>> tasks = new ArrayList<>();
+        try {
+            final double totalRows = Math.max(1, leftTable.size() + rightTable.size());
+            exec.setMessage("Reading left table...");
+            readLeftTable(leftTable, exec.createSubExecutionContext(leftTable.size() / totalRows * 0.8));
+            exec.setMessage("Building hash tables...");
+            buildPartitions(tasks, exec);
+
+            boolean spilled = false;
+            for (int p = 0; p < PARTITION_COUNT; p++) {
+                if (m_leftSpills[p] != null) {
+                    m_leftSpills[p].close();
+                    spilled = true;
+                }
+            }
+            if (spilled) {
+                m_rightSpill = exec.createDataContainer(m_rightSpillSpec, false);
+            }
+            exec.setMessage("Probing right table...");
+            probe(rightTable, false, tasks, outputs,
+                exec.createSubExecutionContext(rightTable.size() / totalRows * 0.8));
+            Arrays.fill(m_partitions, null);
+
+            if (spilled) {
+                joinSpilledPartitions(tasks, outputs, exec.createSubExecutionContext(0.1));
+            }
+        } finally {
+            for (final Future<?> task : tasks) {
+                task.cancel(true);
+            }
+        }
+
+        final List<BufferedDataTable> matches = new ArrayList<>();
+        final List<BufferedDataTable> rightOuter = new ArrayList<>();
+        for (final Output output : outputs) {
+            output.close();
+            matches.add(output.m_matches.getTable());
+            rightOuter.add(output.m_rightOuter.getTable());
+        }
+        final BufferedDataTable leftOuter = m_retainLeft ? createLeftOuter(leftTable.size(), exec) : null;
+        exec.setProgress(1.0);
+        return new BufferedDataTable[]{concatenate(matches, exec), nonEmpty(leftOuter),
+            concatenate(rightOuter, exec)};
+    }
+
+    /** Reads the tuples of the left table into the partitions, spills partitions if the memory gets low. */
+    private void readLeftTable(final BufferedDataTable leftTable, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        if (leftTable.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "The left table must not have more than " + Integer.MAX_VALUE + " rows: " + leftTable.size());
+        }
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final long[] spillCounts = new long[PARTITION_COUNT];
+        final long rowCount = leftTable.size();
+        int rowIndex = 0;
+        try (final CloseableRowIterator it = leftTable.iterator()) {
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                final long rowNumber = rowIndex + 1;
+                exec.setProgress(rowIndex / (double)rowCount, () -> "Reading row " + rowNumber + " of " + rowCount);
+                if (memIndicator.lowMemoryActionRequired() || (m_rowsAddedBeforeForcedOOM > 0
+                        && rowIndex % m_rowsAddedBeforeForcedOOM == m_rowsAddedBeforeForcedOOM - 1)) {
+                    spillPartitions(exec, spillCounts);
+                }
+                final DataRow row = it.next();
+                if (m_longKeys) {
+                    final DataCell cell = row.getCell(m_leftKeyIdx);
+                    // like join tuples, missing keys never match
+                    if (!cell.isMissing()) {
+                        final long key = encode(cell);
+                        final int p = getPartition(mix(key));
+                        if (m_leftSpills[p] != null) {
+                            m_leftSpills[p].addRowToTable(new DefaultRow(RowKey.createRowKey(spillCounts[p]++),
+                                new IntCell(rowIndex), new LongCell(key)));
+                        } else {
+                            getLongPartition(p).add(key, rowIndex);
+                        }
+                    }
+                } else {
+                    for (final JoinTuple tuple : getJoinTuples(row, InDataPort.Left)) {
+                        final int p = getPartition(mix(tuple.hashCode()));
+                        if (m_leftSpills[p] != null) {
+                            m_leftSpills[p].addRowToTable(
+                                createSpillRow(RowKey.createRowKey(spillCounts[p]++), rowIndex, tuple));
+                        } else {
+                            getTuplePartition(p).add(tuple, rowIndex);
+                        }
+                    }
+                }
+                rowIndex++;
+            }
+        }
+    }
+
+    /** Spills the largest half of the non-empty partitions that are still kept in memory. */
+    private void spillPartitions(final ExecutionContext exec, final long[] spillCounts) {
+        final List<Integer> candidates = new ArrayList<>();
+        long tuplesInMemory = 0;
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            if (m_partitions[p] != null) {
+                candidates.add(p);
+                tuplesInMemory += m_partitions[p].m_size;
+            }
+        }
+        if (candidates.isEmpty()) {
+            LOGGER.warn("Memory is low. No chance to free memory by spilling partitions, continuing in memory.");
+            return;
+        }
+        candidates.sort((p1, p2) -> Integer.compare(m_partitions[p2].m_size, m_partitions[p1].m_size));
+        long spilledTuples = 0;
+        for (final int p : candidates.subList(0, (candidates.size() + 1) / 2)) {
+            final Partition partition = m_partitions[p];
+            m_partitions[p] = null;
+            final BufferedDataContainer spill = exec.createDataContainer(m_leftSpillSpec, false);
+            for (int e = 0; e < partition.m_size; e++) {
+                final RowKey key = RowKey.createRowKey(spillCounts[p]++);
+                if (m_longKeys) {
+                    spill.addRowToTable(new DefaultRow(key, new IntCell(partition.m_rows[e]),
+                        new LongCell(((LongPartition)partition).m_keys[e])));
+                } else {
+                    spill.addRowToTable(
+                        createSpillRow(key, partition.m_rows[e], ((TuplePartition)partition).m_tuples[e]));
+                }
+            }
+            m_leftSpills[p] = spill;
+            spilledTuples += partition.m_size;
+        }
+        LOGGER.debug("Memory is low. Spilled " + spilledTuples + " of " + tuplesInMemory + " join tuples.");
+    }
+
+    /** Builds the hash tables of all partitions in memory in parallel. */
+    private void buildPartitions(final List<Future<?>> tasks, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final List<Future<?>> builders = new ArrayList<>();
+        for (final Partition partition : m_partitions) {
+            if (partition != null) {
+                builders.add(submit(tasks, () -> {
+                    partition.build();
+                    return null;
+                }));
+            }
+        }
+        for (final Future<?> builder : builders) {
+            exec.checkCanceled();
+            getWorkerResult(builder);
+        }
+    }
+
+    /**
+     * Reads the given table once and hands its rows in batches to the probing threads.
+     *
+     * @param table the right table or the right spill
+     * @param isSpill <code>true</code> if the spilled partitions are probed with the rows of the right spill
+     */
+    private void probe(final BufferedDataTable table, final boolean isSpill, final List<Future<?>> tasks,
+        final Output[] outputs, final ExecutionContext exec) throws CanceledExecutionException {
+        final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(2 * m_threadCount);
+        final List<Future<?>> workers = new ArrayList<>(m_threadCount);
+        for (final Output output : outputs) {
+            workers.add(submit(tasks, () -> {
+                Batch batch;
+                while ((batch = queue.take()) != Batch.END) {
+                    for (int i = 0; i < batch.m_size; i++) {
+                        if (isSpill) {
+                            probeSpillRow(batch.m_rows[i], batch.m_firstIndex + i, output);
+                        } else {
+                            probeRow(batch.m_rows[i], batch.m_firstIndex + i, output);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        final long rowCount = table.size();
+        long rowIndex = 0;
+        Batch batch = null;
+        try (final CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                final long rowNumber = rowIndex + 1;
+                exec.setProgress(rowIndex / (double)rowCount, () -> "Probing row " + rowNumber + " of " + rowCount);
+                if (batch == null) {
+                    batch = new Batch(rowIndex);
+                }
+                if (batch.add(it.next())) {
+                    putBatch(queue, batch, workers, exec);
+                    batch = null;
+                }
+                rowIndex++;
+            }
+        }
+        if (batch != null) {
+            putBatch(queue, batch, workers, exec);
+        }
+        for (int t = 0; t < m_threadCount; t++) {
+            putBatch(queue, Batch.END, workers, exec);
+        }
+        for (final Future<?> worker : workers) {
+            getWorkerResult(worker);
+        }
+    }
+
+    /** Joins a row of the right table with the partitions in memory, called by the probing threads. */
+    private void probeRow(final DataRow row, final long rightIndex, final Output output) {
+        boolean matched = false;
+        boolean deferred = false;
+        if (m_longKeys) {
+            final DataCell cell = row.getCell(m_rightKeyIdx);
+            if (!cell.isMissing()) {
+                final long key = encode(cell);
+                final int p = getPartition(mix(key));
+                if (m_leftSpills[p] != null) {
+                    deferred = true;
+                } else if (m_partitions[p] != null) {
+                    final LongPartition partition = (LongPartition)m_partitions[p];
+                    matched = addMatches(partition, partition.find(key), rightIndex, row, output);
+                }
+            }
+        } else {
+            for (final JoinTuple tuple : getJoinTuples(row, InDataPort.Right)) {
+                final int p = getPartition(mix(tuple.hashCode()));
+                if (m_leftSpills[p] != null) {
+                    deferred = true;
+                } else if (m_partitions[p] != null) {
+                    final TuplePartition partition = (TuplePartition)m_partitions[p];
+                    matched |= addMatches(partition, partition.find(tuple), rightIndex, row, output);
+                }
+            }
+        }
+        if (deferred) {
+            // the row is joined with the spilled partitions later on
+            final DataRow spillRow =
+                new AppendedColumnRow(row, new LongCell(rightIndex), BooleanCell.get(matched));
+            synchronized (m_rightSpill) {
+                m_rightSpill.addRowToTable(spillRow);
+            }
+        } else if (!matched && m_retainRight) {
+            output.m_rightOuter.addRowToTable(
+                OutputRow.createDataRow(output.nextIndex(), -1, rightIndex, row, m_outputSettings));
+        }
+    }
+
+    /** Joins a row of the right spill with the loaded spilled partitions, called by the probing threads. */
+    private void probeSpillRow(final DataRow row, final long spillIndex, final Output output) {
+        final long rightIndex = ((LongValue)row.getCell(m_rightSpillSpec.getNumColumns() - 2)).getLongValue();
+        boolean matched = false;
+        if (m_longKeys) {
+            final long key = encode(row.getCell(m_rightKeyIdx));
+            final Partition partition = m_partitions[getPartition(mix(key))];
+            if (partition != null) {
+                matched = addMatches(partition, ((LongPartition)partition).find(key), rightIndex, row, output);
+            }
+        } else {
+            for (final JoinTuple tuple : getJoinTuples(row, InDataPort.Right)) {
+                final Partition partition = m_partitions[getPartition(mix(tuple.hashCode()))];
+                if (partition != null) {
+                    matched |= addMatches(partition, ((TuplePartition)partition).find(tuple), rightIndex, row,
+                        output);
+                }
+            }
+        }
+        if (matched && m_matchedRight != null) {
+            setBit(m_matchedRight, spillIndex);
+        }
+    }
+
+    /** Adds the matches of the chain starting with the given entry, returns <code>true</code> if there is one. */
+    private boolean addMatches(final Partition partition, final int head, final long rightIndex, final DataRow row,
+        final Output output) {
+        for (int e = head; e >= 0; e = partition.m_next[e]) {
+            final int leftIndex = partition.m_rows[e];
+            output.m_matches.addRowToTable(
+                OutputRow.createDataRow(output.nextIndex(), leftIndex, rightIndex, row, m_outputSettings));
+            if (m_matchedLeft != null) {
+                setBit(m_matchedLeft, leftIndex);
+            }
+        }
+        return head >= 0;
+    }
+
+    /**
+     * Joins the spilled partitions with the right spill. As many spilled partitions as fit into memory are loaded
+     * at once, the right spill is read once per group of partitions.
+     */
+    private void joinSpilledPartitions(final List<Future<?>> tasks, final Output[] outputs,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        m_rightSpill.close();
+        final BufferedDataTable rightSpill = m_rightSpill.getTable();
+        if (m_retainRight) {
+            m_matchedRight = new AtomicLongArray(wordCount(rightSpill.size()));
+        }
+        final List<Integer> spilled = new ArrayList<>();
+        for (int p = 0; p < PARTITION_COUNT; p++) {
+            if (m_leftSpills[p] != null) {
+                spilled.add(p);
+            }
+        }
+        int next = 0;
+        while (next < spilled.size()) {
+            final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+            final List<Integer> group = new ArrayList<>();
+            while (next < spilled.size() && (group.isEmpty()
+                    || (m_rowsAddedBeforeForcedOOM == 0 && !memIndicator.lowMemoryActionRequired()))) {
+                final int p = spilled.get(next++);
+                loadSpilledPartition(p, exec);
+                group.add(p);
+            }
+            LOGGER.debug("Joining spilled partitions " + group);
+            exec.setMessage("Joining " + spilled.size() + " spilled partitions (" + next + " loaded)...");
+            buildPartitions(tasks, exec);
+            probe(rightSpill, true, tasks, outputs, exec.createSilentSubExecutionContext(0));
+            for (final int p : group) {
+                m_partitions[p] = null;
+                exec.clearTable(m_leftSpills[p].getTable());
+            }
+        }
+
+        if (m_retainRight) {
+            final Output output = outputs[0];
+            long spillIndex = 0;
+            try (final CloseableRowIterator it = rightSpill.iterator()) {
+                while (it.hasNext()) {
+                    exec.checkCanceled();
+                    final DataRow row = it.next();
+                    final boolean matchedInMemory =
+                        ((BooleanValue)row.getCell(m_rightSpillSpec.getNumColumns() - 1)).getBooleanValue();
+                    if (!matchedInMemory && !isBitSet(m_matchedRight, spillIndex)) {
+                        final long rightIndex =
+                            ((LongValue)row.getCell(m_rightSpillSpec.getNumColumns() - 2)).getLongValue();
+                        output.m_rightOuter.addRowToTable(
+                            OutputRow.createDataRow(output.nextIndex(), -1, rightIndex, row, m_outputSettings));
+                    }
+                    spillIndex++;
+                }
+            }
+        }
+        exec.clearTable(rightSpill);
+    }
+
+    private void loadSpilledPartition(final int p, final ExecutionContext exec) throws CanceledExecutionException {
+        try (final CloseableRowIterator it = m_leftSpills[p].getTable().iterator()) {
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                final DataRow row = it.next();
+                final int rowIndex = ((IntValue)row.getCell(0)).getIntValue();
+                if (m_longKeys) {
+                    getLongPartition(p).add(((LongValue)row.getCell(1)).getLongValue(), rowIndex);
+                } else {
+                    final DataCell[] cells = new DataCell[row.getNumCells() - 1];
+                    for (int i = 0; i < cells.length; i++) {
+                        final DataCell cell = row.getCell(i + 1);
+                        // spilled tuples never contain missing cells, hence they stand for wild cards
+                        cells[i] = cell.isMissing() ? InputRow.WildCardCell.getDefault() : cell;
+                    }
+                    getTuplePartition(p).add(new JoinTuple(cells), rowIndex);
+                }
+            }
+        }
+    }
+
+    /** Creates the left outer joins of all left rows that didn't match. */
+    private BufferedDataTable createLeftOuter(final long leftRowCount, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        exec.setMessage("Collecting left outer joins...");
+        final BufferedDataContainer leftOuter = exec.createDataContainer(m_outputSettings.getSpec());
+        long index = 0;
+        for (long leftIndex = 0; leftIndex < leftRowCount; leftIndex++) {
+            if (!isBitSet(m_matchedLeft, leftIndex)) {
+                exec.checkCanceled();
+                leftOuter.addRowToTable(OutputRow.createDataRow(index++, leftIndex, -1, m_outputSettings));
+            }
+        }
+        leftOuter.close();
+        return leftOuter.getTable();
+    }
+
+    /**
+     * Returns the join tuples of the given row without those that contain missing cells. Such tuples are not equal to
+     * any other tuple (see Bug 2625), so the hybrid hash join never matches them either.
+     */
+    private JoinTuple[] getJoinTuples(final DataRow row, final InDataPort port) {
+        // the index of the input row is not needed to create the tuples
+        final JoinTuple[] tuples = new InputRow(row, -1, port, m_inputSettings).getJoinTuples();
+        int count = 0;
+        for (final JoinTuple tuple : tuples) {
+            if (!containsMissing(tuple)) {
+                tuples[count++] = tuple;
+            }
+        }
+        return count == tuples.length ? tuples : Arrays.copyOf(tuples, count);
+    }
+
+    private static boolean containsMissing(final JoinTuple tuple) {
+        for (final DataCell cell : tuple.getCells()) {
+            if (cell.isMissing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Creates a row of a left spill, wild cards are replaced by missing cells. */
+    private static DataRow createSpillRow(final RowKey key, final int rowIndex, final JoinTuple tuple) {
+        final DataCell[] tupleCells = tuple.getCells();
+        final DataCell[] cells = new DataCell[tupleCells.length + 1];
+        cells[0] = new IntCell(rowIndex);
+        for (int i = 0; i < tupleCells.length; i++) {
+            cells[i + 1] =
+                tupleCells[i] instanceof InputRow.WildCardCell ? DataType.getMissingCell() : tupleCells[i];
+        }
+        return new DefaultRow(key, cells);
+    }
+
+    /**
+     * Encodes a non-missing key cell as long such that the keys match if and only if their join tuples match in the
+     * hash tables of the hybrid hash join.
+     */
+    private long encode(final DataCell cell) {
+        if (m_doubleKeys) {
+            // the bits the hash code of a double cell is based on: 0.0 and -0.0 don't match (although the cells are
+            // equal their hash codes differ), all NaN values do since doubleToLongBits returns a canonical NaN
+            return Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+        }
+        return ((LongValue)cell).getLongValue();
+    }
+
+    private LongPartition getLongPartition(final int p) {
+        if (m_partitions[p] == null) {
+            m_partitions[p] = new LongPartition();
+        }
+        return (LongPartition)m_partitions[p];
+    }
+
+    private TuplePartition getTuplePartition(final int p) {
+        if (m_partitions[p] == null) {
+            m_partitions[p] = new TuplePartition();
+        }
+        return (TuplePartition)m_partitions[p];
+    }
+
+    /** @return the partition determined by the highest bits of the mixed hash code */
+    private static int getPartition(final long mixedHash) {
+        return (int)(mixedHash >>> (Long.SIZE - PARTITION_BITS));
+    }
+
+    /** Finalization step of MurmurHash3 to spread the bits of poor hash codes (e.g. of consecutive ids). */
+    private static long mix(final long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int wordCount(final long bitCount) {
+        return (int)((bitCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private static void setBit(final AtomicLongArray bits, final long index) {
+        final int word = (int)(index / Long.SIZE);
+        final long mask = 1L << (index % Long.SIZE);
+        long old;
+        do {
+            old = bits.get(word);
+            if ((old & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, old, old | mask));
+    }
+
+    private static boolean isBitSet(final AtomicLongArray bits, final long index) {
+        return (bits.get((int)(index / Long.SIZE)) & (1L << (index % Long.SIZE))) != 0;
+    }
+
+    private static BufferedDataTable nonEmpty(final BufferedDataTable table) {
+        return table != null && table.size() > 0 ? table : null;
+    }
+
+    private static BufferedDataTable concatenate(final List<BufferedDataTable> tables, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final List<BufferedDataTable> nonEmpty = new ArrayList<>();
+        for (final BufferedDataTable table : tables) {
+            if (table.size() > 0) {
+                nonEmpty.add(table);
+            }
+        }
+        if (nonEmpty.isEmpty()) {
+            return null;
+        } else if (nonEmpty.size() == 1) {
+            return nonEmpty.get(0);
+        }
+        // the row keys of the probing threads are disjoint
+        return exec.createConcatenateTable(exec, Optional.empty(), false,
+            nonEmpty.toArray(new BufferedDataTable[nonEmpty.size()]));
+    }
+
+    /** Submits the task to the {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}. */
+    private static <T> Future<T> submit(final List<Future<?>> tasks, final Callable<T> task) {
+        final Future<T> future = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(ThreadUtils.callableWithContext(task));
+        tasks.add(future);
+        return future;
+    }
+
+    /** Hands the batch to a probing thread, waits while the queue is full unless a thread failed or the execution is
+     * canceled. */
+    private static void putBatch(final BlockingQueue<Batch> queue, final Batch batch, final List<Future<?>> workers,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        if (queue.offer(batch)) {
+            return;
+        }
+        waitInvisibly(() -> {
+            while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                exec.checkCanceled();
+                for (Future<?> worker : workers) {
+                    if (worker.isDone()) {
+                        // workers only finish at the end of the input, so it must have failed
+                        worker.get();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void getWorkerResult(final Future<?> worker) throws CanceledExecutionException {
+        waitInvisibly(worker::get);
+    }
+
+    /**
+     * Runs the callable, which waits for the tasks on the global thread pool. If the current thread is itself taken
+     * from a thread pool (e.g. the thread executing the node) it's not counted while waiting, so that the tasks can
+     * make progress even if the pool is busy otherwise.
+     */
+    private static <T> T waitInvisibly(final Callable<T> callable) throws CanceledExecutionException {
+        try {
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                return currentPool.runInvisible(callable);
+            }
+            return callable.call();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Join canceled");
+        } catch (CanceledExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Join canceled");
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /** The output containers of a probing thread. */
+    private final class Output {
+
+        private final BufferedDataContainer m_matches;
+
+        private final BufferedDataContainer m_rightOuter;
+
+        private final int m_thread;
+
+        private long m_count = 0;
+
+        Output(final ExecutionContext exec, final int thread) {
+            m_matches = exec.createDataContainer(m_outputSettings.getSpec());
+            m_rightOuter = exec.createDataContainer(m_outputSettings.getSpec());
+            m_thread = thread;
+        }
+
+        /** @return the next row index, unique among all probing threads */
+        long nextIndex() {
+            return m_count++ * m_threadCount + m_thread;
+        }
+
+        void close() {
+            m_matches.close();
+            m_rightOuter.close();
+        }
+    }
+
+    /** Rows handed to a probing thread. */
+    private static final class Batch {
+
+        static final Batch END = new Batch(-1);
+
+        private final DataRow[] m_rows = new DataRow[BATCH_SIZE];
+
+        private final long m_firstIndex;
+
+        private int m_size = 0;
+
+        Batch(final long firstIndex) {
+            m_firstIndex = firstIndex;
+        }
+
+        /** @return <code>true</code> if the batch is full */
+        boolean add(final DataRow row) {
+            m_rows[m_size++] = row;
+            return m_size == BATCH_SIZE;
+        }
+    }
+
+    /**
+     * The tuples of the left table in one partition. After {@link #build()} the entries with equal keys are chained,
+     * ordered by their row index.
+     */
+    private abstract static class Partition {
+
+        /** The index of the left row per entry. */
+        int[] m_rows = new int[8];
+
+        /** The next entry with the same key per entry or -1, only available after {@link #build()}. */
+        int[] m_next;
+
+        int m_size = 0;
+
+        final void ensureCapacity() {
+            if (m_size == m_rows.length) {
+                m_rows = Arrays.copyOf(m_rows, 2 * m_size);
+                grow(2 * m_size);
+            }
+        }
+
+        static int tableSize(final int size) {
+            int capacity = 2;
+            while (capacity < 2 * size) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+
+        abstract void grow(int capacity);
+
+        /** Builds the hash table, called once all entries are added. */
+        abstract void build();
+    }
+
+    /** Partition with keys encoded as long values, hashed by open addressing. */
+    private static final class LongPartition extends Partition {
+
+        long[] m_keys = new long[8];
+
+        private long[] m_slotKeys;
+
+        /** The first entry of the chain per slot or -1 if the slot is empty. */
+        private int[] m_slotHeads;
+
+        private int m_mask;
+
+        void add(final long key, final int row) {
+            ensureCapacity();
+            m_keys[m_size] = key;
+            m_rows[m_size] = row;
+            m_size++;
+        }
+
+        @Override
+        void grow(final int capacity) {
+            m_keys = Arrays.copyOf(m_keys, capacity);
+        }
+
+        @Override
+        void build() {
+            final int capacity = tableSize(m_size);
+            m_slotKeys = new long[capacity];
+            m_slotHeads = new int[capacity];
+            Arrays.fill(m_slotHeads, -1);
+            m_mask = capacity - 1;
+            m_next = new int[m_size];
+            // add in reverse order so that the chains are ordered by row index
+            for (int e = m_size - 1; e >= 0; e--) {
+                final int slot = slot(m_keys[e]);
+                m_next[e] = m_slotHeads[slot];
+                m_slotHeads[slot] = e;
+                m_slotKeys[slot] = m_keys[e];
+            }
+            m_keys = null;
+        }
+
+        private int slot(final long key) {
+            int slot = (int)mix(key) & m_mask;
+            while (m_slotHeads[slot] >= 0 && m_slotKeys[slot] != key) {
+                slot = (slot + 1) & m_mask;
+            }
+            return slot;
+        }
+
+        /** @return the first entry with the given key or -1 */
+        int find(final long key) {
+            return m_slotHeads[slot(key)];
+        }
+    }
+
+    /** Partition with {@link JoinTuple} keys. */
+    private static final class TuplePartition extends Partition {
+
+        JoinTuple[] m_tuples = new JoinTuple[8];
+
+        private HashMap<JoinTuple, Integer> m_heads;
+
+        void add(final JoinTuple tuple, final int row) {
+            ensureCapacity();
+            m_tuples[m_size] = tuple;
+            m_rows[m_size] = row;
+            m_size++;
+        }
+
+        @Override
+        void grow(final int capacity) {
+            m_tuples = Arrays.copyOf(m_tuples, capacity);
+        }
+
+        @Override
+        void build() {
+            m_heads = new HashMap<>(tableSize(m_size));
+            m_next = new int[m_size];
+            for (int e = m_size - 1; e >= 0; e--) {
+                final Integer head = m_heads.put(m_tuples[e], e);
+                m_next[e] = head == null ? -1 : head;
+            }
+            m_tuples = null;
+        }
+
+        /** @return the first entry with the given tuple or -1 */
+        int find(final JoinTuple tuple) {
+            final Integer head = m_heads.get(tuple);
+            return head == null ? -1 : head;
+        }
+    }
+}
@@ -0,0 +1,655 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.base.node.preproc.joiner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Join engine used by the {@link Joiner} for inputs that are sorted by the joining columns. Both inputs are read
+ * once in parallel and only the rows of the bottom input with equal joining values are kept at a time; large groups
+ * of equal values are buffered on disk. Hence the memory consumption doesn't depend on the size of the inputs and the
+ * inputs can be streamed.
+ * <p>
+ * The joined rows are pushed to the output as soon as they are found, the left and right outer joins are collected
+ * and pushed at the end. The row order is hence the same as the one of the hash join: the joined rows ordered by the
+ * left and then by the right row, followed by the left and the right outer joins, each in the order of their input.
+ * <p>
+ * The joining columns are compared with the comparator of their type in ascending order. Row keys, and columns that
+ * are joined with row keys, are compared in alphanumeric order such that "Row2" comes before "Row10". As in the hash
+ * join (see {@link JoinTuple#equals(Object)}), rows with missing values in the joining columns never match. They can
+ * appear anywhere in the inputs, but not between rows with equal joining values. {@link #isSorted(BufferedDataTable,
+ * boolean, ExecutionMonitor)} checks a table before the join; otherwise a {@link NotSortedException} is thrown at the
+ * first row that is not in order.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SortMergeJoin {
+
+    /** Number of rows with equal joining values in the bottom table that are kept in memory. */
+    private static final int MAX_GROUP_ROWS_IN_MEMORY = 10000;
+
+    /** Compares row keys in alphanumeric order. */
+    private static final DataValueComparator ROW_KEY_COMPARATOR = new DataValueComparator() {
+        @Override
+        protected int compareDataValues(final DataValue v1, final DataValue v2) {
+            return compareAlphanumeric(((StringValue)v1).getStringValue(), ((StringValue)v2).getStringValue());
+        }
+    };
+
+    private final int[] m_leftJoinIdx;
+
+    private final int[] m_rightJoinIdx;
+
+    private final DataValueComparator[] m_comparators;
+
+    private final DataTableSpec m_spec;
+
+    private final int[] m_leftSurvivors;
+
+    private final int[] m_rightSurvivors;
+
+    private final JoinedRowKeyFactory m_rowKeyFactory;
+
+    private final boolean m_retainLeft;
+
+    private final boolean m_retainRight;
+
+    private final HashMap<RowKey, Set<RowKey>> m_leftRowKeyMap;
+
+    private final HashMap<RowKey, Set<RowKey>> m_rightRowKeyMap;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataContainer m_leftOuter;
+
+    private BufferedDataContainer m_rightOuter;
+
+    private DataRow m_left;
+
+    private DataCell[] m_leftKeys;
+
+    private OrderCheck m_leftOrder;
+
+    private DataRow m_right;
+
+    private DataCell[] m_rightKeys;
+
+    private OrderCheck m_rightOrder;
+
+    private long m_rowsRead;
+
+    /**
+     * @param leftJoinIdx the indices of the joining columns of the left table, -1 for the row key
+     * @param rightJoinIdx the indices of the joining columns of the right table, -1 for the row key
+     * @param leftSpec the spec of the left table
+     * @param spec the spec of the joined table
+     * @param leftSurvivors the indices of the columns of the left table in the joined table
+     * @param rightSurvivors the indices of the columns of the right table in the joined table
+     * @param rowKeyFactory creates the row keys of the joined table
+     * @param retainLeft <code>true</code> for left and full outer joins
+     * @param retainRight <code>true</code> for right and full outer joins
+     * @param enableHiLite <code>true</code> if the row key maps for hiliting should be created
+     */
+    SortMergeJoin(final int[] leftJoinIdx, final int[] rightJoinIdx, final DataTableSpec leftSpec,
+        final DataTableSpec spec, final int[] leftSurvivors, final int[] rightSurvivors,
+        final JoinedRowKeyFactory rowKeyFactory, final boolean retainLeft, final boolean retainRight,
+        final boolean enableHiLite) {
+        m_leftJoinIdx = leftJoinIdx;
+        m_rightJoinIdx = rightJoinIdx;
+        m_comparators = new DataValueComparator[leftJoinIdx.length];
+        for (int i = 0; i < leftJoinIdx.length; i++) {
+            // both sides must be compared with the same comparator
+            m_comparators[i] = leftJoinIdx[i] < 0 || rightJoinIdx[i] < 0 ? ROW_KEY_COMPARATOR
+                : getJoinColumnType(leftSpec, leftJoinIdx[i]).getComparator();
+        }
+        m_spec = spec;
+        m_leftSurvivors = leftSurvivors;
+        m_rightSurvivors = rightSurvivors;
+        m_rowKeyFactory = rowKeyFactory;
+        m_retainLeft = retainLeft;
+        m_retainRight = retainRight;
+        m_leftRowKeyMap = enableHiLite ? new HashMap<RowKey, Set<RowKey>>() : null;
+        m_rightRowKeyMap = enableHiLite ? new HashMap<RowKey, Set<RowKey>>() : null;
+    }
+
+    /**
+     * @param spec the spec of a table
+     * @param index the index of a joining column, -1 for the row key
+     * @return the type of the cells that are compared
+     */
+    static DataType getJoinColumnType(final DataTableSpec spec, final int index) {
+        // row keys are joined as string cells
+        return index >= 0 ? spec.getColumnSpec(index).getType() : StringCell.TYPE;
+    }
+
+    /**
+     * @return the row key map of the left table, <code>null</code> if hiliting is disabled
+     */
+    HashMap<RowKey, Set<RowKey>> getLeftRowKeyMap() {
+        return m_leftRowKeyMap;
+    }
+
+    /**
+     * @return the row key map of the right table, <code>null</code> if hiliting is disabled
+     */
+    HashMap<RowKey, Set<RowKey>> getRightRowKeyMap() {
+        return m_rightRowKeyMap;
+    }
+
+    /**
+     * @param left <code>true</code> for the left table, <code>false</code> for the right table
+     * @return the comparator that sorts the rows of the table in the order required by the join
+     */
+    Comparator<DataRow> createRowComparator(final boolean left) {
+        final int[] joinIdx = left ? m_leftJoinIdx : m_rightJoinIdx;
+        return (r1, r2) -> compare(getKeys(r1, joinIdx), getKeys(r2, joinIdx));
+    }
+
+    /**
+     * Checks whether a table is sorted as required by the join, such that an unsorted table can be sorted or joined
+     * otherwise before any row is joined.
+     *
+     * @param table the left or the right table
+     * @param left <code>true</code> for the left table, <code>false</code> for the right table
+     * @param exec used to check for cancellation
+     * @return <code>true</code> if the table is sorted by the joining columns
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    boolean isSorted(final BufferedDataTable table, final boolean left, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final int[] joinIdx = left ? m_leftJoinIdx : m_rightJoinIdx;
+        final OrderCheck order = new OrderCheck();
+        try (final CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                if (!order.accept(getKeys(it.next(), joinIdx))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Joins the given inputs and closes the output.
+     *
+     * @param left the left input
+     * @param right the right input
+     * @param out the output of the joined rows
+     * @param rowCount the total number of input rows or -1 if unknown
+     * @param exec the execution context
+     * @throws NotSortedException if an input is not sorted by the joining columns. All rows pushed to the output
+     *             so far must be discarded.
+     * @throws CanceledExecutionException if the execution is canceled
+     * @throws InterruptedException if interrupted while reading the inputs or writing the output
+     */
+    void join(final RowInput left, final RowInput right, final RowOutput out, final long rowCount,
+        final ExecutionContext exec) throws NotSortedException, CanceledExecutionException, InterruptedException {
+        m_exec = exec;
+        m_rowsRead = 0;
+        m_leftOrder = new OrderCheck();
+        m_rightOrder = new OrderCheck();
+        final RightGroup group = new RightGroup(right.getDataTableSpec());
+        try {
+            nextLeft(left);
+            nextRight(right);
+            while (m_left != null && m_right != null) {
+                exec.checkCanceled();
+                setProgress(rowCount);
+                // missing values never match, the outer joins are added in the order of the inputs
+                if (containsMissing(m_leftKeys)) {
+                    addLeftOuter(m_left);
+                    nextLeft(left);
+                } else if (containsMissing(m_rightKeys)) {
+                    addRightOuter(m_right);
+                    nextRight(right);
+                } else {
+                    final int cmp = compare(m_leftKeys, m_rightKeys);
+                    if (cmp < 0) {
+                        addLeftOuter(m_left);
+                        nextLeft(left);
+                    } else if (cmp > 0) {
+                        addRightOuter(m_right);
+                        nextRight(right);
+                    } else {
+                        // the comparators never consider missing values equal to the group's values
+                        final DataCell[] groupKeys = m_rightKeys;
+                        while (m_right != null && compare(groupKeys, m_rightKeys) == 0) {
+                            group.add(m_right);
+                            nextRight(right);
+                        }
+                        group.close();
+                        joinGroup(left, group, groupKeys, out);
+                        group.clear();
+                    }
+                }
+            }
+            while (m_left != null) {
+                exec.checkCanceled();
+                addLeftOuter(m_left);
+                nextLeft(left);
+            }
+            while (m_right != null) {
+                exec.checkCanceled();
+                addRightOuter(m_right);
+                nextRight(right);
+            }
+            // the outer joins come last, as in the hash join
+            pushAll(m_leftOuter, out);
+            pushAll(m_rightOuter, out);
+            m_leftOuter = null;
+            m_rightOuter = null;
+            out.close();
+        } finally {
+            group.clear();
+            discard(m_leftOuter);
+            discard(m_rightOuter);
+            left.close();
+            right.close();
+        }
+    }
+
+    /** Releases the outer joins collected before the join failed. */
+    private void discard(final BufferedDataContainer container) {
+        if (container != null) {
+            container.close();
+            m_exec.clearTable(container.getTable());
+        }
+    }
+
+    /** Joins all left rows with the given joining values with the right rows of the group. */
+    private void joinGroup(final RowInput left, final RightGroup group, final DataCell[] groupKeys,
+        final RowOutput out) throws NotSortedException, CanceledExecutionException, InterruptedException {
+        final BitSet matchedRight = new BitSet();
+        while (m_left != null && compare(m_leftKeys, groupKeys) == 0) {
+            m_exec.checkCanceled();
+            boolean matched = false;
+            int i = 0;
+            for (final DataRow right : group) {
+                // the comparators may consider cells as equal that don't match in the hash join
+                if (Arrays.equals(m_leftKeys, getKeys(right, m_rightJoinIdx))) {
+                    out.push(createJoinedRow(m_left, right));
+                    matchedRight.set(i);
+                    matched = true;
+                }
+                i++;
+            }
+            if (!matched) {
+                addLeftOuter(m_left);
+            }
+            nextLeft(left);
+        }
+        if (m_retainRight) {
+            int i = 0;
+            for (final DataRow right : group) {
+                if (!matchedRight.get(i)) {
+                    addRightOuter(right);
+                }
+                i++;
+            }
+        }
+    }
+
+    /** Reads the next left row and checks its order. */
+    private void nextLeft(final RowInput left) throws NotSortedException, InterruptedException {
+        m_left = left.poll();
+        if (m_left == null) {
+            m_leftKeys = null;
+            return;
+        }
+        m_rowsRead++;
+        m_leftKeys = getKeys(m_left, m_leftJoinIdx);
+        if (!m_leftOrder.accept(m_leftKeys)) {
+            throw new NotSortedException(true);
+        }
+    }
+
+    /** Reads the next right row and checks its order. */
+    private void nextRight(final RowInput right) throws NotSortedException, InterruptedException {
+        m_right = right.poll();
+        if (m_right == null) {
+            m_rightKeys = null;
+            return;
+        }
+        m_rowsRead++;
+        m_rightKeys = getKeys(m_right, m_rightJoinIdx);
+        if (!m_rightOrder.accept(m_rightKeys)) {
+            throw new NotSortedException(false);
+        }
+    }
+
+    private void setProgress(final long rowCount) {
+        final long rowsRead = m_rowsRead;
+        if (rowCount > 0) {
+            m_exec.setProgress(rowsRead / (double)rowCount, () -> "Merging row " + rowsRead + " of " + rowCount);
+        } else {
+            m_exec.setMessage(() -> "Merging row " + rowsRead);
+        }
+    }
+
+    private void addLeftOuter(final DataRow left) {
+        if (m_retainLeft) {
+            if (m_leftOuter == null) {
+                m_leftOuter = m_exec.createDataContainer(m_spec);
+            }
+            m_leftOuter.addRowToTable(createJoinedRow(left, null));
+        }
+    }
+
+    private void addRightOuter(final DataRow right) {
+        if (m_retainRight) {
+            if (m_rightOuter == null) {
+                m_rightOuter = m_exec.createDataContainer(m_spec);
+            }
+            m_rightOuter.addRowToTable(createJoinedRow(null, right));
+        }
+    }
+
+    private void pushAll(final BufferedDataContainer container, final RowOutput out)
+        throws CanceledExecutionException, InterruptedException {
+        if (container == null) {
+            return;
+        }
+        container.close();
+        final BufferedDataTable table = container.getTable();
+        try (final CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                m_exec.checkCanceled();
+                out.push(it.next());
+            }
+        }
+        m_exec.clearTable(table);
+    }
+
+    /**
+     * Creates a row of the joined table.
+     *
+     * @param left the left row or <code>null</code> for a right outer join
+     * @param right the right row or <code>null</code> for a left outer join
+     */
+    private DataRow createJoinedRow(final DataRow left, final DataRow right) {
+        final DataCell[] cells = new DataCell[m_leftSurvivors.length + m_rightSurvivors.length];
+        int c = 0;
+        for (int i = 0; i < m_leftSurvivors.length; i++) {
+            cells[c++] = left != null ? left.getCell(m_leftSurvivors[i]) : DataType.getMissingCell();
+        }
+        for (int i = 0; i < m_rightSurvivors.length; i++) {
+            cells[c++] = right != null ? right.getCell(m_rightSurvivors[i]) : DataType.getMissingCell();
+        }
+        final RowKey leftKey = left != null ? left.getKey() : null;
+        final RowKey rightKey = right != null ? right.getKey() : null;
+        final RowKey joinedKey = m_rowKeyFactory.createJoinedKey(leftKey, rightKey);
+        if (m_leftRowKeyMap != null) {
+            addToRowKeyMap(m_leftRowKeyMap, leftKey, joinedKey);
+            addToRowKeyMap(m_rightRowKeyMap, rightKey, joinedKey);
+        }
+        return new DefaultRow(joinedKey, cells);
+    }
+
+    private static void addToRowKeyMap(final HashMap<RowKey, Set<RowKey>> map, final RowKey key,
+        final RowKey joinedKey) {
+        if (key != null) {
+            Set<RowKey> keySet = map.get(key);
+            if (keySet == null) {
+                keySet = new HashSet<RowKey>();
+                map.put(key, keySet);
+            }
+            keySet.add(joinedKey);
+        }
+    }
+
+    private static DataCell[] getKeys(final DataRow row, final int[] joinIdx) {
+        final DataCell[] keys = new DataCell[joinIdx.length];
+        for (int i = 0; i < joinIdx.length; i++) {
+            // create a StringCell since row IDs may match StringCells
+            keys[i] = joinIdx[i] >= 0 ? row.getCell(joinIdx[i]) : new StringCell(row.getKey().getString());
+        }
+        return keys;
+    }
+
+    private static boolean containsMissing(final DataCell[] keys) {
+        for (final DataCell key : keys) {
+            if (key.isMissing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares strings such that sequences of digits are compared by their numeric value, e.g. "Row2" comes before
+     * "Row10". Strings are only equal if they are identical, since row keys only match then.
+     *
+     * @param s1 the first string
+     * @param s2 the second string
+     * @return a negative number, zero or a positive number if the first string is less than, equal to or greater than
+     *         the second
+     */
+    static int compareAlphanumeric(final String s1, final String s2) {
+        final int n1 = s1.length();
+        final int n2 = s2.length();
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < n1 && i2 < n2) {
+            final char c1 = s1.charAt(i1);
+            final char c2 = s2.charAt(i2);
+            if (isDigit(c1) && isDigit(c2)) {
+                // skip leading zeros, the longer number is then the greater one
+                while (i1 < n1 && s1.charAt(i1) == '0') {
+                    i1++;
+                }
+                while (i2 < n2 && s2.charAt(i2) == '0') {
+                    i2++;
+                }
+                int end1 = i1;
+                while (end1 < n1 && isDigit(s1.charAt(end1))) {
+                    end1++;
+                }
+                int end2 = i2;
+                while (end2 < n2 && isDigit(s2.charAt(end2))) {
+                    end2++;
+                }
+                int cmp = Integer.compare(end1 - i1, end2 - i2);
+                for (int k = 0; cmp == 0 && k < end1 - i1; k++) {
+                    cmp = Character.compare(s1.charAt(i1 + k), s2.charAt(i2 + k));
+                }
+                if (cmp != 0) {
+                    return cmp;
+                }
+                i1 = end1;
+                i2 = end2;
+            } else if (c1 != c2) {
+                return Character.compare(c1, c2);
+            } else {
+                i1++;
+                i2++;
+            }
+        }
+        final int cmp = Integer.compare(n1 - i1, n2 - i2);
+        // e.g. "Row01" and "Row1"
+        return cmp != 0 ? cmp : s1.compareTo(s2);
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private int compare(final DataCell[] keys1, final DataCell[] keys2) {
+        for (int i = 0; i < keys1.length; i++) {
+            final int cmp = m_comparators[i].compare(keys1[i], keys2[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks the order of the rows of an input: the joining values must not decrease and rows with equal joining
+     * values must not be separated by rows with missing joining values.
+     */
+    private final class OrderCheck {
+
+        private DataCell[] m_prevKeys;
+
+        private boolean m_missingSincePrev;
+
+        /**
+         * @param keys the joining values of the next row
+         * @return <code>false</code> if the row is not in order
+         */
+        boolean accept(final DataCell[] keys) {
+            if (containsMissing(keys)) {
+                m_missingSincePrev = true;
+                return true;
+            }
+            if (m_prevKeys != null) {
+                final int cmp = compare(m_prevKeys, keys);
+                if (cmp > 0 || (cmp == 0 && m_missingSincePrev)) {
+                    return false;
+                }
+            }
+            m_prevKeys = keys;
+            m_missingSincePrev = false;
+            return true;
+        }
+    }
+
+    /** The right rows with equal joining values, kept in memory unless there are too many of them. */
+    private final class RightGroup implements Iterable<DataRow> {
+
+        private final DataTableSpec m_rightSpec;
+
+        private final List<DataRow> m_rows = new ArrayList<>();
+
+        private BufferedDataContainer m_container;
+
+        private BufferedDataTable m_table;
+
+        RightGroup(final DataTableSpec rightSpec) {
+            m_rightSpec = rightSpec;
+        }
+
+        void add(final DataRow row) {
+            if (m_container == null && m_rows.size() < MAX_GROUP_ROWS_IN_MEMORY) {
+                m_rows.add(row);
+                return;
+            }
+            if (m_container == null) {
+                m_container = m_exec.createDataContainer(m_rightSpec, false);
+                for (final DataRow r : m_rows) {
+                    m_container.addRowToTable(r);
+                }
+                m_rows.clear();
+            }
+            m_container.addRowToTable(row);
+        }
+
+        /** Called once all rows of the group are added. */
+        void close() {
+            if (m_container != null) {
+                m_container.close();
+                m_table = m_container.getTable();
+            }
+        }
+
+        void clear() {
+            m_rows.clear();
+            if (m_table != null) {
+                m_exec.clearTable(m_table);
+            }
+            m_container = null;
+            m_table = null;
+        }
+
+        @Override
+        public Iterator<DataRow> iterator() {
+            return m_table != null ? m_table.iterator() : m_rows.iterator();
+        }
+    }
+
+    /** Thrown if an input is not sorted by the joining columns. */
+    static final class NotSortedException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * @param left <code>true</code> if the left input is not sorted, <code>false</code> for the right input
+         */
+        NotSortedException(final boolean left) {
+            super((left ? "Top" : "Bottom") + " input table is not sorted by the joining columns");
+        }
+    }
+}
@@ -59,6 +59,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -173,6 +174,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         BufferedDataTableSorter sorter = new BufferedDataTableSorter(
                 inData[INPORT], m_inclList, m_sortOrder, m_missingToEnd);
         sorter.setSortInMemory(m_sortInMemory);
+        // chunks that don't fit into memory are sorted and merged concurrently if the global pool has several threads
+        sorter.setSortInParallel(KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads() > 1);
         BufferedDataTable sortedTable = sorter.sort(exec);
 
         return new BufferedDataTable[]{sortedTable};
@@ -776,14 +776,13 @@ public NonNegativeSumOperator(final OperatorData operatorData,
          * {@inheritDoc}
          */
         @Override
-        protected boolean computeInternal(final DataCell cell) {
-            final double d = ((DoubleValue)cell).getDoubleValue();
-            if (d < 0) {
+        protected boolean computeInternal(final double value) {
+            if (value < 0) {
                 setWarningMessage("The weight columns contains negative"
                         + " which will be ignored.");
                 return false;
             } else {
-                return super.computeInternal(cell);
+                return super.computeInternal(value);
             }
         }
 
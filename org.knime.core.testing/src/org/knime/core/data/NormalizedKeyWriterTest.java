@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests that the order of keys written by {@link NormalizedKeyWriter} matches the order of the comparators.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NormalizedKeyWriterTest {
+
+    /** Int cells, including the extreme values. */
+    @Test
+    public void testInt() {
+        checkOrder(IntCell.TYPE, Arrays.asList(new IntCell(Integer.MIN_VALUE), new IntCell(-1), new IntCell(0),
+            new IntCell(1), new IntCell(Integer.MAX_VALUE), DataType.getMissingCell()));
+    }
+
+    /** Long cells, including the extreme values. */
+    @Test
+    public void testLong() {
+        checkOrder(LongCell.TYPE, Arrays.asList(new LongCell(Long.MIN_VALUE), new LongCell(-1L), new LongCell(0L),
+            new LongCell(1L << 40), new LongCell(Long.MAX_VALUE), DataType.getMissingCell()));
+    }
+
+    /** Double cells, including infinity, signed zeros and NaN. */
+    @Test
+    public void testDouble() {
+        checkOrder(DoubleCell.TYPE,
+            Arrays.asList(new DoubleCell(Double.NEGATIVE_INFINITY), new DoubleCell(-1e300), new DoubleCell(-0.5),
+                new DoubleCell(-Double.MIN_VALUE), new DoubleCell(-0.0), new DoubleCell(0.0),
+                new DoubleCell(Double.MIN_VALUE), new DoubleCell(2.5), new DoubleCell(Double.POSITIVE_INFINITY),
+                new DoubleCell(Double.NaN), DataType.getMissingCell()));
+    }
+
+    /** String cells, including prefixes, zero chars and chars outside the ASCII range. */
+    @Test
+    public void testString() {
+        checkOrder(StringCell.TYPE,
+            Arrays.asList(new StringCell(""), new StringCell("\u0000"), new StringCell("\u0000a"),
+                new StringCell("A"), new StringCell("a"), new StringCell("ab"), new StringCell("a\u007F"),
+                new StringCell("aä"), new StringCell("a䀀"), new StringCell("a￿"),
+                new StringCell("~"), new StringCell("䁾"), new StringCell("䁿"),
+                new StringCell("￿"), DataType.getMissingCell()));
+    }
+
+    /** Checks that the (ascending) list of cells is also ordered by their keys, in both sort directions. */
+    private static void checkOrder(final DataType type, final List<DataCell> ascending) {
+        final DataValueComparator comp = type.getComparator();
+        final NormalizedKeyWriter writer = new NormalizedKeyWriter();
+        for (int i = 0; i < ascending.size(); i++) {
+            for (int j = 0; j < ascending.size(); j++) {
+                final DataCell c1 = ascending.get(i);
+                final DataCell c2 = ascending.get(j);
+                final int expected = Integer.signum(Integer.compare(i, j));
+                assertEquals("Ascending order of " + c1 + " and " + c2, expected,
+                    Integer.signum(NormalizedKeyWriter.compare(key(writer, c1, comp, true, true),
+                        key(writer, c2, comp, true, true))));
+                // missing values are sorted to the end in both directions
+                final int expectedDesc = c1.isMissing() || c2.isMissing() ? expected : -expected;
+                assertEquals("Descending order of " + c1 + " and " + c2, expectedDesc,
+                    Integer.signum(NormalizedKeyWriter.compare(key(writer, c1, comp, false, true),
+                        key(writer, c2, comp, false, true))));
+            }
+        }
+    }
+
+    private static byte[] key(final NormalizedKeyWriter writer, final DataCell cell,
+        final DataValueComparator comp, final boolean ascending, final boolean missingsLast) {
+        writer.reset();
+        writer.writeCell(cell, comp, ascending, missingsLast);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests the compact representation of {@link RowKey}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowKeyTest {
+
+    /** Compact default keys are equal to string keys and have the same hash code. */
+    @Test
+    public void testCompactRowIndex() {
+        for (long index : new long[]{0L, 1L, 9L, 10L, 100L, 123456789L, -1L, -10L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            checkEqual(new RowKey("Row" + index), RowKey.createRowKey(index));
+            checkEqual(new RowKey("Row" + index), RowKey.createCompactRowKey("Row" + index));
+            checkEqual(new RowKey(Long.toString(index)), RowKey.createCompactRowKey(Long.toString(index)));
+        }
+        assertNotEquals(RowKey.createRowKey(5L), RowKey.createCompactRowKey("5"));
+        assertNotEquals(RowKey.createRowKey(5L), RowKey.createRowKey(6L));
+    }
+
+    /** Strings that must not be converted to a compact key, e.g. because of leading zeros. */
+    @Test
+    public void testNonCanonicalNumbers() {
+        for (String id : new String[]{"", "Row", "Row01", "Row-0", "-0", "007", "Row+1", "Row 1", "1e3",
+            "9223372036854775808", "-9223372036854775809", "Row9223372036854775808"}) {
+            checkEqual(new RowKey(id), RowKey.createCompactRowKey(id));
+        }
+    }
+
+    private static void checkEqual(final RowKey expected, final RowKey actual) {
+        assertEquals(expected.getString(), actual.getString());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals("Hash code of " + expected, expected.hashCode(), actual.hashCode());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests {@link Buffer#linkOrCopy(File, File)} and {@link Buffer#linkOrCopyDir(File, File, ExecutionMonitor)}, which
+ * are used to save tables into a directory and to read them back.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BufferLinkOrCopyTest {
+
+    /** Linked (or copied) files have the same content and survive the deletion of their source. */
+    @Test
+    public void testLinkOrCopyDir() throws Exception {
+        File source = FileUtil.createTempDir("link_source");
+        File dest = new File(FileUtil.createTempDir("link_dest"), "table");
+        try {
+            byte[] content = new byte[100000];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte)i;
+            }
+            Files.write(new File(source, "data.bin").toPath(), content);
+            File subDir = new File(source, "blobs/sub");
+            assertTrue(subDir.mkdirs());
+            Files.write(new File(subDir, "blob").toPath(), new byte[]{1, 2, 3});
+
+            Buffer.linkOrCopyDir(source, dest, new ExecutionMonitor());
+            assertArrayEquals(content, Files.readAllBytes(new File(dest, "data.bin").toPath()));
+            assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(new File(dest, "blobs/sub/blob").toPath()));
+
+            // existing destination is replaced
+            Buffer.linkOrCopy(new File(subDir, "blob"), new File(dest, "data.bin"));
+            assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(new File(dest, "data.bin").toPath()));
+
+            assertTrue(FileUtil.deleteRecursively(source));
+            assertFalse(source.exists());
+            assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(new File(dest, "blobs/sub/blob").toPath()));
+        } finally {
+            FileUtil.deleteRecursively(source);
+            FileUtil.deleteRecursively(dest.getParentFile());
+        }
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests reading a table in place from the directory it was saved to (see {@link Buffer#setReadInPlace(File)}) and
+ * copying its files to temp before the directory is modified, as done when a node is marked dirty or the workflow is
+ * saved again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BufferReadInPlaceTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new String[]{"Int", "String"}, new DataType[]{IntCell.TYPE, StringCell.TYPE});
+
+    private static DataRow createRow(final int index) {
+        return new DefaultRow(RowKey.createRowKey(index), new IntCell(index), new StringCell("Value " + index));
+    }
+
+    /** Saves a table unzipped and reads it back in place (as {@link CopyOnAccessTask} does). */
+    private static Buffer saveAndReadInPlace(final File nodeDir, final int rowCount) throws Exception {
+        DataContainer container = new DataContainer(SPEC, true, 0, false);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(createRow(i));
+        }
+        container.close();
+        ContainerTable table = container.getBufferedTable();
+        File tableDir = new File(nodeDir, "port_1");
+        assertTrue(tableDir.mkdirs());
+        try {
+            assertTrue(table.getBuffer().canSaveToDirectory());
+            table.getBuffer().saveToDirectory(tableDir, new ExecutionMonitor());
+        } finally {
+            table.clear();
+        }
+        Buffer buffer;
+        try (InputStream metaIn =
+            new BufferedInputStream(new FileInputStream(new File(tableDir, Buffer.ZIP_ENTRY_META)))) {
+            buffer = new Buffer(new File(tableDir, Buffer.ZIP_ENTRY_DATA), null, null, SPEC, metaIn, -1,
+                new HashMap<Integer, ContainerTable>(), null);
+        }
+        buffer.setReadInPlace(tableDir);
+        return buffer;
+    }
+
+    /**
+     * Iterators opened on the files in the workflow directory continue on the copy in temp once the files are copied,
+     * the directory can then be deleted (also on Windows, i.e. no file in it is open).
+     */
+    @Test
+    public void testCopyToTempWithOpenIterators() throws Exception {
+        final int rowCount = 5000;
+        File nodeDir = FileUtil.createTempDir("read_in_place_node");
+        Buffer buffer = saveAndReadInPlace(nodeDir, rowCount);
+        try {
+            assertTrue(buffer.isReadInPlace());
+            CloseableRowIterator all = buffer.iterator();
+            CloseableRowIterator range = buffer.iteratorWithFilter(TableFilter.filterRangeOfRows(1000, 3999));
+            CloseableRowIterator finished = buffer.iteratorWithFilter(TableFilter.filterRangeOfRows(0, 9));
+            for (int i = 0; i < 2000; i++) {
+                assertEquals(createRow(i), all.next());
+            }
+            for (int i = 1000; i < 1500; i++) {
+                assertEquals(createRow(i), range.next());
+            }
+            for (int i = 0; i < 10; i++) {
+                assertEquals(createRow(i), finished.next());
+            }
+
+            // node is marked dirty or the workflow is saved again
+            DataContainer.copyTablesReadInPlaceToTemp(nodeDir);
+            assertFalse(buffer.isReadInPlace());
+            assertTrue("Node directory can't be deleted", FileUtil.deleteRecursively(nodeDir));
+
+            for (int i = 2000; i < rowCount; i++) {
+                assertTrue(all.hasNext());
+                assertEquals(createRow(i), all.next());
+            }
+            assertFalse(all.hasNext());
+            for (int i = 1500; i < 4000; i++) {
+                assertEquals(createRow(i), range.next());
+            }
+            assertFalse(range.hasNext());
+            assertFalse(finished.hasNext());
+
+            try (CloseableRowIterator it = buffer.iterator()) {
+                for (int i = 0; i < rowCount; i++) {
+                    assertEquals(createRow(i), it.next());
+                }
+                assertFalse(it.hasNext());
+            }
+        } finally {
+            buffer.clear();
+            FileUtil.deleteRecursively(nodeDir);
+        }
+    }
+
+    /** Clearing a buffer that reads in place doesn't delete the files in the workflow directory. */
+    @Test
+    public void testClearKeepsWorkflowFiles() throws Exception {
+        File nodeDir = FileUtil.createTempDir("read_in_place_node");
+        try {
+            Buffer buffer = saveAndReadInPlace(nodeDir, 100);
+            try (CloseableRowIterator it = buffer.iterator()) {
+                assertEquals(createRow(0), it.next());
+            }
+            buffer.clear();
+            assertTrue(new File(nodeDir, "port_1/" + Buffer.ZIP_ENTRY_DATA).isFile());
+
+            // files of other directories are not copied
+            buffer = saveAndReadInPlace(new File(nodeDir, "other"), 100);
+            DataContainer.copyTablesReadInPlaceToTemp(new File(nodeDir, "port_1"));
+            assertTrue(buffer.isReadInPlace());
+            buffer.clear();
+        } finally {
+            FileUtil.deleteRecursively(nodeDir);
+        }
+    }
+
+}
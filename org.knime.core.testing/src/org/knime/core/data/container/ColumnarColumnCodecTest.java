@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Round trip tests for {@link ColumnarColumnWriter} and {@link ColumnarColumnReader}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnarColumnCodecTest {
+
+    private static void assertRoundTrip(final ColumnType type, final DataCell... cells) throws IOException {
+        ColumnarColumnWriter writer = ColumnarColumnWriter.create(type, cells.length + 10);
+        ColumnarColumnReader reader = ColumnarColumnReader.create(type);
+        // two chunks to make sure the writer and reader are properly reset
+        for (int chunk = 0; chunk < 2; chunk++) {
+            for (DataCell c : cells) {
+                writer.add(c);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                writer.encode(out);
+            }
+            writer.reset();
+            reader.decode(ByteBuffer.wrap(bytes.toByteArray()), cells.length);
+            for (int i = 0; i < cells.length; i++) {
+                assertEquals("Cell " + i + " in chunk " + chunk, cells[i], reader.getCell(i));
+                if (cells[i] instanceof MissingCell) {
+                    assertEquals("Error message of cell " + i, ((MissingCell)cells[i]).getError(),
+                        ((MissingCell)reader.getCell(i)).getError());
+                }
+            }
+        }
+    }
+
+    /** Primitive columns with missing values and error messages. */
+    @Test
+    public void testPrimitiveColumns() throws IOException {
+        DataCell missing = DataType.getMissingCell();
+        assertRoundTrip(ColumnType.INT, new IntCell(1), missing, new IntCell(Integer.MIN_VALUE),
+            new MissingCell("some error"), new IntCell(Integer.MAX_VALUE));
+        assertRoundTrip(ColumnType.LONG, new LongCell(Long.MIN_VALUE), missing, new LongCell(42L));
+        assertRoundTrip(ColumnType.DOUBLE, new DoubleCell(Double.NaN), new DoubleCell(-0.0), missing,
+            new DoubleCell(Double.POSITIVE_INFINITY));
+        DataCell[] booleans = new DataCell[130];
+        for (int i = 0; i < booleans.length; i++) {
+            booleans[i] = i % 7 == 0 ? missing : BooleanCell.get(i % 3 == 0);
+        }
+        assertRoundTrip(ColumnType.BOOLEAN, booleans);
+    }
+
+    /** Cells that are not of the native cell class of a column are preserved. */
+    @Test
+    public void testForeignCells() throws IOException {
+        assertRoundTrip(ColumnType.INT, new IntCell(3), BooleanCell.TRUE, new IntCell(4));
+        assertRoundTrip(ColumnType.DOUBLE, new DoubleCell(3.0), new IntCell(4), new LongCell(5L));
+    }
+
+    /** Dictionary encoded and plain string columns, including chars that need multi-byte encoding. */
+    @Test
+    public void testStringColumns() throws IOException {
+        DataCell missing = DataType.getMissingCell();
+        DataCell[] repeated = new DataCell[1000];
+        for (int i = 0; i < repeated.length; i++) {
+            repeated[i] = i % 11 == 0 ? missing : new StringCell("Value " + (i % 5));
+        }
+        assertRoundTrip(ColumnType.STRING, repeated);
+        DataCell[] distinct = new DataCell[1000];
+        for (int i = 0; i < distinct.length; i++) {
+            distinct[i] = i % 11 == 0 ? missing : new StringCell("Value " + i);
+        }
+        assertRoundTrip(ColumnType.STRING, distinct);
+        assertRoundTrip(ColumnType.STRING, new StringCell(""), new StringCell("\u0000"),
+            new StringCell("Gr\u00fc\u00dfe \u20ac \ud83d\ude00"), new StringCell("\ud800 unpaired"),
+            new MissingCell("error"));
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.TableStoreFormatRegistry;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Writes tables through {@link DataContainer} (and hence {@link Buffer}) in the {@link ColumnarTableStoreFormat} and
+ * reads them back with {@link ColumnarTableStoreReader}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnarTableStoreFormatTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new String[]{"Int", "Long", "Double", "Boolean", "String"},
+        new DataType[]{IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, BooleanCell.TYPE, StringCell.TYPE});
+
+    private IEclipsePreferences m_prefs;
+
+    private String m_previousFormat;
+
+    /** Selects the columnar format in the instance preferences. */
+    @Before
+    public void selectColumnarFormat() {
+        m_prefs = InstanceScope.INSTANCE
+            .getNode(FrameworkUtil.getBundle(TableStoreFormatRegistry.class).getSymbolicName());
+        m_previousFormat = m_prefs.get(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, null);
+        m_prefs.put(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, ColumnarTableStoreFormat.class.getName());
+    }
+
+    /** Restores the previously selected format. */
+    @After
+    public void restoreFormat() {
+        if (m_previousFormat == null) {
+            m_prefs.remove(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT);
+        } else {
+            m_prefs.put(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, m_previousFormat);
+        }
+    }
+
+    private static DataRow createRow(final int index) {
+        DataCell missing = DataType.getMissingCell();
+        return new DefaultRow(RowKey.createRowKey(index),
+            index % 97 == 0 ? missing : new IntCell(index),
+            new LongCell(Long.MAX_VALUE - index),
+            index % 89 == 0 ? missing : new DoubleCell(index / 3.0),
+            BooleanCell.get(index % 2 == 0),
+            index % 83 == 0 ? missing : new StringCell("Value " + (index % 100)));
+    }
+
+    private static ContainerTable writeTable(final DataTableSpec spec, final int rowCount) {
+        DataContainer container = new DataContainer(spec, true, 0, false);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(spec.getNumColumns() == 0
+                ? new DefaultRow(RowKey.createRowKey(i), new DataCell[0]) : createRow(i));
+        }
+        container.close();
+        ContainerTable table = container.getBufferedTable();
+        assertTrue("Table not written to disc", table.getBuffer().usesOutFile());
+        assertTrue("Table not written in columnar format, but " + table.getBuffer().getOutputFormat(),
+            table.getBuffer().getOutputFormat() instanceof ColumnarTableStoreFormat);
+        return table;
+    }
+
+    /** A table spanning several chunks, read completely, with a row range across a chunk boundary and open ended. */
+    @Test
+    public void testDataContainerRoundTrip() throws Exception {
+        final int rowsPerChunk = ColumnarTableStoreFormat.getRowsPerChunk(SPEC.getNumColumns() + 1);
+        final int rowCount = 2 * rowsPerChunk + 1234;
+        ContainerTable table = writeTable(SPEC, rowCount);
+        try {
+            assertEquals(rowCount, table.size());
+            try (CloseableRowIterator it = table.iterator()) {
+                for (int i = 0; i < rowCount; i++) {
+                    assertTrue(it.hasNext());
+                    assertEquals(createRow(i), it.next());
+                }
+                assertFalse(it.hasNext());
+            }
+
+            final int from = rowsPerChunk - 10;
+            final int to = rowsPerChunk + 10;
+            try (CloseableRowIterator it =
+                table.iteratorWithFilter(TableFilter.filterRangeOfRows(from, to).withMaterializeCols(2, 4))) {
+                for (int i = from; i <= to; i++) {
+                    assertTrue(it.hasNext());
+                    DataRow reference = createRow(i);
+                    DataRow row = it.next();
+                    assertEquals(reference.getKey(), row.getKey());
+                    assertEquals(reference.getCell(2), row.getCell(2));
+                    assertEquals(reference.getCell(4), row.getCell(4));
+                }
+                assertFalse(it.hasNext());
+            }
+
+            try (CloseableRowIterator it =
+                table.iteratorWithFilter(TableFilter.filterRangeOfRows(rowCount - 5, Long.MAX_VALUE))) {
+                for (int i = rowCount - 5; i < rowCount; i++) {
+                    assertEquals(createRow(i), it.next());
+                }
+                assertFalse(it.hasNext());
+            }
+        } finally {
+            table.clear();
+        }
+    }
+
+    /** A table without columns stores the row keys only. */
+    @Test
+    public void testZeroColumnTable() throws Exception {
+        ContainerTable table = writeTable(new DataTableSpec(), 100);
+        try {
+            try (CloseableRowIterator it = table.iterator()) {
+                for (int i = 0; i < 100; i++) {
+                    DataRow row = it.next();
+                    assertEquals(RowKey.createRowKey(i), row.getKey());
+                    assertEquals(0, row.getNumCells());
+                }
+                assertFalse(it.hasNext());
+            }
+            try (CloseableRowIterator it = table.iteratorWithFilter(TableFilter.filterRangeOfRows(40, 49))) {
+                for (int i = 40; i < 50; i++) {
+                    assertEquals(RowKey.createRowKey(i), it.next().getKey());
+                }
+                assertFalse(it.hasNext());
+            }
+        } finally {
+            table.clear();
+        }
+    }
+
+    /** A file without row keys and without columns (as written by a {@link NoKeyBuffer}) has no stored column. */
+    @Test
+    public void testNoStoredColumns() throws Exception {
+        DataTableSpec spec = new DataTableSpec();
+        Buffer buffer = new NoKeyBuffer(spec, 0, -1, new HashMap<Integer, ContainerTable>(),
+            new HashMap<Integer, ContainerTable>(), NotInWorkflowWriteFileStoreHandler.create());
+        try {
+            for (int i = 0; i < 100; i++) {
+                buffer.addRow(new DefaultRow(RowKey.createRowKey(i), new DataCell[0]), false, false);
+            }
+            buffer.close(spec);
+            assertTrue(buffer.getOutputFormat() instanceof ColumnarTableStoreFormat);
+            assertEquals(100, countRows(buffer.iterator()));
+            assertEquals(10, countRows(buffer.iteratorWithFilter(TableFilter.filterRangeOfRows(40, 49))));
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Parallel decoding of a table spanning several chunks by several iterators at the same time, completely and with
+     * a row range. The number of decoding threads is bounded independent of the number of iterators.
+     */
+    @Test
+    public void testParallelDecode() throws Exception {
+        final int rowsPerChunk = ColumnarTableStoreFormat.getRowsPerChunk(SPEC.getNumColumns() + 1);
+        final int rowCount = 4 * rowsPerChunk + 17;
+        ContainerTable table = writeTable(SPEC, rowCount);
+        try {
+            ((ColumnarTableStoreReader)table.getBuffer().getOutputReader()).setDecodeParallelism(3);
+
+            // several iterators at once, read in lockstep
+            final int from = rowsPerChunk / 2;
+            final int to = 3 * rowsPerChunk + 5;
+            CloseableRowIterator[] iterators = new CloseableRowIterator[8];
+            for (int k = 0; k < iterators.length; k++) {
+                iterators[k] = k % 2 == 0 ? table.iterator()
+                    : table.iteratorWithFilter(TableFilter.filterRangeOfRows(from, to));
+            }
+            try {
+                for (int i = 0; i < rowCount; i++) {
+                    DataRow reference = createRow(i);
+                    for (int k = 0; k < iterators.length; k++) {
+                        if (k % 2 == 0 || (i >= from && i <= to)) {
+                            assertTrue(iterators[k].hasNext());
+                            assertEquals(reference, iterators[k].next());
+                        }
+                    }
+                }
+                for (CloseableRowIterator it : iterators) {
+                    assertFalse(it.hasNext());
+                }
+            } finally {
+                for (CloseableRowIterator it : iterators) {
+                    it.close();
+                }
+            }
+            assertTrue("Too many decoding threads: " + ColumnarTableStoreReader.DECODE_EXECUTOR.getLargestPoolSize(),
+                ColumnarTableStoreReader.DECODE_EXECUTOR.getLargestPoolSize()
+                    <= ColumnarTableStoreFormat.DECODE_PARALLELISM);
+
+            // closing an iterator early cancels its chunks in flight
+            try (CloseableRowIterator it = table.iterator()) {
+                assertEquals(createRow(0), it.next());
+            }
+        } finally {
+            table.clear();
+        }
+    }
+
+    private static int countRows(final CloseableRowIterator it) {
+        int count = 0;
+        try {
+            while (it.hasNext()) {
+                assertEquals(0, it.next().getNumCells());
+                count++;
+            }
+        } finally {
+            it.close();
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Test;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnarTableStoreReader.ChunkIndex;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests the chunk index written by {@link ColumnarTableStoreWriter} and read by {@link ChunkIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnarTableStoreIndexTest {
+
+    /** Index of a table spanning multiple chunks, including lookup of rows at chunk boundaries. */
+    @Test
+    public void testChunkIndex() throws IOException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Value"}, new DataType[]{IntCell.TYPE});
+        final int rowsPerChunk = ColumnarTableStoreFormat.getRowsPerChunk(2);
+        final int rowCount = 2 * rowsPerChunk + 100;
+        File file = FileUtil.createTempFile("columnar_index_test", ".kcol");
+        try {
+            try (ColumnarTableStoreWriter writer =
+                (ColumnarTableStoreWriter)new ColumnarTableStoreFormat().createWriter(file, spec, true)) {
+                for (int i = 0; i < rowCount; i++) {
+                    writer.writeRow(new DefaultRow(RowKey.createRowKey(i), new IntCell(i)));
+                }
+            }
+            ChunkIndex index = ChunkIndex.read(file);
+            assertEquals("Number of chunks", 3, index.getChunkCount());
+            assertEquals("Number of rows", rowCount, index.getRowCount());
+            assertEquals(0, index.getChunkForRow(0));
+            assertEquals(0, index.getChunkForRow(rowsPerChunk - 1));
+            assertEquals(1, index.getChunkForRow(rowsPerChunk));
+            assertEquals(2, index.getChunkForRow(rowCount - 1));
+            assertEquals("Row beyond table end", 3, index.getChunkForRow(rowCount));
+            assertEquals(2L * rowsPerChunk, index.getChunkStartRow(2));
+            // header: magic, version, #columns, column types (row key and int)
+            assertEquals(3 * Integer.BYTES + 2, index.getChunkOffset(0));
+            // last chunk ends at the trailer, which is followed by the index (3 entries) and the footer
+            assertEquals("End of last chunk", file.length() - Integer.BYTES - (Integer.BYTES + 3 * 12) - 12,
+                index.getChunkOffset(2) + index.getChunkLength(2));
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                for (int chunk = 0; chunk < index.getChunkCount(); chunk++) {
+                    raf.seek(index.getChunkOffset(chunk));
+                    assertEquals("Row count at offset of chunk " + chunk,
+                        chunk < 2 ? rowsPerChunk : 100, raf.readInt());
+                }
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Compares write and read throughput and file size of the different {@link CompressionFormat compression formats} on
+ * a table with a typical mix of columns (nominal and free text strings, integers, doubles, missing values).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CompressionFormatPerformanceComparison {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CompressionFormatPerformanceComparison.class);
+
+    private static final int ROW_COUNT = 200000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new String[]{"Category", "Description", "Count", "Measurement", "Score"},
+        new DataType[]{StringCell.TYPE, StringCell.TYPE, IntCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE});
+
+    private static final String[] CATEGORIES = {"red", "green", "blue", "cyan", "magenta", "yellow", "black"};
+
+    private static DataRow createRow(final int index, final Random random) {
+        DataCell score = index % 13 == 0 ? DataType.getMissingCell() : new DoubleCell(random.nextInt(1000) / 10.0);
+        return new DefaultRow(RowKey.createRowKey(index), new StringCell(CATEGORIES[random.nextInt(CATEGORIES.length)]),
+            new StringCell("Sample " + index + " from batch " + (index / 1000)), new IntCell(random.nextInt(100)),
+            new DoubleCell(random.nextGaussian()), score);
+    }
+
+    /** Writes and reads the same table with all compression formats. */
+    @Test
+    public void testCompareCompressionFormats() {
+        Map<CompressionFormat, Long> fileSizes = new EnumMap<>(CompressionFormat.class);
+        for (CompressionFormat format : CompressionFormat.values()) {
+            // stored to disc immediately, no rows kept in memory
+            DataContainer container = new DataContainer(SPEC, false, 0, true);
+            container.setCompressionFormat(format);
+            Random random = new Random(42L);
+            long time = System.currentTimeMillis();
+            for (int i = 0; i < ROW_COUNT; i++) {
+                container.addRowToTable(createRow(i, random));
+            }
+            container.close();
+            long writeTime = System.currentTimeMillis() - time;
+            long fileSize = container.getBufferFileSize();
+
+            ContainerTable table = container.getBufferedTable();
+            random = new Random(42L);
+            time = System.currentTimeMillis();
+            int rowCount = 0;
+            try (CloseableRowIterator it = table.iterator()) {
+                while (it.hasNext()) {
+                    DataRow row = it.next();
+                    DataRow expected = createRow(rowCount++, random);
+                    assertEquals("Row " + rowCount + " with compression " + format, expected, row);
+                }
+            }
+            long readTime = System.currentTimeMillis() - time;
+            assertEquals("Row count with compression " + format, ROW_COUNT, rowCount);
+            fileSizes.put(format, fileSize);
+            LOGGER.infoWithFormat("Compression %-5s: write %5d ms, read %5d ms, file size %,12d bytes", format,
+                writeTime, readTime, fileSize);
+            table.clear();
+        }
+        assertTrue("Lz4 compressed file not smaller than uncompressed file",
+            fileSizes.get(CompressionFormat.Lz4) < fileSizes.get(CompressionFormat.None));
+        assertTrue("Gzip compressed file not smaller than uncompressed file",
+            fileSizes.get(CompressionFormat.Gzip) < fileSizes.get(CompressionFormat.None));
+    }
+
+}
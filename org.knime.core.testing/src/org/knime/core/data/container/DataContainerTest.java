@@ -63,6 +63,7 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
@@ -253,6 +254,139 @@ public void run() {
         assertFalse(buffer.usesOutFile());
     }
 
+    /** Filtered iteration on tables held in memory and on disc. */
+    public final void testIteratorWithFilter() throws Exception {
+        int count = 1000;
+        for (int maxCellsInMemory : new int[]{0, Integer.MAX_VALUE}) {
+            DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, maxCellsInMemory, false);
+            for (RowIterator it = generateRows(count); it.hasNext();) {
+                container.addRowToTable(it.next());
+            }
+            container.close();
+            ContainerTable table = container.getBufferedTable();
+            assertEquals(maxCellsInMemory == 0, table.getBuffer().usesOutFile());
+
+            TableFilter filter = TableFilter.materializeCols(1).withRowRange(100, 199);
+            RowIterator referenceIterator = generateRows(count);
+            for (int i = 0; i < 100; i++) {
+                referenceIterator.next();
+            }
+            try (CloseableRowIterator it = table.iteratorWithFilter(filter)) {
+                for (int i = 100; i < 200; i++) {
+                    assertTrue("Expected row " + i, it.hasNext());
+                    DataRow reference = referenceIterator.next();
+                    DataRow row = it.next();
+                    assertEquals(reference.getKey(), row.getKey());
+                    assertEquals(reference.getNumCells(), row.getNumCells());
+                    assertEquals(reference.getCell(1), row.getCell(1));
+                }
+                assertFalse(it.hasNext());
+            }
+
+            // range beyond table end
+            try (CloseableRowIterator it = table.iteratorWithFilter(TableFilter.filterRangeOfRows(990, 2000))) {
+                int rowCount = 0;
+                for (; it.hasNext(); rowCount++) {
+                    assertEquals(RowKey.createRowKey(990 + rowCount), it.next().getKey());
+                }
+                assertEquals(10, rowCount);
+            }
+
+            try {
+                table.iteratorWithFilter(TableFilter.materializeCols(3));
+                fail("Invalid column index not reported");
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+            table.clear();
+        }
+    }
+
+    /** Unfiltered iteration, iteration with a column-only filter and with an open-ended row range (up to
+     * Long.MAX_VALUE) read all (remaining) rows, both from memory and from a buffer flushed to disc. */
+    public final void testIteratorWithoutRowRange() throws Exception {
+        int count = 1000;
+        for (int maxCellsInMemory : new int[]{0, Integer.MAX_VALUE}) {
+            DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, maxCellsInMemory, false);
+            for (RowIterator it = generateRows(count); it.hasNext();) {
+                container.addRowToTable(it.next());
+            }
+            container.close();
+            ContainerTable table = container.getBufferedTable();
+            assertEquals(maxCellsInMemory == 0, table.getBuffer().usesOutFile());
+
+            RowIterator referenceIterator = generateRows(count);
+            try (CloseableRowIterator it = table.iterator()) {
+                while (referenceIterator.hasNext()) {
+                    assertTrue(it.hasNext());
+                    assertEquals(referenceIterator.next(), it.next());
+                }
+                assertFalse(it.hasNext());
+            }
+
+            referenceIterator = generateRows(count);
+            try (CloseableRowIterator it = table.iteratorWithFilter(TableFilter.materializeCols(1))) {
+                while (referenceIterator.hasNext()) {
+                    assertTrue(it.hasNext());
+                    DataRow reference = referenceIterator.next();
+                    DataRow row = it.next();
+                    assertEquals(reference.getKey(), row.getKey());
+                    assertEquals(reference.getCell(1), row.getCell(1));
+                }
+                assertFalse(it.hasNext());
+            }
+
+            referenceIterator = generateRows(count);
+            for (int i = 0; i < 700; i++) {
+                referenceIterator.next();
+            }
+            TableFilter openRange = TableFilter.filterRangeOfRows(700, Long.MAX_VALUE);
+            try (CloseableRowIterator it = table.iteratorWithFilter(openRange)) {
+                while (referenceIterator.hasNext()) {
+                    assertTrue(it.hasNext());
+                    assertEquals(referenceIterator.next(), it.next());
+                }
+                assertFalse(it.hasNext());
+            }
+            table.clear();
+        }
+    }
+
+    /**
+     * method being tested: ContainerTable#getRow(long) and ContainerTable#iterator(long, long).
+     */
+    public final void testRandomRowAccess() throws Exception {
+        int count = 1000;
+        for (int maxCellsInMemory : new int[]{0, Integer.MAX_VALUE}) {
+            DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, maxCellsInMemory, false);
+            for (RowIterator it = generateRows(count); it.hasNext();) {
+                container.addRowToTable(it.next());
+            }
+            container.close();
+            ContainerTable table = container.getBufferedTable();
+            for (int index : new int[]{999, 0, 500, 501, 17}) {
+                DataRow row = table.getRow(index);
+                assertEquals(RowKey.createRowKey(index), row.getKey());
+                assertEquals(new IntCell(index), row.getCell(1));
+            }
+            try (CloseableRowIterator it = table.iterator(995, 1005)) {
+                for (int i = 995; i < count; i++) {
+                    assertEquals(RowKey.createRowKey(i), it.next().getKey());
+                }
+                assertFalse(it.hasNext());
+            }
+            for (long invalidIndex : new long[]{-1, count}) {
+                try {
+                    table.getRow(invalidIndex);
+                    fail("Invalid row index not reported: " + invalidIndex);
+                } catch (IndexOutOfBoundsException e) {
+                    // expected
+                }
+            }
+            table.clear();
+        }
+    }
+
     private static RowIterator generateRows(final int count) {
         return new RowIterator() {
 
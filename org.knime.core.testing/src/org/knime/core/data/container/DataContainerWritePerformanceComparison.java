@@ -0,0 +1,130 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Compares the throughput (rows per second) of synchronous and asynchronous writing in {@link DataContainer} on a
+ * narrow and a wide table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DataContainerWritePerformanceComparison {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DataContainerWritePerformanceComparison.class);
+
+    /** Number of cells written per table, i.e. wide tables have fewer rows. */
+    private static final int CELL_COUNT = 3000000;
+
+    private static DataTableSpec createSpec(final int columnCount) {
+        String[] names = new String[columnCount];
+        DataType[] types = new DataType[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            names[i] = "Column " + i;
+            types[i] = i % 3 == 0 ? StringCell.TYPE : (i % 3 == 1 ? IntCell.TYPE : DoubleCell.TYPE);
+        }
+        return new DataTableSpec(names, types);
+    }
+
+    private static DataRow createRow(final int index, final int columnCount) {
+        DataCell[] cells = new DataCell[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            int value = index + i;
+            cells[i] = i % 3 == 0 ? new StringCell("Value " + (value % 100))
+                : (i % 3 == 1 ? new IntCell(value) : new DoubleCell(value / 7.0));
+        }
+        return new DefaultRow(RowKey.createRowKey(index), cells);
+    }
+
+    private static void compare(final int columnCount) {
+        DataTableSpec spec = createSpec(columnCount);
+        int rowCount = CELL_COUNT / columnCount;
+        for (boolean synchronous : new boolean[]{true, false}) {
+            // stored to disc immediately, no rows kept in memory
+            DataContainer container = new DataContainer(spec, true, 0, synchronous);
+            long time = System.nanoTime();
+            for (int i = 0; i < rowCount; i++) {
+                container.addRowToTable(createRow(i, columnCount));
+            }
+            container.close();
+            long nanos = Math.max(System.nanoTime() - time, 1L);
+            ContainerTable table = container.getBufferedTable();
+            assertEquals("Row count", rowCount, table.size());
+            LOGGER.infoWithFormat("%3d column(s), %-12s write (batch size %3d): %,10d rows/s", columnCount,
+                synchronous ? "synchronous" : "asynchronous", DataContainer.getAsyncBatchSize(columnCount),
+                (long)(rowCount * 1e9 / nanos));
+            table.clear();
+        }
+    }
+
+    /** Table with 3 columns. */
+    @Test
+    public void testNarrowTable() {
+        compare(3);
+    }
+
+    /** Table with 300 columns. */
+    @Test
+    public void testWideTable() {
+        compare(300);
+    }
+
+}
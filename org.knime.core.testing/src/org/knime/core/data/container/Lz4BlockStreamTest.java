@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link Lz4BlockOutputStream} and {@link Lz4BlockInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class Lz4BlockStreamTest {
+
+    private static byte[] compress(final byte[] data, final int chunkSize) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Lz4BlockOutputStream out = new Lz4BlockOutputStream(bytes)) {
+            for (int i = 0; i < data.length; i += chunkSize) {
+                int length = Math.min(chunkSize, data.length - i);
+                if (length == 1) {
+                    out.write(data[i]);
+                } else {
+                    out.write(data, i, length);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decompress(final byte[] compressed) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Lz4BlockInputStream in = new Lz4BlockInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[1000];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+            assertEquals("Read after end of stream", -1, in.read());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void assertRoundTrip(final byte[] data) throws IOException {
+        for (int chunkSize : new int[]{1, 13, 8192, Lz4BlockOutputStream.BLOCK_SIZE + 1}) {
+            assertArrayEquals("Chunk size " + chunkSize, data, decompress(compress(data, chunkSize)));
+        }
+    }
+
+    /** Empty, short, random (incompressible) and repetitive data spanning multiple blocks. */
+    @Test
+    public void testRoundTrip() throws IOException {
+        assertRoundTrip(new byte[0]);
+        assertRoundTrip(new byte[]{42});
+        assertRoundTrip("abcabcabcabcabcabc".getBytes(StandardCharsets.US_ASCII));
+        Random random = new Random(1L);
+        byte[] randomBytes = new byte[200000];
+        random.nextBytes(randomBytes);
+        assertRoundTrip(randomBytes);
+        byte[] zeros = new byte[300000];
+        assertRoundTrip(zeros);
+        byte[] text = new byte[250000];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (byte)"KNIME Analytics Platform ".charAt(random.nextInt(10) == 0 ? random.nextInt(25) : i % 25);
+        }
+        assertRoundTrip(text);
+    }
+
+    /** Compressible data should actually be compressed. */
+    @Test
+    public void testCompressionRatio() throws IOException {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; b.length() < 500000; i++) {
+            b.append("Row").append(i).append(",Value ").append(i % 17).append('\n');
+        }
+        byte[] data = b.toString().getBytes(StandardCharsets.US_ASCII);
+        byte[] compressed = compress(data, 8192);
+        assertTrue("Poor compression: " + compressed.length + " vs. " + data.length,
+            compressed.length < data.length / 2);
+    }
+
+    /** Truncated and corrupted streams must be reported as exceptions. */
+    @Test
+    public void testCorruptStream() throws IOException {
+        byte[] data = new byte[100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte)(i % 251 + i / 1000);
+        }
+        byte[] compressed = compress(data, 8192);
+        try {
+            decompress(Arrays.copyOf(compressed, compressed.length - 3));
+            fail("Truncated stream not detected");
+        } catch (EOFException e) {
+            // expected
+        }
+        byte[] corrupt = compressed.clone();
+        for (int i = Lz4BlockOutputStream.HEADER_LENGTH; i < corrupt.length; i += 97) {
+            corrupt[i] ^= 0x5A;
+        }
+        try {
+            decompress(corrupt);
+            fail("Corrupt stream not detected");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests {@link OffHeapRowList}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class OffHeapRowListTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[]{"Int", "String", "Double"},
+        new DataType[]{IntCell.TYPE, StringCell.TYPE, DoubleCell.TYPE});
+
+    private static BlobSupportDataRow createRow(final int index) {
+        DataCell string = index % 5 == 0 ? DataType.getMissingCell() : new StringCell("Value " + (index % 17));
+        return new BlobSupportDataRow(RowKey.createRowKey(index),
+            new DataCell[]{new IntCell(index), string, new DoubleCell(index / 3.0)});
+    }
+
+    private static void assertRow(final int index, final DataRow row) {
+        DataRow expected = createRow(index);
+        assertEquals("Key of row " + index, expected.getKey(), row.getKey());
+        for (int i = 0; i < expected.getNumCells(); i++) {
+            assertEquals("Cell " + i + " of row " + index, expected.getCell(i), row.getCell(i));
+        }
+    }
+
+    /** Rows spanning multiple chunks (last one incomplete) are restored by random and sequential access. */
+    @Test
+    public void testRoundTrip() {
+        final int rowCount = 5000;
+        OffHeapRowList list = new OffHeapRowList(SPEC, Long.MAX_VALUE);
+        final long allocatedBefore = OffHeapRowList.getAllocatedBytes();
+        try {
+            for (int i = 0; i < rowCount; i++) {
+                list.add(createRow(i));
+            }
+            list.close();
+            assertEquals("Row count", rowCount, list.size());
+            assertTrue("Rows not stored off-heap", list.getSizeInBytes() > 0);
+            OffHeapRowList.Cursor cursor = list.new Cursor();
+            for (int i = 0; i < rowCount; i++) {
+                assertRow(i, cursor.get(i));
+            }
+            for (int i = rowCount - 1; i >= 0; i -= 7) {
+                assertRow(i, list.get(i));
+            }
+        } finally {
+            list.release();
+        }
+        assertEquals("Allocated bytes after release", allocatedBefore, OffHeapRowList.getAllocatedBytes());
+    }
+
+    /** Releasing a list frees the memory right away, an open cursor fails on its next access. */
+    @Test
+    public void testReleaseWithOpenCursor() {
+        final int rowCount = 3000;
+        OffHeapRowList list = new OffHeapRowList(SPEC, Long.MAX_VALUE);
+        for (int i = 0; i < rowCount; i++) {
+            list.add(createRow(i));
+        }
+        list.close();
+        OffHeapRowList.Cursor cursor = list.new Cursor();
+        assertRow(0, cursor.get(0));
+        list.release();
+        assertEquals("Row count after memory is freed", 0, list.size());
+        try {
+            cursor.get(1);
+            fail("Cursor of a freed list must fail");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /** Releasing a list lazily keeps its rows readable, the memory is no longer accounted for. */
+    @Test
+    public void testReleaseLazily() {
+        final int rowCount = 3000;
+        final long allocatedBefore = OffHeapRowList.getAllocatedBytes();
+        OffHeapRowList list = new OffHeapRowList(SPEC, Long.MAX_VALUE);
+        for (int i = 0; i < rowCount; i++) {
+            list.add(createRow(i));
+        }
+        list.close();
+        OffHeapRowList.Cursor cursor = list.new Cursor();
+        assertRow(0, cursor.get(0));
+        list.releaseLazily();
+        assertEquals("Allocated bytes after release", allocatedBefore, OffHeapRowList.getAllocatedBytes());
+        for (int i = 1; i < rowCount; i++) {
+            assertRow(i, cursor.get(i));
+        }
+        cursor.close();
+        list.release();
+    }
+
+    /** A list exceeding its budget keeps its rows (on the heap) and reports the exceeded limit. */
+    @Test
+    public void testByteBudget() {
+        OffHeapRowList list = new OffHeapRowList(SPEC, 1000);
+        try {
+            int rowCount = 0;
+            while (!list.isLimitExceeded()) {
+                list.add(createRow(rowCount++));
+            }
+            assertEquals("Off-heap bytes", 0L, list.getSizeInBytes());
+            for (int i = 0; i < rowCount; i++) {
+                assertRow(i, list.get(i));
+            }
+        } finally {
+            list.release();
+        }
+    }
+
+}
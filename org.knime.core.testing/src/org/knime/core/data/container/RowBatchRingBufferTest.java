@@ -0,0 +1,114 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link RowBatchRingBuffer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowBatchRingBufferTest {
+
+    /** A producer and a consumer thread pass batches through a small queue, order must be retained. */
+    @Test(timeout = 60000)
+    public void testOrderWithConcurrentProducerAndConsumer() throws Exception {
+        final int batchCount = 200000;
+        final RowBatchRingBuffer queue = new RowBatchRingBuffer(3);
+        final AtomicLong received = new AtomicLong();
+        Thread consumer = new Thread(() -> {
+            try {
+                for (int i = 0; i < batchCount; i++) {
+                    Object[] batch = queue.poll(10, TimeUnit.SECONDS);
+                    if (batch == null || (Integer)batch[0] != i) {
+                        return;
+                    }
+                    received.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "RowBatchRingBufferTest-Consumer");
+        consumer.start();
+        for (int i = 0; i < batchCount; i++) {
+            assertTrue("Batch " + i + " not accepted", queue.offer(new Object[]{i}, 10, TimeUnit.SECONDS));
+        }
+        consumer.join();
+        assertEquals("Number of batches received in order", batchCount, received.get());
+    }
+
+    /** Full or empty queue times out; abort releases a waiting producer. */
+    @Test(timeout = 60000)
+    public void testTimeoutAndAbort() throws Exception {
+        final RowBatchRingBuffer queue = new RowBatchRingBuffer(1);
+        assertNull("Poll on empty queue", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.offer(new Object[]{"a"}, 10, TimeUnit.MILLISECONDS));
+        assertFalse("Offer to full queue", queue.offer(new Object[]{"b"}, 10, TimeUnit.MILLISECONDS));
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            queue.abort();
+        }, "RowBatchRingBufferTest-Abort").start();
+        assertFalse("Offer to aborted queue", queue.offer(new Object[]{"b"}, 30, TimeUnit.SECONDS));
+        assertTrue(queue.isAborted());
+        assertNull("Poll on aborted queue", queue.poll(30, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link RowRangeTable}, as created by {@link ExecutionContext#createRowRangeTable(BufferedDataTable, long,
+ * long)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowRangeTableTest {
+
+    private static final int ROW_COUNT = 100;
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new String[]{"Int", "String"}, new DataType[]{IntCell.TYPE, StringCell.TYPE});
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    private static DataRow createRow(final int index) {
+        return new DefaultRow(RowKey.createRowKey(index), new IntCell(index), new StringCell("Value " + index));
+    }
+
+    /** Creates the reference table. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+        BufferedDataContainer container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            container.addRowToTable(createRow(i));
+        }
+        container.close();
+        m_table = container.getTable();
+    }
+
+    /** Checks that the table contains the rows <code>from</code> to <code>to</code> (inclusive) of the reference. */
+    private static void assertRows(final int from, final int to, final BufferedDataTable table) {
+        assertEquals(Math.max(0, to - from + 1), table.size());
+        assertRows(from, to, table.iterator());
+    }
+
+    private static void assertRows(final int from, final int to, final CloseableRowIterator it) {
+        try {
+            for (int i = from; i <= to; i++) {
+                assertEquals(createRow(i), it.next());
+            }
+            assertFalse(it.hasNext());
+        } finally {
+            it.close();
+        }
+    }
+
+    /** Iterates ranges at the start, in the middle and beyond the end of the reference table, also with filters. */
+    @Test
+    public void testIteration() {
+        assertRows(0, 9, m_exec.createRowRangeTable(m_table, 0, 9));
+        assertRows(40, 59, m_exec.createRowRangeTable(m_table, 40, 59));
+        assertRows(90, ROW_COUNT - 1, m_exec.createRowRangeTable(m_table, 90, 200));
+        assertRows(0, ROW_COUNT - 1, m_exec.createRowRangeTable(m_table, 0, Long.MAX_VALUE));
+
+        BufferedDataTable range = m_exec.createRowRangeTable(m_table, 40, 59);
+        assertRows(45, 49, range.iteratorWithFilter(TableFilter.filterRangeOfRows(5, 9)));
+        assertRows(55, 59, range.iteratorWithFilter(TableFilter.filterRangeOfRows(15, 100)));
+        assertRows(0, -1, range.iteratorWithFilter(TableFilter.filterRangeOfRows(20, 30)));
+    }
+
+    /** Empty ranges, within and behind the reference table. */
+    @Test
+    public void testEmptyRange() {
+        assertRows(0, -1, m_exec.createRowRangeTable(m_table, 0, -1));
+        assertRows(0, -1, m_exec.createRowRangeTable(m_table, 50, 49));
+        assertRows(0, -1, m_exec.createRowRangeTable(m_table, ROW_COUNT, ROW_COUNT + 10));
+        assertRows(0, -1, m_exec.createRowRangeTable(m_table, 2 * ROW_COUNT, 3 * ROW_COUNT));
+    }
+
+    /** Illegal ranges are rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalRange() {
+        m_exec.createRowRangeTable(m_table, 50, 48);
+    }
+
+    /** Negative start indices are rejected. */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testNegativeStart() {
+        m_exec.createRowRangeTable(m_table, -1, 10);
+    }
+
+    /** Saves the range and restores it from the settings and the table repository. */
+    @Test
+    public void testSaveLoad() throws Exception {
+        for (int[] r : new int[][]{{40, 59}, {90, 200}, {50, 49}}) {
+            RowRangeTable range = new RowRangeTable(m_table, r[0], r[1]);
+            NodeSettings settings = new NodeSettings("table");
+            range.saveToFile(null, settings, new ExecutionMonitor());
+            Map<Integer, BufferedDataTable> tableRep = new HashMap<Integer, BufferedDataTable>();
+            tableRep.put(m_table.getBufferedTableId(), m_table);
+            RowRangeTable loaded = RowRangeTable.load(settings, tableRep);
+            assertEquals(range.getFromRowIndex(), loaded.getFromRowIndex());
+            assertEquals(range.size(), loaded.size());
+            assertRows(r[0], Math.min(r[1], ROW_COUNT - 1), loaded.iterator());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Compares the runtime of the sequential and the parallel external sort in {@link BufferedDataTableSorter} (sorting on
+ * an int, a double and a string column).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TableSorterPerformanceComparison {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TableSorterPerformanceComparison.class);
+
+    private static final int ROW_COUNT = 1000000;
+
+    /** Forces the sorter to write temporary chunks (and to merge in multiple levels). */
+    private static final int ROWS_PER_CHUNK = 20000;
+
+    private static final int MAX_OPEN_CONTAINERS = 8;
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    private BufferedDataTable createTable() {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Int", "Double", "String"},
+            new DataType[]{IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+        BufferedDataContainer container = m_exec.createDataContainer(spec);
+        Random random = new Random(42);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(i), new IntCell(random.nextInt(1000)),
+                new DoubleCell(random.nextDouble()), new StringCell(Long.toHexString(random.nextLong()))));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private BufferedDataTable sort(final BufferedDataTable table, final String column, final boolean parallel)
+        throws CanceledExecutionException {
+        BufferedDataTableSorter sorter =
+            new BufferedDataTableSorter(table, Arrays.asList(column, "Int"), new boolean[]{true, true});
+        sorter.setMaxRows(ROWS_PER_CHUNK);
+        sorter.setMaxOpenContainers(MAX_OPEN_CONTAINERS);
+        sorter.setSortInParallel(parallel);
+        long time = System.nanoTime();
+        BufferedDataTable result = sorter.sort(m_exec);
+        long millis = (System.nanoTime() - time) / 1000000L;
+        LOGGER.infoWithFormat("Sorting %,d rows on \"%s\" %-10s (%d threads): %,6d ms", ROW_COUNT, column,
+            parallel ? "parallel" : "sequential", KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads(), millis);
+        return result;
+    }
+
+    private void compare(final String column) throws CanceledExecutionException {
+        BufferedDataTable table = createTable();
+        BufferedDataTable sequential = sort(table, column, false);
+        BufferedDataTable parallel = sort(table, column, true);
+        assertEquals("Row count", sequential.size(), parallel.size());
+        // the parallel sort must retain the order of equal rows, hence the row keys are identical
+        Iterator<DataRow> it = parallel.iterator();
+        for (DataRow row : sequential) {
+            assertTrue("Missing rows in parallel result", it.hasNext());
+            assertEquals("Row key", row.getKey(), it.next().getKey());
+        }
+    }
+
+    /** Sort on an int column. */
+    @Test
+    public void testIntColumn() throws CanceledExecutionException {
+        compare("Int");
+    }
+
+    /** Sort on a double column. */
+    @Test
+    public void testDoubleColumn() throws CanceledExecutionException {
+        compare("Double");
+    }
+
+    /** Sort on a string column. */
+    @Test
+    public void testStringColumn() throws CanceledExecutionException {
+        compare("String");
+    }
+
+}
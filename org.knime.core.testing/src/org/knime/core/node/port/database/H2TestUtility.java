@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.port.database;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.database.connection.CachedConnectionFactory;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
+import org.knime.core.node.port.database.connection.DBDriverFactory;
+import org.knime.core.node.workflow.CredentialsProvider;
+
+/**
+ * Database utility for tests against an embedded H2 database. The H2 driver of the bundle is provided directly since
+ * it isn't registered with the driver loader. The connection factory counts the additional connections it creates.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class H2TestUtility extends DatabaseUtility {
+
+    private static final String USER = "sa";
+
+    private final AtomicInteger m_additionalConnections = new AtomicInteger();
+
+    /** Provides the H2 driver of the bundle. */
+    private static final class H2DriverFactory implements DBDriverFactory {
+
+        @Override
+        public Set<String> getDriverNames() {
+            return Collections.singleton(org.h2.Driver.class.getName());
+        }
+
+        @Override
+        public Driver getDriver(final DatabaseConnectionSettings settings) throws Exception {
+            return new org.h2.Driver();
+        }
+
+        @Override
+        public Collection<File> getDriverFiles(final DatabaseConnectionSettings settings) {
+            return Collections.emptyList();
+        }
+    }
+
+    /** Creates the utility. */
+    public H2TestUtility() {
+        super("h2", null, new H2DriverFactory());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected DBConnectionFactory createConnectionFactory(final DBDriverFactory df) {
+        return new CachedConnectionFactory(df) {
+            @Override
+            public Connection createAdditionalConnection(final CredentialsProvider cp,
+                final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+                final Connection conn = super.createAdditionalConnection(cp, settings);
+                m_additionalConnections.incrementAndGet();
+                return conn;
+            }
+        };
+    }
+
+    /** @return the number of additional connections created so far */
+    public int getAdditionalConnectionCount() {
+        return m_additionalConnections.get();
+    }
+
+    /**
+     * @param jdbcUrl the URL of the H2 database
+     * @return settings using this utility
+     */
+    public DatabaseConnectionSettings createConnectionSettings(final String jdbcUrl) {
+        return new DatabaseConnectionSettings(org.h2.Driver.class.getName(), jdbcUrl, USER, "", null) {
+            @Override
+            public DatabaseUtility getUtility() {
+                return H2TestUtility.this;
+            }
+        };
+    }
+
+    /**
+     * @param jdbcUrl the URL of the H2 database
+     * @param query the query to read
+     * @return query settings using this utility
+     */
+    public DatabaseQueryConnectionSettings createQueryConnectionSettings(final String jdbcUrl, final String query) {
+        return new DatabaseQueryConnectionSettings(createConnectionSettings(jdbcUrl), query) {
+            @Override
+            public DatabaseUtility getUtility() {
+                return H2TestUtility.this;
+            }
+        };
+    }
+
+    /**
+     * @param jdbcUrl the URL of the H2 database
+     * @return a new connection not managed by the connection factory, e.g. to prepare and check the database
+     * @throws SQLException if the connection can't be opened
+     */
+    public static Connection connect(final String jdbcUrl) throws SQLException {
+        final Properties properties = new Properties();
+        properties.setProperty("user", USER);
+        properties.setProperty("password", "");
+        return new org.h2.Driver().connect(jdbcUrl, properties);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests the sub-query conditions and parameters of {@link DBQueryPartitioning}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBQueryPartitioningTest {
+
+    /** Checks the conditions of a modulo partitioning, missing values go to the first partition. */
+    @Test
+    public void testModuloConditions() {
+        final DBQueryPartitioning partitioning = DBQueryPartitioning.modulo("col", 3);
+        assertEquals(DBQueryPartitioning.Method.MODULO, partitioning.getMethod());
+        assertEquals(3, partitioning.getPartitionCount());
+        assertArrayEquals(new String[]{"(ABS(MOD(\"col\", 3)) = 0) OR \"col\" IS NULL", "ABS(MOD(\"col\", 3)) = 1",
+            "ABS(MOD(\"col\", 3)) = 2"}, partitioning.createConditions("\"col\""));
+    }
+
+    /** Checks the conditions and parameters of a range partitioning, missing values go to the first partition. */
+    @Test
+    public void testRangeConditions() {
+        final DBQueryPartitioning partitioning = DBQueryPartitioning.range("col", 4);
+        assertEquals(DBQueryPartitioning.Method.RANGE, partitioning.getMethod());
+        assertArrayEquals(new String[]{"(col < ?) OR col IS NULL", "col >= ? AND col < ?", "col >= ? AND col < ?",
+            "col >= ?"}, partitioning.createConditions("col"));
+        final Object[][] parameters = DBQueryPartitioning.createRangeParameters(new Object[]{10L, 20L, 30L});
+        assertEquals(4, parameters.length);
+        assertArrayEquals(new Object[]{10L}, parameters[0]);
+        assertArrayEquals(new Object[]{10L, 20L}, parameters[1]);
+        assertArrayEquals(new Object[]{20L, 30L}, parameters[2]);
+        assertArrayEquals(new Object[]{30L}, parameters[3]);
+    }
+
+    /** Checks the conditions and parameters of a range partitioning into two partitions. */
+    @Test
+    public void testTwoRanges() {
+        assertArrayEquals(new String[]{"(col < ?) OR col IS NULL", "col >= ?"},
+            DBQueryPartitioning.range("col", 2).createConditions("col"));
+        final Object[][] parameters = DBQueryPartitioning.createRangeParameters(new Object[]{0.5});
+        assertEquals(2, parameters.length);
+        assertArrayEquals(new Object[]{0.5}, parameters[0]);
+        assertArrayEquals(new Object[]{0.5}, parameters[1]);
+    }
+
+    /** Checks that an empty column is rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyColumn() {
+        DBQueryPartitioning.range("", 2);
+    }
+
+    /** Checks that a partition count smaller than one is rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoPartitions() {
+        DBQueryPartitioning.modulo("col", 0);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.database.H2TestUtility;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Reads a query from an embedded H2 database in partitions over several connections with {@link DBReaderImpl} and
+ * compares the result with the one of a single query.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBReaderImplTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:DBReaderImplTest;DB_CLOSE_DELAY=-1";
+
+    private static final String QUERY = "SELECT * FROM SOURCE";
+
+    private static final int ROW_COUNT = 1000;
+
+    /** Every n-th row has no id, i.e. a missing value in the partitioning column. */
+    private static final int MISSING_ID_INTERVAL = 37;
+
+    private H2TestUtility m_utility;
+
+    private ExecutionContext m_exec;
+
+    private Connection m_conn;
+
+    /** Creates the table to read.
+     * @throws Exception if the table can't be created */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+        m_utility = new H2TestUtility();
+        m_conn = H2TestUtility.connect(JDBC_URL);
+        try (Statement stmt = m_conn.createStatement()) {
+            stmt.execute("CREATE TABLE SOURCE (id INTEGER, val DOUBLE, name VARCHAR(255))");
+        }
+        try (PreparedStatement stmt = m_conn.prepareStatement("INSERT INTO SOURCE VALUES (?, ?, ?)")) {
+            // insert in descending order so that the order of the single query differs from the partitioned one
+            for (int i = ROW_COUNT - 1; i >= 0; i--) {
+                if (i % MISSING_ID_INTERVAL == 0) {
+                    stmt.setNull(1, Types.INTEGER);
+                } else {
+                    stmt.setInt(1, i);
+                }
+                stmt.setDouble(2, i / 4.0);
+                stmt.setString(3, "name" + i);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /** Drops all tables.
+     * @throws Exception if the database can't be cleaned up */
+    @After
+    public void tearDown() throws Exception {
+        try (Statement stmt = m_conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        m_conn.close();
+    }
+
+    /**
+     * Reads the query partitioned by ranges of the id column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testRangePartitioning() throws Exception {
+        final int partitionCount = 4;
+        final BufferedDataTable table = readAndCompare(DBQueryPartitioning.range("ID", partitionCount));
+        // the ids range from 1 to 998 (0 and 999 are missing), split at 1 + (long)(997 * k / 4.0)
+        final int[] splits = {250, 499, 748};
+        assertPartitionOrder(table, id -> {
+            int partition = 0;
+            while (partition < splits.length && id >= splits[partition]) {
+                partition++;
+            }
+            return partition;
+        });
+    }
+
+    /**
+     * Reads the query partitioned by the id column modulo the number of partitions.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testModuloPartitioning() throws Exception {
+        final int partitionCount = 3;
+        final BufferedDataTable table = readAndCompare(DBQueryPartitioning.modulo("ID", partitionCount));
+        assertPartitionOrder(table, id -> id % partitionCount);
+    }
+
+    /**
+     * Reads the query partitioned by ranges of a floating point column.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testRangePartitioningOfDoubles() throws Exception {
+        readAndCompare(DBQueryPartitioning.range("VAL", 5));
+    }
+
+    /**
+     * Reads the query with the partitioning and with a single query, checks that the tables contain the same rows
+     * and that the rows are numbered within their partition.
+     */
+    private BufferedDataTable readAndCompare(final DBQueryPartitioning partitioning) throws Exception {
+        final BufferedDataTable expected =
+            new DBReaderImpl(m_utility.createQueryConnectionSettings(JDBC_URL, QUERY)).createTable(m_exec, null, false);
+        final BufferedDataTable actual = new DBReaderImpl(m_utility.createQueryConnectionSettings(JDBC_URL, QUERY))
+            .createTable(m_exec, null, partitioning);
+        assertEquals("Rows not read with additional connections", partitioning.getPartitionCount(),
+            m_utility.getAdditionalConnectionCount());
+        assertEquals(expected.getDataTableSpec(), actual.getDataTableSpec());
+        assertEquals(ROW_COUNT, actual.size());
+        assertEquals(sortedCells(expected), sortedCells(actual));
+        int partition = 0;
+        long index = 0;
+        try (CloseableRowIterator it = actual.iterator()) {
+            while (it.hasNext()) {
+                final String key = it.next().getKey().getString();
+                // partitions may be empty, hence the next row may be in any later partition
+                while (partition < partitioning.getPartitionCount() - 1 && !key.startsWith("Row" + partition + "_")) {
+                    partition++;
+                    index = 0;
+                }
+                assertEquals("Row" + partition + "_" + index++, key);
+            }
+        }
+        return actual;
+    }
+
+    /** Checks that the rows of the partitions follow each other, rows without id are in the first partition. */
+    private static void assertPartitionOrder(final BufferedDataTable table,
+        final IntUnaryOperator partitionOfId) {
+        int lastPartition = 0;
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final DataCell id = row.getCell(0);
+                final int partition = id.isMissing() ? 0 : partitionOfId.applyAsInt(((IntValue)id).getIntValue());
+                assertTrue("Row " + row.getKey() + " of partition " + partition + " after partition "
+                    + lastPartition, partition >= lastPartition);
+                lastPartition = partition;
+            }
+        }
+    }
+
+    private static List<String> sortedCells(final BufferedDataTable table) {
+        final List<String> rows = new ArrayList<String>();
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final StringBuilder b = new StringBuilder();
+                for (DataCell cell : row) {
+                    b.append(cell).append('|');
+                }
+                rows.add(b.toString());
+            }
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+}
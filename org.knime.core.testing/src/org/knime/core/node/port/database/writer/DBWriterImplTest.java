@@ -0,0 +1,252 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.H2TestUtility;
+import org.knime.core.node.streamable.DataTableRowInput;
+
+/**
+ * Tests writing batches concurrently using several connections with {@link DBWriterImpl} against an embedded H2
+ * database: the rows written, the rollback of all connections with "fail on error" and the order of the error
+ * messages otherwise.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBWriterImplTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:DBWriterImplTest;DB_CLOSE_DELAY=-1";
+
+    private static final String TABLE = "TARGET";
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final int BATCH_SIZE = 25;
+
+    private static final int CONNECTION_COUNT = 4;
+
+    private static final String CREATE_TABLE = " (id INTEGER, name VARCHAR(255) NOT NULL)";
+
+    private H2TestUtility m_utility;
+
+    private DatabaseConnectionSettings m_settings;
+
+    private Connection m_conn;
+
+    /** Creates the settings and the (empty) target table.
+     * @throws Exception if the table can't be created */
+    @Before
+    public void setUp() throws Exception {
+        m_utility = new H2TestUtility();
+        m_settings = m_utility.createConnectionSettings(JDBC_URL);
+        m_conn = H2TestUtility.connect(JDBC_URL);
+        execute("CREATE TABLE " + TABLE + CREATE_TABLE);
+    }
+
+    /** Drops all tables.
+     * @throws Exception if the database can't be cleaned up */
+    @After
+    public void tearDown() throws Exception {
+        execute("DROP ALL OBJECTS");
+        m_conn.close();
+    }
+
+    /**
+     * Writes all rows using several connections.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testWriteConcurrently() throws Exception {
+        assertNull(write(TABLE, createInput(), false, new ExecutionMonitor()));
+        assertEquals(CONNECTION_COUNT - 1, m_utility.getAdditionalConnectionCount());
+        Set<Integer> expected = new TreeSet<Integer>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, getIDs(TABLE));
+        try (Statement stmt = m_conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT id, name FROM " + TABLE)) {
+            while (rs.next()) {
+                assertEquals("name" + rs.getInt(1), rs.getString(2));
+            }
+        }
+    }
+
+    /**
+     * Writes rows of which some violate a constraint with "fail on error", checks that the first failed batch is
+     * reported and that the batches written by all connections are rolled back.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testFailOnErrorRollsBackAllConnections() throws Exception {
+        try {
+            write(TABLE, createInput(760, 510), true, new ExecutionMonitor());
+            fail("Expected exception for row with missing name");
+        } catch (Exception e) {
+            final String expected = "Error while adding rows #501 - #525";
+            assertTrue("Unexpected error: " + e.getMessage(), e.getMessage().contains(expected));
+        }
+        assertTrue("Rows written although failing on error", getIDs(TABLE).isEmpty());
+    }
+
+    /**
+     * Writes rows of which some violate a constraint without "fail on error", checks that the errors are reported in
+     * the order of the input rows and that the same rows are written as in a sequential write.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testErrorsInRowOrder() throws Exception {
+        final int[] invalidRows = {940, 60, 520, 399, 800, 5, 241, 675};
+        final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+        final DefaultNodeProgressMonitor progress = new DefaultNodeProgressMonitor() {
+            @Override
+            public synchronized void setMessage(final String message) {
+                super.setMessage(message);
+                if (message.startsWith("Error while adding rows")) {
+                    messages.add(message);
+                }
+            }
+        };
+        final DataTable input = createInput(invalidRows);
+        assertEquals("Errors \"" + invalidRows.length + "\" writing " + ROW_COUNT + " rows.",
+            write(TABLE, input, false, new ExecutionMonitor(progress)));
+
+        int[] sortedRows = invalidRows.clone();
+        Arrays.sort(sortedRows);
+        assertEquals(sortedRows.length, messages.size());
+        for (int i = 0; i < sortedRows.length; i++) {
+            final int first = sortedRows[i] / BATCH_SIZE * BATCH_SIZE + 1;
+            final String expected = "Error while adding rows #" + first + " - #" + (first + BATCH_SIZE - 1) + ",";
+            assertTrue("Unexpected message " + i + ": " + messages.get(i), messages.get(i).startsWith(expected));
+        }
+
+        final String reference = "REFERENCE";
+        execute("CREATE TABLE " + reference + CREATE_TABLE);
+        new DBWriterImpl(m_settings).writeData(reference, new DataTableRowInput(input), ROW_COUNT, true,
+            new ExecutionMonitor(), Collections.<String, String> emptyMap(), null, BATCH_SIZE, false, false, 1);
+        final Set<Integer> written = getIDs(TABLE);
+        assertEquals(getIDs(reference), written);
+        for (int i : invalidRows) {
+            assertFalse(written.contains(i));
+        }
+    }
+
+    private String write(final String table, final DataTable input, final boolean failOnError,
+        final ExecutionMonitor exec) throws Exception {
+        return new DBWriterImpl(m_settings).writeData(table, new DataTableRowInput(input), ROW_COUNT, true, exec,
+            Collections.<String, String> emptyMap(), null, BATCH_SIZE, false, failOnError, CONNECTION_COUNT);
+    }
+
+    /** @return table with an id and a name column, the name is missing in the argument rows */
+    private static DataTable createInput(final int... invalidRows) {
+        final Set<Integer> invalid = new TreeSet<Integer>();
+        for (int i : invalidRows) {
+            invalid.add(i);
+        }
+        final DataContainer cont = new DataContainer(new DataTableSpec(
+            new DataColumnSpecCreator("id", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("name", StringCell.TYPE).createSpec()));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final DataCell name = invalid.contains(i) ? DataType.getMissingCell() : new StringCell("name" + i);
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), name));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    private Set<Integer> getIDs(final String table) throws SQLException {
+        final Set<Integer> ids = new TreeSet<Integer>();
+        try (Statement stmt = m_conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT id FROM " + table)) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    private void execute(final String sql) throws SQLException {
+        try (Statement stmt = m_conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
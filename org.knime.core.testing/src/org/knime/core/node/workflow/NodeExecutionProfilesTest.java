@@ -0,0 +1,106 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the export of {@link NodeExecutionProfile}s in {@link NodeExecutionProfiles}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeExecutionProfilesTest {
+
+    private static NodeExecutionProfile createProfile(final int id, final String name, final long threadID) {
+        return new NodeExecutionProfile(NodeID.ROOTID.createChild(id), name, true, 1000L, 2000000L, 5000000L,
+            4000000L, -1L, 1024L, new long[]{-1L, 10L}, new long[]{-1L, 2048L}, new long[]{-1L, 5L},
+            new long[]{-1L, 512L}, 1, 5L, "Thread " + threadID, threadID);
+    }
+
+    /** Tests that the profile doesn't expose its arrays. */
+    @Test
+    public void testProfileArraysAreCopied() {
+        NodeExecutionProfile p = createProfile(1, "Node", 1L);
+        p.getInputRows()[1] = 0L;
+        assertArrayEquals(new long[]{-1L, 10L}, p.getInputRows());
+    }
+
+    /** Tests the events written in the trace event format. */
+    @Test
+    public void testChromeTrace() throws Exception {
+        StringWriter writer = new StringWriter();
+        NodeExecutionProfiles.writeChromeTrace(Arrays.asList(createProfile(1, "Row \"Filter\"", 7L),
+            createProfile(2, "Sorter", 7L), createProfile(3, "GroupBy", 8L)), writer);
+        String trace = writer.toString();
+
+        assertTrue(trace, trace.startsWith("{\"traceEvents\":["));
+        assertTrue(trace, trace.trim().endsWith("],\"displayTimeUnit\":\"ms\"}"));
+        assertTrue("Quotes in names not escaped: " + trace, trace.contains("\"name\":\"Row \\\"Filter\\\"\""));
+        // start time in ms is written in µs, duration in ns is written in µs
+        assertTrue(trace, trace.contains("\"ts\":1000000,\"dur\":5000"));
+        assertTrue(trace, trace.contains("\"gcTimeMs\":null"));
+        assertTrue(trace, trace.contains("\"inputRows\":[null,10]"));
+        assertEquals("Unexpected number of execution events", 3, count(trace, "\"ph\":\"X\""));
+        assertEquals("Unexpected number of thread name events", 2, count(trace, "\"name\":\"thread_name\""));
+    }
+
+    private static int count(final String s, final String pattern) {
+        int count = 0;
+        for (int i = s.indexOf(pattern); i >= 0; i = s.indexOf(pattern, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
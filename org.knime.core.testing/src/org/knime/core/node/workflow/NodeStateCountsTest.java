@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Checks that the {@link NodeStateCounts} never show a node that changes its state in both or in neither of its old
+ * and new state.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeStateCountsTest {
+
+    private static final int NR_NODES = 4;
+
+    private static final int NR_CHANGES = 200000;
+
+    /**
+     * Changes the state of several nodes concurrently and checks the snapshots taken meanwhile.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testConsistentSnapshots() throws Exception {
+        final NodeStateCounts counts = new NodeStateCounts();
+        for (int i = 0; i < NR_NODES; i++) {
+            counts.addNode(InternalNodeContainerState.EXECUTING, NodeMessage.NONE);
+        }
+        final AtomicBoolean done = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < NR_NODES; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                InternalNodeContainerState state = InternalNodeContainerState.EXECUTING;
+                for (int c = 0; c < NR_CHANGES; c++) {
+                    final InternalNodeContainerState newState =
+                        state == InternalNodeContainerState.EXECUTING ? InternalNodeContainerState.EXECUTED
+                            : InternalNodeContainerState.EXECUTING;
+                    counts.stateChanged(state, newState);
+                    state = newState;
+                }
+            }, "NodeStateCountsTest-" + i));
+        }
+        threads.forEach(Thread::start);
+        final Thread waiter = new Thread(() -> {
+            for (Thread t : threads) {
+                try {
+                    t.join();
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            done.set(true);
+        });
+        waiter.start();
+        start.countDown();
+        int snapshots = 0;
+        while (!done.get()) {
+            final int[] nodesInState = counts.getNodesInState();
+            int nrNodes = 0;
+            for (int count : nodesInState) {
+                nrNodes += count;
+            }
+            assertEquals("Inconsistent snapshot " + snapshots, NR_NODES, nrNodes);
+            snapshots++;
+        }
+        waiter.join();
+        final int[] nodesInState = counts.getNodesInState();
+        // each node changed its state an even number of times
+        assertEquals(NR_NODES, nodesInState[InternalNodeContainerState.EXECUTING.ordinal()]);
+        assertEquals(0, nodesInState[InternalNodeContainerState.EXECUTED.ordinal()]);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.knime.core.node.workflow.InternalNodeContainerState.EXECUTED;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.workflow.node.parchunk.ParallelChunkEndTestNodeFactory;
+import org.knime.core.node.workflow.node.parchunk.ParallelChunkStartTestNodeFactory;
+import org.knime.core.node.workflow.node.streaming.StreamingTestNodeFactory;
+import org.knime.core.node.workflow.node.streaming.StreamingTestNodeModel.Mode;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Executes a parallel chunk loop with the chunks executed detached from the workflow
+ * ({@link KNIMEConstants#PROPERTY_PARALLEL_CHUNKS_DETACHED}) and with the loop body copied into the workflow, compares
+ * the outputs with each other and with the loop body applied to the whole table. Also checks that the chunks (row
+ * ranges of the input) and the output survive save and load.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestParallelChunksDetached extends WorkflowTestCase {
+
+    /** Number of chunks, the loop body in the workflow processes one, the others are executed in parallel. */
+    private static final int CHUNK_COUNT = 8;
+
+    private File m_workflowDirTemp;
+
+    private NodeID m_source;
+
+    private NodeID m_reference;
+
+    /** Creates the workflow with the source node and the loop body applied to the whole table. */
+    @Before
+    public void setUp() throws Exception {
+        WorkflowManager wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(),
+            new WorkflowCreationHelper());
+        setManager(wfm);
+        m_source = wfm.addNode(new StreamingTestNodeFactory(Mode.SOURCE));
+        m_reference = addLoopBody(m_source);
+        executeAndWait(m_reference);
+        checkState(m_reference, EXECUTED);
+    }
+
+    /**
+     * Executes one loop with copied and one with detached chunks, compares the outputs.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testDetachedEqualsCopy() throws Exception {
+        WorkflowManager wfm = getManager();
+        NodeID[] copied = addLoop();
+        NodeID[] detached = addLoop();
+
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_DETACHED, "false");
+        final int nodeCount = wfm.getNodeContainers().size();
+        executeAndWait(copied[1]);
+        checkState(copied[1], EXECUTED);
+        assertEquals("Chunks not copied into a metanode", nodeCount + 1, wfm.getNodeContainers().size());
+
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_DETACHED, "true");
+        executeAndWait(detached[1]);
+        checkState(detached[1], EXECUTED);
+        assertEquals("Chunks not executed detached", nodeCount + 1, wfm.getNodeContainers().size());
+
+        BufferedDataTable expected = getOutput(m_reference);
+        assertTablesEqual(expected, getOutput(copied[1]));
+        assertTablesEqual(expected, getOutput(detached[1]));
+
+        // the chunks are discarded on reset, also when executed detached
+        reset(copied[0], detached[0]);
+        assertEquals(nodeCount, wfm.getNodeContainers().size());
+        executeAndWait(detached[1]);
+        assertTablesEqual(expected, getOutput(detached[1]));
+    }
+
+    /**
+     * Executes a loop with detached chunks, saves and loads the workflow and compares the outputs with the ones
+     * before saving.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testSaveLoadDetached() throws Exception {
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_DETACHED, "true");
+        NodeID[] loop = addLoop();
+        executeAndWait(loop[1]);
+        checkState(loop[1], EXECUTED);
+        assertTablesEqual(getOutput(m_reference), getOutput(loop[1]));
+
+        m_workflowDirTemp = FileUtil.createTempDir(getClass().getSimpleName());
+        getManager().save(m_workflowDirTemp, new ExecutionMonitor(), true);
+        closeWorkflow();
+        NodeID baseID = loadAndSetWorkflow(m_workflowDirTemp);
+        NodeID reference = new NodeID(baseID, m_reference.getIndex());
+        NodeID start = new NodeID(baseID, loop[0].getIndex());
+        NodeID end = new NodeID(baseID, loop[1].getIndex());
+        checkStateOfMany(EXECUTED, reference, start, end);
+
+        // the last chunk is the output of the start node, a row range of the source table
+        BufferedDataTable source = getOutput(new NodeID(baseID, m_source.getIndex()));
+        BufferedDataTable lastChunk = getOutput(start);
+        long from = source.size() * (CHUNK_COUNT - 1) / CHUNK_COUNT;
+        assertEquals(source.size() - from, lastChunk.size());
+        try (CloseableRowIterator sourceIt = source.iteratorWithFilter(
+            TableFilter.filterRangeOfRows(from, source.size() - 1));
+                CloseableRowIterator chunkIt = lastChunk.iterator()) {
+            while (chunkIt.hasNext()) {
+                assertRowsEqual(sourceIt.next(), chunkIt.next());
+            }
+        }
+        assertTablesEqual(getOutput(reference), getOutput(end));
+    }
+
+    /** Clears the system property and the temporary workflow directory. */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        System.clearProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_DETACHED);
+        if (m_workflowDirTemp != null) {
+            FileUtil.deleteRecursively(m_workflowDirTemp);
+        }
+    }
+
+    /** Adds the nodes processing the data, two so that the detached chunks have intermediate tables. */
+    private NodeID addLoopBody(final NodeID predecessor) {
+        WorkflowManager wfm = getManager();
+        NodeID first = wfm.addNode(new StreamingTestNodeFactory(Mode.DOUBLE));
+        wfm.addConnection(predecessor, 1, first, 1);
+        NodeID second = wfm.addNode(new StreamingTestNodeFactory(Mode.DOUBLE));
+        wfm.addConnection(first, 1, second, 1);
+        return second;
+    }
+
+    /** @return the IDs of the loop start and end node */
+    private NodeID[] addLoop() {
+        WorkflowManager wfm = getManager();
+        NodeID start = wfm.addNode(new ParallelChunkStartTestNodeFactory(CHUNK_COUNT));
+        wfm.addConnection(m_source, 1, start, 1);
+        NodeID end = wfm.addNode(new ParallelChunkEndTestNodeFactory());
+        wfm.addConnection(addLoopBody(start), 1, end, 1);
+        return new NodeID[]{start, end};
+    }
+
+    private BufferedDataTable getOutput(final NodeID id) {
+        return (BufferedDataTable)findNodeContainer(id).getOutPort(1).getPortObject();
+    }
+
+    private static void assertTablesEqual(final BufferedDataTable expected, final BufferedDataTable actual) {
+        assertEquals(expected.getDataTableSpec(), actual.getDataTableSpec());
+        assertEquals(expected.size(), actual.size());
+        try (CloseableRowIterator expIt = expected.iterator(); CloseableRowIterator actIt = actual.iterator()) {
+            while (expIt.hasNext()) {
+                assertRowsEqual(expIt.next(), actIt.next());
+            }
+            assertFalse(actIt.hasNext());
+        }
+    }
+
+    private static void assertRowsEqual(final DataRow expected, final DataRow actual) {
+        assertEquals(expected.getKey(), actual.getKey());
+        assertEquals(expected.getNumCells(), actual.getNumCells());
+        for (int i = 0; i < expected.getNumCells(); i++) {
+            assertEquals("Cell " + i + " in row " + expected.getKey(), expected.getCell(i), actual.getCell(i));
+        }
+    }
+}
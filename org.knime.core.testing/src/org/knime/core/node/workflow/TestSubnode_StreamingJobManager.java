@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.knime.core.node.workflow.InternalNodeContainerState.CONFIGURED;
+import static org.knime.core.node.workflow.InternalNodeContainerState.EXECUTED;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.exec.streaming.StreamingNodeExecutionJobManager;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.streaming.StreamingTestNodeFactory;
+import org.knime.core.node.workflow.node.streaming.StreamingTestNodeModel;
+import org.knime.core.node.workflow.node.streaming.StreamingTestNodeModel.Mode;
+
+/**
+ * Executes wrapped metanodes with the {@link StreamingNodeExecutionJobManager} and compares the output with the one
+ * of the default execution. The wrapped metanodes contain a distributable node without merge operator, a distributable
+ * node with merge operator, or a failing node; each contained node is connected to a node outside the wrapped metanode
+ * so that all outputs are checked.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestSubnode_StreamingJobManager extends WorkflowTestCase {
+
+    /** Number of partitions, more than one so that the merge operator combines several partial results. */
+    private static final int PARTITION_COUNT = 4;
+
+    /** Number of buffered rows, much less than the table size so that the nodes have to wait for each other. */
+    private static final int QUEUE_SIZE = 128;
+
+    private NodeID m_source;
+
+    /** Creates the workflow with the source node. */
+    @Before
+    public void setUp() {
+        WorkflowManager wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(),
+            new WorkflowCreationHelper());
+        setManager(wfm);
+        m_source = wfm.addNode(new StreamingTestNodeFactory(Mode.SOURCE));
+    }
+
+    /**
+     * Streams a row-wise distributed node followed by a node with merge operator, compares the outputs with the
+     * default execution.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testStreamedEqualsDefaultExecution() throws Exception {
+        NodeID[] streamed = addWrappedMetanode(true, Mode.DOUBLE, Mode.SUM);
+        NodeID[] reference = addWrappedMetanode(false, Mode.DOUBLE, Mode.SUM);
+        executeAllAndWait();
+        checkState(getManager(), EXECUTED);
+        for (int i = 1; i < streamed.length; i++) {
+            assertTablesEqual(getOutput(reference[i]), getOutput(streamed[i]));
+        }
+        BufferedDataTable sum = getOutput(streamed[2]);
+        try (CloseableRowIterator it = sum.iterator()) {
+            assertEquals(StreamingTestNodeModel.ROW_COUNT, ((LongCell)it.next().getCell(0)).getLongValue());
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /**
+     * Streams a wrapped metanode whose second node fails, checks that it fails as in the default execution.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testFailingNode() throws Exception {
+        NodeID[] streamed = addWrappedMetanode(true, Mode.DOUBLE, Mode.FAIL);
+        NodeID[] reference = addWrappedMetanode(false, Mode.DOUBLE, Mode.FAIL);
+        executeAllAndWait();
+        for (NodeID[] ids : new NodeID[][]{streamed, reference}) {
+            NodeContainer wrappedMetanode = findNodeContainer(ids[0]);
+            assertFalse(wrappedMetanode.getNodeContainerState().isExecuted());
+            assertEquals(NodeMessage.Type.ERROR, wrappedMetanode.getNodeMessage().getMessageType());
+            checkStateOfMany(CONFIGURED, ids[1], ids[2]);
+        }
+    }
+
+    /**
+     * Adds a chain of nodes after the source node, each connected to an adapter node, and wraps the chain.
+     *
+     * @return the ID of the wrapped metanode followed by the IDs of the adapter nodes
+     */
+    private NodeID[] addWrappedMetanode(final boolean isStreamed, final Mode... modes) throws Exception {
+        WorkflowManager wfm = getManager();
+        NodeID[] inner = new NodeID[modes.length];
+        NodeID[] result = new NodeID[modes.length + 1];
+        NodeID predecessor = m_source;
+        for (int i = 0; i < modes.length; i++) {
+            inner[i] = wfm.addNode(new StreamingTestNodeFactory(modes[i]));
+            wfm.addConnection(predecessor, 1, inner[i], 1);
+            result[i + 1] = wfm.addNode(new AdapterNodeFactory());
+            wfm.addConnection(inner[i], 1, result[i + 1], 1);
+            predecessor = inner[i];
+        }
+        NodeID metanode =
+            wfm.collapseIntoMetaNode(inner, new WorkflowAnnotation[0], "Wrapped").getCollapsedMetanodeID();
+        wfm.convertMetaNodeToSubNode(metanode);
+        if (isStreamed) {
+            NodeSettings settings = new NodeSettings("job_manager");
+            settings.addInt("queue_size", QUEUE_SIZE);
+            settings.addInt("partition_count", PARTITION_COUNT);
+            StreamingNodeExecutionJobManager jobManager = new StreamingNodeExecutionJobManager();
+            jobManager.load(settings);
+            wfm.setJobManager(metanode, jobManager);
+        }
+        result[0] = metanode;
+        return result;
+    }
+
+    private BufferedDataTable getOutput(final NodeID id) {
+        return (BufferedDataTable)findNodeContainer(id).getOutPort(1).getPortObject();
+    }
+
+    private static void assertTablesEqual(final BufferedDataTable expected, final BufferedDataTable actual) {
+        assertEquals(expected.getDataTableSpec(), actual.getDataTableSpec());
+        assertEquals(expected.size(), actual.size());
+        try (CloseableRowIterator expIt = expected.iterator(); CloseableRowIterator actIt = actual.iterator()) {
+            while (expIt.hasNext()) {
+                DataRow expRow = expIt.next();
+                DataRow actRow = actIt.next();
+                assertEquals(expRow.getKey(), actRow.getKey());
+                for (int i = 0; i < expRow.getNumCells(); i++) {
+                    assertEquals("Cell " + i + " in row " + expRow.getKey(), expRow.getCell(i), actRow.getCell(i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+
+/**
+ * Stress test for the scheduling throughput of the workflow manager: executes a synthetic workflow of 10,000 nodes
+ * (100 independent chains of 100 nodes each) and logs the number of nodes executed per second.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowSchedulingPerformanceTest extends WorkflowTestCase {
+
+    private static final int CHAIN_COUNT = 100;
+
+    private static final int CHAIN_LENGTH = 100;
+
+    /** Creates the workflow. */
+    @Before
+    public void setUp() {
+        WorkflowManager wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(),
+            new WorkflowCreationHelper());
+        setManager(wfm);
+        for (int chain = 0; chain < CHAIN_COUNT; chain++) {
+            NodeID predecessor = wfm.addNode(new AdapterNodeFactory(true));
+            for (int i = 1; i < CHAIN_LENGTH; i++) {
+                NodeID node = wfm.addNode(new AdapterNodeFactory());
+                wfm.addConnection(predecessor, 1, node, 1);
+                predecessor = node;
+            }
+        }
+    }
+
+    /** Executes all nodes, twice (the second time after a reset). */
+    @Test
+    public void testSchedulingThroughput() throws Exception {
+        WorkflowManager wfm = getManager();
+        final int nodeCount = CHAIN_COUNT * CHAIN_LENGTH;
+        assertEquals(nodeCount, wfm.getNodeContainers().size());
+        for (int run = 0; run < 2; run++) {
+            long time = System.nanoTime();
+            executeAllAndWait();
+            long millis = Math.max(1L, (System.nanoTime() - time) / 1000000L);
+            checkState(wfm, InternalNodeContainerState.EXECUTED);
+            getLogger().infoWithFormat("Executed %,d nodes in %,d ms (%,d nodes/s)", nodeCount, millis,
+                nodeCount * 1000L / millis);
+            wfm.resetAndConfigureAll();
+            checkState(wfm, InternalNodeContainerState.CONFIGURED);
+        }
+    }
+}
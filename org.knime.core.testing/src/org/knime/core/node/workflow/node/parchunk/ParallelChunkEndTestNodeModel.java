@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow.node.parchunk;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.LoopEndParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * End of a parallel chunk loop, waits for the parallel chunks and concatenates their results followed by the result of
+ * the loop body in the workflow, i.e. in the order of the chunks created by {@link ParallelChunkStartTestNodeModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ParallelChunkEndTestNodeModel extends NodeModel implements LoopEndParallelizeNode {
+
+    private final Object m_lock = new Object();
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /** Creates the model. */
+    ParallelChunkEndTestNodeModel() {
+        super(1, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        return inSpecs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setParallelChunkMaster(final ParallelizedChunkContentMaster pcm) {
+        m_chunkMaster = pcm;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateStatus() {
+        synchronized (m_lock) {
+            m_lock.notifyAll();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+        throws Exception {
+        final ParallelizedChunkContentMaster master = m_chunkMaster;
+        final BufferedDataContainer container = exec.createDataContainer(inData[0].getDataTableSpec());
+        if (master != null) {
+            final Callable<Void> waitForChunks = () -> {
+                synchronized (m_lock) {
+                    while (master.nrExecutingChunks() > 0) {
+                        exec.checkCanceled();
+                        m_lock.wait(100);
+                    }
+                }
+                return null;
+            };
+            // don't occupy a thread of the pool while the chunks are executed
+            final ThreadPool pool = ThreadPool.currentPool();
+            if (pool != null) {
+                pool.runInvisible(waitForChunks);
+            } else {
+                waitForChunks.call();
+            }
+            for (int i = 0; i < master.nrChunks(); i++) {
+                final PortObject[] result = master.getChunk(i).getOutportContent();
+                if (!master.getChunk(i).isExecuted() || result == null) {
+                    throw new IllegalStateException("Chunk " + i + " failed");
+                }
+                for (DataRow row : (BufferedDataTable)result[0]) {
+                    container.addRowToTable(row);
+                }
+            }
+        }
+        for (DataRow row : inData[0]) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        return new BufferedDataTable[]{container.getTable()};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void reset() {
+        // the chunks are cleaned up by the start node
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // no settings
+    }
+}
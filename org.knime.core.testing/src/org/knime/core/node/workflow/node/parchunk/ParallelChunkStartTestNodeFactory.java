@@ -0,0 +1,123 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow.node.parchunk;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeView;
+import org.knime.core.node.config.ConfigRO;
+import org.knime.core.node.config.ConfigWO;
+
+/**
+ * Factory for {@link ParallelChunkStartTestNodeModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelChunkStartTestNodeFactory extends NodeFactory<ParallelChunkStartTestNodeModel> {
+
+    private static final String CFG_CHUNK_COUNT = "chunk_count";
+
+    private int m_chunkCount;
+
+    /** Default constructor used when the node is loaded, the chunk count is restored from the factory settings. */
+    public ParallelChunkStartTestNodeFactory() {
+        this(1);
+    }
+
+    /**
+     * @param chunkCount the number of chunks the input is split into, including the one processed by the loop body
+     *            in the workflow
+     */
+    public ParallelChunkStartTestNodeFactory(final int chunkCount) {
+        m_chunkCount = chunkCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void loadAdditionalFactorySettings(final ConfigRO config) throws InvalidSettingsException {
+        m_chunkCount = config.getInt(CFG_CHUNK_COUNT);
+        super.loadAdditionalFactorySettings(config);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveAdditionalFactorySettings(final ConfigWO config) {
+        config.addInt(CFG_CHUNK_COUNT, m_chunkCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ParallelChunkStartTestNodeModel createNodeModel() {
+        return new ParallelChunkStartTestNodeModel(m_chunkCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getNrNodeViews() {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeView<ParallelChunkStartTestNodeModel> createNodeView(final int viewIndex, final ParallelChunkStartTestNodeModel nodeModel) {
+        throw new IllegalStateException("No view");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasDialog() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeDialogPane createNodeDialogPane() {
+        throw new IllegalStateException("No dialog");
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow.node.parchunk;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.LoopStartParallelizeNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
+
+/**
+ * Start of a parallel chunk loop, splits its input into a given number of chunks of (almost) equal size. The last
+ * chunk is processed by the loop body in the workflow, the others by the parallel chunks. The chunks reference the
+ * input rather than copying it (see {@link ExecutionContext#createRowRangeTable(BufferedDataTable, long, long)}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class ParallelChunkStartTestNodeModel extends NodeModel implements LoopStartParallelizeNode {
+
+    private final int m_chunkCount;
+
+    private BufferedDataTable[] m_remoteChunks;
+
+    private ParallelizedChunkContentMaster m_chunkMaster;
+
+    /**
+     * @param chunkCount the number of chunks, including the one processed by the loop body in the workflow
+     */
+    ParallelChunkStartTestNodeModel(final int chunkCount) {
+        super(1, 1);
+        m_chunkCount = Math.max(1, chunkCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        return inSpecs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+        throws Exception {
+        final BufferedDataTable in = inData[0];
+        final long size = in.size();
+        final BufferedDataTable[] chunks = new BufferedDataTable[m_chunkCount];
+        for (int i = 0; i < m_chunkCount; i++) {
+            final long from = size * i / m_chunkCount;
+            final long to = size * (i + 1) / m_chunkCount - 1;
+            chunks[i] = exec.createRowRangeTable(in, from, to);
+        }
+        m_remoteChunks = new BufferedDataTable[m_chunkCount - 1];
+        System.arraycopy(chunks, 0, m_remoteChunks, 0, m_remoteChunks.length);
+        return new BufferedDataTable[]{chunks[m_chunkCount - 1]};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public VirtualParallelizedChunkNodeInput getVirtualNodeInput(final int chunkIndex) {
+        return new VirtualParallelizedChunkNodeInput(new PortObject[]{m_remoteChunks[chunkIndex]}, chunkIndex);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNrRemoteChunks() {
+        return m_remoteChunks == null ? 0 : m_remoteChunks.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setChunkMaster(final ParallelizedChunkContentMaster pccm) {
+        m_chunkMaster = pccm;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void reset() {
+        if (m_chunkMaster != null) {
+            m_chunkMaster.cleanupChunks();
+            m_chunkMaster = null;
+        }
+        m_remoteChunks = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // no settings
+    }
+}
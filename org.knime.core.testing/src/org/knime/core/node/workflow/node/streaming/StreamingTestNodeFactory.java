@@ -0,0 +1,128 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow.node.streaming;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeView;
+import org.knime.core.node.config.ConfigRO;
+import org.knime.core.node.config.ConfigWO;
+import org.knime.core.node.workflow.node.streaming.StreamingTestNodeModel.Mode;
+
+/**
+ * Factory for {@link StreamingTestNodeModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StreamingTestNodeFactory extends NodeFactory<StreamingTestNodeModel> {
+
+    private static final String CFG_MODE = "mode";
+
+    private Mode m_mode;
+
+    /** Default constructor used when the node is loaded, the mode is restored from the factory settings. */
+    public StreamingTestNodeFactory() {
+        this(Mode.SOURCE);
+    }
+
+    /**
+     * @param mode what the node does
+     */
+    public StreamingTestNodeFactory(final Mode mode) {
+        m_mode = mode;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void loadAdditionalFactorySettings(final ConfigRO config) throws InvalidSettingsException {
+        try {
+            m_mode = Mode.valueOf(config.getString(CFG_MODE));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Invalid mode: " + config.getString(CFG_MODE), e);
+        }
+        super.loadAdditionalFactorySettings(config);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveAdditionalFactorySettings(final ConfigWO config) {
+        config.addString(CFG_MODE, m_mode.name());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StreamingTestNodeModel createNodeModel() {
+        return new StreamingTestNodeModel(m_mode);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getNrNodeViews() {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeView<StreamingTestNodeModel> createNodeView(final int viewIndex,
+        final StreamingTestNodeModel nodeModel) {
+        throw new IllegalStateException("No view");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasDialog() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeDialogPane createNodeDialogPane() {
+        throw new IllegalStateException("No dialog");
+    }
+}
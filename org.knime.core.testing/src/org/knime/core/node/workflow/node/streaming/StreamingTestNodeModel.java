@@ -0,0 +1,350 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow.node.streaming;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.streamable.simple.SimpleStreamableOperatorInternals;
+
+/**
+ * Node model used to test the streaming execution. Depending on its {@link Mode} it creates a table, appends a
+ * column row by row, aggregates its input using a {@link MergeOperator}, or fails after a number of rows. The result
+ * of the streamed execution is the same as the one of the default execution.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class StreamingTestNodeModel extends NodeModel {
+
+    /** What the node does. */
+    public enum Mode {
+        /** Creates a table of {@link StreamingTestNodeModel#ROW_COUNT} rows with some missing values, no input. */
+        SOURCE,
+        /** Appends a column with the doubled value of the first column, distributable without merge operator. */
+        DOUBLE,
+        /** Counts the rows and sums the first column, distributable and merged by a merge operator. */
+        SUM,
+        /** Fails after {@link StreamingTestNodeModel#FAIL_AFTER_ROWS} rows. */
+        FAIL
+    }
+
+    /** Number of rows created by a source node. */
+    public static final int ROW_COUNT = 5000;
+
+    /** Number of rows a failing node reads before it fails. */
+    public static final int FAIL_AFTER_ROWS = 100;
+
+    private static final String CFG_COUNT = "count";
+
+    private static final String CFG_SUM = "sum";
+
+    private final Mode m_mode;
+
+    /**
+     * @param mode what the node does
+     */
+    StreamingTestNodeModel(final Mode mode) {
+        super(mode == Mode.SOURCE ? 0 : 1, 1);
+        m_mode = mode;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        return new DataTableSpec[]{createOutputSpec(m_mode == Mode.SOURCE ? null : inSpecs[0])};
+    }
+
+    private DataTableSpec createOutputSpec(final DataTableSpec inSpec) {
+        switch (m_mode) {
+            case SOURCE:
+                return new DataTableSpec(new DataColumnSpecCreator("Int-Column", IntCell.TYPE).createSpec(),
+                    new DataColumnSpecCreator("String-Column", StringCell.TYPE).createSpec());
+            case DOUBLE:
+                return new DataTableSpec(inSpec,
+                    new DataTableSpec(new DataColumnSpecCreator("Doubled", IntCell.TYPE).createSpec()));
+            case SUM:
+                return new DataTableSpec(new DataColumnSpecCreator("Count", LongCell.TYPE).createSpec(),
+                    new DataColumnSpecCreator("Sum", LongCell.TYPE).createSpec());
+            default:
+                return inSpec;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+        throws Exception {
+        final BufferedDataContainer cont =
+            exec.createDataContainer(createOutputSpec(m_mode == Mode.SOURCE ? null : inData[0].getDataTableSpec()));
+        switch (m_mode) {
+            case SOURCE:
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    // every seventh value is missing
+                    final DataCell intCell = i % 7 == 3 ? DataType.getMissingCell() : new IntCell(i);
+                    cont.addRowToTable(
+                        new DefaultRow(RowKey.createRowKey((long)i), intCell, new StringCell("Value " + i)));
+                }
+                break;
+            case DOUBLE:
+                for (DataRow row : inData[0]) {
+                    cont.addRowToTable(doubled(row));
+                }
+                break;
+            case SUM:
+                long count = 0;
+                long sum = 0;
+                for (DataRow row : inData[0]) {
+                    count++;
+                    sum += valueOf(row);
+                }
+                cont.addRowToTable(sumRow(count, sum));
+                break;
+            default:
+                int index = 0;
+                for (DataRow row : inData[0]) {
+                    failIfDone(index++);
+                    cont.addRowToTable(row);
+                }
+                failIfDone(index);
+        }
+        cont.close();
+        return new BufferedDataTable[]{cont.getTable()};
+    }
+
+    private static DataRow doubled(final DataRow row) {
+        final DataCell cell = row.getCell(0);
+        return new AppendedColumnRow(row,
+            cell.isMissing() ? cell : new IntCell(2 * ((IntValue)cell).getIntValue()));
+    }
+
+    private static long valueOf(final DataRow row) {
+        final DataCell cell = row.getCell(0);
+        return cell.isMissing() ? 0 : ((IntValue)cell).getIntValue();
+    }
+
+    private static DataRow sumRow(final long count, final long sum) {
+        return new DefaultRow(new RowKey("Sum"), new LongCell(count), new LongCell(sum));
+    }
+
+    private static void failIfDone(final int index) {
+        if (index == FAIL_AFTER_ROWS) {
+            throw new IllegalStateException("Failing after " + FAIL_AFTER_ROWS + " rows, as requested");
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        switch (m_mode) {
+            case SOURCE:
+                return new InputPortRole[0];
+            case FAIL:
+                return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+            default:
+                return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{m_mode == Mode.DOUBLE ? OutputPortRole.DISTRIBUTED : OutputPortRole.NONDISTRIBUTED};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (m_mode == Mode.SOURCE) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        return new StreamableOperator() {
+            private long m_count;
+
+            private long m_sum;
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final RowInput in = (RowInput)inputs[0];
+                final RowOutput out = m_mode == Mode.SUM ? null : (RowOutput)outputs[0];
+                DataRow row;
+                while ((row = in.poll()) != null) {
+                    if (m_mode == Mode.DOUBLE) {
+                        out.push(doubled(row));
+                    } else if (m_mode == Mode.SUM) {
+                        m_count++;
+                        m_sum += valueOf(row);
+                    } else {
+                        failIfDone((int)m_count++);
+                        out.push(row);
+                    }
+                }
+                if (m_mode == Mode.FAIL) {
+                    failIfDone((int)m_count);
+                }
+                in.close();
+                if (out != null) {
+                    out.close();
+                }
+            }
+
+            @Override
+            public StreamableOperatorInternals saveInternals() {
+                return createInternals(m_count, m_sum);
+            }
+        };
+    }
+
+    private static SimpleStreamableOperatorInternals createInternals(final long count, final long sum) {
+        final SimpleStreamableOperatorInternals internals = new SimpleStreamableOperatorInternals();
+        internals.getConfig().addLong(CFG_COUNT, count);
+        internals.getConfig().addLong(CFG_SUM, sum);
+        return internals;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MergeOperator createMergeOperator() {
+        if (m_mode != Mode.SUM) {
+            return null;
+        }
+        return new MergeOperator() {
+            @Override
+            public StreamableOperatorInternals mergeFinal(final StreamableOperatorInternals[] operators) {
+                long count = 0;
+                long sum = 0;
+                for (StreamableOperatorInternals o : operators) {
+                    count += ((SimpleStreamableOperatorInternals)o).getConfig().getLong(CFG_COUNT, 0);
+                    sum += ((SimpleStreamableOperatorInternals)o).getConfig().getLong(CFG_SUM, 0);
+                }
+                return createInternals(count, sum);
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void finishStreamableExecution(final StreamableOperatorInternals internals, final ExecutionContext exec,
+        final PortOutput[] output) throws Exception {
+        final SimpleStreamableOperatorInternals merged = (SimpleStreamableOperatorInternals)internals;
+        final RowOutput out = (RowOutput)output[0];
+        out.push(sumRow(merged.getConfig().getLong(CFG_COUNT, 0), merged.getConfig().getLong(CFG_SUM, 0)));
+        out.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        // no settings
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void reset() {
+        // nothing to reset
+    }
+}
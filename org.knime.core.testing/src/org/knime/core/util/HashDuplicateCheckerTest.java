@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link HashDuplicateChecker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashDuplicateCheckerTest {
+
+    /** Many keys without duplicates, most of them only recorded in the bloom filter. */
+    @Test
+    public void testNoDuplicates() throws IOException {
+        HashDuplicateChecker checker = new HashDuplicateChecker(1000);
+        try {
+            for (int i = 0; i < 500000; i++) {
+                checker.addKey("Row" + i);
+            }
+            checker.checkForDuplicates();
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /** Duplicate within the keys kept in memory, detected when added. */
+    @Test
+    public void testEarlyDuplicate() throws IOException {
+        HashDuplicateChecker checker = new HashDuplicateChecker(1000);
+        checker.addKey("A");
+        try {
+            checker.addKey("A");
+            fail("Duplicate not detected");
+        } catch (DuplicateKeyException e) {
+            assertEquals("A", e.getKey());
+        }
+    }
+
+    /** Duplicates of keys in memory and in the filter, detected when the check is done. */
+    @Test
+    public void testLateDuplicates() throws IOException {
+        for (int duplicate : new int[]{10, 5000, 199998}) {
+            HashDuplicateChecker checker = new HashDuplicateChecker(1000);
+            try {
+                for (int i = 0; i < 200000; i++) {
+                    checker.addKey("Row" + i);
+                }
+                checker.addKey("Row" + duplicate);
+                checker.checkForDuplicates();
+                fail("Duplicate not detected");
+            } catch (DuplicateKeyException e) {
+                assertEquals("Row" + duplicate, e.getKey());
+            } finally {
+                checker.clear();
+            }
+        }
+    }
+
+    /** A key added three times is detected when added. */
+    @Test
+    public void testTriplicate() throws IOException {
+        HashDuplicateChecker checker = new HashDuplicateChecker(10);
+        try {
+            for (int i = 0; i < 100; i++) {
+                checker.addKey("Row" + i);
+            }
+            checker.addKey("Row50");
+            try {
+                checker.addKey("Row50");
+                fail("Duplicate not detected");
+            } catch (DuplicateKeyException e) {
+                assertEquals("Row50", e.getKey());
+            }
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /** Duplicates detected after the filters exceeded their budget and the keys were passed to the sort based check. */
+    @Test
+    public void testDuplicatesBeyondFilterBudget() throws IOException {
+        for (int duplicate : new int[]{10, 5000, 199998}) {
+            // room for the first two filters only
+            HashDuplicateChecker checker = new HashDuplicateChecker(1000, 4 * 65536);
+            try {
+                for (int i = 0; i < 200000; i++) {
+                    checker.addKey("Row" + i);
+                }
+                checker.addKey("Row" + duplicate);
+                checker.checkForDuplicates();
+                fail("Duplicate not detected");
+            } catch (DuplicateKeyException e) {
+                assertEquals("Row" + duplicate, e.getKey());
+            } finally {
+                checker.clear();
+            }
+        }
+    }
+
+    /** Many keys without duplicates beyond the budget of the filters. */
+    @Test
+    public void testNoDuplicatesBeyondFilterBudget() throws IOException {
+        HashDuplicateChecker checker = new HashDuplicateChecker(1000, 64);
+        try {
+            for (int i = 0; i < 500000; i++) {
+                checker.addKey("Row" + i);
+            }
+            checker.checkForDuplicates();
+        } finally {
+            checker.clear();
+        }
+    }
+}
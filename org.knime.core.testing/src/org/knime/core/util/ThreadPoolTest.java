@@ -49,7 +49,13 @@
 
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -434,4 +440,154 @@ public ClassLoader call() throws Exception {
             Thread.currentThread().setContextClassLoader(cl);
         }
     }
+
+    /** Task with scheduling information that waits for a latch and records its name when it's started. */
+    private static class ScheduledTester implements Runnable, ScheduledTask {
+        private final String m_name;
+        private final long m_priority;
+        private final int m_threadCount;
+        private final long m_memory;
+        private final List<String> m_started;
+        private final CountDownLatch m_latch;
+
+        ScheduledTester(final String name, final long priority, final int threadCount, final long memory,
+            final List<String> started, final CountDownLatch latch) {
+            m_name = name;
+            m_priority = priority;
+            m_threadCount = threadCount;
+            m_memory = memory;
+            m_started = started;
+            m_latch = latch;
+        }
+
+        @Override
+        public void run() {
+            m_started.add(m_name);
+            try {
+                m_latch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public long getPriority() {
+            return m_priority;
+        }
+
+        @Override
+        public int getThreadCount() {
+            return m_threadCount;
+        }
+
+        @Override
+        public long getMemoryFootprint() {
+            return m_memory;
+        }
+    }
+
+    /**
+     * Checks that queued tasks are started in the order of their priority and in FIFO order within the same priority.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testPriority() throws Exception {
+        ThreadPool root = new ThreadPool(1);
+        List<String> started = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch open = new CountDownLatch(0);
+        root.enqueue(new ScheduledTester("blocker", 0, 1, 0, started, blocker));
+        root.enqueue(new ScheduledTester("a", 1, 1, 0, started, open));
+        root.enqueue(new ScheduledTester("b", 5, 1, 0, started, open));
+        root.enqueue(new ScheduledTester("c", 3, 1, 0, started, open));
+        root.enqueue(new ScheduledTester("d", 5, 1, 0, started, open));
+        root.enqueue(new ScheduledTester("e", 1, 1, 0, started, open));
+        assertEquals(5, root.getQueueSize());
+        blocker.countDown();
+        root.waitForTermination();
+        assertEquals(Arrays.asList("blocker", "b", "d", "c", "a", "e"), started);
+    }
+
+    /**
+     * Checks that tasks using several threads are accounted for accordingly and smaller tasks are started if a larger
+     * task doesn't fit.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testThreadCount() throws Exception {
+        ThreadPool root = new ThreadPool(4);
+        List<String> started = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch latch = new CountDownLatch(1);
+        root.enqueue(new ScheduledTester("wide", 0, 3, 0, started, latch));
+        root.enqueue(new ScheduledTester("wide2", 0, 2, 0, started, latch));
+        root.enqueue(new ScheduledTester("narrow", 0, 1, 0, started, latch));
+        root.enqueue(new ScheduledTester("huge", 0, 100, 0, started, latch));
+        assertEquals(4, root.getRunningThreads());
+        assertEquals(2, root.getQueueSize());
+        latch.countDown();
+        root.waitForTermination();
+        assertEquals(0, root.getRunningThreads());
+        assertEquals(4, started.size());
+    }
+
+    /**
+     * Checks that tasks are not started concurrently if their memory footprint exceeds the pool's memory.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testMemoryFootprint() throws Exception {
+        ThreadPool root = new ThreadPool(4);
+        root.setMaxMemory(100);
+        List<String> started = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch latch = new CountDownLatch(1);
+        root.enqueue(new ScheduledTester("large", 0, 1, 60, started, latch));
+        root.enqueue(new ScheduledTester("large2", 0, 1, 60, started, latch));
+        root.enqueue(new ScheduledTester("small", 0, 1, 40, started, latch));
+        root.enqueue(new ScheduledTester("none", 0, 1, 0, started, latch));
+        assertEquals(3, root.getRunningThreads());
+        assertEquals(1, root.getQueueSize());
+        latch.countDown();
+        root.waitForTermination();
+        assertEquals(4, started.size());
+    }
+
+    /**
+     * Checks that a queued task using several threads is only passed by a limited number of smaller tasks and is then
+     * started before any task submitted later.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testNoStarvationOfWideTask() throws Exception {
+        ThreadPool root = new ThreadPool(2);
+        List<String> started = Collections.synchronizedList(new ArrayList<String>());
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch open = new CountDownLatch(0);
+        root.enqueue(new ScheduledTester("blocker", 0, 1, 0, started, blocker));
+        root.enqueue(new ScheduledTester("wide", 0, 2, 0, started, open));
+        assertEquals(1, root.getQueueSize());
+        while (started.isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        // a steady stream of small tasks fills the free thread until the wide task has been passed too often
+        List<String> expected = new ArrayList<String>();
+        expected.add("blocker");
+        for (int i = 0; i < ThreadPool.MAX_BYPASSES; i++) {
+            root.enqueue(new ScheduledTester("small" + i, 0, 1, 0, started, open)).get();
+            expected.add("small" + i);
+        }
+        for (int i = 0; i < 3; i++) {
+            root.enqueue(new ScheduledTester("late" + i, 0, 1, 0, started, open));
+        }
+        assertEquals(4, root.getQueueSize());
+        assertEquals(expected, started);
+
+        blocker.countDown();
+        root.waitForTermination();
+        expected.add("wide");
+        assertEquals(expected, started.subList(0, expected.size()));
+        // the late tasks run concurrently once the wide task has finished
+        assertEquals(new HashSet<String>(Arrays.asList("late0", "late1", "late2")),
+            new HashSet<String>(started.subList(expected.size(), started.size())));
+    }
 }
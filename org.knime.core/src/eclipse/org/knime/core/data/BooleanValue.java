@@ -100,6 +100,17 @@ protected int compareDataValues(
                     boolean b2 = ((BooleanValue)v2).getBooleanValue();
                     return b1 == b2 ? 0 : (b1 ? 1 : -1);
                 }
+
+                @Override
+                public boolean supportsNormalizedKey() {
+                    return true;
+                }
+
+                @Override
+                protected void writeNormalizedKey(final DataValue value,
+                        final NormalizedKeyWriter writer) {
+                    writer.writeBoolean(((BooleanValue)value).getBooleanValue());
+                }
             };
         }
 
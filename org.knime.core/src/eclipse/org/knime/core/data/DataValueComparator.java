@@ -140,4 +140,44 @@ public final int compare(final DataCell c1, final DataCell c2) {
     protected abstract int compareDataValues(
             final DataValue v1, final DataValue v2);
 
+    /**
+     * Whether this comparator can encode values into normalized keys (see
+     * {@link #writeNormalizedKey(DataValue, NormalizedKeyWriter)}). The
+     * default implementation returns <code>false</code>; the comparators of
+     * the basic types (int, long, double, boolean and string) support it.
+     * Subclasses of these comparators that change the order don't inherit
+     * the support.
+     *
+     * @return that property
+     * @since 3.6
+     */
+    public boolean supportsNormalizedKey() {
+        return false;
+    }
+
+    /**
+     * Appends an order preserving binary encoding (&quot;normalized
+     * key&quot;) of a non-missing value to the argument writer. Two values
+     * encoded this way compare byte by byte (see
+     * {@link NormalizedKeyWriter#compare(byte[], byte[])}) as they compare
+     * using {@link #compareDataValues(DataValue, DataValue)}. The encoding
+     * must be prefix-free (no encoded value is a proper prefix of another
+     * one), the primitive write methods of {@link NormalizedKeyWriter}
+     * guarantee this. Only called if {@link #supportsNormalizedKey()} returns
+     * <code>true</code>; clients use
+     * {@link NormalizedKeyWriter#writeCell(DataCell, DataValueComparator,
+     * boolean, boolean)}, which also handles missing cells.
+     *
+     * @param value the value to encode, castable to the type of this
+     *            comparator
+     * @param writer to append to
+     * @throws UnsupportedOperationException if not supported
+     * @since 3.6
+     */
+    protected void writeNormalizedKey(final DataValue value,
+            final NormalizedKeyWriter writer) {
+        throw new UnsupportedOperationException(getClass().getName()
+                + " doesn't support normalized keys");
+    }
+
 }
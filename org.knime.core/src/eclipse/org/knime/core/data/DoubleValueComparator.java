@@ -79,4 +79,23 @@ public int compareDataValues(final DataValue v1, final DataValue v2) {
         return Double.compare(d1, d2);
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean supportsNormalizedKey() {
+        return getClass() == DoubleValueComparator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void writeNormalizedKey(final DataValue value,
+            final NormalizedKeyWriter writer) {
+        writer.writeDouble(((DoubleValue)value).getDoubleValue());
+    }
+
 }
@@ -75,4 +75,23 @@ public int compareDataValues(final DataValue v1, final DataValue v2) {
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean supportsNormalizedKey() {
+        return getClass() == IntValueComparator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void writeNormalizedKey(final DataValue value,
+            final NormalizedKeyWriter writer) {
+        writer.writeInt(((IntValue)value).getIntValue());
+    }
+
 }
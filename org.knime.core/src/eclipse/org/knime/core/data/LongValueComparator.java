@@ -71,4 +71,22 @@ protected int compareDataValues(final DataValue v1, final DataValue v2) {
         }
         return 0;
     }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean supportsNormalizedKey() {
+        return getClass() == LongValueComparator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void writeNormalizedKey(final DataValue value, final NormalizedKeyWriter writer) {
+        writer.writeLong(((LongValue)value).getLongValue());
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data;
+
+import java.util.Arrays;
+
+/**
+ * Creates normalized (binary, order preserving) sort keys. The key of a row is the concatenation of the encoded values
+ * of the sort columns; two keys compare (byte by byte, unsigned, see {@link #compare(byte[], byte[])}) in the same
+ * way as the rows compare using the {@link DataValueComparator comparators} of the columns. Sorting and merging on
+ * such keys avoids the (virtual) comparator calls on each comparison and allows for radix based algorithms.
+ *
+ * <p>
+ * The encoding of each column value is prefix-free, i.e. no encoded value is the prefix of another encoded value of
+ * the same column. This makes the concatenation of multiple columns order preserving and allows descending order by
+ * inverting the bytes of a column.
+ *
+ * <p>
+ * Values are added using {@link #writeCell(DataCell, DataValueComparator, boolean, boolean)} (which delegates to
+ * {@link DataValueComparator#writeNormalizedKey(DataValue, NormalizedKeyWriter)}) or
+ * {@link #writeRowKey(RowKey, boolean)}; comparator implementations use the primitive write methods. An instance is
+ * not thread-safe and can be {@link #reset() reused} for multiple keys.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class NormalizedKeyWriter {
+
+    /** First byte of a missing cell that sorts before all other values. */
+    private static final int MISSING_FIRST = 0x00;
+
+    /** First byte of a missing cell that sorts after all other values. */
+    private static final int MISSING_LAST = 0xFF;
+
+    /** First byte of a non-missing cell (ascending order). */
+    private static final int NOT_MISSING = 0x01;
+
+    /** Terminates a string; smaller than the first byte of any encoded character. */
+    private static final int STRING_END = 0x00;
+
+    private byte[] m_bytes = new byte[64];
+
+    private int m_size;
+
+    /** Clears the key written so far. */
+    public void reset() {
+        m_size = 0;
+    }
+
+    /** @return the number of bytes written since creation or the last {@link #reset()}. */
+    public int size() {
+        return m_size;
+    }
+
+    /** @return a copy of the key written so far. */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(m_bytes, m_size);
+    }
+
+    /**
+     * Appends the normalized key of a cell.
+     *
+     * @param cell the cell, may be missing
+     * @param comparator the comparator defining the order, must {@link DataValueComparator#supportsNormalizedKey()
+     *            support normalized keys}
+     * @param ascending if false, the order of the values is reversed
+     * @param missingsLast if true, missing cells are sorted after all other values independent of the order, otherwise
+     *            they are smaller than all other values (as in {@link DataValueComparator#compare(DataCell, DataCell)})
+     * @throws UnsupportedOperationException if the comparator doesn't support normalized keys
+     */
+    public void writeCell(final DataCell cell, final DataValueComparator comparator, final boolean ascending,
+        final boolean missingsLast) {
+        if (cell.isMissing()) {
+            writeByte(missingsLast || !ascending ? MISSING_LAST : MISSING_FIRST);
+            return;
+        }
+        final int start = m_size;
+        writeByte(NOT_MISSING);
+        comparator.writeNormalizedKey(cell, this);
+        if (!ascending) {
+            invert(start);
+        }
+    }
+
+    /**
+     * Appends the normalized key of a row key, ordered by its string representation.
+     *
+     * @param key the row key
+     * @param ascending if false, the order is reversed
+     */
+    public void writeRowKey(final RowKey key, final boolean ascending) {
+        final int start = m_size;
+        writeString(key.getString());
+        if (!ascending) {
+            invert(start);
+        }
+    }
+
+    /**
+     * Appends a single byte (the lowest 8 bits of the argument).
+     *
+     * @param b the byte
+     */
+    public void writeByte(final int b) {
+        ensureCapacity(1);
+        m_bytes[m_size++] = (byte)b;
+    }
+
+    /**
+     * Appends a boolean, false is smaller than true.
+     *
+     * @param b the value
+     */
+    public void writeBoolean(final boolean b) {
+        writeByte(b ? 1 : 0);
+    }
+
+    /**
+     * Appends an int (4 bytes, ordered as signed int).
+     *
+     * @param i the value
+     */
+    public void writeInt(final int i) {
+        ensureCapacity(Integer.BYTES);
+        final int v = i ^ Integer.MIN_VALUE;
+        m_bytes[m_size++] = (byte)(v >>> 24);
+        m_bytes[m_size++] = (byte)(v >>> 16);
+        m_bytes[m_size++] = (byte)(v >>> 8);
+        m_bytes[m_size++] = (byte)v;
+    }
+
+    /**
+     * Appends a long (8 bytes, ordered as signed long).
+     *
+     * @param l the value
+     */
+    public void writeLong(final long l) {
+        writeUnsignedLong(l ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * Appends a double (8 bytes) ordered as defined by {@link Double#compare(double, double)}, i.e. -0.0 is smaller
+     * than 0.0 and NaN is larger than any other value.
+     *
+     * @param d the value
+     */
+    public void writeDouble(final double d) {
+        // canonical NaN, as used by Double#compare
+        final long bits = Double.doubleToLongBits(d);
+        writeUnsignedLong(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+    }
+
+    /**
+     * Appends a string ordered as defined by {@link String#compareTo(String)} (comparing UTF-16 chars). Each char is
+     * encoded in one (ASCII), two or three bytes; the string is terminated by a zero byte.
+     *
+     * @param s the value
+     */
+    public void writeString(final String s) {
+        final int length = s.length();
+        ensureCapacity(3 * length + 1);
+        final byte[] bytes = m_bytes;
+        int pos = m_size;
+        for (int i = 0; i < length; i++) {
+            final int c = s.charAt(i);
+            if (c < 0x7F) {
+                bytes[pos++] = (byte)(c + 1);
+            } else if (c < 0x7F + 0x4000) {
+                final int v = c - 0x7F;
+                bytes[pos++] = (byte)(0x80 | (v >>> 8));
+                bytes[pos++] = (byte)v;
+            } else {
+                bytes[pos++] = (byte)0xC0;
+                bytes[pos++] = (byte)(c >>> 8);
+                bytes[pos++] = (byte)c;
+            }
+        }
+        bytes[pos++] = STRING_END;
+        m_size = pos;
+    }
+
+    /**
+     * Compares two keys byte by byte (unsigned); a key that is a prefix of another key is smaller.
+     *
+     * @param k1 the first key
+     * @param k2 the second key
+     * @return a negative number, zero, or a positive number as the first key is smaller, equal or larger than the
+     *         second
+     */
+    public static int compare(final byte[] k1, final byte[] k2) {
+        final int length = Math.min(k1.length, k2.length);
+        for (int i = 0; i < length; i++) {
+            if (k1[i] != k2[i]) {
+                return (k1[i] & 0xFF) - (k2[i] & 0xFF);
+            }
+        }
+        return k1.length - k2.length;
+    }
+
+    private void writeUnsignedLong(final long v) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            m_bytes[m_size++] = (byte)(v >>> shift);
+        }
+    }
+
+    /** Inverts the bytes written since position start (for descending order). */
+    private void invert(final int start) {
+        for (int i = start; i < m_size; i++) {
+            m_bytes[i] = (byte)~m_bytes[i];
+        }
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (m_size + additional > m_bytes.length) {
+            m_bytes = Arrays.copyOf(m_bytes, Math.max(m_bytes.length << 1, m_size + additional));
+        }
+    }
+
+}
@@ -55,14 +55,40 @@
 /**
  * Key for a specific row which holds an identifier of type {@link String}.
  *
+ * <p>
+ * Keys following the default naming scheme (<code>"Row" + index</code>, see {@link #createRowKey(long)}) or
+ * consisting of a plain number (see {@link #createCompactRowKey(String)}) are stored as a <code>long</code>; their
+ * string is created on each call of {@link #getString()} and not kept in memory. Compact and string based keys with the
+ * same string are equal and have the same hash code.
+ *
  * @see DataRow
  * @author Michael Berthold, University of Konstanz
  */
 public final class RowKey {
 
-    /** Private member holding non-null row id. */
+    /** Format of string based keys, {@link #m_id} is set. */
+    private static final byte FORMAT_STRING = 0;
+
+    /** Format of compact keys of the form <code>"Row" + m_index</code>. */
+    private static final byte FORMAT_ROW_INDEX = 1;
+
+    /** Format of compact keys of the form <code>Long.toString(m_index)</code>. */
+    private static final byte FORMAT_NUMBER = 2;
+
+    /** Prefix of default row keys. */
+    private static final String ROW_PREFIX = "Row";
+
+    private static final int ROW_PREFIX_HASH = ROW_PREFIX.hashCode();
+
+    /** Private member holding row id, null for compact keys. */
     private final String m_id;
 
+    /** The number of compact keys. */
+    private final long m_index;
+
+    /** One of the FORMAT_XYZ constants. */
+    private final byte m_format;
+
     /**
      * Creates a row key based on a {@link String}.
      *
@@ -74,11 +100,27 @@ public RowKey(final String id) {
             throw new NullPointerException("Argument must not be null.");
         }
         m_id = id;
+        m_index = 0L;
+        m_format = FORMAT_STRING;
+    }
+
+    /** Creates a compact key. */
+    private RowKey(final long index, final byte format) {
+        m_id = null;
+        m_index = index;
+        m_format = format;
     }
 
     /** @return Underlying string of this row key. */
     public String getString() {
-        return m_id;
+        switch (m_format) {
+            case FORMAT_ROW_INDEX:
+                return ROW_PREFIX + m_index;
+            case FORMAT_NUMBER:
+                return Long.toString(m_index);
+            default:
+                return m_id;
+        }
     }
 
     /** {@inheritDoc} */
@@ -94,7 +136,11 @@ public boolean equals(final Object obj) {
             return true;
         }
         if (obj instanceof RowKey) {
-            return ((RowKey)obj).m_id.equals(m_id);
+            final RowKey other = (RowKey)obj;
+            if (m_format != FORMAT_STRING && other.m_format != FORMAT_STRING) {
+                return m_format == other.m_format && m_index == other.m_index;
+            }
+            return other.getString().equals(getString());
         }
         return false;
     }
@@ -104,7 +150,77 @@ public boolean equals(final Object obj) {
      */
     @Override
     public int hashCode() {
-        return m_id.hashCode();
+        if (m_format == FORMAT_STRING) {
+            return m_id.hashCode();
+        }
+        // same as getString().hashCode() but without creating the string
+        int hash = m_format == FORMAT_ROW_INDEX ? ROW_PREFIX_HASH : 0;
+        // negative value avoids overflow for Long.MIN_VALUE
+        long rest = m_index < 0 ? m_index : -m_index;
+        if (m_index < 0) {
+            hash = 31 * hash + '-';
+        }
+        long pow = 1L;
+        while (rest / pow <= -10L) {
+            pow *= 10L;
+        }
+        for (; pow > 0L; pow /= 10L) {
+            hash = 31 * hash + (int)('0' - rest / pow);
+            rest %= pow;
+        }
+        return hash;
+    }
+
+    /**
+     * Creates a row key from a string. If the string follows the default naming scheme (<code>"Row" + index</code>)
+     * or is a plain number, a compact key is returned that doesn't keep the string in memory; otherwise the result is
+     * the same as {@link #RowKey(String)}. This method should be used where many keys are read, e.g. from a file.
+     *
+     * @param id identifier for the key
+     * @return a new key, equal to <code>new RowKey(id)</code>
+     * @throws NullPointerException if argument is <code>null</code>
+     * @since 3.6
+     */
+    public static RowKey createCompactRowKey(final String id) {
+        if (id == null) {
+            throw new NullPointerException("Argument must not be null.");
+        }
+        if (id.startsWith(ROW_PREFIX)) {
+            if (isCanonicalLong(id, ROW_PREFIX.length())) {
+                return new RowKey(Long.parseLong(id.substring(ROW_PREFIX.length())), FORMAT_ROW_INDEX);
+            }
+        } else if (isCanonicalLong(id, 0)) {
+            return new RowKey(Long.parseLong(id), FORMAT_NUMBER);
+        }
+        return new RowKey(id);
+    }
+
+    /**
+     * Whether the string starting at the given position is the result of {@link Long#toString(long)}, i.e. an
+     * optional minus followed by digits without leading zeros (and no "-0").
+     */
+    private static boolean isCanonicalLong(final String s, final int start) {
+        final boolean isNegative = s.length() > start && s.charAt(start) == '-';
+        final int firstDigit = isNegative ? start + 1 : start;
+        final int digitCount = s.length() - firstDigit;
+        if (digitCount <= 0 || digitCount > 19) {
+            return false;
+        }
+        if (s.charAt(firstDigit) == '0' && (digitCount > 1 || isNegative)) {
+            return false;
+        }
+        for (int i = firstDigit; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (digitCount == 19) {
+            // may exceed the long range
+            final String max = isNegative ? "9223372036854775808" : "9223372036854775807";
+            return s.substring(firstDigit).compareTo(max) <= 0;
+        }
+        return true;
     }
 
     /**
@@ -156,7 +272,7 @@ public static RowKey[] toRowKeys(final String... strs) {
      */
     @Deprecated
     public static RowKey createRowKey(final int rowIndex) {
-        return new RowKey("Row" + rowIndex);
+        return createRowKey((long)rowIndex);
     }
 
     /**
@@ -173,6 +289,6 @@ public static RowKey createRowKey(final int rowIndex) {
      * @since 3.0
      */
     public static RowKey createRowKey(final long rowIndex) {
-        return new RowKey("Row" + rowIndex);
+        return new RowKey(rowIndex, FORMAT_ROW_INDEX);
     }
 }
@@ -69,4 +69,23 @@ public int compareDataValues(final DataValue v1, final DataValue v2) {
         return s1.compareTo(s2);
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public boolean supportsNormalizedKey() {
+        return getClass() == StringValueComparator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    protected void writeNormalizedKey(final DataValue value,
+            final NormalizedKeyWriter writer) {
+        writer.writeString(((StringValue)value).getStringValue());
+    }
+
 }
@@ -60,7 +60,10 @@
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -98,6 +101,8 @@
 import org.knime.core.data.collection.CellCollection;
 import org.knime.core.data.collection.CollectionDataValue;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
@@ -114,9 +119,6 @@
 import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
 import org.knime.core.data.filestore.internal.ROWriteFileStoreHandler;
 import org.knime.core.data.util.NonClosableOutputStream;
-import org.knime.core.data.util.memory.MemoryAlert;
-import org.knime.core.data.util.memory.MemoryAlertListener;
-import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
@@ -125,9 +127,9 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.NodeExecutionProfiler;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.PathUtils;
-import org.knime.core.util.ThreadUtils;
 
 /**
  * A buffer writes the rows from a {@link DataContainer} to a file. This class serves as connector between the
@@ -253,6 +255,13 @@ public class Buffer implements KNIMEStreamConstants {
     private static final Set<WeakReference<Buffer>> OPENBUFFERS = Collections
             .synchronizedSet(new HashSet<WeakReference<Buffer>>());
 
+    /**
+     * Buffers that read their data file and blobs directly from a workflow directory (see
+     * {@link #setReadInPlace(File)}). Used to copy the files to temp before the workflow directory is modified.
+     */
+    private static final Set<Buffer> IN_PLACE_BUFFERS =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<Buffer, Boolean>()));
+
     /** Number of dirs/files per directory when blobs are saved. */
     private static final int BLOB_ENTRIES_PER_DIRECTORY = 1000;
 
@@ -340,18 +349,20 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         return result;
     }
 
-    /** Compression on the binary (main) file. */
-    enum CompressionFormat {
-        Gzip,
-        None;
-    }
-
     /** the file to write to. */
     private File m_binFile;
 
     /** The directory where blob cells are stored or null if none available. */
     private File m_blobDir;
 
+    /** The workflow directory containing m_binFile and m_blobDir if they are read in place (not owned by this buffer
+     * and hence never deleted), otherwise null. */
+    private File m_inPlaceDir;
+
+    /** The open iterators reading the files in {@link #m_inPlaceDir}, re-opened on the copies in temp when the files
+     * are copied (see {@link #copyInPlaceFilesToTemp(File)}). Weak keys, iterators may not be closed by clients. */
+    private final WeakHashMap<InPlaceFileIterator, Object> m_inPlaceIterators = new WeakHashMap<>();
+
     /** true if any row contained in this buffer contains blob cells. */
     private boolean m_containsBlobs;
 
@@ -386,6 +397,8 @@ enum CompressionFormat {
     private AtomicInteger m_nrOpenInputStreams = new AtomicInteger();
 
     private TableStoreFormat m_outputFormat;
+    /** Compression used when written with the {@link DefaultTableStoreFormat}, null to use the default. */
+    private CompressionFormat m_compressionFormat;
     private AbstractTableStoreWriter m_outputWriter;
     private AbstractTableStoreReader m_outputReader;
 
@@ -404,9 +417,15 @@ enum CompressionFormat {
     /** the current row count (how often has addRow been called). */
     private long m_size;
 
-    /** the list that keeps up to m_maxRowsInMem in memory. */
+    /** the list that keeps up to m_maxRowsInMem in memory (or an {@link OffHeapRowList} for small tables). */
     private List<BlobSupportDataRow> m_list;
 
+    /** Handle in the {@link TableMemoryManager} while the closed buffer keeps its rows in memory, null otherwise. */
+    private TableMemoryManager.TrackedTable m_memoryHandle;
+
+    /** The execution of the node creating this buffer (for profiling), null if not known or for read buffers. */
+    private NodeExecutionProfiler.Execution m_creatingExecution;
+
     private int[] m_indicesOfBlobInColumns;
 
     /** the spec the rows comply with, no checking is done, however. */
@@ -466,7 +485,7 @@ enum CompressionFormat {
            final Map<Integer, ContainerTable> globalRep, final Map<Integer, ContainerTable> localRep, final IWriteFileStoreHandler fileStoreHandler) {
         assert (maxRowsInMemory >= 0);
         m_maxRowsInMem = maxRowsInMemory;
-        m_list = new ArrayList<BlobSupportDataRow>();
+        m_list = createInMemoryList(spec, maxRowsInMemory);
         m_openIteratorSet = new WeakHashMap<>();
         m_size = 0;
         m_bufferID = bufferID;
@@ -484,6 +503,7 @@ enum CompressionFormat {
                     + "using '%s' instead", prefFormat.getClass().getName(), storeFormat.getClass().getName());
         }
         m_outputFormat = storeFormat;
+        m_creatingExecution = NodeExecutionProfiler.getCurrentExecution();
         BufferTracker.getInstance().bufferCreated(this);
     }
 
@@ -565,6 +585,26 @@ final TableStoreFormat getOutputFormat() {
         return m_outputFormat;
     }
 
+    /** @return the reader of the binary file, null if the table is kept in memory (or not yet closed) */
+    final AbstractTableStoreReader getOutputReader() {
+        return m_outputReader;
+    }
+
+    /**
+     * Sets the compression of the binary file, overriding the default defined by
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_GZIP_COMPRESSION}. Only applies if the table is
+     * written using the {@link DefaultTableStoreFormat}. Must be called before the output is initialized (i.e.
+     * before any row is written to disc).
+     *
+     * @param compressionFormat the compression to use or null to use the default
+     */
+    final synchronized void setCompressionFormat(final CompressionFormat compressionFormat) {
+        if (m_outputWriter != null) {
+            throw new IllegalStateException("Cannot change compression, table is already written to disc");
+        }
+        m_compressionFormat = compressionFormat;
+    }
+
     /**
      * Validate the version as read from the file if it can be parsed by this implementation. If unknown, uses
      * latest known version (good luck).
@@ -603,7 +643,7 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
             getAndIncrementSize();
             if ((m_list != null) && (m_maxRowsInMem > 0)) {
                 m_list.add(row);
-                if (m_list.size() > m_maxRowsInMem) {
+                if (isInMemoryLimitExceeded()) {
                     flushBuffer();
                 }
             } else {
@@ -630,6 +670,52 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         }
     } // addRow(DataRow)
 
+    /**
+     * Creates the list that keeps the rows while the table is small. Small tables of primitive columns are kept
+     * off-heap and are limited by {@link DataContainer#MAX_OFF_HEAP_BYTES_PER_TABLE} rather than by the number of rows.
+     * Tables that are meant to be kept in memory entirely (cells in memory exceeding
+     * {@link DataContainer#MAX_CELLS_IN_MEMORY}) are kept on the heap.
+     */
+    private static List<BlobSupportDataRow> createInMemoryList(final DataTableSpec spec, final int maxRowsInMemory) {
+        final long maxCellsInMemory = (long)maxRowsInMemory * Math.max(spec.getNumColumns(), 1);
+        if (maxRowsInMemory > 0 && maxCellsInMemory <= DataContainer.MAX_CELLS_IN_MEMORY
+            && DataContainer.MAX_OFF_HEAP_BYTES_PER_TABLE > 0 && OffHeapRowList.isSupported(spec)) {
+            return new OffHeapRowList(spec, DataContainer.MAX_OFF_HEAP_BYTES_PER_TABLE);
+        }
+        return new ArrayList<BlobSupportDataRow>();
+    }
+
+    /** @return whether the rows kept in memory should be written to disc (called after a row was added). */
+    private boolean isInMemoryLimitExceeded() {
+        if (m_list instanceof OffHeapRowList) {
+            return ((OffHeapRowList)m_list).isLimitExceeded();
+        }
+        return m_list.size() > m_maxRowsInMem;
+    }
+
+    /**
+     * Sets the in-memory list to null, releasing its memory if it's kept off-heap, and unregisters this buffer from the
+     * {@link TableMemoryManager}.
+     *
+     * @param isCleared whether the buffer is cleared, in which case off-heap memory is freed right away and iterators
+     *            still reading the list fail; otherwise they can continue and the memory is left to the garbage
+     *            collector
+     */
+    private void discardInMemoryList(final boolean isCleared) {
+        if (m_memoryHandle != null) {
+            m_memoryHandle.unregister();
+            m_memoryHandle = null;
+        }
+        if (m_list instanceof OffHeapRowList) {
+            if (isCleared) {
+                ((OffHeapRowList)m_list).release();
+            } else {
+                ((OffHeapRowList)m_list).releaseLazily();
+            }
+        }
+        m_list = null;
+    }
+
     /**
      * Write all rows from list into file. Used while rows are added and if low mem condition is met.
      *
@@ -664,7 +750,12 @@ final int writeAllRowsFromListToFile() throws IOException {
      * @throws IOException
      */
     private void initOutputWriter(final OutputStream output) throws IOException, UnsupportedOperationException {
-        m_outputWriter = m_outputFormat.createWriter(output, m_spec, !shouldSkipRowKey());
+        if (m_compressionFormat != null && m_outputFormat instanceof DefaultTableStoreFormat) {
+            m_outputWriter = ((DefaultTableStoreFormat)m_outputFormat).createWriter(output, m_spec,
+                !shouldSkipRowKey(), m_compressionFormat);
+        } else {
+            m_outputWriter = m_outputFormat.createWriter(output, m_spec, !shouldSkipRowKey());
+        }
         m_outputWriter.setFileStoreHandler((IWriteFileStoreHandler)m_fileStoreHandler);
     }
 
@@ -672,7 +763,12 @@ private void initOutputWriter(final OutputStream output) throws IOException, Uns
      * @throws IOException
      */
     private void initOutputWriter(final File binFile) throws IOException {
-        m_outputWriter = m_outputFormat.createWriter(binFile, m_spec, !shouldSkipRowKey());
+        if (m_compressionFormat != null && m_outputFormat instanceof DefaultTableStoreFormat) {
+            m_outputWriter = ((DefaultTableStoreFormat)m_outputFormat).createWriter(new FileOutputStream(binFile),
+                m_spec, !shouldSkipRowKey(), m_compressionFormat);
+        } else {
+            m_outputWriter = m_outputFormat.createWriter(binFile, m_spec, !shouldSkipRowKey());
+        }
         m_outputWriter.setFileStoreHandler((IWriteFileStoreHandler)m_fileStoreHandler);
     }
 
@@ -998,11 +1094,16 @@ void closeInternal() {
         assert Thread.holdsLock(this);
         // everything is in the list, i.e. in memory
         if (m_outputWriter == null) {
-            // disallow modification
-            List<BlobSupportDataRow> newList = Collections.unmodifiableList(m_list);
-            m_list = newList;
+            if (m_list instanceof OffHeapRowList) {
+                // disallow modification
+                ((OffHeapRowList)m_list).close();
+            } else {
+                // disallow modification
+                List<BlobSupportDataRow> newList = Collections.unmodifiableList(m_list);
+                m_list = newList;
+            }
             if (!m_list.isEmpty()) {
-                registerMemoryAlertListener();
+                registerWithMemoryManager();
             }
         } else {
             try {
@@ -1011,7 +1112,7 @@ void closeInternal() {
                 NodeSettings formatSettings = new NodeSettings(CFG_TABLE_FORMAT_CONFIG);
                 m_outputWriter.writeMetaInfoAfterWrite(formatSettings);
                 m_formatSettings = formatSettings;
-                m_list = null;
+                discardInMemoryList(false);
                 double sizeInMB = m_binFile.length() / (double)(1 << 20);
                 String size = NumberFormat.getInstance().format(sizeInMB);
                 LOGGER.debug("Buffer file (" + m_binFile.getAbsolutePath() + ") is " + size + "MB in size");
@@ -1025,42 +1126,46 @@ void closeInternal() {
         m_localRepository = null;
     } // close()
 
-    private MemoryAlertListener m_memoryAlertListener;
-
-    private void registerMemoryAlertListener() {
-        m_memoryAlertListener = new MemoryAlertListener() {
-            @Override
-            protected boolean memoryAlert(final MemoryAlert alert) {
-                if (m_list != null && !m_list.isEmpty()) {
-                    ThreadUtils.threadWithContext(new Runnable() {
-                        @Override
-                        public void run() {
-                            onMemoryAlert();
-                        }
-                    }, "KNIME Buffer flusher").start();
-                }
-                return true;
-            }
-        };
-        MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
+    /** Registers this buffer, which keeps its rows in memory, with the {@link TableMemoryManager}. */
+    private void registerWithMemoryManager() {
+        assert Thread.holdsLock(this);
+        if (m_memoryHandle != null) {
+            m_memoryHandle.unregister();
+        }
+        long heapBytes = 0L;
+        long offHeapBytes = 0L;
+        if (m_list instanceof OffHeapRowList) {
+            offHeapBytes = ((OffHeapRowList)m_list).getSizeInBytes();
+        } else {
+            heapBytes = TableMemoryManager.estimateHeapBytes(m_list);
+        }
+        m_memoryHandle = TableMemoryManager.getInstance().register(this, heapBytes, offHeapBytes);
     }
 
-    private synchronized void onMemoryAlert() {
-        if (m_list == null) {
-            // concurrent close or addRow() caused this to be flushed (this method may stall long on Buffer.this)
+    /**
+     * Called by the {@link TableMemoryManager} to free memory. Writes the rows to disc (unless they are there already,
+     * i.e. when restored into memory) and drops them from memory.
+     *
+     * @param handle the handle this buffer was registered with, nothing is done if it's outdated
+     * @return whether the rows were dropped from memory
+     */
+    synchronized boolean evictFromMemory(final TableMemoryManager.TrackedTable handle) {
+        if (handle != m_memoryHandle || m_list == null) {
+            // concurrent clear, close or re-registration (this method may stall long on Buffer.this)
+            return false;
+        }
+        m_memoryHandle = null;
+        final int nrRows = m_list.size();
+        if (m_outputReader != null) {
+            // content was restored from file, which still exists
+            discardInMemoryList(false);
+            LOGGER.debug("Dropped " + nrRows + " rows restored from disc in order to free memory");
         } else {
-            final int nrRowsWritten = m_list.size();
             flushBuffer();
             closeInternal();
-            LOGGER.debug("Wrote " + nrRowsWritten + " rows in order to free memory");
-        }
-    }
-
-    private void unregisterMemoryAlertListener() {
-        if (m_memoryAlertListener != null) {
-            MemoryAlertSystem.getInstance().removeListener(m_memoryAlertListener);
-            m_memoryAlertListener = null;
+            LOGGER.debug("Wrote " + nrRows + " rows in order to free memory");
         }
+        return true;
     }
 
     /**
@@ -1238,14 +1343,8 @@ final synchronized void restoreIntoMemory() {
 
     /** Called from back into memory iterator when the last row was read. */
     final synchronized void onAllRowsReadBackIntoMemory() {
-        if (m_memoryAlertListener == null) {
-            m_memoryAlertListener = new MemoryAlertListener() {
-                @Override
-                protected boolean memoryAlert(final MemoryAlert alert) {
-                    m_list = null;
-                    return true;
-                }
-            };
+        if (m_list != null && !m_list.isEmpty()) {
+            registerWithMemoryManager();
         }
     }
 
@@ -1345,6 +1444,24 @@ static File createBlobDirNameForTemp(final File tempFile) {
         return blobDir;
     }
 
+    /**
+     * Returns the number of bytes the rows of this buffer occupy: the size of the file if the rows have been written
+     * to disc, otherwise the (estimated) size of the rows in memory. The value is only meaningful once the buffer is
+     * closed.
+     *
+     * @return the size in bytes, -1 if not known
+     * @since 3.6
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public long getSizeInBytes() {
+        final File binFile = m_binFile;
+        if (binFile != null && binFile.isFile()) {
+            return binFile.length();
+        }
+        final TableMemoryManager.TrackedTable memoryHandle = m_memoryHandle;
+        return memoryHandle != null ? memoryHandle.getBytes() : -1L;
+    }
+
     /** @return size of m_binFile in bytes, -1 if not set. Only for debugging/test purposes. */
     long getBufferFileSize() {
         if (m_binFile != null) {
@@ -1437,26 +1554,70 @@ synchronized CloseableRowIterator iterator() {
             try {
                 LOGGER.debug("Opening input stream on file \"" + m_binFile.getAbsolutePath() + "\", "
                         + m_nrOpenInputStreams + " open streams");
-
-                TableStoreCloseableRowIterator iterator = m_outputReader.iterator();
-                iterator.setBuffer(this);
-                m_nrOpenInputStreams.incrementAndGet();
-                synchronized (m_openIteratorSet) {
-                    m_openIteratorSet.put(iterator, DUMMY);
+                if (m_inPlaceDir != null) {
+                    return new InPlaceFileIterator(TableFilter.all());
                 }
-                return iterator;
+                return registerFileIterator(m_outputReader.iterator());
             } catch (IOException ioe) {
-                StringBuilder b = new StringBuilder("Cannot read file \"");
-                b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
-                b.append("\"");
-                checkAndReportOpenFiles(ioe);
-                throw new RuntimeException(b.toString(), ioe);
+                throw createCannotReadFileException(ioe);
             }
         } else {
+            if (m_memoryHandle != null) {
+                m_memoryHandle.touch();
+            }
             return new FromListIterator();
         }
     }
 
+    /**
+     * Get a new <code>RowIterator</code> that only returns the rows in the range of the argument filter and only needs
+     * to materialize the selected columns. If the data is read from file, the filter is passed on to the
+     * {@link AbstractTableStoreReader} so that unselected rows and cells can be skipped without deserializing them.
+     * Other than {@link #iterator()} this method does not trigger restoring the content into main memory.
+     *
+     * @param filter the filter, not null
+     * @return a new iterator over the filtered rows
+     * @throws IndexOutOfBoundsException If the filter selects columns that are not in the table
+     */
+    synchronized CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        filter.validate(m_spec);
+        if (usesOutFile()) {
+            try {
+                LOGGER.debug("Opening input stream on file \"" + m_binFile.getAbsolutePath() + "\" (" + filter
+                    + "), " + m_nrOpenInputStreams + " open streams");
+                if (m_inPlaceDir != null) {
+                    return new InPlaceFileIterator(filter);
+                }
+                return registerFileIterator(m_outputReader.iteratorWithFilter(filter));
+            } catch (IOException ioe) {
+                throw createCannotReadFileException(ioe);
+            }
+        } else {
+            if (m_memoryHandle != null) {
+                m_memoryHandle.touch();
+            }
+            return new FromListIterator(filter.getFromRowIndex(), filter.getToRowIndex());
+        }
+    }
+
+    /** Sets this buffer on the argument iterator and remembers it as open iterator. */
+    private TableStoreCloseableRowIterator registerFileIterator(final TableStoreCloseableRowIterator iterator) {
+        iterator.setBuffer(this);
+        m_nrOpenInputStreams.incrementAndGet();
+        synchronized (m_openIteratorSet) {
+            m_openIteratorSet.put(iterator, DUMMY);
+        }
+        return iterator;
+    }
+
+    private RuntimeException createCannotReadFileException(final IOException ioe) {
+        StringBuilder b = new StringBuilder("Cannot read file \"");
+        b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+        b.append("\"");
+        checkAndReportOpenFiles(ioe);
+        return new RuntimeException(b.toString(), ioe);
+    }
+
 
     private static List<OutputStream> DEBUG_STREAMS = new ArrayList<>();
 
@@ -1652,6 +1813,250 @@ synchronized void addToZipFile(final ZipOutputStream zipOut, final ExecutionMoni
         }
     }
 
+    /**
+     * Whether this buffer can be saved using {@link #saveToDirectory(File, ExecutionMonitor)}. This is the case if the
+     * data is completely written to a file in the current format (no in-memory table, no version hop).
+     *
+     * @return that property
+     */
+    synchronized boolean canSaveToDirectory() {
+        return m_spec != null && usesOutFile() && m_binFile != null && m_version >= IVERSION;
+    }
+
+    /**
+     * Saves the content of this buffer as plain files into the (empty) directory <code>dir</code>, using the same names
+     * as the entries written by {@link #addToZipFile(ZipOutputStream, ExecutionMonitor)}. The data file, blobs and
+     * file stores are hard-linked from the temp location if possible (otherwise copied), so the cost is independent of
+     * the compression of the table. Only to be called if {@link #canSaveToDirectory()} is true.
+     *
+     * @param dir To save to.
+     * @param exec For progress/cancel
+     * @throws IOException If it fails to write to a file.
+     * @throws CanceledExecutionException If canceled.
+     */
+    synchronized void saveToDirectory(final File dir, final ExecutionMonitor exec) throws IOException,
+            CanceledExecutionException {
+        if (!canSaveToDirectory()) {
+            throw new IOException("Buffer can't be saved as directory");
+        }
+        linkOrCopy(m_binFile, new File(dir, ZIP_ENTRY_DATA));
+        exec.checkCanceled();
+        if (m_blobDir != null) {
+            linkOrCopyDir(m_blobDir, new File(dir, ZIP_ENTRY_BLOBS), exec);
+        }
+        if (hasOwnFileStoreCells()) {
+            linkOrCopyDir(getOwnFileStoreCellsDirectory(), new File(dir, ZIP_ENTRY_FILESTORES), exec);
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(new File(dir, ZIP_ENTRY_META)))) {
+            writeMetaToFile(out);
+        }
+    }
+
+    /**
+     * Creates a hard link <code>dest</code> to the file <code>source</code> or, if the file system doesn't support it
+     * (or the files are on different file stores), copies the file using {@link FileChannel#transferTo(long, long,
+     * java.nio.channels.WritableByteChannel)}. An existing destination file is replaced. As the files of a buffer are
+     * never modified once written, the linked files can be deleted independently of each other.
+     *
+     * @param source The file to link to.
+     * @param dest The new file.
+     * @throws IOException If that fails.
+     */
+    static void linkOrCopy(final File source, final File dest) throws IOException {
+        Files.deleteIfExists(dest.toPath());
+        try {
+            Files.createLink(dest.toPath(), source.toPath());
+            return;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Unable to link \"" + dest.getAbsolutePath() + "\" to \"" + source.getAbsolutePath()
+                + "\", copying file instead (" + e.getMessage() + ")");
+        }
+        try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(dest.toPath(), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0L;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /**
+     * Applies {@link #linkOrCopy(File, File)} recursively to all files in <code>sourceDir</code>.
+     *
+     * @param sourceDir The directory to link/copy.
+     * @param destDir The destination directory, created if it doesn't exist.
+     * @param exec For cancelation.
+     * @throws IOException If that fails.
+     * @throws CanceledExecutionException If canceled.
+     */
+    static void linkOrCopyDir(final File sourceDir, final File destDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        if (!destDir.isDirectory() && !destDir.mkdirs()) {
+            throw new IOException("Cannot create directory \"" + destDir.getAbsolutePath() + "\"");
+        }
+        final File[] children = sourceDir.listFiles();
+        if (children == null) {
+            throw new IOException("Can't list directory \"" + sourceDir.getAbsolutePath() + "\"");
+        }
+        for (File f : children) {
+            exec.checkCanceled();
+            File dest = new File(destDir, f.getName());
+            if (f.isDirectory()) {
+                linkOrCopyDir(f, dest, exec);
+            } else {
+                linkOrCopy(f, dest);
+            }
+        }
+    }
+
+    /**
+     * Marks this (reading) buffer as reading its data file and blob directory in place from the workflow directory
+     * <code>dir</code>. The files are not deleted when the buffer is cleared. They are copied to temp (see
+     * {@link #copyInPlaceFilesToTemp(File)}) before the directory is modified, e.g. when the workflow is saved.
+     *
+     * @param dir The directory in the workflow containing the table files.
+     */
+    synchronized void setReadInPlace(final File dir) {
+        m_inPlaceDir = dir;
+        IN_PLACE_BUFFERS.add(this);
+    }
+
+    /** @return whether the data is read in place from the workflow directory, see {@link #setReadInPlace(File)}. */
+    synchronized boolean isReadInPlace() {
+        return m_inPlaceDir != null;
+    }
+
+    /**
+     * Copies (or hard-links) the files of all buffers reading in place from <code>dir</code> or any of its
+     * sub-directories to temp and switches the buffers to read from the copies. To be called before the content of a
+     * workflow directory is deleted or overwritten. Iterators that are already open are re-opened on the copies at
+     * their current row, so that no file in <code>dir</code> is open anymore when this method returns (an open file
+     * can't be deleted on Windows).
+     *
+     * @param dir The directory about to be modified.
+     * @throws IOException If copying fails.
+     */
+    static void copyInPlaceFilesToTemp(final File dir) throws IOException {
+        if (IN_PLACE_BUFFERS.isEmpty()) {
+            return;
+        }
+        final Path dirPath = dir.getAbsoluteFile().toPath().normalize();
+        final List<Buffer> buffers;
+        synchronized (IN_PLACE_BUFFERS) {
+            buffers = new ArrayList<>(IN_PLACE_BUFFERS);
+        }
+        for (Buffer b : buffers) {
+            // the iterators are re-opened without holding the buffer's lock: an iterator that reaches the end of the
+            // file closes itself while holding its own lock, which needs the buffer's lock
+            for (InPlaceFileIterator it : b.copyInPlaceFilesToTempIfIn(dirPath)) {
+                it.reopen();
+            }
+        }
+    }
+
+    /** @return the open iterators on the in-place files, to be re-opened on the copies */
+    private synchronized List<InPlaceFileIterator> copyInPlaceFilesToTempIfIn(final Path dirPath) throws IOException {
+        if (m_inPlaceDir == null || !m_inPlaceDir.getAbsoluteFile().toPath().normalize().startsWith(dirPath)) {
+            return Collections.emptyList();
+        }
+        LOGGER.debug("Copying table files from \"" + m_inPlaceDir.getAbsolutePath() + "\" to temp");
+        final File binFile = DataContainer.createTempFile(m_outputFormat.getFilenameSuffix());
+        linkOrCopy(m_binFile, binFile);
+        File blobDir = null;
+        if (m_blobDir != null) {
+            blobDir = createBlobDirNameForTemp(binFile);
+            try {
+                linkOrCopyDir(m_blobDir, blobDir, new ExecutionMonitor());
+            } catch (CanceledExecutionException cee) {
+                // can't happen, private execution monitor
+                throw new IOException(cee);
+            }
+        }
+        m_binFile = binFile;
+        m_blobDir = blobDir;
+        m_inPlaceDir = null;
+        IN_PLACE_BUFFERS.remove(this);
+        if (m_outputReader != null) {
+            try {
+                initOutputReader(m_formatSettings, m_version);
+            } catch (InvalidSettingsException ise) {
+                throw new IOException("Unable to re-open table in temp: " + ise.getMessage(), ise);
+            }
+        }
+        final List<InPlaceFileIterator> openIterators = new ArrayList<>(m_inPlaceIterators.keySet());
+        m_inPlaceIterators.clear();
+        return openIterators;
+    }
+
+    /**
+     * Iterator on a buffer that reads its files in place from the workflow directory. It counts the returned rows so
+     * that it can be re-opened on the copy of the files at the current row, see
+     * {@link #copyInPlaceFilesToTemp(File)}.
+     */
+    private final class InPlaceFileIterator extends CloseableRowIterator {
+
+        private final TableFilter m_filter;
+
+        private CloseableRowIterator m_delegate;
+
+        /** Index of the row returned by the next call to {@link #next()}. */
+        private long m_nextRowIndex;
+
+        private boolean m_isClosed;
+
+        /** Opens the iterator, must be called while holding the buffer's lock. */
+        InPlaceFileIterator(final TableFilter filter) throws IOException {
+            m_filter = filter;
+            m_nextRowIndex = filter.getFromRowIndex();
+            m_delegate = registerFileIterator(m_outputReader.iteratorWithFilter(filter));
+            m_inPlaceIterators.put(this, DUMMY);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            return !m_isClosed && m_delegate.hasNext();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized DataRow next() {
+            if (m_isClosed) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            final DataRow row = m_delegate.next();
+            m_nextRowIndex++;
+            return row;
+        }
+
+        /** Closes the iterator on the in-place files and continues at the current row on the buffer's files. */
+        synchronized void reopen() {
+            if (m_isClosed) {
+                return;
+            }
+            m_delegate.close();
+            if (m_nextRowIndex > m_filter.getToRowIndex()) {
+                m_isClosed = true;
+                return;
+            }
+            m_delegate = iteratorWithFilter(m_filter.withRowRange(m_nextRowIndex, m_filter.getToRowIndex()));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void close() {
+            if (!m_isClosed) {
+                m_isClosed = true;
+                m_delegate.close();
+                synchronized (Buffer.this) {
+                    m_inPlaceIterators.remove(this);
+                }
+            }
+        }
+    }
+
     /**
      * Adds recursively the content of the directory <code>dir</code> to a zip output stream, prefixed with
      * <code>zipEntry</code>.
@@ -1722,15 +2127,18 @@ public synchronized void clearIteratorInstance(final TableStoreCloseableRowItera
     /** Clears the temp file. Any subsequent iteration will fail! */
     synchronized void clear() {
         BufferTracker.getInstance().bufferCleared(this);
-        m_list = null;
-        unregisterMemoryAlertListener();
+        discardInMemoryList(true);
         if (m_binFile != null) {
             synchronized (m_openIteratorSet) {
                 m_openIteratorSet.keySet().stream().filter(f -> f != null)
                 .forEach(f -> clearIteratorInstance(f, false));
                 m_openIteratorSet.clear();
             }
-            if (m_blobDir != null) {
+            if (m_inPlaceDir != null) {
+                // files belong to the workflow
+                IN_PLACE_BUFFERS.remove(this);
+                m_inPlaceDir = null;
+            } else if (m_blobDir != null) {
                 DeleteInBackgroundThread.delete(m_binFile, m_blobDir);
             } else {
                 DeleteInBackgroundThread.delete(m_binFile);
@@ -1790,8 +2198,11 @@ private static void logDebug(final String message, final Throwable t) {
 
     synchronized void flushBuffer() {
         try {
-            writeAllRowsFromListToFile();
-            m_list = null; // don't write to internal cache any more
+            final int rowCount = writeAllRowsFromListToFile();
+            if (rowCount > 0 && m_creatingExecution != null) {
+                m_creatingExecution.recordSpill(rowCount);
+            }
+            discardInMemoryList(false); // don't write to internal cache any more
         } catch (IllegalStateException ise) {
             LOGGER.error(ise.getMessage() + "; Construction time call stack:\n" + m_fullStackTraceAtConstructionTime);
         } catch (IOException ioe) {
@@ -1839,13 +2250,39 @@ private class FromListIterator extends CloseableRowIterator {
         // do not use iterator here, see inner class comment
         private int m_nextIndex = 0;
         private final List<BlobSupportDataRow> m_listReference = m_list;
+        /** Decodes each chunk once if the rows are kept off-heap, opened on the first access, null otherwise. */
+        private OffHeapRowList.Cursor m_offHeapCursor;
+        /** Index after the last row to return. */
+        private final long m_endIndex;
+
+        /** Iterator over all rows. */
+        FromListIterator() {
+            m_endIndex = size();
+        }
+
+        /**
+         * Iterator over a range of rows.
+         * @param fromIndex index of the first row to return
+         * @param toIndex index of the last row to return (inclusive)
+         */
+        FromListIterator(final long fromIndex, final long toIndex) {
+            m_endIndex = toIndex == Long.MAX_VALUE ? size() : Math.min(size(), toIndex + 1);
+            if (m_backIntoMemoryIterator == null) {
+                // all rows available, no need to read them
+                m_nextIndex = (int)Math.min(fromIndex, m_endIndex);
+            } else {
+                while (m_nextIndex < fromIndex && hasNext()) {
+                    next();
+                }
+            }
+        }
 
         /**
          * {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            return m_nextIndex < size();
+            return m_nextIndex < m_endIndex;
         }
 
         /**
@@ -1865,6 +2302,16 @@ public DataRow next() {
                 // need to synchronize access to the list as the list is
                 // potentially modified by the backIntoMemoryIterator
                 if (m_nextIndex < m_listReference.size()) {
+                    if (m_offHeapCursor == null && m_listReference instanceof OffHeapRowList) {
+                        m_offHeapCursor = ((OffHeapRowList)m_listReference).new Cursor();
+                    }
+                    if (m_offHeapCursor != null) {
+                        final BlobSupportDataRow row = m_offHeapCursor.get(m_nextIndex++);
+                        if (m_nextIndex >= m_endIndex) {
+                            m_offHeapCursor.close();
+                        }
+                        return row;
+                    }
                     return m_listReference.get(m_nextIndex++);
                 }
                 if (backIntoMemoryIterator == null) {
@@ -1888,7 +2335,10 @@ public DataRow next() {
         /** {@inheritDoc} */
         @Override
         public void close() {
-            m_nextIndex = (int) size();
+            m_nextIndex = (int) m_endIndex;
+            if (m_offHeapCursor != null) {
+                m_offHeapCursor.close();
+            }
         }
     }
 
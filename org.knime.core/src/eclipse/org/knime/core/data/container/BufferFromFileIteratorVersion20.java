@@ -62,6 +62,7 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.data.filestore.FileStoreUtil;
@@ -81,7 +82,13 @@ final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
+
+    /** Index after the last row to return. */
+    private final long m_endIndex;
+
+    /** Which columns to deserialize, cells of other columns are skipped and returned as missing cells. */
+    private final boolean[] m_materializeColumns;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -104,6 +111,17 @@ final class BufferFromFileIteratorVersion20 extends FromFileIterator {
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, TableFilter.all());
+    }
+
+    /** Inits iterator, opens input stream and skips the rows before the filter's row range. The rows and cells not
+     * selected by the filter are skipped block-wise without deserializing them.
+     * @param tableFormatReader The associated buffer.
+     * @param filter The filter to apply.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final TableFilter filter)
+        throws IOException {
         m_pointer = 0;
         if (tableFormatReader.getBinFile() == null) {
             throw new IOException("Unable to read table from file, "
@@ -122,20 +140,56 @@ final class BufferFromFileIteratorVersion20 extends FromFileIterator {
                 // buffering is important when reading gzip streams
                 in = new BufferedInputStream(in);
                 break;
+            case Lz4:
+                in = new Lz4BlockInputStream(bufferedStream);
+                break;
             case None:
                 in = bufferedStream;
                 break;
             default:
+                bufferedStream.close();
                 throw new IOException("Unsupported compression format: " + tableFormatReader.getBinFileCompressionFormat());
         }
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
         m_inStream = new DCObjectInputVersion2(in, m_dataCellStreamReader);
+        final long toRowIndex = filter.getToRowIndex();
+        m_endIndex = toRowIndex == Long.MAX_VALUE ? tableFormatReader.size()
+            : Math.min(tableFormatReader.size(), toRowIndex + 1);
+        m_materializeColumns = filter.hasColumnSelection()
+            ? filter.getMaterializeColumnMask(tableFormatReader.getTableSpec().getNumColumns()) : null;
+        final long fromIndex = Math.min(filter.getFromRowIndex(), m_endIndex);
+        try {
+            while (m_pointer < fromIndex) {
+                skipRow();
+            }
+        } catch (IOException ioe) {
+            m_inStream.close();
+            throw ioe;
+        }
+    }
+
+    /** Skips the blocks of the next row, including the row key, without deserializing them.
+     * @throws IOException If stream reading fails or the row is corrupt. */
+    private void skipRow() throws IOException {
+        if (m_tableFormatReader.isReadRowKey()) {
+            m_inStream.endBlock();
+        }
+        int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        for (int i = 0; i < colCount; i++) {
+            m_inStream.endBlock();
+        }
+        byte eoRow = m_inStream.readControlByte();
+        if (eoRow != BYTE_ROW_SEPARATOR) {
+            throw new IOException("Expected end of row byte, "
+                + "got '" + eoRow + "', (byte " + (int)eoRow + ") while skipping row " + m_pointer);
+        }
+        m_pointer++;
     }
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        boolean hasNext = m_pointer < m_endIndex;
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -174,6 +228,15 @@ public synchronized BlobSupportDataRow next() {
         }
         DataCell[] cells = new DataCell[colCount];
         for (int i = 0; i < colCount; i++) {
+            if (m_materializeColumns != null && !m_materializeColumns[i]) {
+                try {
+                    m_inStream.endBlock();
+                } catch (IOException ioe) {
+                    handleReadThrowable(ioe);
+                }
+                cells[i] = DataType.getMissingCell();
+                continue;
+            }
             DataCell nextCell;
             try {
                 try {
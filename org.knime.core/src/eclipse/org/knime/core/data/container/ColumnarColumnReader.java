@@ -0,0 +1,413 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Decodes a column block of the {@link ColumnarTableStoreFormat} as written by {@link ColumnarColumnWriter}.
+ * Instances are reused for all chunks of a table, the primitive arrays grow on demand.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class ColumnarColumnReader {
+
+    private long[] m_missing = new long[0];
+
+    private boolean m_hasMissing;
+
+    /** Exception cells by row index, null if none. */
+    private HashMap<Integer, DataCell> m_exceptions;
+
+    /** Number of rows in the current chunk. */
+    private int m_size;
+
+    /**
+     * Creates a new reader for the given column type.
+     *
+     * @param type the type
+     * @return a new reader
+     */
+    static ColumnarColumnReader create(final ColumnType type) {
+        switch (type) {
+            case ROW_KEY:
+            case STRING:
+                return new StringColumnReader();
+            case INT:
+                return new IntColumnReader();
+            case LONG:
+                return new LongColumnReader();
+            case DOUBLE:
+                return new DoubleColumnReader();
+            case BOOLEAN:
+                return new BooleanColumnReader();
+            default:
+                throw new IllegalArgumentException("Unsupported column type: " + type);
+        }
+    }
+
+    /** @return number of rows in the current chunk */
+    final int size() {
+        return m_size;
+    }
+
+    /**
+     * Decodes a column block.
+     *
+     * @param block the block, positioned at its start, limit at its end
+     * @param nrRows number of rows in the chunk
+     * @throws IOException If the block is corrupt
+     */
+    final void decode(final ByteBuffer block, final int nrRows) throws IOException {
+        m_size = nrRows;
+        final int flags = block.get();
+        m_hasMissing = (flags & ColumnarColumnWriter.FLAG_MISSING) != 0;
+        if (m_hasMissing) {
+            final int length = ColumnarColumnWriter.bitMaskLength(nrRows);
+            if (m_missing.length < length) {
+                m_missing = new long[length];
+            }
+            readLongs(block, m_missing, length);
+        }
+        decodeValues(block, nrRows, flags);
+        m_exceptions = null;
+        if ((flags & ColumnarColumnWriter.FLAG_EXCEPTIONS) != 0) {
+            final int count = block.getInt();
+            m_exceptions = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                final int row = block.getInt();
+                final byte kind = block.get();
+                switch (kind) {
+                    case ColumnarColumnWriter.EXCEPTION_MISSING_WITH_ERROR:
+                        m_exceptions.put(row, new MissingCell(readString(block)));
+                        break;
+                    case ColumnarColumnWriter.EXCEPTION_SERIALIZED:
+                        final byte[] bytes = new byte[block.getInt()];
+                        block.get(bytes);
+                        m_exceptions.put(row, deserialize(bytes));
+                        break;
+                    default:
+                        throw new IOException("Invalid exception kind in column block: " + kind);
+                }
+            }
+        }
+        if (block.hasRemaining()) {
+            throw new IOException("Column block not fully read, " + block.remaining() + " bytes remaining");
+        }
+    }
+
+    private static DataCell deserialize(final byte[] bytes) throws IOException {
+        try (PriorityGlobalObjectInputStream in = new PriorityGlobalObjectInputStream(
+            new ByteArrayInputStream(bytes))) {
+            return (DataCell)in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unable to restore data cell (" + e.getClass().getSimpleName() + ")", e);
+        }
+    }
+
+    /**
+     * Decodes the values.
+     *
+     * @param block to read from
+     * @param nrRows number of rows in the chunk
+     * @param flags the block flags
+     * @throws IOException If the block is corrupt
+     */
+    abstract void decodeValues(final ByteBuffer block, final int nrRows, final int flags) throws IOException;
+
+    /**
+     * @param row the row index within the chunk
+     * @return whether the cell is missing (or an exception)
+     */
+    final boolean isMissing(final int row) {
+        return m_hasMissing && (m_missing[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * @param row the row index within the chunk
+     * @return the cell in that row
+     */
+    final DataCell getCell(final int row) {
+        if (isMissing(row)) {
+            if (m_exceptions != null) {
+                DataCell exception = m_exceptions.get(row);
+                if (exception != null) {
+                    return exception;
+                }
+            }
+            return DataType.getMissingCell();
+        }
+        return getValueCell(row);
+    }
+
+    /**
+     * @param row the row index within the chunk
+     * @return a cell for the (non-missing) value in that row
+     */
+    abstract DataCell getValueCell(final int row);
+
+    /** Reads <code>length</code> longs into the argument array. */
+    static void readLongs(final ByteBuffer block, final long[] values, final int length) {
+        block.asLongBuffer().get(values, 0, length);
+        block.position(block.position() + length * Long.BYTES);
+    }
+
+    /** Reads <code>length</code> ints into the argument array. */
+    static void readInts(final ByteBuffer block, final int[] values, final int length) {
+        block.asIntBuffer().get(values, 0, length);
+        block.position(block.position() + length * Integer.BYTES);
+    }
+
+    /** Reads <code>length</code> doubles into the argument array. */
+    static void readDoubles(final ByteBuffer block, final double[] values, final int length) {
+        block.asDoubleBuffer().get(values, 0, length);
+        block.position(block.position() + length * Double.BYTES);
+    }
+
+    /**
+     * Counterpart to {@link ColumnarColumnWriter#writeString(java.io.DataOutput, String)}.
+     *
+     * @param block to read from
+     * @return the string
+     * @throws IOException If the encoding is invalid
+     */
+    static String readString(final ByteBuffer block) throws IOException {
+        final int utfLength = block.getInt();
+        final int start = block.position();
+        final int end = start + utfLength;
+        if (block.hasArray()) {
+            final byte[] array = block.array();
+            final int offset = block.arrayOffset();
+            boolean isAscii = true;
+            for (int i = start; i < end && isAscii; i++) {
+                isAscii = array[offset + i] > 0;
+            }
+            if (isAscii) {
+                block.position(end);
+                return new String(array, offset + start, utfLength, StandardCharsets.ISO_8859_1);
+            }
+        }
+        final char[] chars = new char[utfLength];
+        int count = 0;
+        while (block.position() < end) {
+            final int b = block.get() & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char)b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char)(((b & 0x1F) << 6) | (block.get() & 0x3F));
+            } else if ((b & 0xF0) == 0xE0) {
+                chars[count++] = (char)(((b & 0x0F) << 12) | ((block.get() & 0x3F) << 6) | (block.get() & 0x3F));
+            } else {
+                throw new IOException("Malformed string encoding, invalid byte " + b);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /** Int column reader. */
+    static final class IntColumnReader extends ColumnarColumnReader {
+
+        private int[] m_values = new int[0];
+
+        @Override
+        void decodeValues(final ByteBuffer block, final int nrRows, final int flags) {
+            if (m_values.length < nrRows) {
+                m_values = new int[nrRows];
+            }
+            readInts(block, m_values, nrRows);
+        }
+
+        @Override
+        DataCell getValueCell(final int row) {
+            return new IntCell(m_values[row]);
+        }
+    }
+
+    /** Long column reader. */
+    static final class LongColumnReader extends ColumnarColumnReader {
+
+        private long[] m_values = new long[0];
+
+        @Override
+        void decodeValues(final ByteBuffer block, final int nrRows, final int flags) {
+            if (m_values.length < nrRows) {
+                m_values = new long[nrRows];
+            }
+            readLongs(block, m_values, nrRows);
+        }
+
+        @Override
+        DataCell getValueCell(final int row) {
+            return new LongCell(m_values[row]);
+        }
+    }
+
+    /** Double column reader. */
+    static final class DoubleColumnReader extends ColumnarColumnReader {
+
+        private double[] m_values = new double[0];
+
+        @Override
+        void decodeValues(final ByteBuffer block, final int nrRows, final int flags) {
+            if (m_values.length < nrRows) {
+                m_values = new double[nrRows];
+            }
+            readDoubles(block, m_values, nrRows);
+        }
+
+        @Override
+        DataCell getValueCell(final int row) {
+            return new DoubleCell(m_values[row]);
+        }
+    }
+
+    /** Boolean column reader. */
+    static final class BooleanColumnReader extends ColumnarColumnReader {
+
+        private long[] m_values = new long[0];
+
+        @Override
+        void decodeValues(final ByteBuffer block, final int nrRows, final int flags) {
+            final int length = ColumnarColumnWriter.bitMaskLength(nrRows);
+            if (m_values.length < length) {
+                m_values = new long[length];
+            }
+            readLongs(block, m_values, length);
+        }
+
+        @Override
+        DataCell getValueCell(final int row) {
+            return BooleanCell.get((m_values[row >>> 6] & (1L << row)) != 0);
+        }
+    }
+
+    /** String (and row key) column reader. Dictionary entries are turned into cells once per chunk. */
+    static final class StringColumnReader extends ColumnarColumnReader {
+
+        private String[] m_values = new String[0];
+
+        /** Cells of the dictionary, null if the current chunk is not dictionary encoded. */
+        private StringCell[] m_dictionary;
+
+        private int[] m_codes = new int[0];
+
+        @Override
+        void decodeValues(final ByteBuffer block, final int nrRows, final int flags) throws IOException {
+            if ((flags & ColumnarColumnWriter.FLAG_DICTIONARY) != 0) {
+                final int dictSize = block.getInt();
+                m_dictionary = new StringCell[dictSize];
+                for (int i = 0; i < dictSize; i++) {
+                    m_dictionary[i] = new StringCell(readString(block));
+                }
+                if (m_codes.length < nrRows) {
+                    m_codes = new int[nrRows];
+                }
+                final int width = block.get();
+                switch (width) {
+                    case Byte.BYTES:
+                        for (int i = 0; i < nrRows; i++) {
+                            m_codes[i] = block.get() & 0xFF;
+                        }
+                        break;
+                    case Short.BYTES:
+                        for (int i = 0; i < nrRows; i++) {
+                            m_codes[i] = block.getShort() & 0xFFFF;
+                        }
+                        break;
+                    case Integer.BYTES:
+                        readInts(block, m_codes, nrRows);
+                        break;
+                    default:
+                        throw new IOException("Invalid dictionary code width: " + width);
+                }
+            } else {
+                m_dictionary = null;
+                if (m_values.length < nrRows) {
+                    m_values = new String[nrRows];
+                }
+                for (int i = 0; i < nrRows; i++) {
+                    m_values[i] = isMissing(i) ? null : readString(block);
+                }
+            }
+        }
+
+        /**
+         * @param row the row index within the chunk
+         * @return the string in that row (used for the row key)
+         */
+        String getString(final int row) {
+            if (m_dictionary != null) {
+                return m_dictionary[m_codes[row]].getStringValue();
+            }
+            return m_values[row];
+        }
+
+        @Override
+        DataCell getValueCell(final int row) {
+            if (m_dictionary != null) {
+                return m_dictionary[m_codes[row]];
+            }
+            return new StringCell(m_values[row]);
+        }
+    }
+
+}
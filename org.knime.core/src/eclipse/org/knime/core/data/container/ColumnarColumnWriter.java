@@ -0,0 +1,575 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.filestore.FileStoreCell;
+
+/**
+ * Collects the values of one column of a chunk in primitive arrays and encodes them into a column block of the
+ * {@link ColumnarTableStoreFormat}. Instances are reused for all chunks of a table.
+ *
+ * <p>Block layout:
+ * <pre>
+ * byte               flags ({@link #FLAG_MISSING}, {@link #FLAG_EXCEPTIONS}, {@link #FLAG_DICTIONARY})
+ * long[(n+63)/64]    missing bit mask, only if FLAG_MISSING
+ * ...                values, type specific (see subclasses)
+ * int, exception*    cells that can't be represented as primitives, only if FLAG_EXCEPTIONS
+ * </pre>
+ * Exceptions are missing cells carrying an error message and cells whose class is not the native class of the
+ * column (e.g. a {@link org.knime.core.data.def.BooleanCell} in an int column), which are java-serialized. Rows
+ * with exceptions are also flagged in the missing bit mask so that their (undefined) value is skipped.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class ColumnarColumnWriter {
+
+    /** Flag: block contains a missing bit mask. */
+    static final int FLAG_MISSING = 1;
+
+    /** Flag: block contains exception cells. */
+    static final int FLAG_EXCEPTIONS = 1 << 1;
+
+    /** Flag: string values are dictionary encoded. */
+    static final int FLAG_DICTIONARY = 1 << 2;
+
+    /** Exception kind: missing cell with error message. */
+    static final byte EXCEPTION_MISSING_WITH_ERROR = 0;
+
+    /** Exception kind: java serialized cell. */
+    static final byte EXCEPTION_SERIALIZED = 1;
+
+    /** Size of the scratch buffer used to convert primitive arrays into bytes. */
+    private static final int SCRATCH_SIZE = 1 << 13;
+
+    private final ByteBuffer m_scratch = ByteBuffer.allocate(SCRATCH_SIZE);
+
+    private final Class<?> m_nativeCellClass;
+
+    private final long[] m_missing;
+
+    private boolean m_hasMissing;
+
+    private List<Object[]> m_exceptions;
+
+    /** Number of values added since the last reset. */
+    private int m_size;
+
+    /**
+     * @param capacity maximum number of rows per chunk
+     * @param nativeCellClass the cell class that is stored as primitive, null for the row key
+     */
+    ColumnarColumnWriter(final int capacity, final Class<?> nativeCellClass) {
+        m_nativeCellClass = nativeCellClass;
+        m_missing = new long[bitMaskLength(capacity)];
+    }
+
+    /**
+     * Creates a new writer for the given column type.
+     *
+     * @param type the type
+     * @param capacity maximum number of rows per chunk
+     * @return a new writer
+     */
+    static ColumnarColumnWriter create(final ColumnType type, final int capacity) {
+        switch (type) {
+            case ROW_KEY:
+                return new StringColumnWriter(capacity, null, false);
+            case INT:
+                return new IntColumnWriter(capacity);
+            case LONG:
+                return new LongColumnWriter(capacity);
+            case DOUBLE:
+                return new DoubleColumnWriter(capacity);
+            case BOOLEAN:
+                return new BooleanColumnWriter(capacity);
+            case STRING:
+                return new StringColumnWriter(capacity, type.getCellClass(), true);
+            default:
+                throw new IllegalArgumentException("Unsupported column type: " + type);
+        }
+    }
+
+    /**
+     * @param nrRows number of rows
+     * @return length of a bit mask (in longs) covering the argument number of rows
+     */
+    static int bitMaskLength(final int nrRows) {
+        return (nrRows + 63) >>> 6;
+    }
+
+    /** @return number of values added since the last reset */
+    final int size() {
+        return m_size;
+    }
+
+    /**
+     * Adds the next cell of this column.
+     *
+     * @param cell The cell, not null.
+     * @throws IOException If the cell can't be stored by this format (blobs and file stores)
+     */
+    final void add(final DataCell cell) throws IOException {
+        final int row = nextRow();
+        if (cell.getClass() == m_nativeCellClass) {
+            addValue(row, cell);
+            return;
+        }
+        setMissing(row);
+        if (cell.isMissing()) {
+            if (cell instanceof MissingCell && ((MissingCell)cell).getError() != null) {
+                addException(row, cell);
+            }
+        } else if (cell instanceof BlobWrapperDataCell || cell instanceof BlobDataCell
+            || cell instanceof FileStoreCell) {
+            throw new IOException(String.format("Cells of type \"%s\" are not supported by the columnar table format",
+                cell.getClass().getName()));
+        } else {
+            addException(row, cell);
+        }
+    }
+
+    /** @return the index of the next row and increments the size */
+    final int nextRow() {
+        return m_size++;
+    }
+
+    /**
+     * Stores the value of a non-missing cell of the native cell class.
+     *
+     * @param row The row index within the chunk
+     * @param cell The cell
+     */
+    abstract void addValue(final int row, final DataCell cell);
+
+    /** Marks a row as missing. */
+    final void setMissing(final int row) {
+        m_missing[row >>> 6] |= 1L << row;
+        m_hasMissing = true;
+    }
+
+    /** @return whether row is missing (or an exception) */
+    final boolean isMissing(final int row) {
+        return m_hasMissing && (m_missing[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private void addException(final int row, final DataCell cell) {
+        if (m_exceptions == null) {
+            m_exceptions = new ArrayList<>();
+        }
+        m_exceptions.add(new Object[]{row, cell});
+    }
+
+    /**
+     * Writes the block for the values added since the last reset.
+     *
+     * @param out to write to
+     * @throws IOException If writing fails
+     */
+    final void encode(final DataOutput out) throws IOException {
+        int flags = getValueFlags();
+        if (m_hasMissing) {
+            flags |= FLAG_MISSING;
+        }
+        if (m_exceptions != null) {
+            flags |= FLAG_EXCEPTIONS;
+        }
+        out.writeByte(flags);
+        if (m_hasMissing) {
+            writeLongs(out, m_missing, bitMaskLength(m_size));
+        }
+        encodeValues(out, m_size);
+        if (m_exceptions != null) {
+            out.writeInt(m_exceptions.size());
+            for (Object[] e : m_exceptions) {
+                out.writeInt((Integer)e[0]);
+                DataCell cell = (DataCell)e[1];
+                if (cell instanceof MissingCell) {
+                    out.writeByte(EXCEPTION_MISSING_WITH_ERROR);
+                    writeString(out, ((MissingCell)cell).getError());
+                } else {
+                    out.writeByte(EXCEPTION_SERIALIZED);
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                        oos.writeObject(cell);
+                    }
+                    out.writeInt(bytes.size());
+                    out.write(bytes.toByteArray());
+                }
+            }
+        }
+    }
+
+    /** @return the type specific flags, e.g. {@link #FLAG_DICTIONARY} */
+    int getValueFlags() {
+        return 0;
+    }
+
+    /**
+     * Writes the values.
+     *
+     * @param out to write to
+     * @param nrRows number of rows in the chunk
+     * @throws IOException If writing fails
+     */
+    abstract void encodeValues(final DataOutput out, final int nrRows) throws IOException;
+
+    /** Prepares the writer for the next chunk. */
+    void reset() {
+        if (m_hasMissing) {
+            Arrays.fill(m_missing, 0L);
+            m_hasMissing = false;
+        }
+        m_exceptions = null;
+        m_size = 0;
+    }
+
+    /** Writes the first <code>length</code> ints of the argument array. */
+    final void writeInts(final DataOutput out, final int[] values, final int length) throws IOException {
+        final int perRound = SCRATCH_SIZE / Integer.BYTES;
+        for (int offset = 0; offset < length; offset += perRound) {
+            final int count = Math.min(perRound, length - offset);
+            m_scratch.clear();
+            m_scratch.asIntBuffer().put(values, offset, count);
+            out.write(m_scratch.array(), 0, count * Integer.BYTES);
+        }
+    }
+
+    /** Writes the first <code>length</code> longs of the argument array. */
+    final void writeLongs(final DataOutput out, final long[] values, final int length) throws IOException {
+        final int perRound = SCRATCH_SIZE / Long.BYTES;
+        for (int offset = 0; offset < length; offset += perRound) {
+            final int count = Math.min(perRound, length - offset);
+            m_scratch.clear();
+            m_scratch.asLongBuffer().put(values, offset, count);
+            out.write(m_scratch.array(), 0, count * Long.BYTES);
+        }
+    }
+
+    /** Writes the first <code>length</code> doubles of the argument array. */
+    final void writeDoubles(final DataOutput out, final double[] values, final int length) throws IOException {
+        final int perRound = SCRATCH_SIZE / Double.BYTES;
+        for (int offset = 0; offset < length; offset += perRound) {
+            final int count = Math.min(perRound, length - offset);
+            m_scratch.clear();
+            m_scratch.asDoubleBuffer().put(values, offset, count);
+            out.write(m_scratch.array(), 0, count * Double.BYTES);
+        }
+    }
+
+    /**
+     * Writes a string as int length followed by its bytes. Each char is encoded individually (as in
+     * {@link DataOutput#writeUTF(String)}) so that any java string, including unpaired surrogates, is preserved.
+     *
+     * @param out to write to
+     * @param s non-null string
+     * @throws IOException If writing fails
+     */
+    static void writeString(final DataOutput out, final String s) throws IOException {
+        final int length = s.length();
+        int utfLength = length;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x80 || c == 0) {
+                utfLength += c >= 0x800 ? 2 : 1;
+            }
+        }
+        out.writeInt(utfLength);
+        if (utfLength == length) {
+            out.writeBytes(s);
+            return;
+        }
+        final byte[] bytes = new byte[utfLength];
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c > 0 && c < 0x80) {
+                bytes[pos++] = (byte)c;
+            } else if (c < 0x800) {
+                bytes[pos++] = (byte)(0xC0 | (c >> 6));
+                bytes[pos++] = (byte)(0x80 | (c & 0x3F));
+            } else {
+                bytes[pos++] = (byte)(0xE0 | (c >> 12));
+                bytes[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte)(0x80 | (c & 0x3F));
+            }
+        }
+        out.write(bytes);
+    }
+
+    /** Int column: <code>int[n]</code>. */
+    static final class IntColumnWriter extends ColumnarColumnWriter {
+
+        private final int[] m_values;
+
+        IntColumnWriter(final int capacity) {
+            super(capacity, ColumnType.INT.getCellClass());
+            m_values = new int[capacity];
+        }
+
+        @Override
+        void addValue(final int row, final DataCell cell) {
+            m_values[row] = ((IntValue)cell).getIntValue();
+        }
+
+        @Override
+        void encodeValues(final DataOutput out, final int nrRows) throws IOException {
+            writeInts(out, m_values, nrRows);
+        }
+    }
+
+    /** Long column: <code>long[n]</code>. */
+    static final class LongColumnWriter extends ColumnarColumnWriter {
+
+        private final long[] m_values;
+
+        LongColumnWriter(final int capacity) {
+            super(capacity, ColumnType.LONG.getCellClass());
+            m_values = new long[capacity];
+        }
+
+        @Override
+        void addValue(final int row, final DataCell cell) {
+            m_values[row] = ((LongValue)cell).getLongValue();
+        }
+
+        @Override
+        void encodeValues(final DataOutput out, final int nrRows) throws IOException {
+            writeLongs(out, m_values, nrRows);
+        }
+    }
+
+    /** Double column: <code>double[n]</code>. */
+    static final class DoubleColumnWriter extends ColumnarColumnWriter {
+
+        private final double[] m_values;
+
+        DoubleColumnWriter(final int capacity) {
+            super(capacity, ColumnType.DOUBLE.getCellClass());
+            m_values = new double[capacity];
+        }
+
+        @Override
+        void addValue(final int row, final DataCell cell) {
+            m_values[row] = ((DoubleValue)cell).getDoubleValue();
+        }
+
+        @Override
+        void encodeValues(final DataOutput out, final int nrRows) throws IOException {
+            writeDoubles(out, m_values, nrRows);
+        }
+    }
+
+    /** Boolean column: bit mask <code>long[(n+63)/64]</code>. */
+    static final class BooleanColumnWriter extends ColumnarColumnWriter {
+
+        private final long[] m_values;
+
+        BooleanColumnWriter(final int capacity) {
+            super(capacity, ColumnType.BOOLEAN.getCellClass());
+            m_values = new long[bitMaskLength(capacity)];
+        }
+
+        @Override
+        void addValue(final int row, final DataCell cell) {
+            if (((BooleanValue)cell).getBooleanValue()) {
+                m_values[row >>> 6] |= 1L << row;
+            }
+        }
+
+        @Override
+        void encodeValues(final DataOutput out, final int nrRows) throws IOException {
+            writeLongs(out, m_values, bitMaskLength(nrRows));
+        }
+
+        @Override
+        void reset() {
+            Arrays.fill(m_values, 0L);
+            super.reset();
+        }
+    }
+
+    /**
+     * String column (also used for the row key). If {@link #FLAG_DICTIONARY} is set: <code>int #entries</code>,
+     * the entries (see {@link #writeString(DataOutput, String)}), <code>byte code width</code> (1, 2 or 4) and the
+     * codes of all rows. Otherwise the strings of all non-missing rows.
+     */
+    static final class StringColumnWriter extends ColumnarColumnWriter {
+
+        /** Dictionary encoding is given up if a chunk has more distinct values. */
+        static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+        private final String[] m_values;
+
+        private final boolean m_isAllowDictionary;
+
+        private HashMap<String, Integer> m_dictionary;
+
+        private List<String> m_dictionaryEntries;
+
+        private int[] m_codes;
+
+        StringColumnWriter(final int capacity, final Class<?> nativeCellClass, final boolean allowDictionary) {
+            super(capacity, nativeCellClass);
+            m_values = new String[capacity];
+            m_isAllowDictionary = allowDictionary;
+            initDictionary();
+        }
+
+        private void initDictionary() {
+            if (m_isAllowDictionary) {
+                m_dictionary = new HashMap<>();
+                m_dictionaryEntries = new ArrayList<>();
+                if (m_codes == null) {
+                    m_codes = new int[m_values.length];
+                }
+            }
+        }
+
+        @Override
+        void addValue(final int row, final DataCell cell) {
+            addString(row, ((StringValue)cell).getStringValue());
+        }
+
+        /**
+         * Adds a plain string (row key).
+         * @param s the non-null string
+         */
+        void addString(final String s) {
+            addString(nextRow(), s);
+        }
+
+        private void addString(final int row, final String s) {
+            m_values[row] = s;
+            if (m_dictionary != null) {
+                Integer code = m_dictionary.get(s);
+                if (code == null) {
+                    if (m_dictionary.size() >= MAX_DICTIONARY_SIZE) {
+                        m_dictionary = null;
+                        m_dictionaryEntries = null;
+                        return;
+                    }
+                    code = m_dictionary.size();
+                    m_dictionary.put(s, code);
+                    m_dictionaryEntries.add(s);
+                }
+                m_codes[row] = code;
+            }
+        }
+
+        private boolean isUseDictionary() {
+            // only worth it if values repeat
+            return m_dictionary != null && m_dictionary.size() <= size() / 2;
+        }
+
+        @Override
+        int getValueFlags() {
+            return isUseDictionary() ? FLAG_DICTIONARY : 0;
+        }
+
+        @Override
+        void encodeValues(final DataOutput out, final int nrRows) throws IOException {
+            if (isUseDictionary()) {
+                final int dictSize = m_dictionaryEntries.size();
+                out.writeInt(dictSize);
+                for (String s : m_dictionaryEntries) {
+                    writeString(out, s);
+                }
+                if (dictSize <= (1 << 8)) {
+                    out.writeByte(Byte.BYTES);
+                    for (int i = 0; i < nrRows; i++) {
+                        out.writeByte(m_codes[i]);
+                    }
+                } else if (dictSize <= (1 << 16)) {
+                    out.writeByte(Short.BYTES);
+                    for (int i = 0; i < nrRows; i++) {
+                        out.writeShort(m_codes[i]);
+                    }
+                } else {
+                    out.writeByte(Integer.BYTES);
+                    writeInts(out, m_codes, nrRows);
+                }
+            } else {
+                for (int i = 0; i < nrRows; i++) {
+                    if (!isMissing(i)) {
+                        writeString(out, m_values[i]);
+                    }
+                }
+            }
+        }
+
+        @Override
+        void reset() {
+            final int size = size();
+            super.reset();
+            Arrays.fill(m_values, 0, size, null);
+            if (m_isAllowDictionary) {
+                Arrays.fill(m_codes, 0, size, 0);
+            }
+            initDictionary();
+        }
+    }
+
+}
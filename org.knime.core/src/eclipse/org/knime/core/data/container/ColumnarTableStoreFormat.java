@@ -0,0 +1,302 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A table format that stores tables column-wise in chunks of rows. Each column of a chunk is written as a block of
+ * primitives (plus a bit mask for missing values), strings are dictionary-encoded if they repeat within a chunk. Only
+ * tables consisting of {@link IntCell}, {@link LongCell}, {@link DoubleCell}, {@link BooleanCell} and
+ * {@link StringCell} columns are {@link #accepts(DataTableSpec) accepted}; other tables fall back to the
+ * {@link DefaultTableStoreFormat}.
+ *
+ * <p>File layout (all numbers big endian):
+ * <pre>
+ * header:   int magic, int version, int #stored columns, byte[#stored columns] column type IDs
+ * chunk*:   int #rows (&gt; 0), then per stored column: int block length, byte[block length] block
+ * trailer:  int -1
+ * index:    int #chunks, then per chunk: long file offset of the chunk, int #rows in the chunk
+ * footer:   long file offset of the index, int index magic
+ * </pre>
+ * The row key, if written, is the first stored column. The block layout is described in {@link ColumnarColumnWriter}.
+ *
+ * <p>The index and footer were added with version 2 (files of version 1 end after the trailer). The index is a
+ * sparse row-offset index (one entry per chunk), which allows readers to seek to the chunk containing a given row
+ * instead of scanning all preceding chunks.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Magic number at the start of each file ("KNCF"). */
+    static final int MAGIC = 0x4B4E4346;
+
+    /** Magic number at the end of files that contain a chunk index ("KNCI"). */
+    static final int INDEX_MAGIC = 0x4B4E4349;
+
+    /** Version of the binary layout, written into the file header. */
+    static final int FORMAT_VERSION = 2;
+
+    /** First version of the binary layout that contains the chunk index. */
+    static final int FIRST_INDEXED_FORMAT_VERSION = 2;
+
+    /** Version string as persisted along with the table. */
+    static final String VERSION = "columnar_" + FORMAT_VERSION;
+
+    /** Version string of tables written with version 1 of the binary layout (no chunk index), still readable. */
+    private static final String VERSION_1 = "columnar_1";
+
+    /** Number of cells that are collected before a chunk is written, determines the number of rows per chunk. */
+    static final int TARGET_CELLS_PER_CHUNK = 1 << 20;
+
+    /** Upper bound for number of rows in a chunk (narrow tables). */
+    static final int MAX_ROWS_PER_CHUNK = 1 << 16;
+
+    /** Lower bound for number of rows in a chunk (very wide tables). */
+    static final int MIN_ROWS_PER_CHUNK = 16;
+
+    /**
+     * Number of chunks that iterators read and decode concurrently, see
+     * {@link KNIMEConstants#PROPERTY_TABLE_DECODE_PARALLELISM}.
+     */
+    static final int DECODE_PARALLELISM = readDecodeParallelism();
+
+    private static int readDecodeParallelism() {
+        final int defaultParallelism = Runtime.getRuntime().availableProcessors();
+        final String property = System.getProperty(KNIMEConstants.PROPERTY_TABLE_DECODE_PARALLELISM);
+        if (property == null) {
+            return defaultParallelism;
+        }
+        try {
+            final int parallelism = Integer.parseInt(property.trim());
+            if (parallelism < 1) {
+                throw new NumberFormatException("Value must be at least 1: " + parallelism);
+            }
+            return parallelism;
+        } catch (NumberFormatException e) {
+            NodeLogger.getLogger(ColumnarTableStoreFormat.class).warn("Unable to parse property "
+                + KNIMEConstants.PROPERTY_TABLE_DECODE_PARALLELISM + ", using default (" + defaultParallelism + ")", e);
+            return defaultParallelism;
+        }
+    }
+
+    /** The primitive column types supported by this format. The ID is persisted -- don't change. */
+    enum ColumnType {
+            /** The row key (not part of the spec). */
+            ROW_KEY(0, null),
+            /** {@link IntCell}. */
+            INT(1, IntCell.TYPE),
+            /** {@link LongCell}. */
+            LONG(2, LongCell.TYPE),
+            /** {@link DoubleCell}. */
+            DOUBLE(3, DoubleCell.TYPE),
+            /** {@link BooleanCell}. */
+            BOOLEAN(4, BooleanCell.TYPE),
+            /** {@link StringCell}. */
+            STRING(5, StringCell.TYPE);
+
+        private final byte m_id;
+
+        private final DataType m_type;
+
+        ColumnType(final int id, final DataType type) {
+            m_id = (byte)id;
+            m_type = type;
+        }
+
+        /** @return the persisted ID */
+        byte getID() {
+            return m_id;
+        }
+
+        /** @return the native cell class of this column type, null for the row key. */
+        Class<?> getCellClass() {
+            return m_type == null ? null : m_type.getCellClass();
+        }
+
+        /**
+         * @param type A column type
+         * @return the column type storing the argument type or null if not supported
+         */
+        static ColumnType get(final DataType type) {
+            for (ColumnType t : values()) {
+                if (t.m_type != null && t.m_type.equals(type)) {
+                    return t;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param id As read from the file
+         * @return the column type with that ID
+         * @throws IOException If the ID is invalid
+         */
+        static ColumnType get(final byte id) throws IOException {
+            for (ColumnType t : values()) {
+                if (t.m_id == id) {
+                    return t;
+                }
+            }
+            throw new IOException("Invalid column type identifier: " + id);
+        }
+    }
+
+    /**
+     * Determines the types of the stored columns for a given spec.
+     *
+     * @param spec The spec, all columns must be {@link #accepts(DataTableSpec) accepted}
+     * @param isRowKey whether the row key is stored as first column
+     * @return the types of the stored columns
+     */
+    static ColumnType[] getStoredColumnTypes(final DataTableSpec spec, final boolean isRowKey) {
+        final int offset = isRowKey ? 1 : 0;
+        ColumnType[] result = new ColumnType[spec.getNumColumns() + offset];
+        if (isRowKey) {
+            result[0] = ColumnType.ROW_KEY;
+        }
+        for (int i = 0; i < spec.getNumColumns(); i++) {
+            result[i + offset] = ColumnType.get(spec.getColumnSpec(i).getType());
+            if (result[i + offset] == null) {
+                throw new IllegalArgumentException(
+                    "Column type not supported by columnar format: " + spec.getColumnSpec(i).getType());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of rows to collect per chunk.
+     *
+     * @param nrStoredColumns number of stored columns (including row key)
+     * @return number of rows in a chunk
+     */
+    static int getRowsPerChunk(final int nrStoredColumns) {
+        int rows = TARGET_CELLS_PER_CHUNK / Math.max(1, nrStoredColumns);
+        return Math.max(MIN_ROWS_PER_CHUNK, Math.min(MAX_ROWS_PER_CHUNK, rows));
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (primitive columns, experimental)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".kcol";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        for (DataColumnSpec colSpec : spec) {
+            if (ColumnType.get(colSpec.getType()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final NodeSettingsRO settings, final Map<Integer, ContainerTable> tblRep, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString) || VERSION_1.equals(versionString);
+    }
+
+}
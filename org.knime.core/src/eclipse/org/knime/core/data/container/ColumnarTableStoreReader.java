@@ -0,0 +1,769 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnarColumnReader.StringColumnReader;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}. Files written with format version 2 or later contain a chunk index,
+ * which is read (memory-mapped) on first use and allows iterators with a row range to seek directly to the first chunk
+ * of interest and to read and decode multiple chunks in parallel.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ColumnarTableStoreReader.class);
+
+    /**
+     * The executor decoding the chunks of all open iterators. Its size is fixed to
+     * {@link ColumnarTableStoreFormat#DECODE_PARALLELISM}, so the number of decoding threads doesn't grow with the
+     * number of concurrently open iterators (chunks of further iterators are queued). The threads terminate when idle.
+     */
+    static final ThreadPoolExecutor DECODE_EXECUTOR = createDecodeExecutor();
+
+    private static ThreadPoolExecutor createDecodeExecutor() {
+        final int nrThreads = ColumnarTableStoreFormat.DECODE_PARALLELISM;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(nrThreads, nrThreads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger m_threadCount = new AtomicInteger();
+
+                /** {@inheritDoc} */
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return new Thread(r, "KNIME-TableDecode-" + m_threadCount.incrementAndGet());
+                }
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final File m_binFile;
+
+    private final DataTableSpec m_spec;
+
+    private final boolean m_isReadRowKey;
+
+    /** Lazily read by {@link #getChunkIndex()}. */
+    private ChunkIndex m_chunkIndex;
+
+    /** Whether {@link #m_chunkIndex} was read (it's null for files without index). */
+    private boolean m_isChunkIndexRead;
+
+    /** Number of chunks an iterator keeps in flight, see {@link #setDecodeParallelism(int)}. */
+    private int m_decodeParallelism = ColumnarTableStoreFormat.DECODE_PARALLELISM;
+
+    /**
+     * @param binFile the file to read from
+     * @param spec the spec of the table
+     * @param settings the settings written by the writer
+     * @param version the buffer version
+     * @param isReadRowKey whether the file contains row keys
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException If the settings are invalid
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, settings, version);
+        m_binFile = binFile;
+        m_spec = spec;
+        m_isReadRowKey = isReadRowKey;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() throws IOException {
+        return new ColumnarFromFileIterator(TableFilter.all());
+    }
+
+    /**
+     * {@inheritDoc} Chunks outside the row range and blocks of unselected columns are skipped without decoding them.
+     */
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter) throws IOException {
+        return new ColumnarFromFileIterator(filter);
+    }
+
+    /**
+     * Overrides the number of chunks that iterators created afterwards read and decode concurrently (only used in
+     * tests, the default is {@link ColumnarTableStoreFormat#DECODE_PARALLELISM}). The number of decoding threads is
+     * not affected.
+     *
+     * @param decodeParallelism the number of chunks in flight, 1 to decode sequentially
+     */
+    void setDecodeParallelism(final int decodeParallelism) {
+        m_decodeParallelism = decodeParallelism;
+    }
+
+    /**
+     * Gets the chunk index of the file, reads it on first access.
+     *
+     * @return the index or null if the file was written without index
+     * @throws IOException If reading the index fails
+     */
+    synchronized ChunkIndex getChunkIndex() throws IOException {
+        if (!m_isChunkIndexRead) {
+            m_chunkIndex = ChunkIndex.read(m_binFile);
+            m_isChunkIndexRead = true;
+        }
+        return m_chunkIndex;
+    }
+
+    /**
+     * Reads bytes from a channel at a given position until the buffer is full.
+     *
+     * @return false if the end of the file was reached before the buffer was filled
+     */
+    private static boolean readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException {
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, pos);
+            if (read < 0) {
+                return false;
+            }
+            pos += read;
+        }
+        return true;
+    }
+
+    /** The sparse row-offset index stored at the end of the file: the start row and file offset of each chunk. */
+    static final class ChunkIndex {
+
+        /** Footer length: long index offset + int magic. */
+        private static final int FOOTER_LENGTH = Long.BYTES + Integer.BYTES;
+
+        /** Length of an index entry: long chunk offset + int row count. */
+        private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES;
+
+        /** Index of the first row in each chunk, plus the total row count as last element. */
+        private final long[] m_chunkStartRows;
+
+        /** File offset of each chunk, plus the offset of the trailer (end of last chunk) as last element. */
+        private final long[] m_chunkOffsets;
+
+        private ChunkIndex(final long[] chunkStartRows, final long[] chunkOffsets) {
+            m_chunkStartRows = chunkStartRows;
+            m_chunkOffsets = chunkOffsets;
+        }
+
+        /**
+         * Reads the index from the end of the argument file. The index itself is memory-mapped, only the footer is
+         * read conventionally.
+         *
+         * @param binFile the file to read from
+         * @return the index or null if the file was written without index (format version 1)
+         * @throws IOException If the index is corrupt or reading fails
+         */
+        static ChunkIndex read(final File binFile) throws IOException {
+            try (FileChannel channel = FileChannel.open(binFile.toPath(), StandardOpenOption.READ)) {
+                final long size = channel.size();
+                ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES);
+                if (size < header.capacity() + FOOTER_LENGTH || !readFully(channel, header, 0L)) {
+                    return null;
+                }
+                header.flip();
+                if (header.getInt() != ColumnarTableStoreFormat.MAGIC
+                    || header.getInt() < ColumnarTableStoreFormat.FIRST_INDEXED_FORMAT_VERSION) {
+                    return null;
+                }
+                ByteBuffer footer = ByteBuffer.allocate(FOOTER_LENGTH);
+                if (!readFully(channel, footer, size - FOOTER_LENGTH)) {
+                    throw new EOFException("Unable to read index footer of \"" + binFile.getName() + "\"");
+                }
+                footer.flip();
+                final long indexOffset = footer.getLong();
+                if (footer.getInt() != ColumnarTableStoreFormat.INDEX_MAGIC || indexOffset < Integer.BYTES
+                    || indexOffset > size - FOOTER_LENGTH - Integer.BYTES) {
+                    throw new IOException("Corrupt chunk index in file \"" + binFile.getName() + "\"");
+                }
+                MappedByteBuffer index =
+                    channel.map(MapMode.READ_ONLY, indexOffset, size - FOOTER_LENGTH - indexOffset);
+                final int nrChunks = index.getInt();
+                if (nrChunks < 0 || (long)nrChunks * ENTRY_LENGTH != index.remaining()) {
+                    throw new IOException("Corrupt chunk index in file \"" + binFile.getName() + "\" ("
+                        + nrChunks + " chunks)");
+                }
+                long[] chunkStartRows = new long[nrChunks + 1];
+                long[] chunkOffsets = new long[nrChunks + 1];
+                for (int i = 0; i < nrChunks; i++) {
+                    chunkOffsets[i] = index.getLong();
+                    chunkStartRows[i + 1] = chunkStartRows[i] + index.getInt();
+                }
+                // the trailer (int -1) precedes the index
+                chunkOffsets[nrChunks] = indexOffset - Integer.BYTES;
+                return new ChunkIndex(chunkStartRows, chunkOffsets);
+            }
+        }
+
+        /** @return number of chunks in the file */
+        int getChunkCount() {
+            return m_chunkOffsets.length - 1;
+        }
+
+        /** @return number of rows in the file */
+        long getRowCount() {
+            return m_chunkStartRows[m_chunkStartRows.length - 1];
+        }
+
+        /**
+         * @param rowIndex a row index
+         * @return the index of the chunk containing the row, the number of chunks if the row is beyond the table end
+         */
+        int getChunkForRow(final long rowIndex) {
+            if (rowIndex >= getRowCount()) {
+                return getChunkCount();
+            }
+            final int pos = Arrays.binarySearch(m_chunkStartRows, rowIndex);
+            // not found: pos = -(insertion point) - 1, chunk is the one before the insertion point
+            return pos >= 0 ? pos : -pos - 2;
+        }
+
+        /**
+         * @param chunk a chunk index
+         * @return the index of the first row in the chunk
+         */
+        long getChunkStartRow(final int chunk) {
+            return m_chunkStartRows[chunk];
+        }
+
+        /**
+         * @param chunk a chunk index
+         * @return the number of rows in the chunk
+         */
+        int getChunkRowCount(final int chunk) {
+            return (int)(m_chunkStartRows[chunk + 1] - m_chunkStartRows[chunk]);
+        }
+
+        /**
+         * @param chunk a chunk index
+         * @return the file offset of the chunk
+         */
+        long getChunkOffset(final int chunk) {
+            return m_chunkOffsets[chunk];
+        }
+
+        /**
+         * @param chunk a chunk index
+         * @return the length of the chunk in bytes (including its row count)
+         */
+        long getChunkLength(final int chunk) {
+            return m_chunkOffsets[chunk + 1] - m_chunkOffsets[chunk];
+        }
+    }
+
+    /** A chunk decoded by the {@link ChunkPrefetcher}, holding one reader per stored column (null if not decoded). */
+    private static final class DecodedChunk {
+
+        private final long m_startRow;
+
+        private final int m_nrRows;
+
+        private final ColumnarColumnReader[] m_columns;
+
+        DecodedChunk(final long startRow, final int nrRows, final ColumnarColumnReader[] columns) {
+            m_startRow = startRow;
+            m_nrRows = nrRows;
+            m_columns = columns;
+        }
+    }
+
+    /**
+     * Reads and decodes chunks of an indexed file in parallel on the shared {@link #DECODE_EXECUTOR}. At most
+     * {@link ColumnarTableStoreFormat#DECODE_PARALLELISM} chunks are in flight; they are handed out in file order. Each
+     * task reads its chunk with a positional read on a shared file channel, so neither reading nor decoding is
+     * serialized.
+     */
+    private final class ChunkPrefetcher {
+
+        private final FileChannel m_channel;
+
+        private final ChunkIndex m_index;
+
+        private final ColumnType[] m_types;
+
+        private final boolean[] m_isDecodeColumn;
+
+        /** Futures of the submitted chunks, in file order. */
+        private final ArrayDeque<Future<DecodedChunk>> m_pending;
+
+        private final int m_maxPending;
+
+        /** The next chunk to submit. */
+        private int m_nextChunk;
+
+        /** Index after the last chunk to submit. */
+        private final int m_endChunk;
+
+        ChunkPrefetcher(final ChunkIndex index, final int fromChunk, final int endChunk, final ColumnType[] types,
+            final boolean[] isDecodeColumn, final int maxPending) throws IOException {
+            m_index = index;
+            m_nextChunk = fromChunk;
+            m_endChunk = endChunk;
+            m_types = types;
+            m_isDecodeColumn = isDecodeColumn;
+            m_maxPending = maxPending;
+            m_pending = new ArrayDeque<>(m_maxPending);
+            m_channel = FileChannel.open(m_binFile.toPath(), StandardOpenOption.READ);
+        }
+
+        /**
+         * Waits for the next chunk and submits further chunks so that the number of chunks in flight stays constant.
+         *
+         * @return the next chunk or null if all chunks have been returned
+         */
+        DecodedChunk next() throws IOException {
+            while (m_pending.size() < m_maxPending && m_nextChunk < m_endChunk) {
+                final int chunk = m_nextChunk++;
+                m_pending.add(DECODE_EXECUTOR.submit(() -> readAndDecode(chunk)));
+            }
+            Future<DecodedChunk> future = m_pending.poll();
+            if (future == null) {
+                return null;
+            }
+            try {
+                return future.get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for chunk to be decoded", ie);
+            } catch (ExecutionException ee) {
+                Throwable cause = ee.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException)cause;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+
+        private DecodedChunk readAndDecode(final int chunk) throws IOException {
+            final long length = m_index.getChunkLength(chunk);
+            if (length < Integer.BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("Invalid length of chunk " + chunk + ": " + length);
+            }
+            ByteBuffer bytes = ByteBuffer.allocate((int)length);
+            if (!readFully(m_channel, bytes, m_index.getChunkOffset(chunk))) {
+                throw new EOFException("Unexpected end of file while reading chunk " + chunk);
+            }
+            bytes.flip();
+            final int nrRows = bytes.getInt();
+            if (nrRows != m_index.getChunkRowCount(chunk)) {
+                throw new IOException(String.format("Number of rows in chunk %d (%d) doesn't match index (%d)",
+                    chunk, nrRows, m_index.getChunkRowCount(chunk)));
+            }
+            ColumnarColumnReader[] columns = new ColumnarColumnReader[m_types.length];
+            for (int i = 0; i < m_types.length; i++) {
+                if (bytes.remaining() < Integer.BYTES) {
+                    throw new EOFException("Unexpected end of chunk " + chunk);
+                }
+                final int blockLength = bytes.getInt();
+                if (blockLength < 0 || blockLength > bytes.remaining()) {
+                    throw new IOException("Invalid block length in chunk " + chunk + ": " + blockLength);
+                }
+                if (m_isDecodeColumn[i]) {
+                    columns[i] = ColumnarColumnReader.create(m_types[i]);
+                    columns[i].decode(ByteBuffer.wrap(bytes.array(), bytes.position(), blockLength), nrRows);
+                }
+                bytes.position(bytes.position() + blockLength);
+            }
+            return new DecodedChunk(m_index.getChunkStartRow(chunk), nrRows, columns);
+        }
+
+        /** Cancels the chunks in flight (queued ones are removed from the executor) and closes the file. */
+        void close() throws IOException {
+            for (Future<DecodedChunk> future : m_pending) {
+                future.cancel(false);
+            }
+            m_pending.clear();
+            DECODE_EXECUTOR.purge();
+            m_nextChunk = m_endChunk;
+            m_channel.close();
+        }
+    }
+
+    /**
+     * Iterator reading the file chunk by chunk. If the file is indexed and more than one chunk needs to be read, the
+     * chunks are read and decoded in parallel by a {@link ChunkPrefetcher}, otherwise they are read sequentially by the
+     * iterating thread.
+     */
+    private final class ColumnarFromFileIterator extends TableStoreCloseableRowIterator {
+
+        /** The underlying file stream for sequential reading, repositioned when seeking; null when prefetching. */
+        private FileInputStream m_fileIn;
+
+        private DataInputStream m_in;
+
+        /** Reads and decodes the chunks in parallel, null when reading sequentially. */
+        private ChunkPrefetcher m_prefetcher;
+
+        private boolean m_isClosed;
+
+        private final ColumnType[] m_types;
+
+        /** The readers holding the current chunk. Reused when reading sequentially, provided by the prefetcher
+         * otherwise. */
+        private ColumnarColumnReader[] m_columns;
+
+        /** Which of the stored columns (including the row key) need to be decoded. */
+        private final boolean[] m_isDecodeColumn;
+
+        private final long m_fromRowIndex;
+
+        /** Index after the last row to return. */
+        private final long m_endRowIndex;
+
+        private byte[] m_blockBytes = new byte[1 << 16];
+
+        /** Rows in current chunk. */
+        private int m_rowsInChunk;
+
+        /** Next row to return from the current chunk. */
+        private int m_rowInChunk;
+
+        /** Whether the trailer was read. */
+        private boolean m_isEndOfFile;
+
+        /** Index of the first row in the current chunk. */
+        private long m_chunkStartIndex;
+
+        ColumnarFromFileIterator(final TableFilter filter) throws IOException {
+            if (m_binFile == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_types = ColumnarTableStoreFormat.getStoredColumnTypes(m_spec, m_isReadRowKey);
+            final int offset = m_isReadRowKey ? 1 : 0;
+            m_isDecodeColumn = new boolean[m_types.length];
+            if (m_isReadRowKey) {
+                // files written without row key may have no stored column at all
+                m_isDecodeColumn[0] = true;
+            }
+            System.arraycopy(filter.getMaterializeColumnMask(m_spec.getNumColumns()), 0, m_isDecodeColumn, offset,
+                m_spec.getNumColumns());
+            m_fromRowIndex = filter.getFromRowIndex();
+            m_endRowIndex = filter.getToRowIndex() == Long.MAX_VALUE ? Long.MAX_VALUE : filter.getToRowIndex() + 1;
+            m_fileIn = new FileInputStream(m_binFile);
+            m_in = new DataInputStream(new BufferedInputStream(m_fileIn, 1 << 16));
+            try {
+                readHeader();
+                if (!initPrefetcher()) {
+                    m_columns = new ColumnarColumnReader[m_types.length];
+                    for (int i = 0; i < m_types.length; i++) {
+                        m_columns[i] = ColumnarColumnReader.create(m_types[i]);
+                    }
+                    if (m_fromRowIndex > 0) {
+                        seekToChunkOf(m_fromRowIndex);
+                    }
+                }
+            } catch (IOException ioe) {
+                if (m_in != null) {
+                    m_in.close();
+                }
+                throw ioe;
+            }
+        }
+
+        /**
+         * Sets up parallel decoding if the file is indexed, parallel decoding is enabled and the selected rows span
+         * more than one chunk. The sequential input stream is closed in that case.
+         *
+         * @return whether the prefetcher is used
+         */
+        private boolean initPrefetcher() throws IOException {
+            final int parallelism = m_decodeParallelism;
+            if (parallelism <= 1 || DataContainer.SYNCHRONOUS_IO) {
+                return false;
+            }
+            final ChunkIndex index = getChunkIndex();
+            if (index == null) {
+                return false;
+            }
+            final int fromChunk = index.getChunkForRow(m_fromRowIndex);
+            final int endChunk = m_endRowIndex == Long.MAX_VALUE ? index.getChunkCount()
+                : Math.min(index.getChunkForRow(m_endRowIndex - 1) + 1, index.getChunkCount());
+            if (endChunk - fromChunk <= 1) {
+                return false;
+            }
+            m_prefetcher = new ChunkPrefetcher(index, fromChunk, endChunk, m_types, m_isDecodeColumn, parallelism);
+            m_in.close();
+            m_in = null;
+            m_fileIn = null;
+            return true;
+        }
+
+        private void readHeader() throws IOException {
+            final int magic = m_in.readInt();
+            if (magic != ColumnarTableStoreFormat.MAGIC) {
+                throw new IOException("Not a columnar table file (invalid magic number): " + m_binFile.getName());
+            }
+            final int version = m_in.readInt();
+            if (version > ColumnarTableStoreFormat.FORMAT_VERSION) {
+                throw new IOException("Unsupported columnar table version: " + version);
+            }
+            final int nrColumns = m_in.readInt();
+            if (nrColumns != m_types.length) {
+                throw new IOException(String.format("Number of columns in file (%d) doesn't match spec (%d)",
+                    nrColumns, m_types.length));
+            }
+            for (int i = 0; i < nrColumns; i++) {
+                ColumnType type = ColumnType.get(m_in.readByte());
+                if (type != m_types[i]) {
+                    throw new IOException(String.format("Type of column %d in file (%s) doesn't match spec (%s)", i,
+                        type, m_types[i]));
+                }
+            }
+        }
+
+        /** Repositions the stream to the start of the chunk containing the argument row, if the file is indexed. */
+        private void seekToChunkOf(final long rowIndex) throws IOException {
+            final ChunkIndex index = getChunkIndex();
+            if (index == null) {
+                return;
+            }
+            final int chunk = index.getChunkForRow(rowIndex);
+            if (chunk >= index.getChunkCount()) {
+                // beyond table end
+                m_isEndOfFile = true;
+                return;
+            }
+            m_fileIn.getChannel().position(index.getChunkOffset(chunk));
+            // discard the buffered bytes of the old position
+            m_in = new DataInputStream(new BufferedInputStream(m_fileIn, 1 << 16));
+            m_chunkStartIndex = index.getChunkStartRow(chunk);
+        }
+
+        /**
+         * Makes the next chunk that contains rows of the selected range the current chunk, sets
+         * {@link #m_isEndOfFile} if there are no more chunks.
+         */
+        private void readChunk() throws IOException {
+            if (m_prefetcher == null) {
+                readChunkSequentially();
+                return;
+            }
+            final DecodedChunk chunk = m_prefetcher.next();
+            if (chunk == null) {
+                m_isEndOfFile = true;
+                m_chunkStartIndex += m_rowsInChunk;
+                m_rowsInChunk = 0;
+                m_rowInChunk = 0;
+                return;
+            }
+            m_columns = chunk.m_columns;
+            m_chunkStartIndex = chunk.m_startRow;
+            m_rowsInChunk = chunk.m_nrRows;
+            m_rowInChunk = (int)Math.max(0L, m_fromRowIndex - m_chunkStartIndex);
+        }
+
+        /**
+         * Reads and decodes the next chunk that contains rows of the selected range, sets {@link #m_isEndOfFile} if
+         * the trailer is reached. Chunks before the range and blocks of unselected columns are skipped.
+         */
+        private void readChunkSequentially() throws IOException {
+            m_chunkStartIndex += m_rowsInChunk;
+            m_rowsInChunk = 0;
+            m_rowInChunk = 0;
+            while (true) {
+                final int nrRows = m_in.readInt();
+                if (nrRows < 0) {
+                    m_isEndOfFile = true;
+                    return;
+                }
+                final boolean isSkipChunk = m_chunkStartIndex + nrRows <= m_fromRowIndex;
+                for (int i = 0; i < m_columns.length; i++) {
+                    final int length = m_in.readInt();
+                    if (isSkipChunk || !m_isDecodeColumn[i]) {
+                        skipFully(length);
+                        continue;
+                    }
+                    if (m_blockBytes.length < length) {
+                        m_blockBytes = new byte[Math.max(length, 2 * m_blockBytes.length)];
+                    }
+                    m_in.readFully(m_blockBytes, 0, length);
+                    m_columns[i].decode(ByteBuffer.wrap(m_blockBytes, 0, length), nrRows);
+                }
+                if (isSkipChunk) {
+                    m_chunkStartIndex += nrRows;
+                } else {
+                    m_rowsInChunk = nrRows;
+                    m_rowInChunk = (int)Math.max(0L, m_fromRowIndex - m_chunkStartIndex);
+                    return;
+                }
+            }
+        }
+
+        private void skipFully(final int length) throws IOException {
+            int remaining = length;
+            while (remaining > 0) {
+                final int skipped = m_in.skipBytes(remaining);
+                if (skipped <= 0) {
+                    throw new EOFException("Unable to skip " + remaining + " bytes");
+                }
+                remaining -= skipped;
+            }
+        }
+
+        /** @return index of the row returned by the next call to {@link #next()}. */
+        private long getRowIndex() {
+            return m_chunkStartIndex + m_rowInChunk;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            if (m_rowInChunk < m_rowsInChunk && getRowIndex() < m_endRowIndex) {
+                return true;
+            }
+            if (m_isClosed) {
+                return false;
+            }
+            if (!m_isEndOfFile && getRowIndex() < m_endRowIndex) {
+                try {
+                    readChunk();
+                } catch (EOFException eof) {
+                    LOGGER.error("Unexpected end of file while reading \"" + m_binFile.getName() + "\" (row "
+                        + getRowIndex() + ")", eof);
+                    m_isEndOfFile = true;
+                } catch (IOException ioe) {
+                    throw new RuntimeException("Errors while reading row " + getRowIndex() + " from file \""
+                        + m_binFile.getName() + "\": " + ioe.getMessage(), ioe);
+                }
+            }
+            final boolean hasNext = m_rowInChunk < m_rowsInChunk && getRowIndex() < m_endRowIndex;
+            if (!hasNext) {
+                close();
+            }
+            return hasNext;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            final int row = m_rowInChunk++;
+            final int offset = m_isReadRowKey ? 1 : 0;
+            RowKey key = m_isReadRowKey
+                ? RowKey.createCompactRowKey(((StringColumnReader)m_columns[0]).getString(row)) : DUMMY_ROW_KEY;
+            DataCell[] cells = new DataCell[m_columns.length - offset];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = m_isDecodeColumn[i + offset] ? m_columns[i + offset].getCell(row)
+                    : DataType.getMissingCell();
+            }
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_isClosed) {
+                return false;
+            }
+            m_isClosed = true;
+            m_rowsInChunk = 0;
+            m_rowInChunk = 0;
+            m_columns = null;
+            try {
+                if (m_prefetcher != null) {
+                    m_prefetcher.close();
+                }
+            } finally {
+                if (m_in != null) {
+                    m_in.close();
+                }
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void finalize() throws Throwable {
+            super.finalize();
+            close();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " on \"" + m_binFile.getName() + "\" (column types "
+                + Arrays.toString(m_types) + ")";
+        }
+    }
+
+}
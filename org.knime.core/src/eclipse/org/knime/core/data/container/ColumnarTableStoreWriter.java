@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnarColumnWriter.StringColumnWriter;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected column-wise until a chunk is full, then each
+ * column is encoded into a block and written to the output. The file offset of each chunk is recorded and written
+ * into the chunk index when the writer is closed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    private final DataOutputStream m_out;
+
+    private final ColumnarColumnWriter[] m_columns;
+
+    private final int m_rowsPerChunk;
+
+    /** Number of rows in the current (not yet written) chunk. */
+    private int m_rowsInChunk;
+
+    /** Buffer for a single column block (length needs to be written before the block). */
+    private final ByteArrayOutputStream m_blockBytes = new ByteArrayOutputStream(1 << 16);
+
+    private final DataOutputStream m_blockOut = new DataOutputStream(m_blockBytes);
+
+    /** Number of bytes written to the output so far. */
+    private long m_position;
+
+    /** File offsets of the chunks written so far (first {@link #m_nrChunks} elements). */
+    private long[] m_chunkOffsets = new long[16];
+
+    /** Number of rows in the chunks written so far (first {@link #m_nrChunks} elements). */
+    private int[] m_chunkRowCounts = new int[16];
+
+    private int m_nrChunks;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param spec the spec of the table, must be accepted by the format
+     * @param output to write to
+     * @param writeRowKey whether to write the row key
+     * @throws IOException If writing the header fails
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream output, final boolean writeRowKey)
+        throws IOException {
+        super(spec, writeRowKey);
+        ColumnType[] types = ColumnarTableStoreFormat.getStoredColumnTypes(spec, writeRowKey);
+        m_rowsPerChunk = ColumnarTableStoreFormat.getRowsPerChunk(types.length);
+        m_columns = new ColumnarColumnWriter[types.length];
+        for (int i = 0; i < types.length; i++) {
+            m_columns[i] = ColumnarColumnWriter.create(types[i], m_rowsPerChunk);
+        }
+        m_out = new DataOutputStream(new BufferedOutputStream(output, 1 << 16));
+        m_out.writeInt(ColumnarTableStoreFormat.MAGIC);
+        m_out.writeInt(ColumnarTableStoreFormat.FORMAT_VERSION);
+        m_out.writeInt(types.length);
+        for (ColumnType type : types) {
+            m_out.writeByte(type.getID());
+        }
+        m_position = 3 * Integer.BYTES + types.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        final int offset = isWriteRowKey() ? 1 : 0;
+        final int nrCells = row.getNumCells();
+        if (nrCells + offset != m_columns.length) {
+            throw new IOException(String.format("Row \"%s\" has %d cells, expected %d", row.getKey(), nrCells,
+                m_columns.length - offset));
+        }
+        if (isWriteRowKey()) {
+            ((StringColumnWriter)m_columns[0]).addString(row.getKey().getString());
+        }
+        final boolean isBlobRow = row instanceof BlobSupportDataRow;
+        for (int i = 0; i < nrCells; i++) {
+            DataCell cell = isBlobRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+            m_columns[i + offset].add(cell);
+        }
+        if (++m_rowsInChunk == m_rowsPerChunk) {
+            writeChunk();
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        if (m_rowsInChunk == 0) {
+            return;
+        }
+        if (m_nrChunks == m_chunkOffsets.length) {
+            m_chunkOffsets = Arrays.copyOf(m_chunkOffsets, 2 * m_nrChunks);
+            m_chunkRowCounts = Arrays.copyOf(m_chunkRowCounts, 2 * m_nrChunks);
+        }
+        m_chunkOffsets[m_nrChunks] = m_position;
+        m_chunkRowCounts[m_nrChunks] = m_rowsInChunk;
+        m_nrChunks++;
+        m_out.writeInt(m_rowsInChunk);
+        m_position += Integer.BYTES;
+        for (ColumnarColumnWriter column : m_columns) {
+            m_blockBytes.reset();
+            column.encode(m_blockOut);
+            m_blockOut.flush();
+            m_out.writeInt(m_blockBytes.size());
+            m_blockBytes.writeTo(m_out);
+            m_position += Integer.BYTES + m_blockBytes.size();
+            column.reset();
+        }
+        m_rowsInChunk = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            writeChunk();
+            m_out.writeInt(-1);
+            writeIndex(m_position + Integer.BYTES);
+        } finally {
+            m_out.close();
+        }
+    }
+
+    /** Writes the chunk index and the footer pointing to it. */
+    private void writeIndex(final long indexOffset) throws IOException {
+        m_out.writeInt(m_nrChunks);
+        for (int i = 0; i < m_nrChunks; i++) {
+            m_out.writeLong(m_chunkOffsets[i]);
+            m_out.writeInt(m_chunkRowCounts[i]);
+        }
+        m_out.writeLong(indexOffset);
+        m_out.writeInt(ColumnarTableStoreFormat.INDEX_MAGIC);
+    }
+
+}
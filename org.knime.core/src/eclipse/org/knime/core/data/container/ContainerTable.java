@@ -52,8 +52,10 @@
 import java.util.HashMap;
 import java.util.zip.ZipOutputStream;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
@@ -127,6 +129,52 @@ public CloseableRowIterator iterator() {
         return m_buffer.iterator();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        ensureBufferOpen();
+        return m_buffer.iteratorWithFilter(filter);
+    }
+
+    /**
+     * Creates an iterator that returns the rows with indices <code>fromRowIndex</code> to <code>toRowIndex</code>
+     * (both inclusive, or fewer rows if the table ends earlier). Tables stored in an indexed format seek directly to
+     * the first row, other tables skip the preceding rows without deserializing them.
+     *
+     * @param fromRowIndex the index of the first row to return
+     * @param toRowIndex the index of the last row to return
+     * @return a new iterator
+     * @throws IndexOutOfBoundsException If the start index is negative
+     * @throws IllegalArgumentException If the end index is smaller than the start index
+     * @since 3.6
+     */
+    public CloseableRowIterator iterator(final long fromRowIndex, final long toRowIndex) {
+        return iteratorWithFilter(TableFilter.filterRangeOfRows(fromRowIndex, toRowIndex));
+    }
+
+    /**
+     * Random access to a single row. Each call opens a new iterator (see {@link #iterator(long, long)}), clients
+     * reading consecutive rows should use an iterator instead.
+     *
+     * @param rowIndex the index of the row
+     * @return the row with the given index
+     * @throws IndexOutOfBoundsException If the index is negative or not smaller than {@link #size()}
+     * @since 3.6
+     */
+    public DataRow getRow(final long rowIndex) {
+        final long size = size();
+        if (rowIndex < 0 || rowIndex >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row index %d out of bounds, table has %d row(s)", rowIndex, size));
+        }
+        try (CloseableRowIterator it = iterator(rowIndex, rowIndex)) {
+            return it.next();
+        }
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated use {@link #size()} instead which supports more than {@link Integer#MAX_VALUE} rows
@@ -195,6 +243,37 @@ public void saveToFile(final File f, final NodeSettingsWO settings,
         }
     }
 
+    /**
+     * Whether this table can be saved with {@link #saveToDirectory(File, ExecutionMonitor)}, which is the case if its
+     * data is completely written to a temp file in the current format (tables held in memory are always zipped).
+     *
+     * @return that property
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public boolean canSaveToDirectory() {
+        ensureBufferOpen();
+        return m_buffer.canSaveToDirectory();
+    }
+
+    /**
+     * Saves the table as plain files into a directory instead of a zip file. The data files are hard-linked from the
+     * temp directory where possible (and copied otherwise) so that the save time is independent of the table size.
+     * When the workflow is loaded the directory is read in the same way as a zip file.
+     *
+     * @param dir The (empty) directory to save to.
+     * @param exec For progress/cancel.
+     * @throws IOException If writing fails or {@link #canSaveToDirectory()} is false.
+     * @throws CanceledExecutionException If canceled.
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public void saveToDirectory(final File dir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        ensureBufferOpen();
+        m_buffer.saveToDirectory(dir, exec);
+    }
+
     /**
      * This methods exists to address possibly forward compatibility issues in KNIME 3.5 and before, see AP-8954.
      * Workflows created and saved in KNIME AP 3.6 were saved incompatibly to prior versions of KNIME (column store
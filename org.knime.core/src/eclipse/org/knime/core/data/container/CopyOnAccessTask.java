@@ -67,7 +67,10 @@
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 import org.knime.core.data.util.NonClosableInputStream;
 import org.knime.core.internal.ReferencedFile;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
@@ -76,7 +79,8 @@
 
 /**
  * Opens (on demand) a zip file from the workspace location and copies the
- * binary data content to temp for further reading. This class creates
+ * binary data content to temp for further reading. Tables saved as plain
+ * files into a directory are linked (or copied) to temp instead. This class creates
  * a {@link Buffer} which reads from the temp file.
  *
  * <p>Think of this class as an runnable that is executed once on demand. It
@@ -89,6 +93,11 @@ final class CopyOnAccessTask {
     private static final NodeLogger LOGGER =
         NodeLogger.getLogger(CopyOnAccessTask.class);
 
+    /** Whether tables saved as plain files are read in place, see
+     * {@link KNIMEConstants#PROPERTY_TABLE_READ_IN_PLACE}. */
+    private static final boolean READ_IN_PLACE =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_READ_IN_PLACE);
+
     /** Delay im ms until copying process is reported to LOGGER, small
      * files won't report their copying (if faster than this threshold). */
     private static final long NOTIFICATION_DELAY = 3000;
@@ -154,6 +163,9 @@ public void run() {
                 }
             };
             KNIMETimer.getInstance().schedule(timerTask, NOTIFICATION_DELAY);
+            if (file.isDirectory()) {
+                return createBufferFromDirectory(file);
+            }
             return createBuffer(
                     new BufferedInputStream(new FileInputStream(file)));
         } finally {
@@ -264,6 +276,70 @@ Buffer createBuffer(final InputStream in) throws IOException {
         return buffer;
     }
 
+    /**
+     * Creates the buffer from a table that was saved as plain files into a directory (see
+     * {@link Buffer#saveToDirectory(File, org.knime.core.node.ExecutionMonitor)}). The files are hard-linked into the
+     * temp directory (or copied if linking fails) -- the buffer deletes its files when it's cleared, which must not
+     * affect the workflow directory. If {@link #READ_IN_PLACE} is set the buffer reads the files directly from the
+     * directory instead (unless the table contains its own file stores, which are always copied).
+     * @param dir The directory containing the table files.
+     * @return The buffer instance reading from the temp file.
+     * @throws IOException If the files can't be accessed.
+     */
+    private Buffer createBufferFromDirectory(final File dir) throws IOException {
+        if (m_spec == null) {
+            throw new IOException("No spec available for table in directory " + dir.getAbsolutePath());
+        }
+        File dataFile = new File(dir, Buffer.ZIP_ENTRY_DATA);
+        if (!dataFile.isFile()) {
+            throw new IOException("No file " + Buffer.ZIP_ENTRY_DATA + " in directory");
+        }
+        File metaFile = new File(dir, Buffer.ZIP_ENTRY_META);
+        if (!metaFile.isFile()) {
+            throw new IOException("No file " + Buffer.ZIP_ENTRY_META + " in directory");
+        }
+        File blobSource = new File(dir, Buffer.ZIP_ENTRY_BLOBS);
+        File fileStoreSource = new File(dir, Buffer.ZIP_ENTRY_FILESTORES);
+        if (READ_IN_PLACE && !fileStoreSource.exists()) {
+            Buffer buffer;
+            try (InputStream metaIn = new BufferedInputStream(new FileInputStream(metaFile))) {
+                buffer = m_bufferCreator.createBuffer(dataFile, blobSource.isDirectory() ? blobSource : null, null,
+                    m_spec, metaIn, m_bufferID, m_tableRep, m_fileStoreHandlerRepository);
+            }
+            buffer.setReadInPlace(dir);
+            if (m_needsRestoreIntoMemory) {
+                buffer.restoreIntoMemory();
+            }
+            return buffer;
+        }
+        File binFile = DataContainer.createTempFile(".tmp");
+        Buffer.linkOrCopy(dataFile, binFile);
+        File blobDir = null;
+        File fileStoreDir = null;
+        try {
+            if (blobSource.isDirectory()) {
+                blobDir = Buffer.createBlobDirNameForTemp(binFile);
+                Buffer.linkOrCopyDir(blobSource, blobDir, new ExecutionMonitor());
+            }
+            if (fileStoreSource.isDirectory()) {
+                fileStoreDir = FileUtil.createTempDir("knime_fs_datacontainer-");
+                Buffer.linkOrCopyDir(fileStoreSource, fileStoreDir, new ExecutionMonitor());
+            }
+        } catch (CanceledExecutionException cee) {
+            // can't happen, private execution monitor
+            throw new IOException(cee);
+        }
+        Buffer buffer;
+        try (InputStream metaIn = new BufferedInputStream(new FileInputStream(metaFile))) {
+            buffer = m_bufferCreator.createBuffer(binFile, blobDir, fileStoreDir,
+                m_spec, metaIn, m_bufferID, m_tableRep, m_fileStoreHandlerRepository);
+        }
+        if (m_needsRestoreIntoMemory) {
+            buffer.restoreIntoMemory();
+        }
+        return buffer;
+    }
+
     /** Get name of file to copy from. Used for better error messages.
      * @return source file
      */
@@ -157,7 +157,7 @@ BlobAddress readBlobAddress() throws IOException {
      * @throws IOException If IO problems occur.
      */
     RowKey readRowKey() throws IOException {
-        return new RowKey(m_dataIn.readUTF());
+        return RowKey.createCompactRowKey(m_dataIn.readUTF());
     }
 
     /** Reads a single byte from the stream.
@@ -53,20 +53,16 @@
 import java.io.OutputStream;
 import java.lang.ref.WeakReference;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Exchanger;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.ZipEntry;
@@ -81,6 +77,7 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
@@ -95,9 +92,9 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.workflow.NodeContext;
-import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.HashDuplicateChecker;
 
 /**
  * Buffer that collects <code>DataRow</code> objects and creates a <code>DataTable</code> on request. This data
@@ -135,6 +132,14 @@ public class DataContainer implements RowAppender {
     /** The default number of cells to be held in memory. */
     public static final int DEF_MAX_CELLS_IN_MEMORY = 100000;
 
+    /**
+     * The default number of bytes a small table of primitive columns may occupy off-heap.
+     *
+     * @see KNIMEConstants#PROPERTY_TABLE_OFF_HEAP_BYTES
+     * @since 3.6
+     */
+    public static final long DEF_MAX_OFF_HEAP_BYTES_PER_TABLE = 64L << 20;
+
     /**
      * Default minimum disc space requirement, see {@link KNIMEConstants#PROPERTY_MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB}.
      *
@@ -143,8 +148,9 @@ public class DataContainer implements RowAppender {
     public static final int DEF_MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB = 100;
 
     /**
-     * For asynchronous table writing (default) the cache size. It's the number of rows that are kept in memory until
-     * handed off to the write routines.
+     * For asynchronous table writing (default) the minimum cache size. It's the number of rows that are kept in memory
+     * until handed off to the write routines. Tables with few columns use larger batches, see
+     * {@link #ASYNC_BATCH_CELL_COUNT}.
      *
      * @see KNIMEConstants#PROPERTY_ASYNC_WRITE_CACHE_SIZE
      */
@@ -216,6 +222,24 @@ public class DataContainer implements RowAppender {
         }
         MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB = minFreeDiscSpaceMB;
 
+        long maxOffHeapBytes = DEF_MAX_OFF_HEAP_BYTES_PER_TABLE;
+        String valOffHeapBytes = System.getProperty(KNIMEConstants.PROPERTY_TABLE_OFF_HEAP_BYTES);
+        if (valOffHeapBytes != null) {
+            String s = valOffHeapBytes.trim();
+            try {
+                long newSize = Long.parseLong(s);
+                if (newSize < 0) {
+                    throw new NumberFormatException("off-heap bytes per table < 0" + newSize);
+                }
+                maxOffHeapBytes = newSize;
+                LOGGER.debug("Setting max off-heap bytes per table to " + maxOffHeapBytes);
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property \"" + KNIMEConstants.PROPERTY_TABLE_OFF_HEAP_BYTES
+                    + "\", using default (" + DEF_MAX_OFF_HEAP_BYTES_PER_TABLE + ")", e);
+            }
+        }
+        MAX_OFF_HEAP_BYTES_PER_TABLE = maxOffHeapBytes;
+
         int asyncCacheSize = DEF_ASYNC_CACHE_SIZE;
         String envAsyncCache = KNIMEConstants.PROPERTY_ASYNC_WRITE_CACHE_SIZE;
         String valAsyncCache = System.getProperty(envAsyncCache);
@@ -248,7 +272,8 @@ public class DataContainer implements RowAppender {
     /**
      * Number of cells that are cached without being written to the temp file (see Buffer implementation); It defaults
      * to the value defined by {@link #DEF_MAX_CELLS_IN_MEMORY} but can be changed using the java property
-     * {@link #PROPERTY_CELLS_IN_MEMORY}.
+     * {@link #PROPERTY_CELLS_IN_MEMORY}. It only limits a single table while it's written; whether tables stay in
+     * memory afterwards is decided by the {@link TableMemoryManager} based on their (estimated) size in bytes.
      */
     public static final int MAX_CELLS_IN_MEMORY;
 
@@ -259,6 +284,14 @@ public class DataContainer implements RowAppender {
      */
     public static final int MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB;
 
+    /**
+     * Number of bytes a small table of primitive columns may occupy off-heap, see
+     * {@link KNIMEConstants#PROPERTY_TABLE_OFF_HEAP_BYTES}.
+     *
+     * @since 3.6
+     */
+    public static final long MAX_OFF_HEAP_BYTES_PER_TABLE;
+
     /**
      * The actual number of possible values being kept at most. See {@link #DEF_MAX_POSSIBLE_VALUES}.
      *
@@ -266,9 +299,21 @@ public class DataContainer implements RowAppender {
      */
     public static final int MAX_POSSIBLE_VALUES;
 
-    /** Size of buffers. */
+    /** Minimum number of rows in a batch handed to the write thread. */
     static final int ASYNC_CACHE_SIZE;
 
+    /**
+     * Number of cells a batch handed to the write thread should contain. The number of rows in a batch is derived from
+     * it and the column count, bounded by {@link #ASYNC_CACHE_SIZE} and {@link #MAX_ASYNC_BATCH_SIZE}.
+     */
+    static final int ASYNC_BATCH_CELL_COUNT = 2000;
+
+    /** Maximum number of rows in a batch handed to the write thread (unless {@link #ASYNC_CACHE_SIZE} is larger). */
+    static final int MAX_ASYNC_BATCH_SIZE = 500;
+
+    /** Number of batches that can be queued for the write thread. */
+    static final int ASYNC_QUEUE_CAPACITY = 4;
+
     /** The executor, which runs the IO tasks. Currently used only while writing rows. */
     static final ThreadPoolExecutor ASYNC_EXECUTORS =
     // see also Executors.newCachedThreadPool(ThreadFactory)
@@ -299,9 +344,6 @@ public Thread newThread(final Runnable r) {
 
     private static final Object FLUSH_CACHE = new Object();
 
-    /** Put into read queue to signal failure while writing a row. */
-    private static final Object CONTAINER_WRITE_FAILED = new Object();
-
     /**
      * The object that instantiates the buffer, may be set right after constructor call before any rows are added.
      */
@@ -331,17 +373,19 @@ public Thread newThread(final Runnable r) {
      */
     private final boolean m_isSynchronousWrite;
 
-    /** The asynchronous queue holding the most recently added rows. */
-    private Exchanger<List<Object>> m_rowBufferExchanger;
+    /** The asynchronous queue holding batches of the most recently added rows. */
+    private RowBatchRingBuffer m_rowBatchQueue;
 
-    private List<Object> m_fillingRowBuffer;
+    /** The batch currently filled by {@link #addRowToTable(DataRow)}, null-terminated if not full. */
+    private Object[] m_fillingRowBatch;
 
-    private List<Object> m_emptyingRowBuffer;
+    /** Number of elements in {@link #m_fillingRowBatch}. */
+    private int m_fillingRowBatchSize;
 
     private int m_maxRowsInMemory;
 
     /** Holds the keys of the added rows to check for duplicates. */
-    private DuplicateChecker m_duplicateChecker;
+    private HashDuplicateChecker m_duplicateChecker;
 
     /** The tablespec of the return table. */
     private DataTableSpec m_spec;
@@ -368,6 +412,9 @@ public Thread newThread(final Runnable r) {
      */
     private boolean m_forceCopyOfBlobs;
 
+    /** Compression of the table file, null for the default. See {@link #setCompressionFormat(CompressionFormat)}. */
+    private CompressionFormat m_compressionFormat;
+
     /**
      * Opens the container so that rows can be added by <code>addRowToTable(DataRow)</code>. The table spec of the
      * resulting table (the one being returned by <code>getTable()</code>) will have a valid column domain. That means,
@@ -427,7 +474,7 @@ protected DataContainer(final DataTableSpec spec, final boolean initDomain, fina
             throw new IllegalArgumentException("Spec must not be null!");
         }
         m_spec = spec;
-        m_duplicateChecker = new DuplicateChecker();
+        m_duplicateChecker = new HashDuplicateChecker();
         boolean isSynchronousWrite = forceSynchronousIO || SYNCHRONOUS_IO;
         if (!isSynchronousWrite && ASYNC_EXECUTORS.getActiveCount() > MAX_ASYNC_WRITE_THREADS) {
             LOGGER.debug("Number of Table IO write threads exceeds " + MAX_ASYNC_WRITE_THREADS
@@ -436,15 +483,13 @@ protected DataContainer(final DataTableSpec spec, final boolean initDomain, fina
         }
         m_isSynchronousWrite = isSynchronousWrite;
         if (m_isSynchronousWrite) {
-            m_fillingRowBuffer = null;
-            m_emptyingRowBuffer = null;
+            m_fillingRowBatch = null;
             m_asyncAddFuture = null;
-            m_rowBufferExchanger = null;
+            m_rowBatchQueue = null;
             m_writeThrowable = null;
         } else {
-            m_fillingRowBuffer = new ArrayList<Object>(ASYNC_CACHE_SIZE);
-            m_emptyingRowBuffer = new ArrayList<Object>(ASYNC_CACHE_SIZE);
-            m_rowBufferExchanger = new Exchanger<List<Object>>();
+            m_fillingRowBatch = new Object[getAsyncBatchSize(spec.getNumColumns())];
+            m_rowBatchQueue = new RowBatchRingBuffer(ASYNC_QUEUE_CAPACITY);
             m_writeThrowable = new AtomicReference<Throwable>();
             m_asyncAddFuture = ASYNC_EXECUTORS.submit(new ASyncWriteCallable(this, NodeContext.getContext()));
         }
@@ -551,6 +596,26 @@ protected final void setForceCopyOfBlobs(final boolean forceCopyOfBlobs) {
         m_forceCopyOfBlobs = forceCopyOfBlobs;
     }
 
+    /**
+     * Sets the compression used when the table is written to disc, overriding the global default (property
+     * {@link KNIMEConstants#PROPERTY_TABLE_GZIP_COMPRESSION}). Nodes that create large intermediate tables, which are
+     * read only once or twice, can use {@link CompressionFormat#Lz4} to trade disc space for considerably faster
+     * writing and reading. The compression is stored with the table so that it is read correctly also if the default
+     * changes. The setting only applies to tables stored in the default table format.
+     *
+     * @param compressionFormat the compression to use or null to use the default
+     * @throws IllegalStateException If this container already has rows, i.e. this method must be called right after
+     *             construction.
+     * @since 3.6
+     */
+    public final void setCompressionFormat(final CompressionFormat compressionFormat) {
+        if (size() > 0) {
+            throw new IllegalStateException("Container already has rows; "
+                + "invocation of this method is only permitted immediately " + "after constructor call.");
+        }
+        m_compressionFormat = compressionFormat;
+    }
+
     /**
      * Get the property, which has possibly been set by {@link #setForceCopyOfBlobs(boolean)}.
      *
@@ -610,6 +675,7 @@ public void close() {
             m_buffer =
                 m_bufferCreator.createBuffer(m_spec, m_maxRowsInMemory, createInternalBufferID(),
                     getGlobalTableRepository(), getLocalTableRepository(), getFileStoreHandler());
+            m_buffer.setCompressionFormat(m_compressionFormat);
         }
         if (!m_isSynchronousWrite) {
             try {
@@ -645,39 +711,54 @@ public void close() {
     }
 
     /**
-     * Adds the argument object (which will be a DataRow unless when called from close()) to the filling data row queue.
-     * It will exchange the filling queue with the emptying queue from the write thread in case the queue is full.
+     * Number of rows in a batch handed to the write thread. Narrow tables use large batches so that the hand-off cost
+     * is spread over many rows, wide tables use small batches to limit the memory held by queued rows.
+     *
+     * @param columnCount number of columns in the table
+     * @return the batch size, at least {@link #ASYNC_CACHE_SIZE} and at least 1
+     */
+    static int getAsyncBatchSize(final int columnCount) {
+        final int size = Math.min(MAX_ASYNC_BATCH_SIZE, ASYNC_BATCH_CELL_COUNT / Math.max(columnCount, 1));
+        return Math.max(Math.max(size, ASYNC_CACHE_SIZE), 1);
+    }
+
+    /**
+     * Adds the argument object (which will be a DataRow unless when called from close()) to the filling batch. It will
+     * hand the batch to the write thread in case the batch is full or the object is a control object.
      *
      * @param object the object to add.
      */
     private void offerToAsynchronousQueue(final Object object) {
-        m_fillingRowBuffer.add(object);
-        if (m_fillingRowBuffer.size() >= ASYNC_CACHE_SIZE || object == CONTAINER_CLOSE || object == FLUSH_CACHE) {
-            while (true) {
-                try {
-                    m_fillingRowBuffer = m_rowBufferExchanger.exchange(m_fillingRowBuffer, 30, TimeUnit.SECONDS);
-                    if (!m_fillingRowBuffer.isEmpty()) {
-                        Object ob = m_fillingRowBuffer.get(0);
-                        assert ob == CONTAINER_WRITE_FAILED : "Not expected element in write queue: " + ob;
-                        m_fillingRowBuffer.clear();
-                        checkAsyncWriteThrowable();
-                    }
-                    return;
-                } catch (TimeoutException e) {
-                    if (m_asyncAddFuture.isDone()) {
-                        checkAsyncWriteThrowable();
-                        // if we reach this code, the write process has not
-                        // thrown an exception (the above line will likely
-                        // throw an exc.)
-                        throw new DataContainerException("Writing to table has unexpectedly stopped");
-                    }
-                    continue;
-                } catch (InterruptedException e) {
-                    m_asyncAddFuture.cancel(true);
-                    throw new DataContainerException("Adding rows to buffer was interrupted", e);
+        final Object[] batch = m_fillingRowBatch;
+        batch[m_fillingRowBatchSize++] = object;
+        if (m_fillingRowBatchSize < batch.length && object != CONTAINER_CLOSE && object != FLUSH_CACHE) {
+            return;
+        }
+        while (true) {
+            try {
+                if (m_rowBatchQueue.offer(batch, 30, TimeUnit.SECONDS)) {
+                    break;
                 }
+            } catch (InterruptedException e) {
+                m_asyncAddFuture.cancel(true);
+                throw new DataContainerException("Adding rows to buffer was interrupted", e);
+            }
+            // write thread failed (queue aborted) or is slow
+            checkAsyncWriteThrowable();
+            if (m_asyncAddFuture.isDone()) {
+                // if we reach this code, the write process has not
+                // thrown an exception (the above line will likely
+                // throw an exc.)
+                throw new DataContainerException("Writing to table has unexpectedly stopped");
+            }
+            if (m_rowBatchQueue.isAborted()) {
+                // write thread is about to finish, wait for it
+                Thread.yield();
             }
         }
+        // the queued batch is owned by the write thread from now on
+        m_fillingRowBatch = object == CONTAINER_CLOSE ? null : new Object[batch.length];
+        m_fillingRowBatchSize = 0;
     }
 
     /**
@@ -770,6 +851,7 @@ public void addRowToTable(final DataRow row) {
             if (m_buffer == null) {
                 throw new NullPointerException("Implementation error, must not return a null buffer.");
             }
+            m_buffer.setCompressionFormat(m_compressionFormat);
         }
         if (m_isSynchronousWrite) {
             if (MemoryAlertSystem.getInstance().isMemoryLow()) {
@@ -830,9 +912,9 @@ protected int createInternalBufferID() {
      * duplicates being added whatsoever.
      *
      * @param key Key being added. This implementation extracts the string representation from it and adds it to an
-     *            internal {@link DuplicateChecker} instance.
+     *            internal {@link HashDuplicateChecker} instance.
      * @throws DataContainerException This implementation may throw a <code>DataContainerException</code> when
-     *             {@link DuplicateChecker#addKey(String)} throws an {@link IOException}.
+     *             {@link HashDuplicateChecker#addKey(String)} throws an {@link IOException}.
      * @throws DuplicateKeyException If a duplicate is encountered.
      */
     protected void addRowKeyForDuplicateCheck(final RowKey key) {
@@ -1117,7 +1199,8 @@ static ContainerTable readFromZip(final ReferencedFile zipFileRef, final BufferC
     /**
      * Used in {@link org.knime.core.node.BufferedDataContainer} to read the tables from the workspace location.
      *
-     * @param zipFile To read from (is going to be copied to temp on access)
+     * @param zipFile To read from (is going to be copied to temp on access), either a zip file or a directory
+     *            containing the plain table files
      * @param spec The DTS for the table.
      * @param bufferID The buffer's id used for blob (de)serialization
      * @param bufferRep Repository of buffers for blob (de)serialization.
@@ -1144,6 +1227,21 @@ static ContainerTable readFromZipDelayed(final CopyOnAccessTask c, final DataTab
         return new ContainerTable(c, spec);
     }
 
+    /**
+     * Copies the files of all tables that are read in place from <code>dir</code> (or any of its sub-directories) to
+     * the temp directory, see {@link KNIMEConstants#PROPERTY_TABLE_READ_IN_PLACE}. Must be called before the content of
+     * a workflow directory is deleted or overwritten. Tables that are saved as plain files are hard-linked, so this is
+     * usually cheap.
+     *
+     * @param dir The directory that is about to be modified.
+     * @throws IOException If copying fails.
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public static void copyTablesReadInPlaceToTemp(final File dir) throws IOException {
+        Buffer.copyInPlaceFilesToTemp(dir);
+    }
+
     /** the temp file will have a time stamp in its name. */
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyyMMdd");
 
@@ -1232,37 +1330,40 @@ private Void callWithContext() throws Exception {
                 // data container was already discarded (no rows added)
                 return null;
             }
-            List<Object> queue = d.m_emptyingRowBuffer;
+            final RowBatchRingBuffer queue = d.m_rowBatchQueue;
             final AtomicReference<Throwable> throwable = d.m_writeThrowable;
-            final Exchanger<List<Object>> exchanger = d.m_rowBufferExchanger;
+            d = null;
             try {
-                do {
-                    final int size = queue.size();
-                    for (int i = 0; i < size; i++) {
-                        Object obj = queue.set(i, null);
-                        if (obj == CONTAINER_CLOSE) {
-                            assert i == size - 1;
+                while (true) {
+                    final Object[] batch = queue.poll(30, TimeUnit.SECONDS);
+                    d = m_containerRef.get();
+                    if (d == null) {
+                        break;
+                    }
+                    if (batch == null) {
+                        // timeout can be safely ignored, do another loop
+                        // (or don't if container is gc'ed)
+                        d = null;
+                        continue;
+                    }
+                    for (int i = 0; i < batch.length; i++) {
+                        Object obj = batch[i];
+                        if (obj == null) {
+                            // end of partially filled batch
+                            break;
+                        } else if (obj == CONTAINER_CLOSE) {
                             // table has been closed
                             // (some non-DataRow was queued)
                             return null;
                         } else if (obj == FLUSH_CACHE) {
-                            assert i == size - 1;
                             d.m_buffer.flushBuffer();
                         } else {
                             DataRow row = (DataRow)obj;
                             d.addRowToTableWrite(row);
                         }
                     }
-                    queue.clear();
                     d = null;
-                    try {
-                        queue = exchanger.exchange(queue, 30, TimeUnit.SECONDS);
-                    } catch (TimeoutException te) {
-                        // can be safely ignored, do another loop on the same
-                        // (empty!) queue (or don't if container is gc'ed)
-                    }
-                    d = m_containerRef.get();
-                } while (d != null);
+                }
                 // m_containerRef.get() returned null -> close() was never
                 // called on the container (which was garbage collected
                 // already); we can end this thread
@@ -1270,16 +1371,8 @@ private Void callWithContext() throws Exception {
                 return null;
             } catch (Throwable t) {
                 throwable.compareAndSet(null, t);
-                boolean callExchange = !queue.contains(CONTAINER_CLOSE);
-                queue.clear();
-                queue.add(CONTAINER_WRITE_FAILED);
-                if (callExchange) {
-                    try {
-                        exchanger.exchange(queue, 30, TimeUnit.SECONDS);
-                    } catch (Exception e) {
-                        // ignore
-                    }
-                }
+                // wake up and fail the producer (which checks the throwable)
+                queue.abort();
                 return null;
             }
         }
@@ -51,7 +51,9 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
@@ -76,38 +78,62 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     static final String CFG_COMPRESSION = "container.compression";
 
     /**
-     * Static field to enable/disable the usage of a GZipInput/OutpuStream when writing the binary data. This option
-     * defaults to {@value DataContainer#DEF_GZIP_COMPRESSION}. */
-    static final boolean IS_USE_GZIP;
+     * Static field defining the compression of the binary data unless set on the individual table. It's read from the
+     * property {@link KNIMEConstants#PROPERTY_TABLE_GZIP_COMPRESSION}, which is either "true" (gzip), "false" (no
+     * compression) or the name of a {@link CompressionFormat}. Defaults to gzip (see
+     * {@value DataContainer#DEF_GZIP_COMPRESSION}). */
+    static final CompressionFormat DEF_COMPRESSION_FORMAT;
 
     static {
         // prefer this block over Boolean.getBoolean(...) to cover typos
         // on command line (warn on console)
-        String isUseGzipString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_GZIP_COMPRESSION);
+        String compressionString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_GZIP_COMPRESSION);
+        final CompressionFormat defFormat =
+            DataContainer.DEF_GZIP_COMPRESSION ? CompressionFormat.Gzip : CompressionFormat.None;
         boolean debugLog = true;
-        if (isUseGzipString == null) {
-            isUseGzipString = Boolean.toString(DataContainer.DEF_GZIP_COMPRESSION);
+        if (compressionString == null) {
+            compressionString = Boolean.toString(DataContainer.DEF_GZIP_COMPRESSION);
             debugLog = false;
         }
-        if ("true".equals(isUseGzipString)) {
-            IS_USE_GZIP = true;
-        } else if ("false".equals(isUseGzipString)) {
-            IS_USE_GZIP = false;
+        CompressionFormat format = defFormat;
+        if ("true".equals(compressionString)) {
+            format = CompressionFormat.Gzip;
+        } else if ("false".equals(compressionString)) {
+            format = CompressionFormat.None;
         } else {
-            debugLog = false;
-            LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_GZIP_COMPRESSION + " (\""
-                    + isUseGzipString + "\"); defaulting to " + DataContainer.DEF_GZIP_COMPRESSION);
-            IS_USE_GZIP = DataContainer.DEF_GZIP_COMPRESSION;
+            final String formatName = compressionString;
+            Optional<CompressionFormat> match = Arrays.stream(CompressionFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(formatName)).findFirst();
+            if (match.isPresent()) {
+                format = match.get();
+            } else {
+                debugLog = false;
+                LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_GZIP_COMPRESSION + " (\""
+                    + compressionString + "\"); defaulting to " + defFormat);
+            }
         }
+        DEF_COMPRESSION_FORMAT = format;
         if (debugLog) {
-            LOGGER.debug("Setting table stream compression to " + IS_USE_GZIP);
+            LOGGER.debug("Setting table stream compression to " + DEF_COMPRESSION_FORMAT);
         }
     }
 
-    /** Compression on the binary (main) file. */
-    enum CompressionFormat {
-            Gzip,
-            None;
+    /**
+     * Compression on the binary (main) file. The name of the constant is stored along with the table, constants must
+     * therefore not be renamed.
+     *
+     * @since 3.6
+     */
+    public enum CompressionFormat {
+        /** Gzip compression, best compression ratio but slow. */
+        Gzip,
+        /** No compression. */
+        None,
+        /**
+         * Fast block compression (LZ4 block format, pure java). Compresses considerably less than gzip but is many
+         * times faster in writing and reading. Tables written with this option can't be read by KNIME 3.5 and before.
+         */
+        Lz4;
     }
 
     @Override
@@ -137,7 +163,22 @@ public AbstractTableStoreWriter createWriter(final File binFile, final DataTable
     @Override
     public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
         final boolean writeRowKey) throws IOException {
-        return new DefaultTableStoreWriter(spec, output, writeRowKey);
+        return createWriter(output, spec, writeRowKey, DEF_COMPRESSION_FORMAT);
+    }
+
+    /**
+     * Creates a writer using a specific compression rather than the default.
+     *
+     * @param output the stream to write to
+     * @param spec the spec of the table
+     * @param writeRowKey whether to write the row keys
+     * @param compressionFormat the compression to use, not null
+     * @return a new writer
+     * @throws IOException If the output can't be initialized
+     */
+    AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey, final CompressionFormat compressionFormat) throws IOException {
+        return new DefaultTableStoreWriter(spec, output, writeRowKey, compressionFormat);
     }
 
     /**
@@ -51,7 +51,8 @@
 import java.io.IOException;
 
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.container.Buffer.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.node.InvalidSettingsException;
@@ -101,6 +102,16 @@ public TableStoreCloseableRowIterator iterator() throws IOException {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter) throws IOException {
+        if (m_version <= 5) {
+            return super.iteratorWithFilter(filter);
+        } else {
+            return new BufferFromFileIteratorVersion20(this, filter);
+        }
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
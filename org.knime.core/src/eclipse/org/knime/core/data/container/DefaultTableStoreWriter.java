@@ -87,8 +87,22 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      */
     public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey)
         throws IOException {
+        this(spec, outputStream, writeRowKey, DefaultTableStoreFormat.DEF_COMPRESSION_FORMAT);
+    }
+
+    /**
+     * Constructs a writer for writing KNIME tables to disk using a specific compression.
+     *
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream the stream to write to
+     * @param writeRowKey a flag that determines whether to store the row keys
+     * @param compressionFormat the compression of the stream, not null
+     * @throws IOException any type of I/O problem
+     */
+    DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final CompressionFormat compressionFormat) throws IOException {
         super(spec, writeRowKey);
-        m_compressionFormat = DefaultTableStoreFormat.IS_USE_GZIP ? CompressionFormat.Gzip : CompressionFormat.None;
+        m_compressionFormat = compressionFormat;
         m_outStream = initOutFile(new BufferedOutputStream(outputStream));
     }
 
@@ -179,6 +193,10 @@ private DCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws
                 // and ~30s with buffering)
                 wrap = new BufferedOutputStream(wrap);
                 break;
+            case Lz4:
+                // buffers internally, no need for another buffered stream
+                wrap = new Lz4BlockOutputStream(outStream);
+                break;
             case None:
                 wrap = outStream;
                 break;
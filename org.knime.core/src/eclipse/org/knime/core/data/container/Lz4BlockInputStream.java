@@ -0,0 +1,278 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import static org.knime.core.data.container.Lz4BlockOutputStream.BLOCK_SIZE;
+import static org.knime.core.data.container.Lz4BlockOutputStream.HEADER_LENGTH;
+import static org.knime.core.data.container.Lz4BlockOutputStream.MIN_MATCH;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counterpart to {@link Lz4BlockOutputStream}, see there for a description of the stream format. The stream buffers
+ * an entire block so it doesn't need to be wrapped in a {@link java.io.BufferedInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class Lz4BlockInputStream extends FilterInputStream {
+
+    private final byte[] m_header = new byte[HEADER_LENGTH];
+
+    private final byte[] m_block = new byte[BLOCK_SIZE];
+
+    private final byte[] m_compressed = new byte[Lz4BlockOutputStream.maxCompressedLength(BLOCK_SIZE)];
+
+    /** Number of valid bytes in {@link #m_block}. */
+    private int m_count;
+
+    /** Position of the next byte to return from {@link #m_block}. */
+    private int m_position;
+
+    private boolean m_isEndOfStream;
+
+    /**
+     * @param in the stream to read the compressed data from
+     */
+    Lz4BlockInputStream(final InputStream in) {
+        super(in);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        if (m_position == m_count && !readBlock()) {
+            return -1;
+        }
+        return m_block[m_position++] & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (m_position == m_count && !readBlock()) {
+            return -1;
+        }
+        final int length = Math.min(len, m_count - m_position);
+        System.arraycopy(m_block, m_position, b, off, length);
+        m_position += length;
+        return length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n) {
+            if (m_position == m_count && !readBlock()) {
+                break;
+            }
+            final int length = (int)Math.min(n - skipped, m_count - m_position);
+            m_position += length;
+            skipped += length;
+        }
+        return skipped;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        return m_count - m_position;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void mark(final int readlimit) {
+        // not supported
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads and decompresses the next block.
+     *
+     * @return false if the end marker was read
+     */
+    private boolean readBlock() throws IOException {
+        if (m_isEndOfStream) {
+            return false;
+        }
+        readFully(m_header, HEADER_LENGTH);
+        final int rawLength = readInt(m_header, 0);
+        final int storedLength = readInt(m_header, 4);
+        if (rawLength == 0 && storedLength == 0) {
+            m_isEndOfStream = true;
+            return false;
+        }
+        if (rawLength <= 0 || rawLength > BLOCK_SIZE || storedLength <= 0 || storedLength > rawLength) {
+            throw new IOException(
+                "Corrupt compressed stream, invalid block header (" + rawLength + ", " + storedLength + ")");
+        }
+        if (storedLength == rawLength) {
+            readFully(m_block, rawLength);
+        } else {
+            readFully(m_compressed, storedLength);
+            final int length = decompress(m_compressed, 0, storedLength, m_block, 0, rawLength);
+            if (length != rawLength) {
+                throw new IOException("Corrupt compressed stream, block decompresses to " + length
+                    + " bytes, expected " + rawLength);
+            }
+        }
+        m_count = rawLength;
+        m_position = 0;
+        return true;
+    }
+
+    private void readFully(final byte[] b, final int length) throws IOException {
+        int count = 0;
+        while (count < length) {
+            final int read = in.read(b, count, length - count);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of compressed stream");
+            }
+            count += read;
+        }
+    }
+
+    private static int readInt(final byte[] b, final int off) {
+        return ((b[off] & 0xFF) << 24) | ((b[off + 1] & 0xFF) << 16) | ((b[off + 2] & 0xFF) << 8)
+            | (b[off + 3] & 0xFF);
+    }
+
+    /**
+     * Decompresses a single LZ4 block.
+     *
+     * @param src the compressed block
+     * @param srcOff offset of the block in <code>src</code>
+     * @param srcLen length of the compressed block
+     * @param dest array to write the decompressed bytes to
+     * @param destOff offset in <code>dest</code>
+     * @param maxLength maximum number of bytes to write to <code>dest</code>
+     * @return the number of decompressed bytes
+     * @throws IOException If the block is corrupt
+     */
+    static int decompress(final byte[] src, final int srcOff, final int srcLen, final byte[] dest,
+        final int destOff, final int maxLength) throws IOException {
+        final int srcEnd = srcOff + srcLen;
+        final int destEnd = destOff + maxLength;
+        int sOff = srcOff;
+        int dOff = destOff;
+        try {
+            while (true) {
+                final int token = src[sOff++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int b;
+                    do {
+                        b = src[sOff++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                if (literalLength > srcEnd - sOff || literalLength > destEnd - dOff) {
+                    throw new IOException("Corrupt compressed block, literals exceed block bounds");
+                }
+                System.arraycopy(src, sOff, dest, dOff, literalLength);
+                sOff += literalLength;
+                dOff += literalLength;
+                if (sOff == srcEnd) {
+                    // last sequence has no match
+                    return dOff - destOff;
+                }
+                if (sOff > srcEnd - 2) {
+                    throw new IOException("Corrupt compressed block, unexpected end of block");
+                }
+                final int matchOffset = (src[sOff] & 0xFF) | ((src[sOff + 1] & 0xFF) << 8);
+                sOff += 2;
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[sOff++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                int ref = dOff - matchOffset;
+                if (matchOffset == 0 || ref < destOff || matchLength > destEnd - dOff || sOff > srcEnd) {
+                    throw new IOException("Corrupt compressed block, invalid match at offset " + (sOff - srcOff));
+                }
+                if (matchOffset >= matchLength) {
+                    System.arraycopy(dest, ref, dest, dOff, matchLength);
+                    dOff += matchLength;
+                } else {
+                    // overlapping copy (repeated pattern), byte by byte
+                    final int end = dOff + matchLength;
+                    while (dOff < end) {
+                        dest[dOff++] = dest[ref++];
+                    }
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt compressed block, unexpected end of block", e);
+        }
+    }
+
+}
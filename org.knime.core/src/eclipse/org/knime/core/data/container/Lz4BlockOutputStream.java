@@ -0,0 +1,300 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Output stream that compresses its data block-wise using the LZ4 block format. This is a pure java implementation of
+ * the (fast, greedy) LZ4 compression; it favors speed over compression ratio and is considerably faster than gzip.
+ *
+ * <p>
+ * Stream format: the data is split into blocks of at most {@link #BLOCK_SIZE} bytes, each block is preceded by a
+ * header consisting of two (big endian) ints: the number of uncompressed bytes and the number of bytes stored. If both
+ * numbers are equal the block is stored uncompressed (this happens for incompressible data), otherwise it is a LZ4
+ * compressed block. The stream is terminated by a header with both numbers being 0, which allows the reader to detect
+ * truncated files.
+ *
+ * <p>
+ * Similar to a {@link java.util.zip.GZIPOutputStream} a {@link #flush()} does not finish the current block but only
+ * flushes the underlying stream.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see Lz4BlockInputStream
+ */
+final class Lz4BlockOutputStream extends FilterOutputStream {
+
+    /** Maximum number of uncompressed bytes in a block. */
+    static final int BLOCK_SIZE = 1 << 16;
+
+    /** Length of a block header. */
+    static final int HEADER_LENGTH = 8;
+
+    static final int MIN_MATCH = 4;
+
+    /** The last 5 bytes of a block are always literals. */
+    static final int LAST_LITERALS = 5;
+
+    /** A match must not start within the last 12 bytes of a block. */
+    private static final int MF_LIMIT = 12;
+
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+
+    private static final int HASH_LOG = 14;
+
+    /** Controls how fast the compressor skips incompressible data. */
+    private static final int SKIP_STRENGTH = 6;
+
+    private final byte[] m_block = new byte[BLOCK_SIZE];
+
+    private final byte[] m_compressed = new byte[HEADER_LENGTH + maxCompressedLength(BLOCK_SIZE)];
+
+    private final int[] m_hashTable = new int[1 << HASH_LOG];
+
+    private int m_count;
+
+    private boolean m_isFinished;
+
+    /**
+     * @param out the stream to write the compressed data to
+     */
+    Lz4BlockOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_count == BLOCK_SIZE) {
+            writeBlock();
+        }
+        m_block[m_count++] = (byte)b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_count == BLOCK_SIZE) {
+                writeBlock();
+            }
+            final int length = Math.min(remaining, BLOCK_SIZE - m_count);
+            System.arraycopy(b, offset, m_block, m_count, length);
+            m_count += length;
+            offset += length;
+            remaining -= length;
+        }
+    }
+
+    /** Compresses and writes the current block (if not empty). */
+    private void writeBlock() throws IOException {
+        if (m_count == 0) {
+            return;
+        }
+        int compressedLength = compress(m_block, 0, m_count, m_compressed, HEADER_LENGTH, m_hashTable);
+        if (compressedLength >= m_count) {
+            // incompressible, store raw
+            System.arraycopy(m_block, 0, m_compressed, HEADER_LENGTH, m_count);
+            compressedLength = m_count;
+        }
+        writeInt(m_compressed, 0, m_count);
+        writeInt(m_compressed, 4, compressedLength);
+        out.write(m_compressed, 0, HEADER_LENGTH + compressedLength);
+        m_count = 0;
+    }
+
+    /**
+     * Writes all pending data and the end marker but doesn't close the underlying stream.
+     *
+     * @throws IOException If writing fails
+     */
+    void finish() throws IOException {
+        if (!m_isFinished) {
+            writeBlock();
+            writeInt(m_compressed, 0, 0);
+            writeInt(m_compressed, 4, 0);
+            out.write(m_compressed, 0, HEADER_LENGTH);
+            m_isFinished = true;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void writeInt(final byte[] b, final int off, final int value) {
+        b[off] = (byte)(value >>> 24);
+        b[off + 1] = (byte)(value >>> 16);
+        b[off + 2] = (byte)(value >>> 8);
+        b[off + 3] = (byte)value;
+    }
+
+    /**
+     * @param length number of uncompressed bytes
+     * @return the maximum length of a compressed block of the given length
+     */
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    private static int readInt(final byte[] b, final int off) {
+        return ((b[off] & 0xFF) << 24) | ((b[off + 1] & 0xFF) << 16) | ((b[off + 2] & 0xFF) << 8)
+            | (b[off + 3] & 0xFF);
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    /**
+     * Compresses the argument bytes into a single LZ4 block.
+     *
+     * @param src the bytes to compress
+     * @param srcOff offset in <code>src</code>
+     * @param srcLen number of bytes to compress, at most {@link #BLOCK_SIZE}
+     * @param dest the destination array, must have at least {@link #maxCompressedLength(int)} bytes after
+     *            <code>destOff</code>
+     * @param destOff offset in <code>dest</code>
+     * @param hashTable a temp array of size <code>1 &lt;&lt; HASH_LOG</code>, contents are overwritten
+     * @return the number of bytes written to <code>dest</code>
+     */
+    static int compress(final byte[] src, final int srcOff, final int srcLen, final byte[] dest, final int destOff,
+        final int[] hashTable) {
+        final int srcEnd = srcOff + srcLen;
+        int anchor = srcOff;
+        int dOff = destOff;
+        if (srcLen > MF_LIMIT) {
+            Arrays.fill(hashTable, -1);
+            final int mfLimit = srcEnd - MF_LIMIT;
+            final int matchLimit = srcEnd - LAST_LITERALS;
+            int sOff = srcOff;
+            while (sOff < mfLimit) {
+                final int sequence = readInt(src, sOff);
+                final int h = hash(sequence);
+                int ref = hashTable[h];
+                hashTable[h] = sOff;
+                if (ref < 0 || sOff - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    sOff += 1 + ((sOff - anchor) >>> SKIP_STRENGTH);
+                    continue;
+                }
+                // extend match backwards
+                while (sOff > anchor && ref > srcOff && src[sOff - 1] == src[ref - 1]) {
+                    sOff--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (sOff + matchLength < matchLimit && src[sOff + matchLength] == src[ref + matchLength]) {
+                    matchLength++;
+                }
+                dOff = writeSequence(src, anchor, sOff - anchor, sOff - ref, matchLength, dest, dOff);
+                sOff += matchLength;
+                anchor = sOff;
+                if (sOff < mfLimit) {
+                    // improves the ratio for repetitive data at little cost
+                    hashTable[hash(readInt(src, sOff - 2))] = sOff - 2;
+                }
+            }
+        }
+        return writeSequence(src, anchor, srcEnd - anchor, 0, 0, dest, dOff) - destOff;
+    }
+
+    /** Writes a sequence (literals followed by a match), the match is omitted if <code>matchLength</code> is 0. */
+    private static int writeSequence(final byte[] src, final int literalOff, final int literalLength,
+        final int matchOffset, final int matchLength, final byte[] dest, final int destOff) {
+        int dOff = destOff;
+        final int tokenOff = dOff++;
+        int token;
+        if (literalLength >= 15) {
+            token = 15 << 4;
+            dOff = writeLength(literalLength - 15, dest, dOff);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(src, literalOff, dest, dOff, literalLength);
+        dOff += literalLength;
+        if (matchLength > 0) {
+            dest[dOff++] = (byte)matchOffset;
+            dest[dOff++] = (byte)(matchOffset >>> 8);
+            final int length = matchLength - MIN_MATCH;
+            if (length >= 15) {
+                token |= 15;
+                dOff = writeLength(length - 15, dest, dOff);
+            } else {
+                token |= length;
+            }
+        }
+        dest[tokenOff] = (byte)token;
+        return dOff;
+    }
+
+    private static int writeLength(final int length, final byte[] dest, final int destOff) {
+        int dOff = destOff;
+        int remaining = length;
+        while (remaining >= 255) {
+            dest[dOff++] = (byte)255;
+            remaining -= 255;
+        }
+        dest[dOff++] = (byte)remaining;
+        return dOff;
+    }
+
+}
@@ -0,0 +1,496 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnarColumnReader.StringColumnReader;
+import org.knime.core.data.container.ColumnarColumnWriter.StringColumnWriter;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * The in-memory representation of small tables kept by a {@link Buffer}, storing the rows outside the java heap.
+ * Rows are collected in chunks; full chunks are encoded column-wise (same block encoding as the
+ * {@link ColumnarTableStoreFormat}) into a direct {@link ByteBuffer} and decoded again on access. Only the rows of the
+ * last, incomplete chunk are kept as objects on the heap.
+ *
+ * <p>
+ * The encoded size of a list is limited by a byte budget (per table) and by a limit on the total size of all lists.
+ * Once a limit is hit or a row can't be encoded (blobs, file stores), the list is {@link #isLimitExceeded() exceeded}
+ * and the buffer is expected to write its content to disc. {@link #release()} frees the memory without waiting for
+ * the garbage collector, {@link #releaseLazily()} leaves it to the garbage collector so that readers can continue.
+ *
+ * <p>
+ * The list can only be modified via {@link #add(BlobSupportDataRow)} until it is {@link #close() closed}. Reading is
+ * thread-safe; sequential readers should use a {@link Cursor}, which decodes each chunk only once.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffHeapRowList extends AbstractList<BlobSupportDataRow> implements RandomAccess {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OffHeapRowList.class);
+
+    /** Number of cells that are collected before a chunk is encoded, determines the number of rows per chunk. */
+    static final int TARGET_CELLS_PER_CHUNK = 1 << 14;
+
+    /** Upper bound for the number of rows in a chunk (narrow tables). */
+    static final int MAX_ROWS_PER_CHUNK = 1 << 10;
+
+    /** Limit of the total number of bytes held by all lists, protects against exhausting the direct memory. */
+    static final long TOTAL_BYTE_LIMIT = Runtime.getRuntime().maxMemory() / 4;
+
+    /** Number of bytes held by all (not released) lists. */
+    private static final AtomicLong ALLOCATED_BYTES = new AtomicLong();
+
+    private final ColumnType[] m_types;
+
+    private final int m_rowsPerChunk;
+
+    private final long m_byteBudget;
+
+    /** Encoded chunks, each one (but the last after closing) holding {@link #m_rowsPerChunk} rows. */
+    private final List<Chunk> m_chunks = new ArrayList<>();
+
+    /** Rows not yet encoded (the last chunk). Replaced rather than cleared as readers may access it concurrently. */
+    private volatile List<BlobSupportDataRow> m_pendingRows;
+
+    /** Column writers used to encode a chunk, created on first use. */
+    private ColumnarColumnWriter[] m_writers;
+
+    private final ByteArrayOutputStream m_chunkBytes = new ByteArrayOutputStream();
+
+    private final DataOutputStream m_chunkOut = new DataOutputStream(m_chunkBytes);
+
+    /** Number of bytes held by this list. */
+    private long m_size;
+
+    /** Number of rows in the encoded chunks. */
+    private volatile int m_encodedRowCount;
+
+    /** Number of rows in the list, updated last when a row is added. */
+    private volatile int m_rowCount;
+
+    private boolean m_isLimitExceeded;
+
+    private boolean m_isClosed;
+
+    private boolean m_isReleased;
+
+    /** Whether the off-heap memory has been freed, any access to rows fails afterwards. */
+    private volatile boolean m_isFreed;
+
+    /** The chunk decoded last by {@link #get(int)}. */
+    private volatile DecodedChunk m_lastDecodedChunk;
+
+    /**
+     * @param spec the spec of the table, must be {@link #isSupported(DataTableSpec) supported}
+     * @param byteBudget maximum number of bytes to be held by this list
+     */
+    OffHeapRowList(final DataTableSpec spec, final long byteBudget) {
+        m_types = ColumnarTableStoreFormat.getStoredColumnTypes(spec, true);
+        m_rowsPerChunk = Math.max(ColumnarTableStoreFormat.MIN_ROWS_PER_CHUNK,
+            Math.min(MAX_ROWS_PER_CHUNK, TARGET_CELLS_PER_CHUNK / m_types.length));
+        m_byteBudget = byteBudget;
+        m_pendingRows = new ArrayList<>(m_rowsPerChunk);
+    }
+
+    /**
+     * @param spec a table spec
+     * @return whether tables of that spec can be kept in an off-heap list (all column types are primitive types
+     *         supported by the {@link ColumnarTableStoreFormat})
+     */
+    static boolean isSupported(final DataTableSpec spec) {
+        return new ColumnarTableStoreFormat().accepts(spec);
+    }
+
+    /** @return number of bytes currently held by all off-heap lists. */
+    static long getAllocatedBytes() {
+        return ALLOCATED_BYTES.get();
+    }
+
+    /**
+     * Adds a row. If the row completes a chunk, the chunk is encoded into off-heap memory. If that fails (limits hit
+     * or cells not supported) the rows stay on the heap and the list is marked as {@link #isLimitExceeded() exceeded}.
+     *
+     * @param row the row to add
+     * @return true
+     * @throws IllegalStateException If the list is closed
+     */
+    @Override
+    public synchronized boolean add(final BlobSupportDataRow row) {
+        if (m_isClosed || m_isReleased) {
+            throw new IllegalStateException("Off-heap row list is " + (m_isReleased ? "cleared" : "closed"));
+        }
+        m_pendingRows.add(row);
+        if (!m_isLimitExceeded && m_pendingRows.size() == m_rowsPerChunk) {
+            encodePendingRows();
+        }
+        m_rowCount += 1;
+        return true;
+    }
+
+    /**
+     * Whether the list exceeded its limits or contains rows that can't be encoded; its content should be written to
+     * disc.
+     *
+     * @return that property
+     */
+    synchronized boolean isLimitExceeded() {
+        return m_isLimitExceeded;
+    }
+
+    /** @return number of off-heap bytes held by this list */
+    synchronized long getSizeInBytes() {
+        return m_size;
+    }
+
+    /** Encodes the rows of the last chunk (if possible) and disallows further modification. */
+    synchronized void close() {
+        if (!m_isClosed && !m_isReleased && !m_isLimitExceeded && !m_pendingRows.isEmpty()) {
+            encodePendingRows();
+        }
+        m_isClosed = true;
+        m_writers = null;
+    }
+
+    /**
+     * Releases the list and frees the off-heap memory right away, no rows can be added afterwards. Any access to rows
+     * afterwards fails, including the access by {@link Cursor cursors} that are still open.
+     */
+    synchronized void release() {
+        releaseLazily();
+        if (!m_isFreed) {
+            free();
+        }
+    }
+
+    /**
+     * Releases the list without freeing the off-heap memory, no rows can be added afterwards. The rows can still be
+     * read, the memory is freed by the garbage collector once the list isn't referenced any more.
+     */
+    synchronized void releaseLazily() {
+        if (m_isReleased) {
+            return;
+        }
+        m_isReleased = true;
+        m_writers = null;
+        ALLOCATED_BYTES.addAndGet(-m_size);
+        m_size = 0L;
+    }
+
+    private void free() {
+        assert Thread.holdsLock(this);
+        m_isFreed = true;
+        for (Chunk chunk : m_chunks) {
+            freeDirectBuffer(chunk.m_data);
+        }
+        m_chunks.clear();
+        m_pendingRows = new ArrayList<>(0);
+        m_encodedRowCount = 0;
+        m_rowCount = 0;
+        m_lastDecodedChunk = null;
+    }
+
+    private void encodePendingRows() {
+        final List<BlobSupportDataRow> rows = m_pendingRows;
+        if (m_writers == null) {
+            m_writers = new ColumnarColumnWriter[m_types.length];
+            for (int i = 0; i < m_types.length; i++) {
+                m_writers[i] = ColumnarColumnWriter.create(m_types[i], m_rowsPerChunk);
+            }
+        }
+        final int[] blockEnds = new int[m_writers.length];
+        m_chunkBytes.reset();
+        try {
+            for (BlobSupportDataRow row : rows) {
+                ((StringColumnWriter)m_writers[0]).addString(row.getKey().getString());
+                for (int i = 1; i < m_writers.length; i++) {
+                    m_writers[i].add(row.getRawCell(i - 1));
+                }
+            }
+            for (int i = 0; i < m_writers.length; i++) {
+                m_writers[i].encode(m_chunkOut);
+                m_chunkOut.flush();
+                blockEnds[i] = m_chunkBytes.size();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to keep table off-heap: " + e.getMessage(), e);
+            m_isLimitExceeded = true;
+            return;
+        } finally {
+            for (ColumnarColumnWriter writer : m_writers) {
+                writer.reset();
+            }
+        }
+        final int length = m_chunkBytes.size();
+        if (m_size + length > m_byteBudget || !reserve(length)) {
+            m_isLimitExceeded = true;
+            return;
+        }
+        final ByteBuffer data;
+        try {
+            data = ByteBuffer.allocateDirect(length);
+        } catch (OutOfMemoryError e) {
+            ALLOCATED_BYTES.addAndGet(-length);
+            LOGGER.debug("Unable to allocate off-heap memory for table: " + e.getMessage());
+            m_isLimitExceeded = true;
+            return;
+        }
+        data.put(m_chunkBytes.toByteArray());
+        data.flip();
+        m_size += length;
+        m_chunks.add(new Chunk(data, blockEnds, rows.size()));
+        // order matters: readers read the pending list before the count
+        // and may still hold the current list, hence no clear()
+        m_encodedRowCount += rows.size();
+        m_pendingRows = new ArrayList<>(m_rowsPerChunk);
+    }
+
+    private static boolean reserve(final long length) {
+        while (true) {
+            final long current = ALLOCATED_BYTES.get();
+            if (current + length > TOTAL_BYTE_LIMIT) {
+                return false;
+            }
+            if (ALLOCATED_BYTES.compareAndSet(current, current + length)) {
+                return true;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return m_rowCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BlobSupportDataRow get(final int index) {
+        checkNotFreed();
+        final int chunkIndex = index / m_rowsPerChunk;
+        DecodedChunk chunk = m_lastDecodedChunk;
+        if (chunk == null || chunk.m_chunkIndex != chunkIndex) {
+            if (index >= m_encodedRowCount) {
+                return getPendingRow(index);
+            }
+            chunk = decode(chunkIndex);
+            m_lastDecodedChunk = chunk;
+        }
+        return chunk.getRow(index - chunkIndex * m_rowsPerChunk);
+    }
+
+    private BlobSupportDataRow getPendingRow(final int index) {
+        final List<BlobSupportDataRow> pendingRows = m_pendingRows;
+        final int encoded = m_encodedRowCount;
+        if (index < encoded) {
+            // chunk got encoded concurrently
+            return get(index);
+        }
+        if (index - encoded >= pendingRows.size()) {
+            throw new IndexOutOfBoundsException("Row index " + index + ", size " + size());
+        }
+        return pendingRows.get(index - encoded);
+    }
+
+    private void checkNotFreed() {
+        if (m_isFreed) {
+            throw new IllegalStateException("Off-heap row list is cleared");
+        }
+    }
+
+    private synchronized DecodedChunk decode(final int chunkIndex) {
+        checkNotFreed();
+        final Chunk chunk = m_chunks.get(chunkIndex);
+        final int nrRows = chunk.m_rowCount;
+        final ColumnarColumnReader[] readers = new ColumnarColumnReader[m_types.length];
+        final ByteBuffer data = chunk.m_data.duplicate();
+        int start = 0;
+        try {
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = ColumnarColumnReader.create(m_types[i]);
+                data.limit(chunk.m_blockEnds[i]).position(start);
+                readers[i].decode(data, nrRows);
+                start = chunk.m_blockEnds[i];
+            }
+        } catch (IOException e) {
+            // encoded by this class, can't be corrupt
+            throw new IllegalStateException("Unable to decode off-heap row chunk: " + e.getMessage(), e);
+        }
+        return new DecodedChunk(chunkIndex, readers);
+    }
+
+    /**
+     * Frees the memory of a direct buffer. Uses internal API (different in java 8 and 9+), if that's not available the
+     * memory is freed by the garbage collector.
+     */
+    private static void freeDirectBuffer(final ByteBuffer buffer) {
+        try {
+            if (INVOKE_CLEANER != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+        }
+    }
+
+    /** sun.misc.Unsafe instance, only set in java 9+. */
+    private static final Object UNSAFE;
+
+    /** sun.misc.Unsafe#invokeCleaner(ByteBuffer), only available in java 9+. */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Sequential read access for a single reader (iterator), keeps the decoded chunk of the last access. Cursors should
+     * be {@link #close() closed} when done; not thread-safe. A cursor doesn't keep the list from being
+     * {@link OffHeapRowList#release() freed}, it fails on the next access afterwards.
+     */
+    final class Cursor {
+
+        private DecodedChunk m_chunk;
+
+        /** Closes the cursor, drops the decoded chunk. */
+        void close() {
+            m_chunk = null;
+        }
+
+        /**
+         * @param index the row index
+         * @return the row at that index
+         * @throws IllegalStateException if the list has been freed
+         */
+        BlobSupportDataRow get(final int index) {
+            checkNotFreed();
+            final int chunkIndex = index / m_rowsPerChunk;
+            if (m_chunk == null || m_chunk.m_chunkIndex != chunkIndex) {
+                if (index >= m_encodedRowCount) {
+                    return getPendingRow(index);
+                }
+                m_chunk = decode(chunkIndex);
+            }
+            return m_chunk.getRow(index - chunkIndex * m_rowsPerChunk);
+        }
+    }
+
+    /** An encoded chunk: the column blocks in a direct buffer. */
+    private static final class Chunk {
+
+        private final ByteBuffer m_data;
+
+        /** Offset after the end of each column block. */
+        private final int[] m_blockEnds;
+
+        private final int m_rowCount;
+
+        Chunk(final ByteBuffer data, final int[] blockEnds, final int rowCount) {
+            m_data = data;
+            m_blockEnds = blockEnds;
+            m_rowCount = rowCount;
+        }
+    }
+
+    /** A chunk decoded to primitive arrays, immutable once created. */
+    private static final class DecodedChunk {
+
+        private final int m_chunkIndex;
+
+        private final ColumnarColumnReader[] m_readers;
+
+        DecodedChunk(final int chunkIndex, final ColumnarColumnReader[] readers) {
+            m_chunkIndex = chunkIndex;
+            m_readers = readers;
+        }
+
+        BlobSupportDataRow getRow(final int row) {
+            final RowKey key = new RowKey(((StringColumnReader)m_readers[0]).getString(row));
+            final DataCell[] cells = new DataCell[m_readers.length - 1];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = m_readers[i + 1].getCell(row);
+            }
+            return new BlobSupportDataRow(key, cells);
+        }
+    }
+
+}
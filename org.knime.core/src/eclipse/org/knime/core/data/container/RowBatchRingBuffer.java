@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded single-producer/single-consumer queue of row batches used to hand rows from the thread calling
+ * {@link DataContainer#addRowToTable(org.knime.core.data.DataRow)} to the asynchronous write thread. The queue is a
+ * ring of slots with a head (consumer) and tail (producer) counter; neither side takes a lock. A side that has to wait
+ * (queue full or empty) spins briefly and then parks until the other side wakes it up or the timeout elapses.
+ *
+ * <p>
+ * A batch is an object array, filled from the start; a <code>null</code> element marks the end of a partially filled
+ * batch. Only one thread must call {@link #offer(Object[], long, TimeUnit)} and only one (other) thread must call
+ * {@link #poll(long, TimeUnit)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowBatchRingBuffer {
+
+    /** Number of times a waiting thread re-checks the condition before it parks. */
+    private static final int SPIN_COUNT = 64;
+
+    private final Object[][] m_slots;
+
+    private final int m_mask;
+
+    /** Number of batches offered so far, only written by the producer. */
+    private final AtomicLong m_tail = new AtomicLong();
+
+    /** Number of batches taken so far, only written by the consumer. */
+    private final AtomicLong m_head = new AtomicLong();
+
+    private volatile Thread m_waitingProducer;
+
+    private volatile Thread m_waitingConsumer;
+
+    private volatile boolean m_isAborted;
+
+    /**
+     * @param capacity the number of batches the queue holds, will be rounded up to the next power of two
+     * @throws IllegalArgumentException If the capacity is not positive
+     */
+    RowBatchRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        m_slots = new Object[size][];
+        m_mask = size - 1;
+    }
+
+    /**
+     * Appends a batch, waits if the queue is full.
+     *
+     * @param batch the batch, not null
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return true if the batch was added, false if the timeout elapsed or the queue was {@link #abort() aborted}
+     * @throws InterruptedException If interrupted while waiting
+     */
+    boolean offer(final Object[] batch, final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long tail = m_tail.get();
+        if (!await(true, tail - m_slots.length, unit.toNanos(timeout))) {
+            return false;
+        }
+        m_slots[(int)tail & m_mask] = batch;
+        // volatile write publishes the slot and must precede the read of the waiting thread (no lost wake-up)
+        m_tail.set(tail + 1);
+        final Thread consumer = m_waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Takes the next batch, waits if the queue is empty.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return the next batch or null if the timeout elapsed or the queue was {@link #abort() aborted}
+     * @throws InterruptedException If interrupted while waiting
+     */
+    Object[] poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long head = m_head.get();
+        if (!await(false, head, unit.toNanos(timeout))) {
+            return null;
+        }
+        final int index = (int)head & m_mask;
+        final Object[] batch = m_slots[index];
+        m_slots[index] = null;
+        m_head.set(head + 1);
+        final Thread producer = m_waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        return batch;
+    }
+
+    /**
+     * Aborts the queue (usually because the consumer failed). Threads currently waiting return immediately, all further
+     * calls to {@link #offer(Object[], long, TimeUnit)} and {@link #poll(long, TimeUnit)} fail.
+     */
+    void abort() {
+        m_isAborted = true;
+        final Thread producer = m_waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        final Thread consumer = m_waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /** @return whether {@link #abort()} was called. */
+    boolean isAborted() {
+        return m_isAborted;
+    }
+
+    /**
+     * Waits until the producer can add a batch (head counter larger than <code>value</code>) or the consumer can take
+     * a batch (tail counter larger than <code>value</code>).
+     *
+     * @return false if aborted or timed out
+     */
+    private boolean await(final boolean isProducer, final long value, final long timeoutNanos)
+        throws InterruptedException {
+        final AtomicLong counter = isProducer ? m_head : m_tail;
+        for (int i = 0; i < SPIN_COUNT; i++) {
+            if (m_isAborted) {
+                return false;
+            }
+            if (counter.get() > value) {
+                return true;
+            }
+        }
+        final long deadline = System.nanoTime() + timeoutNanos;
+        final Thread current = Thread.currentThread();
+        if (isProducer) {
+            m_waitingProducer = current;
+        } else {
+            m_waitingConsumer = current;
+        }
+        try {
+            while (counter.get() <= value) {
+                if (m_isAborted) {
+                    return false;
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return !m_isAborted;
+        } finally {
+            if (isProducer) {
+                m_waitingProducer = null;
+            } else {
+                m_waitingConsumer = null;
+            }
+        }
+    }
+
+}
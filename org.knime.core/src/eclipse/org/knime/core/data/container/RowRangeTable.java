@@ -0,0 +1,224 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Special table implementation that represents a contiguous range of rows of a given {@link BufferedDataTable}
+ * without copying them. The rows are read from the reference table using a {@link TableFilter}, so tables that can
+ * skip rows cheaply don't read the rows before the range. This class is used by the framework and should not be of
+ * public interest, see {@link org.knime.core.node.ExecutionContext#createRowRangeTable(BufferedDataTable, long, long)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class RowRangeTable implements KnowsRowCountTable {
+
+    private final BufferedDataTable m_table;
+
+    private final long m_fromRowIndex;
+
+    private final long m_size;
+
+    /**
+     * Creates new table representing the rows <code>fromRowIndex</code> to <code>toRowIndex</code> (both inclusive)
+     * of the argument table.
+     *
+     * @param table the table to take the rows from
+     * @param fromRowIndex the index of the first row (inclusive)
+     * @param toRowIndex the index of the last row (inclusive), if larger than the index of the last row of the table,
+     *            the range ends with the last row
+     * @throws NullPointerException If the table is null.
+     * @throws IndexOutOfBoundsException If the start index is negative
+     * @throws IllegalArgumentException If the end index is smaller than the start index minus 1 (a range with end index
+     *             <code>fromRowIndex - 1</code> is empty)
+     */
+    public RowRangeTable(final BufferedDataTable table, final long fromRowIndex, final long toRowIndex) {
+        if (table == null) {
+            throw new NullPointerException("Table must not be null.");
+        }
+        if (fromRowIndex < 0) {
+            throw new IndexOutOfBoundsException("Start row index must not be negative: " + fromRowIndex);
+        }
+        if (toRowIndex < fromRowIndex - 1) {
+            throw new IllegalArgumentException(String.format(
+                "End row index (%d) must not be smaller than start row index (%d)", toRowIndex, fromRowIndex));
+        }
+        m_table = table;
+        m_fromRowIndex = fromRowIndex;
+        m_size = Math.max(0L, Math.min(toRowIndex, table.size() - 1) - fromRowIndex + 1);
+    }
+
+    /** @return the index of the first row of the range in the reference table */
+    public long getFromRowIndex() {
+        return m_fromRowIndex;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void ensureOpen() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BufferedDataTable[] getReferenceTables() {
+        return new BufferedDataTable[]{m_table};
+    }
+
+    /**
+     * {@inheritDoc}
+     * @deprecated use {@link #size()} instead which supports more than {@link Integer#MAX_VALUE} rows
+     */
+    @Override
+    @Deprecated
+    public int getRowCount() {
+        return KnowsRowCountTable.checkRowCount(size());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() {
+        return m_size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CloseableRowIterator iterator() {
+        return iteratorWithFilter(TableFilter.all());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        final long from;
+        final long to;
+        if (filter.getFromRowIndex() >= m_size) {
+            // empty range: start behind the last row of the reference table
+            from = m_table.size();
+            to = from;
+        } else {
+            from = m_fromRowIndex + filter.getFromRowIndex();
+            to = m_fromRowIndex + Math.min(filter.getToRowIndex(), m_size - 1);
+        }
+        return m_table.iteratorWithFilter(filter.withRowRange(from, to));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_table.getDataTableSpec();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putIntoTableRepository(final HashMap<Integer, ContainerTable> rep) {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean removeFromTableRepository(final HashMap<Integer, ContainerTable> rep) {
+        return false;
+    }
+
+    private static final String CFG_INTERNAL_META = "meta_internal";
+    private static final String CFG_REFERENCE_ID = "table_reference_ID";
+    private static final String CFG_FROM_ROW_INDEX = "from_row_index";
+    private static final String CFG_SIZE = "size";
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveToFile(final File f, final NodeSettingsWO s, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        NodeSettingsWO subSettings = s.addNodeSettings(CFG_INTERNAL_META);
+        subSettings.addInt(CFG_REFERENCE_ID, m_table.getBufferedTableId());
+        subSettings.addLong(CFG_FROM_ROW_INDEX, m_fromRowIndex);
+        subSettings.addLong(CFG_SIZE, m_size);
+    }
+
+    /**
+     * Restore table, reverse operation to {@link #saveToFile(File, NodeSettingsWO, ExecutionMonitor) save}.
+     *
+     * @param s To load from
+     * @param tblRep Global table loader map.
+     * @return A freshly created row range table.
+     * @throws InvalidSettingsException If settings are invalid.
+     */
+    public static RowRangeTable load(final NodeSettingsRO s, final Map<Integer, BufferedDataTable> tblRep)
+        throws InvalidSettingsException {
+        NodeSettingsRO subSettings = s.getNodeSettings(CFG_INTERNAL_META);
+        int refID = subSettings.getInt(CFG_REFERENCE_ID);
+        long fromRowIndex = subSettings.getLong(CFG_FROM_ROW_INDEX);
+        long size = subSettings.getLong(CFG_SIZE);
+        if (fromRowIndex < 0 || size < 0) {
+            throw new InvalidSettingsException(
+                "Invalid row range: start index " + fromRowIndex + ", " + size + " row(s)");
+        }
+        BufferedDataTable reference = BufferedDataTable.getDataTable(tblRep, refID);
+        return new RowRangeTable(reference, fromRowIndex, fromRowIndex + size - 1);
+    }
+
+}
@@ -0,0 +1,375 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Keeps track of all tables (buffers) whose rows are held in memory and of the memory they occupy, either as objects
+ * on the heap or encoded {@link OffHeapRowList off-heap}. If the total exceeds a global byte budget (see
+ * {@link KNIMEConstants#PROPERTY_TABLE_MEMORY_BUDGET}) the least recently used tables are written to disc and dropped
+ * from memory. On a {@link MemoryAlertSystem memory alert} the least recently used tables holding heap memory are
+ * evicted until at least half of their memory is freed (the rest is kept).
+ *
+ * <p>
+ * Tables are registered when they are closed (or restored into memory), and move to the end of the LRU order when
+ * iterated. Eviction is done asynchronously on a single background thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noreference This class is not intended to be referenced by clients.
+ * @since 3.6
+ */
+public final class TableMemoryManager {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TableMemoryManager.class);
+
+    /** Estimated size of a row object (without the cells), i.e. row, cell array and row key. */
+    static final int ROW_OVERHEAD_BYTES = 96;
+
+    /** Estimated size of a cell whose size is not known. */
+    static final int DEFAULT_CELL_BYTES = 64;
+
+    /** Number of rows of a heap table inspected to estimate its size. */
+    static final int SAMPLE_ROW_COUNT = 100;
+
+    private static final TableMemoryManager INSTANCE = new TableMemoryManager(readBudget());
+
+    private final long m_budget;
+
+    /** Tracked tables in LRU order (least recently used first); guarded by this. */
+    private final LinkedHashMap<TrackedTable, TrackedTable> m_tables = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Buffers that were garbage collected without being cleared. */
+    private final ReferenceQueue<Buffer> m_collectedBuffers = new ReferenceQueue<>();
+
+    /** Bytes held on the heap by tracked tables; guarded by this. */
+    private long m_heapBytes;
+
+    /** Bytes held off-heap by tracked tables; guarded by this. */
+    private long m_offHeapBytes;
+
+    private final AtomicLong m_evictionCount = new AtomicLong();
+
+    private final AtomicLong m_evictedBytes = new AtomicLong();
+
+    private final ThreadPoolExecutor m_evictionExecutor = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), r -> {
+            Thread t = new Thread(r, "KNIME Table Memory Evictor");
+            t.setDaemon(true);
+            return t;
+        });
+
+    /** Kept as field, the listener is registered for the life time of this singleton. */
+    private final MemoryAlertListener m_memoryAlertListener = new MemoryAlertListener() {
+        @Override
+        protected boolean memoryAlert(final MemoryAlert alert) {
+            onMemoryAlert();
+            return false;
+        }
+    };
+
+    private TableMemoryManager(final long budget) {
+        m_budget = budget;
+        MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
+    }
+
+    private static long readBudget() {
+        final long defaultBudget = Runtime.getRuntime().maxMemory() / 4;
+        final String property = System.getProperty(KNIMEConstants.PROPERTY_TABLE_MEMORY_BUDGET);
+        if (property == null) {
+            return defaultBudget;
+        }
+        try {
+            final long budget = Long.parseLong(property.trim());
+            if (budget < 0) {
+                throw new NumberFormatException("Value must not be negative: " + budget);
+            }
+            return budget;
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_TABLE_MEMORY_BUDGET
+                + ", using default (" + defaultBudget + ")", e);
+            return defaultBudget;
+        }
+    }
+
+    /** @return the singleton instance */
+    public static TableMemoryManager getInstance() {
+        return INSTANCE;
+    }
+
+    /** @return the number of bytes all tables may occupy in memory */
+    public long getBudget() {
+        return m_budget;
+    }
+
+    /** @return the (estimated) number of bytes held by tables on the heap */
+    public synchronized long getHeapBytes() {
+        return m_heapBytes;
+    }
+
+    /** @return the number of bytes held by tables off-heap */
+    public synchronized long getOffHeapBytes() {
+        return m_offHeapBytes;
+    }
+
+    /** @return the number of tables currently kept in memory */
+    public synchronized int getTableCount() {
+        return m_tables.size();
+    }
+
+    /** @return the number of tables evicted from memory so far */
+    public long getEvictionCount() {
+        return m_evictionCount.get();
+    }
+
+    /** @return the (estimated) number of bytes freed by evicting tables so far */
+    public long getEvictedBytes() {
+        return m_evictedBytes.get();
+    }
+
+    /**
+     * Registers a buffer that keeps its rows in memory. If that exceeds the budget the least recently used tables
+     * (possibly including the argument) are evicted.
+     *
+     * @param buffer the buffer
+     * @param heapBytes estimated number of bytes on the heap
+     * @param offHeapBytes number of bytes off-heap
+     * @return the handle to be used for {@link TrackedTable#touch() access} and
+     *         {@link TrackedTable#unregister() unregistration}
+     */
+    TrackedTable register(final Buffer buffer, final long heapBytes, final long offHeapBytes) {
+        final TrackedTable table = new TrackedTable(buffer, heapBytes, offHeapBytes, m_collectedBuffers);
+        final List<TrackedTable> victims;
+        synchronized (this) {
+            expungeCollectedBuffers();
+            m_tables.put(table, table);
+            m_heapBytes += heapBytes;
+            m_offHeapBytes += offHeapBytes;
+            victims = selectVictims(false, m_heapBytes + m_offHeapBytes - m_budget);
+        }
+        evict(victims);
+        return table;
+    }
+
+    private synchronized void touch(final TrackedTable table) {
+        // access order map, moves the table to the end
+        m_tables.get(table);
+    }
+
+    private synchronized void unregister(final TrackedTable table) {
+        if (m_tables.remove(table) != null) {
+            m_heapBytes -= table.m_heapBytes;
+            m_offHeapBytes -= table.m_offHeapBytes;
+        }
+    }
+
+    private void onMemoryAlert() {
+        final List<TrackedTable> victims;
+        synchronized (this) {
+            expungeCollectedBuffers();
+            victims = selectVictims(true, (m_heapBytes + 1) / 2);
+        }
+        if (!victims.isEmpty()) {
+            LOGGER.debug("Low memory, evicting " + victims.size() + " table(s) from memory");
+        }
+        evict(victims);
+    }
+
+    /**
+     * Removes the least recently used tables from the map until the argument number of bytes is freed.
+     *
+     * @param heapOnly whether to only consider tables holding heap memory
+     * @param bytesToFree number of bytes to free, nothing is selected if not positive
+     * @return the tables to evict
+     */
+    private List<TrackedTable> selectVictims(final boolean heapOnly, final long bytesToFree) {
+        assert Thread.holdsLock(this);
+        final List<TrackedTable> victims = new ArrayList<>();
+        long freed = 0L;
+        for (Iterator<TrackedTable> it = m_tables.keySet().iterator(); it.hasNext() && freed < bytesToFree;) {
+            final TrackedTable table = it.next();
+            if (heapOnly && table.m_heapBytes == 0L) {
+                continue;
+            }
+            it.remove();
+            m_heapBytes -= table.m_heapBytes;
+            m_offHeapBytes -= table.m_offHeapBytes;
+            freed += heapOnly ? table.m_heapBytes : table.getBytes();
+            victims.add(table);
+        }
+        return victims;
+    }
+
+    private void evict(final List<TrackedTable> victims) {
+        for (TrackedTable table : victims) {
+            m_evictionExecutor.execute(() -> {
+                final Buffer buffer = table.get();
+                if (buffer == null) {
+                    return;
+                }
+                NodeContext.pushContext(table.m_context);
+                try {
+                    if (buffer.evictFromMemory(table)) {
+                        m_evictionCount.incrementAndGet();
+                        m_evictedBytes.addAndGet(table.getBytes());
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.error("Unable to write table to disc in order to free memory: " + e.getMessage(), e);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            });
+        }
+    }
+
+    private void expungeCollectedBuffers() {
+        assert Thread.holdsLock(this);
+        Object ref;
+        while ((ref = m_collectedBuffers.poll()) != null) {
+            unregister((TrackedTable)ref);
+        }
+    }
+
+    /**
+     * Estimates the heap size of rows kept in memory by inspecting a sample of them.
+     *
+     * @param rows the rows
+     * @return the estimated number of bytes
+     */
+    static long estimateHeapBytes(final List<BlobSupportDataRow> rows) {
+        final int size = rows.size();
+        if (size == 0) {
+            return 0L;
+        }
+        final int step = Math.max(1, size / SAMPLE_ROW_COUNT);
+        long sampleBytes = 0L;
+        int sampleCount = 0;
+        for (int i = 0; i < size; i += step) {
+            final BlobSupportDataRow row = rows.get(i);
+            long rowBytes = ROW_OVERHEAD_BYTES + 2L * row.getKey().getString().length();
+            for (int c = 0; c < row.getNumCells(); c++) {
+                rowBytes += estimateCellBytes(row.getRawCell(c));
+            }
+            sampleBytes += rowBytes;
+            sampleCount += 1;
+        }
+        return sampleBytes * size / sampleCount;
+    }
+
+    private static long estimateCellBytes(final DataCell cell) {
+        final Class<?> cl = cell.getClass();
+        if (cl == IntCell.class || cl == BooleanCell.class) {
+            return 16L;
+        } else if (cl == DoubleCell.class || cl == LongCell.class) {
+            return 24L;
+        } else if (cl == StringCell.class) {
+            return 56L + 2L * ((StringCell)cell).getStringValue().length();
+        } else if (cl == MissingCell.class) {
+            // mostly a shared instance
+            return 4L;
+        }
+        return DEFAULT_CELL_BYTES;
+    }
+
+    /** Handle of a table registered with the manager. */
+    static final class TrackedTable extends WeakReference<Buffer> {
+
+        private final long m_heapBytes;
+
+        private final long m_offHeapBytes;
+
+        private final NodeContext m_context;
+
+        private TrackedTable(final Buffer buffer, final long heapBytes, final long offHeapBytes,
+            final ReferenceQueue<Buffer> queue) {
+            super(buffer, queue);
+            m_heapBytes = heapBytes;
+            m_offHeapBytes = offHeapBytes;
+            m_context = NodeContext.getContext();
+        }
+
+        /** @return the memory held by the table */
+        long getBytes() {
+            return m_heapBytes + m_offHeapBytes;
+        }
+
+        /** Marks the table as used (moves it to the end of the LRU order). */
+        void touch() {
+            INSTANCE.touch(this);
+        }
+
+        /** Removes the table from the manager (when it's cleared or otherwise dropped from memory). */
+        void unregister() {
+            INSTANCE.unregister(this);
+        }
+    }
+
+}
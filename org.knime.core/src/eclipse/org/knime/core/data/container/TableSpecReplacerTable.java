@@ -57,6 +57,7 @@
 import java.util.zip.ZipFile;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -207,6 +208,15 @@ public CloseableRowIterator iterator() {
         return m_reference.iterator();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        return m_reference.iteratorWithFilter(filter);
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated use {@link #size()} instead which supports more than {@link Integer#MAX_VALUE} rows
@@ -53,6 +53,7 @@
 import java.util.Map;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -124,6 +125,13 @@ public CloseableRowIterator iterator() {
         return m_table.iterator();
     }
 
+    /** {@inheritDoc}
+     * @since 3.6 */
+    @Override
+    public CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        return m_table.iteratorWithFilter(filter);
+    }
+
     /** {@inheritDoc} */
     @Override
     public DataTableSpec getDataTableSpec() {
@@ -0,0 +1,112 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container.filter;
+
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+
+/**
+ * Applies the row range of a {@link TableFilter} on top of an unfiltered iterator. Used by tables that can't push the
+ * filter down to their storage. Rows before the range are read and dropped, the delegate is closed as soon as the end
+ * of the range is reached. Column selections are ignored, i.e. all cells are returned as provided by the delegate.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class FilterDelegateRowIterator extends CloseableRowIterator {
+
+    private final CloseableRowIterator m_delegate;
+
+    private final long m_toRowIndex;
+
+    /** Index of the row returned by the next call of {@link #next()}. */
+    private long m_nextRowIndex;
+
+    /**
+     * @param delegate the unfiltered iterator, not yet advanced
+     * @param filter the filter to apply
+     */
+    public FilterDelegateRowIterator(final CloseableRowIterator delegate, final TableFilter filter) {
+        m_delegate = delegate;
+        m_toRowIndex = filter.getToRowIndex();
+        final long fromRowIndex = filter.getFromRowIndex();
+        while (m_nextRowIndex < fromRowIndex && m_delegate.hasNext()) {
+            m_delegate.next();
+            m_nextRowIndex++;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (m_nextRowIndex > m_toRowIndex) {
+            m_delegate.close();
+            return false;
+        }
+        return m_delegate.hasNext();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        m_nextRowIndex++;
+        return m_delegate.next();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        m_delegate.close();
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.data.container.filter;
+
+import java.util.Arrays;
+
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * Describes which parts of a table are of interest when iterating it. A filter consists of a set of columns to
+ * materialize and a (inclusive) range of row indices. Table implementations use this information to skip unselected
+ * rows and cells as early as possible, ideally without reading or deserializing them at all.
+ *
+ * <p>
+ * Iterators created with a filter return rows with the same number of cells as the table spec. Only the cells of
+ * materialized columns are guaranteed to contain the actual content, all other cells may be missing cells (or, if the
+ * underlying storage can't skip them cheaply, the actual content). The first row returned is the row with index
+ * {@link #getFromRowIndex()}, the last one the row with index {@link #getToRowIndex()} (or the last row of the table,
+ * whichever comes first).
+ *
+ * <p>
+ * Instances are immutable and created by the static factory methods, for instance
+ *
+ * <pre>
+ * TableFilter filter = TableFilter.materializeCols(0, 5).withRowRange(100, 199);
+ * try (CloseableRowIterator it = table.iteratorWithFilter(filter)) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class TableFilter {
+
+    private static final TableFilter ALL = new TableFilter(null, 0L, Long.MAX_VALUE);
+
+    /** Sorted, distinct indices of the columns to materialize, null to materialize all columns. */
+    private final int[] m_materializeColumnIndices;
+
+    private final long m_fromRowIndex;
+
+    private final long m_toRowIndex;
+
+    private TableFilter(final int[] materializeColumnIndices, final long fromRowIndex, final long toRowIndex) {
+        if (fromRowIndex < 0) {
+            throw new IndexOutOfBoundsException("Start row index must not be negative: " + fromRowIndex);
+        }
+        if (toRowIndex < fromRowIndex) {
+            throw new IllegalArgumentException(
+                String.format("End row index (%d) must not be smaller than start row index (%d)", toRowIndex,
+                    fromRowIndex));
+        }
+        m_materializeColumnIndices = materializeColumnIndices;
+        m_fromRowIndex = fromRowIndex;
+        m_toRowIndex = toRowIndex;
+    }
+
+    /** @return a filter that selects all rows and columns. */
+    public static TableFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a filter that materializes only the argument columns (and all rows).
+     *
+     * @param columnIndices the indices of the columns to materialize, in any order, duplicates are ignored
+     * @return a new filter
+     * @throws IndexOutOfBoundsException If any index is negative
+     */
+    public static TableFilter materializeCols(final int... columnIndices) {
+        return ALL.withMaterializeCols(columnIndices);
+    }
+
+    /**
+     * Creates a filter that selects a range of rows (and all columns).
+     *
+     * @param fromRowIndex the index of the first row to return (inclusive)
+     * @param toRowIndex the index of the last row to return (inclusive)
+     * @return a new filter
+     * @throws IndexOutOfBoundsException If the start index is negative
+     * @throws IllegalArgumentException If the end index is smaller than the start index
+     */
+    public static TableFilter filterRangeOfRows(final long fromRowIndex, final long toRowIndex) {
+        return ALL.withRowRange(fromRowIndex, toRowIndex);
+    }
+
+    /**
+     * Derives a filter that has the same row range as this filter but materializes only the argument columns.
+     *
+     * @param columnIndices the indices of the columns to materialize, in any order, duplicates are ignored
+     * @return a new filter
+     * @throws IndexOutOfBoundsException If any index is negative
+     */
+    public TableFilter withMaterializeCols(final int... columnIndices) {
+        int[] sorted = Arrays.stream(columnIndices).sorted().distinct().toArray();
+        if (sorted.length > 0 && sorted[0] < 0) {
+            throw new IndexOutOfBoundsException("Column index must not be negative: " + sorted[0]);
+        }
+        return new TableFilter(sorted, m_fromRowIndex, m_toRowIndex);
+    }
+
+    /**
+     * Derives a filter that materializes the same columns as this filter but only returns the argument row range.
+     *
+     * @param fromRowIndex the index of the first row to return (inclusive)
+     * @param toRowIndex the index of the last row to return (inclusive)
+     * @return a new filter
+     * @throws IndexOutOfBoundsException If the start index is negative
+     * @throws IllegalArgumentException If the end index is smaller than the start index
+     */
+    public TableFilter withRowRange(final long fromRowIndex, final long toRowIndex) {
+        return new TableFilter(m_materializeColumnIndices, fromRowIndex, toRowIndex);
+    }
+
+    /** @return the index of the first row to return (inclusive), 0 if not restricted. */
+    public long getFromRowIndex() {
+        return m_fromRowIndex;
+    }
+
+    /** @return the index of the last row to return (inclusive), {@link Long#MAX_VALUE} if not restricted. */
+    public long getToRowIndex() {
+        return m_toRowIndex;
+    }
+
+    /** @return whether this filter restricts the rows (start index larger 0 or end index set). */
+    public boolean hasRowRange() {
+        return m_fromRowIndex > 0 || m_toRowIndex < Long.MAX_VALUE;
+    }
+
+    /** @return whether this filter restricts the columns to materialize. */
+    public boolean hasColumnSelection() {
+        return m_materializeColumnIndices != null;
+    }
+
+    /**
+     * @return a copy of the sorted and distinct indices of the columns to materialize or null if all columns are to be
+     *         materialized.
+     */
+    public int[] getMaterializeColumnIndices() {
+        return m_materializeColumnIndices == null ? null : m_materializeColumnIndices.clone();
+    }
+
+    /**
+     * Creates a lookup array that tells for each column of a table with the given number of columns whether it needs
+     * to be materialized.
+     *
+     * @param nrColumns the number of columns in the table
+     * @return a new array of length <code>nrColumns</code>
+     */
+    public boolean[] getMaterializeColumnMask(final int nrColumns) {
+        boolean[] result = new boolean[nrColumns];
+        if (m_materializeColumnIndices == null) {
+            Arrays.fill(result, true);
+        } else {
+            for (int i : m_materializeColumnIndices) {
+                if (i < nrColumns) {
+                    result[i] = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the column indices are valid for the argument spec.
+     *
+     * @param spec the spec of the table to be filtered
+     * @throws IndexOutOfBoundsException If any column index is out of bounds
+     */
+    public void validate(final DataTableSpec spec) {
+        if (m_materializeColumnIndices != null && m_materializeColumnIndices.length > 0) {
+            int max = m_materializeColumnIndices[m_materializeColumnIndices.length - 1];
+            if (max >= spec.getNumColumns()) {
+                throw new IndexOutOfBoundsException(String.format(
+                    "Column index %d out of bounds, table has %d column(s)", max, spec.getNumColumns()));
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("TableFilter [columns=");
+        b.append(m_materializeColumnIndices == null ? "all" : Arrays.toString(m_materializeColumnIndices));
+        b.append(", rows=").append(m_fromRowIndex).append("-");
+        b.append(m_toRowIndex == Long.MAX_VALUE ? "end" : Long.toString(m_toRowIndex)).append("]");
+        return b.toString();
+    }
+
+}
@@ -49,9 +49,11 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
@@ -61,6 +63,7 @@
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.container.KNIMEStreamConstants;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
@@ -134,6 +137,21 @@ public final FileStoreHandlerRepository getFileStoreHandlerRepository() {
 
     public abstract TableStoreCloseableRowIterator iterator() throws IOException;
 
+    /**
+     * Creates an iterator that only returns the rows in the range of the argument filter and that only needs to
+     * materialize the cells of the selected columns (see {@link TableFilter} for the contract). Formats should
+     * overwrite this method if they can skip rows or cells without deserializing them. This implementation reads all
+     * rows from {@link #iterator()} and drops the ones before the range.
+     *
+     * @param filter the filter, not null
+     * @return a new iterator
+     * @throws IOException any type of I/O problem
+     * @since 3.6
+     */
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter) throws IOException {
+        return new FilterDelegateTableStoreIterator(iterator(), filter);
+    }
+
     /**
      * Reads meta information, such as the classes of serialized {@link DataCell} instances.
      *
@@ -239,4 +257,58 @@ public final void close() {
         public abstract boolean performClose() throws IOException;
     }
 
+    /** Default implementation for {@link AbstractTableStoreReader#iteratorWithFilter(TableFilter)}. */
+    private static final class FilterDelegateTableStoreIterator extends TableStoreCloseableRowIterator {
+
+        private final TableStoreCloseableRowIterator m_delegate;
+
+        private final long m_toRowIndex;
+
+        private final long m_fromRowIndex;
+
+        /** Index of the row returned by the next call of {@link #next()}. */
+        private long m_nextRowIndex;
+
+        FilterDelegateTableStoreIterator(final TableStoreCloseableRowIterator delegate, final TableFilter filter) {
+            m_delegate = delegate;
+            m_fromRowIndex = filter.getFromRowIndex();
+            m_toRowIndex = filter.getToRowIndex();
+        }
+
+        /** Sets the buffer also on the delegate, which closes itself when it reaches the end of the file. */
+        @Override
+        public void setBuffer(final Buffer buffer) {
+            super.setBuffer(buffer);
+            m_delegate.setBuffer(buffer);
+        }
+
+        @Override
+        public boolean hasNext() {
+            // rows are skipped lazily as the buffer is only set after construction
+            while (m_nextRowIndex < m_fromRowIndex && m_delegate.hasNext()) {
+                m_delegate.next();
+                m_nextRowIndex++;
+            }
+            if (m_nextRowIndex > m_toRowIndex) {
+                close();
+                return false;
+            }
+            return m_delegate.hasNext();
+        }
+
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            m_nextRowIndex++;
+            return m_delegate.next();
+        }
+
+        @Override
+        public boolean performClose() throws IOException {
+            return m_delegate.performClose();
+        }
+    }
+
 }
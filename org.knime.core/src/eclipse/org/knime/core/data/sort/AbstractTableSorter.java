@@ -51,6 +51,7 @@
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -62,6 +63,8 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -71,6 +74,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.NormalizedKeyWriter;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
@@ -78,7 +82,10 @@
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -118,6 +125,15 @@ abstract class AbstractTableSorter {
 
     private boolean m_sortInMemory = false;
 
+    /** Whether chunks are sorted and merged concurrently, see {@link #setSortInParallel(boolean)}. */
+    private boolean m_sortInParallel = false;
+
+    /**
+     * Guards creating, closing and clearing of the temporary containers, which may happen concurrently when sorting in
+     * parallel (the execution context is not thread-safe).
+     */
+    private final Object m_containerLock = new Object();
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
@@ -405,6 +421,33 @@ public void setSortInMemory(final boolean sortInMemory) {
         m_sortInMemory = sortInMemory;
     }
 
+    /**
+     * @return the sortInParallel field, see {@link #setSortInParallel(boolean)} for details.
+     * @since 3.6
+     */
+    public boolean getSortInParallel() {
+        return m_sortInParallel;
+    }
+
+    /**
+     * Sorts the chunks of a table that doesn't fit into memory concurrently and merges them in parallel. If enabled,
+     * the thread reading the input table hands each full chunk to a task on the
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}, which sorts and writes it, while the reading
+     * continues. If more chunks than {@link #getMaxOpenContainers() the maximum number of open containers} need to be
+     * merged, each merge level merges groups of chunks concurrently. The final merge step and writing of the output
+     * table is done by the calling thread. The result is identical to the sequential sort (equal rows retain their
+     * order).
+     *
+     * <p>
+     * The default value for this option is <b>false</b>.
+     *
+     * @param sortInParallel <code>true</code> to use multiple threads for sorting on disk
+     * @since 3.6
+     */
+    public void setSortInParallel(final boolean sortInParallel) {
+        m_sortInParallel = sortInParallel;
+    }
+
     /**
      * Sorts the table passed in the constructor according to the settings and returns the sorted output table.
      *
@@ -451,7 +494,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortRows(rowList);
 
         exec.setMessage("Creating sorted table");
 
@@ -533,6 +576,9 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
      */
     Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCompletely)
         throws CanceledExecutionException {
+        if (m_sortInParallel && m_chunksContainer.size() > m_maxOpenContainers) {
+            mergeChunksInParallel(exec);
+        }
         while (!m_chunksContainer.isEmpty()) {
             exec.setMessage("Merging temporary tables, " + m_chunksContainer.size() + " remaining");
             if (m_chunksContainer.size() < m_maxOpenContainers) {
@@ -587,6 +633,8 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         int rowsInCurrentChunk = 0;
 
         MemoryActionIndicator memObservable = m_memService.newIndicator();
+        // chunks being sorted and written concurrently, in the order of the input (only if sorting in parallel)
+        final List<Future<DataTable>> pendingChunks = new ArrayList<>();
 
         exec.setMessage("Reading table");
         for (Iterator<DataRow> iter = dataTable.iterator(); iter.hasNext();) {
@@ -605,13 +653,20 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
             if ((memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers))
                 || (counter % m_maxRowsPerChunk == 0)) {
                 LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+                if (m_sortInParallel) {
+                    submitChunk(buffer, pendingChunks, exec);
+                    buffer = new ArrayList<DataRow>();
+                    chunkStartRow = counter + 1;
+                    rowsInCurrentChunk = 0;
+                    continue;
+                }
                 if (m_rowsInInputTable > 0) {
                     long estimatedIncrements = m_rowsInInputTable - counter + buffer.size();
                     m_incProgress = (0.5 - m_progress) / estimatedIncrements;
                 }
                 exec.setMessage("Sorting temporary buffer");
                 // sort buffer
-                Collections.sort(buffer, m_rowComparator);
+                sortRows(buffer);
                 // write buffer to disk
                 openChunk();
                 final int totalBufferSize = buffer.size();
@@ -635,10 +690,20 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                 rowsInCurrentChunk = 0;
             }
         }
+        if (!pendingChunks.isEmpty()) {
+            exec.setMessage("Sorting temporary buffers");
+            for (Future<DataTable> pendingChunk : pendingChunks) {
+                m_chunksContainer.add(waitFor(pendingChunk));
+            }
+            if (m_rowsInInputTable > 0) {
+                m_progress = Math.max(m_progress, 0.5);
+                exec.setProgress(m_progress);
+            }
+        }
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortRows(buffer);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
@@ -679,6 +744,204 @@ void closeChunk() {
         }
     }
 
+    /**
+     * Sorts the rows in place. If all sort columns support {@link DataValueComparator#supportsNormalizedKey()
+     * normalized keys} the key of each row is computed once and the rows are sorted by comparing the binary keys,
+     * otherwise the row comparator is used. Both sorts are stable.
+     */
+    private void sortRows(final List<DataRow> rows) {
+        final RowComparator keyComparator = getNormalizedKeyComparator();
+        if (keyComparator == null) {
+            Collections.sort(rows, m_rowComparator);
+            return;
+        }
+        final NormalizedKeyWriter writer = new NormalizedKeyWriter();
+        final KeyedRow[] keyedRows = new KeyedRow[rows.size()];
+        for (int i = 0; i < keyedRows.length; i++) {
+            final DataRow row = rows.get(i);
+            keyedRows[i] = new KeyedRow(keyComparator.createNormalizedKey(row, writer), row);
+        }
+        // stable for objects
+        Arrays.sort(keyedRows);
+        for (int i = 0; i < keyedRows.length; i++) {
+            rows.set(i, keyedRows[i].m_row);
+        }
+    }
+
+    /**
+     * @return the row comparator if it supports normalized keys (the sort columns have been set using
+     *         {@link #setSortColumns(Collection, boolean[], boolean)}, all supporting normalized keys), otherwise null
+     */
+    private RowComparator getNormalizedKeyComparator() {
+        if (m_rowComparator instanceof RowComparator && ((RowComparator)m_rowComparator).supportsNormalizedKeys()) {
+            return (RowComparator)m_rowComparator;
+        }
+        return null;
+    }
+
+    /** A row and its normalized key, ordered by the key. */
+    private static final class KeyedRow implements Comparable<KeyedRow> {
+
+        private final byte[] m_key;
+
+        private final DataRow m_row;
+
+        KeyedRow(final byte[] key, final DataRow row) {
+            m_key = key;
+            m_row = row;
+        }
+
+        @Override
+        public int compareTo(final KeyedRow o) {
+            return NormalizedKeyWriter.compare(m_key, o.m_key);
+        }
+    }
+
+    /**
+     * Hands a full chunk to a task on the global thread pool, which sorts it and writes it into a temporary table. If
+     * as many chunks as there are threads are still being processed this method waits for the oldest one, as each
+     * pending chunk holds its rows in memory.
+     */
+    private void submitChunk(final List<DataRow> chunk, final List<Future<DataTable>> pendingChunks,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int maxPending = Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+        for (Future<DataTable> pendingChunk : pendingChunks) {
+            if (pendingChunks.stream().filter(f -> !f.isDone()).count() < maxPending) {
+                break;
+            }
+            exec.setMessage("Waiting for temporary buffers to be sorted");
+            waitFor(pendingChunk);
+        }
+        exec.setMessage("Reading table");
+        pendingChunks.add(KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(ThreadUtils.callableWithContext(() -> {
+            sortRows(chunk);
+            return writeChunk(new Iterator<DataRow>() {
+                private int m_index;
+
+                @Override
+                public boolean hasNext() {
+                    return m_index < chunk.size();
+                }
+
+                @Override
+                public DataRow next() {
+                    // release rows early, see createInitialChunks
+                    return chunk.set(m_index++, null);
+                }
+            }, exec);
+        })));
+    }
+
+    /**
+     * Merges the chunks in {@link #m_chunksContainer} until at most {@link #m_maxOpenContainers} are left. The chunks
+     * are merged in groups of {@link #m_maxOpenContainers} consecutive chunks; all groups of one level are merged
+     * concurrently. Keeping the order of the groups retains the order of equal rows.
+     */
+    private void mergeChunksInParallel(final ExecutionMonitor exec) throws CanceledExecutionException {
+        int levelCount = 0;
+        for (int size = m_chunksContainer.size(); size > m_maxOpenContainers;
+                size = (size + m_maxOpenContainers - 1) / m_maxOpenContainers) {
+            levelCount++;
+        }
+        int level = 0;
+        while (m_chunksContainer.size() > m_maxOpenContainers) {
+            level++;
+            exec.setMessage("Merging temporary tables in parallel (level " + level + " of " + levelCount + "), "
+                + m_chunksContainer.size() + " remaining");
+            final List<Iterable<DataRow>> chunks = new ArrayList<>(m_chunksContainer);
+            m_chunksContainer.clear();
+            final List<Future<DataTable>> mergedChunks = new ArrayList<>();
+            for (int start = 0; start < chunks.size(); start += m_maxOpenContainers) {
+                final List<Iterable<DataRow>> group =
+                    chunks.subList(start, Math.min(start + m_maxOpenContainers, chunks.size()));
+                mergedChunks.add(KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(ThreadUtils.callableWithContext(() -> {
+                    Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
+                    for (int i = 0; i < group.size(); i++) {
+                        containersToMerge.add(new MergeEntry(group.get(i), i, m_rowComparator));
+                    }
+                    return writeChunk(new MergingIterator(containersToMerge), exec);
+                })));
+            }
+            // the final (sequential) merge accounts for the remaining progress
+            final double progressPerChunk = m_rowsInInputTable > 0
+                ? (1.0 - m_progress) / (levelCount - level + 2) / mergedChunks.size() : 0.0;
+            for (Future<DataTable> mergedChunk : mergedChunks) {
+                m_chunksContainer.add(waitFor(mergedChunk));
+                if (m_rowsInInputTable > 0) {
+                    m_progress += progressPerChunk;
+                    exec.setProgress(m_progress);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the rows into a new temporary table. Used by the tasks sorting and merging chunks in parallel.
+     *
+     * @return the table (not empty)
+     */
+    private DataTable writeChunk(final Iterator<DataRow> rows, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataContainer container;
+        synchronized (m_containerLock) {
+            container = createDataContainer(m_dataTableSpec, true);
+        }
+        container.setMaxPossibleValues(0);
+        try {
+            while (rows.hasNext()) {
+                container.addRowToTable(rows.next());
+                exec.checkCanceled();
+            }
+        } finally {
+            synchronized (m_containerLock) {
+                container.close();
+            }
+        }
+        return container.getTable();
+    }
+
+    /** Clears a temporary table, see {@link #clearTable(DataTable)}. */
+    private void clearChunk(final DataTable table) {
+        synchronized (m_containerLock) {
+            clearTable(table);
+        }
+    }
+
+    /**
+     * Waits for a task submitted to the global thread pool. If the current thread is itself taken from a thread pool
+     * (e.g. the thread executing the node) it's not counted while waiting, so that the task can make progress even if
+     * the pool is busy otherwise.
+     */
+    private static <T> T waitFor(final Future<T> future) throws CanceledExecutionException {
+        try {
+            final ThreadPool currentPool = ThreadPool.currentPool();
+            if (currentPool != null) {
+                return currentPool.runInvisible(future::get);
+            }
+            return future.get();
+        } catch (InterruptedException ie) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while sorting");
+        } catch (ExecutionException ee) {
+            Throwable cause = ee;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while sorting");
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException("Sorting temporary table failed: " + cause.getMessage(), cause);
+        }
+    }
+
     private String getMemUsage() {
         Runtime runtime = Runtime.getRuntime();
         long free = runtime.freeMemory();
@@ -696,6 +959,13 @@ private String getMemUsage() {
     private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataRow> {
         private DataRow m_row;
 
+        /** Normalized key of m_row, only used if the comparator supports normalized keys (otherwise null). */
+        private byte[] m_key;
+
+        private final RowComparator m_keyComparator;
+
+        private final NormalizedKeyWriter m_keyWriter;
+
         private Iterable<DataRow> m_iterable;
 
         private Iterator<DataRow> m_iterator;
@@ -713,17 +983,26 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            m_keyComparator = comparator == m_rowComparator ? getNormalizedKeyComparator() : null;
+            m_keyWriter = m_keyComparator == null ? null : new NormalizedKeyWriter();
         }
 
         private void open() {
             if (m_iterator == null) {
                 m_iterator = m_iterable.iterator();
                 if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                    setRow(m_iterator.next());
                 }
             }
         }
 
+        private void setRow(final DataRow row) {
+            m_row = row;
+            if (m_keyComparator != null && row != null) {
+                m_key = m_keyComparator.createNormalizedKey(row, m_keyWriter);
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -732,7 +1011,7 @@ public boolean hasNext() {
             // open the file lazily
             if (m_row == null) {
                 if (m_iterable instanceof DataTable) {
-                    clearTable((DataTable)m_iterable);
+                    clearChunk((DataTable)m_iterable);
                 }
                 return false;
             }
@@ -749,7 +1028,7 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
@@ -766,7 +1045,8 @@ public void remove() {
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            int value = m_keyComparator != null ? NormalizedKeyWriter.compare(this.m_key, that.m_key)
+                : m_comparator.compare(this.m_row, that.m_row);
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
@@ -916,6 +1196,38 @@ private static final class RowComparator implements Comparator<DataRow> {
             m_sortMissingsToEnd = sortMissingsToEnd;
         }
 
+        /** @return whether the comparators of all sort columns support normalized keys. */
+        boolean supportsNormalizedKeys() {
+            for (DataValueComparator comp : m_colComparators) {
+                if (comp != null && !comp.supportsNormalizedKey()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Creates the normalized key of the row; two keys compare as the rows compare using
+         * {@link #compare(DataRow, DataRow)}.
+         *
+         * @param row the row
+         * @param writer used to create the key (reset by this method)
+         * @return the key
+         */
+        byte[] createNormalizedKey(final DataRow row, final NormalizedKeyWriter writer) {
+            writer.reset();
+            for (int i = 0; i < m_indices.length; i++) {
+                // -1 is RowKey!
+                if (m_indices[i] == -1) {
+                    writer.writeRowKey(row.getKey(), m_sortAscending[i]);
+                } else {
+                    writer.writeCell(row.getCell(m_indices[i]), m_colComparators[i], m_sortAscending[i],
+                        m_sortMissingsToEnd);
+                }
+            }
+            return writer.toByteArray();
+        }
+
         /** {@inheritDoc} */
         @Override
         public int compare(final DataRow dr1, final DataRow dr2) {
@@ -81,9 +81,12 @@
 import org.knime.core.data.container.DefaultTableStoreFormat;
 import org.knime.core.data.container.JoinedTable;
 import org.knime.core.data.container.RearrangeColumnsTable;
+import org.knime.core.data.container.RowRangeTable;
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
+import org.knime.core.data.container.filter.FilterDelegateRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.data.container.storage.TableStoreFormatRegistry;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
@@ -95,6 +98,7 @@
 import org.knime.core.node.port.PortTypeRegistry;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.BufferedDataTableView;
+import org.knime.core.util.FileUtil;
 import org.knime.core.util.MutableBoolean;
 
 /**
@@ -238,6 +242,14 @@ static PortObjectSerializer<BufferedDataTable> getPortObjectSerializer() {
         this(table, generateNewID());
     }
 
+    /** Creates a new buffered data table based on a range of rows of another
+     * BufferedDataTable.
+     * @param table The reference.
+     */
+    BufferedDataTable(final RowRangeTable table) {
+        this(table, generateNewID());
+    }
+
     /** Creates a new buffered data table based on a "void" table.
      * @param table The reference.
      */
@@ -331,6 +343,22 @@ public CloseableRowIterator iterator() {
         return m_delegate.iterator();
     }
 
+    /**
+     * Get an iterator instance that only returns the rows and only needs to materialize the columns selected by the
+     * argument filter. Depending on the underlying storage, unselected rows and cells are skipped without being read
+     * or deserialized, which is considerably faster than {@link #iterator()} when only few columns of a wide table or
+     * only a part of the rows are accessed. Cells of columns that are not selected by the filter may be missing cells,
+     * see {@link TableFilter} for details.
+     *
+     * @param filter the filter, not null
+     * @return A new iterator instance over the filtered rows.
+     * @throws IndexOutOfBoundsException If the filter selects columns that are not in the table.
+     * @since 3.6
+     */
+    public CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        return m_delegate.iteratorWithFilter(CheckUtils.checkArgumentNotNull(filter, "Filter must not be null"));
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
@@ -356,16 +384,35 @@ public CloseableRowIterator iterator() {
      *          method is called or while the iteration is in progress).
      */
     public CloseableRowIterator iteratorFailProve() {
+        return iteratorFailProve(0L);
+    }
+
+    /**
+     * Get an iterator instance that starts at the row with the given index and that will return missing values when
+     * the table is cleared as part of a node reset (see {@link #iteratorFailProve()}). The preceding rows are skipped
+     * as efficiently as the underlying storage allows, e.g. tables stored in an indexed format seek directly to the
+     * start row. This is used by views that allow to jump to arbitrary positions in the table.
+     *
+     * @param fromRowIndex index of the first row to return, rows before are skipped
+     * @return A new iterator instance
+     * @throws IndexOutOfBoundsException If the index is negative
+     * @since 3.6
+     */
+    public CloseableRowIterator iteratorFailProve(final long fromRowIndex) {
+        if (fromRowIndex < 0) {
+            throw new IndexOutOfBoundsException("Row index must not be negative: " + fromRowIndex);
+        }
         synchronized (m_isCleared) {
             CloseableRowIterator baseIterator;
             if (m_isCleared.booleanValue()) {
                 baseIterator = null;
-            } else {
+            } else if (fromRowIndex == 0L) {
                 baseIterator = iterator();
+            } else {
+                baseIterator = iteratorWithFilter(TableFilter.filterRangeOfRows(fromRowIndex, Long.MAX_VALUE));
             }
-            return new CloseableFailProveRowIterator(baseIterator);
+            return new CloseableFailProveRowIterator(baseIterator, fromRowIndex);
         }
-
     }
 
     /**
@@ -389,6 +436,43 @@ public long size() {
         return m_delegate.size();
     }
 
+    /**
+     * Returns the number of bytes the data of this table occupies, i.e. the size of its file if it has been written
+     * to disc or its (estimated) size in memory otherwise. Tables that are composed of other tables (e.g. a table with
+     * appended columns) only count the data they hold themselves, unless the argument is true.
+     *
+     * @param includeReferencedTables whether to add the size of the tables this table is composed of
+     * @return the size in bytes, -1 if not known
+     * @since 3.6
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public long getSizeInBytes(final boolean includeReferencedTables) {
+        long size;
+        if (m_delegate instanceof ContainerTable) {
+            size = getSizeInBytes((ContainerTable)m_delegate);
+        } else if (m_delegate instanceof RearrangeColumnsTable) {
+            ContainerTable appendTable = ((RearrangeColumnsTable)m_delegate).getAppendTable();
+            size = appendTable == null ? 0L : getSizeInBytes(appendTable);
+        } else {
+            size = 0L;
+        }
+        if (includeReferencedTables) {
+            for (BufferedDataTable reference : m_delegate.getReferenceTables()) {
+                if (size < 0) {
+                    break;
+                }
+                long referenceSize = reference.getSizeInBytes(true);
+                size = referenceSize < 0 ? -1L : size + referenceSize;
+            }
+        }
+        return size;
+    }
+
+    private static long getSizeInBytes(final ContainerTable table) {
+        // don't read (copy) a table only to determine its size
+        return table.isOpen() ? table.getBuffer().getSizeInBytes() : -1L;
+    }
+
 
     /** Method being used internally, not interesting for the implementor of
      * a new node model. It will return a unique ID to identify the table
@@ -407,10 +491,11 @@ public Integer getBufferedTableId() {
         private final CloseableRowIterator m_it;
         private long m_rowIndex;
 
-        private CloseableFailProveRowIterator(final CloseableRowIterator it) {
+        private CloseableFailProveRowIterator(final CloseableRowIterator it, final long fromRowIndex) {
             m_it = it;
             m_cellCount = getDataTableSpec().getNumColumns();
             m_maxRows = size();
+            m_rowIndex = fromRowIndex;
         }
 
         @Override
@@ -464,6 +549,8 @@ public void close() {
     private static final String TABLE_TYPE_CONCATENATE = "concatenate_table";
     private static final String TABLE_TYPE_JOINED = "joined_table";
     private static final String TABLE_TYPE_VOID = "void_table";
+    /** @since 3.6 */
+    private static final String TABLE_TYPE_ROW_RANGE = "row_range_table";
     /** The table is referenced multiple times in a node, e.g. provided at
      * different outputs (possibly wrapped) or it is used as output-port table
      * and as internally held table. See bug 2117.
@@ -471,6 +558,10 @@ public void close() {
     private static final String TABLE_TYPE_REFERENCE_IN_SAME_NODE = "reference_from_same_node_table";
     private static final String TABLE_TYPE_EXTENSION = "extension_table";
     private static final String TABLE_FILE = "data.zip";
+    /** Directory containing the plain table files, see {@link KNIMEConstants#PROPERTY_TABLE_SAVE_UNZIPPED}. */
+    private static final String TABLE_DIRECTORY = "data";
+    private static final boolean SAVE_TABLES_UNZIPPED =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_SAVE_UNZIPPED);
     private static final String TABLE_DESCRIPTION_FILE = "data.xml";
     private static final String TABLE_SPEC_FILE = "spec.xml";
 
@@ -504,7 +595,19 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
             } else {
                 s.addString(CFG_TABLE_TYPE, TABLE_TYPE_CONTAINER);
             }
-            m_delegate.saveToFile(outFile, s, exec);
+            ContainerTable containerTable = (ContainerTable)m_delegate;
+            if (SAVE_TABLES_UNZIPPED && containerTable.canSaveToDirectory()) {
+                outFile = new File(dir, TABLE_DIRECTORY);
+                if (outFile.exists() && !FileUtil.deleteRecursively(outFile)) {
+                    throw new IOException("Could not delete " + outFile.getAbsolutePath());
+                }
+                if (!outFile.mkdir()) {
+                    throw new IOException("Could not create directory " + outFile.getAbsolutePath());
+                }
+                containerTable.saveToDirectory(outFile, exec);
+            } else {
+                m_delegate.saveToFile(outFile, s, exec);
+            }
         } else {
             if (m_delegate instanceof RearrangeColumnsTable) {
                 s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REARRANGE_COLUMN);
@@ -518,6 +621,8 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
                 s.addString(CFG_TABLE_TYPE, TABLE_TYPE_VOID);
             } else if (m_delegate instanceof ConcatenateTable) {
                 s.addString(CFG_TABLE_TYPE, TABLE_TYPE_CONCATENATE);
+            } else if (m_delegate instanceof RowRangeTable) {
+                s.addString(CFG_TABLE_TYPE, TABLE_TYPE_ROW_RANGE);
             } else {
                 assert m_delegate instanceof ExtensionTable;
                 s.addString(CFG_TABLE_TYPE, TABLE_TYPE_EXTENSION);
@@ -546,7 +651,7 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
         }
         // only write the data file to the settings if it has been created
         if (outFile.exists()) {
-            s.addString(CFG_TABLE_FILE_NAME, TABLE_FILE);
+            s.addString(CFG_TABLE_FILE_NAME, outFile.getName());
         } else {
             s.addString(CFG_TABLE_FILE_NAME, null);
         }
@@ -661,7 +766,8 @@ static BufferedDataTable loadFromFile(final ReferencedFile dirRef,
             if (!file.exists()) {
                 throw new IOException("No such data file: " + fileRef);
             }
-            if (!file.isFile() || !file.canRead()) {
+            // a directory if saved with KNIMEConstants#PROPERTY_TABLE_SAVE_UNZIPPED
+            if (!(file.isFile() || file.isDirectory()) || !file.canRead()) {
                 throw new IOException("Cannot read file " + fileRef);
             }
         } else {
@@ -701,6 +807,7 @@ static BufferedDataTable loadFromFile(final ReferencedFile dirRef,
             case TABLE_TYPE_VOID:
             case TABLE_TYPE_CONCATENATE:
             case TABLE_TYPE_WRAPPED:
+            case TABLE_TYPE_ROW_RANGE:
             case TABLE_TYPE_NEW_SPEC:
             case TABLE_TYPE_EXTENSION:
                 String[] referenceDirs;
@@ -732,6 +839,9 @@ static BufferedDataTable loadFromFile(final ReferencedFile dirRef,
                 } else if (tableType.equals(TABLE_TYPE_WRAPPED)) {
                     WrappedTable wt = WrappedTable.load(s, tblRep);
                     t = new BufferedDataTable(wt);
+                } else if (tableType.equals(TABLE_TYPE_ROW_RANGE)) {
+                    RowRangeTable rt = RowRangeTable.load(s, tblRep);
+                    t = new BufferedDataTable(rt);
                 } else if (tableType.equals(TABLE_TYPE_NEW_SPEC)) {
                     TableSpecReplacerTable replTable;
                     if (isVersion11x) {
@@ -894,6 +1004,18 @@ void saveToFile(final File f, final NodeSettingsWO settings,
         @Override
         public CloseableRowIterator iterator();
 
+        /** Implementation of {@link BufferedDataTable#iteratorWithFilter(TableFilter)}. Tables that can skip
+         * unselected rows or cells cheaply should overwrite this method, this implementation only drops the rows
+         * outside the filter's row range.
+         * @param filter the filter, not null
+         * @return a new iterator
+         * @since 3.6
+         */
+        default CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+            filter.validate(getDataTableSpec());
+            return new FilterDelegateRowIterator(iterator(), filter);
+        }
+
         /** Reference to the underlying tables, if any. A reference
          * table exists if this object is just a wrapper, such as a
          * RearrangeColumnsTable or if this table concatenates a set of
@@ -61,6 +61,7 @@
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.container.JoinedTable;
 import org.knime.core.data.container.RearrangeColumnsTable;
+import org.knime.core.data.container.RowRangeTable;
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
@@ -409,6 +410,30 @@ public BufferedDataTable createWrappedTable(final BufferedDataTable in) {
         return out;
     }
 
+    /**
+     * Creates a new <code>BufferedDataTable</code> that contains the rows <code>fromRowIndex</code> to
+     * <code>toRowIndex</code> (both inclusive) of the argument table. The rows are not copied, the returned table only
+     * references the argument table, which makes this method cheap for splitting a table into chunks (e.g. to process
+     * the chunks in parallel).
+     *
+     * @param in the table to take the rows from
+     * @param fromRowIndex the index of the first row (inclusive)
+     * @param toRowIndex the index of the last row (inclusive); if it is beyond the last row of the table the returned
+     *            table ends with the last row, if it is <code>fromRowIndex - 1</code> the returned table is empty
+     * @return A new table which can be returned in the execute method.
+     * @throws NullPointerException If the table is null.
+     * @throws IndexOutOfBoundsException If the start index is negative
+     * @throws IllegalArgumentException If the end index is smaller than <code>fromRowIndex - 1</code>
+     * @since 3.6
+     */
+    public BufferedDataTable createRowRangeTable(final BufferedDataTable in, final long fromRowIndex,
+        final long toRowIndex) {
+        RowRangeTable t = new RowRangeTable(in, fromRowIndex, toRowIndex);
+        BufferedDataTable out = new BufferedDataTable(t);
+        out.setOwnerRecursively(m_node);
+        return out;
+    }
+
     /** Create new "void" table. It's a framework method that is used by the streaming executor to populate the output
      * of a node. It has a table specification but no data (which is also indicated in the view).
      *
@@ -124,7 +124,8 @@ public final class KNIMEConstants {
      * are no more rows to write), this buffer is handed over to the writing
      * routines to write the data output stream. The larger the buffer, the
      * smaller the synchronization overhead but the larger the memory
-     * requirements.
+     * requirements. The value is a lower bound; tables with few columns are
+     * handed over in larger batches.
      * <p>
      * The default value is {@value
      * org.knime.core.data.container.DataContainer#DEF_ASYNC_CACHE_SIZE}. This
@@ -159,12 +160,90 @@ public final class KNIMEConstants {
      * results in smaller temp-file sizes but also (sometimes significant)
      * longer runtime. The default is {@value
      * org.knime.core.data.container.DataContainer#DEF_GZIP_COMPRESSION}.
-     * <p><strong>Warning:</strong> Changing this property will result in KNIME
-     * not being able to read workflows written previously (with a
-     * different compression property). */
+     * Besides "true" (gzip) and "false" (no compression) the property also
+     * accepts the name of a
+     * {@link org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat},
+     * e.g. "lz4" for a fast block compression.
+     * <p>The compression is stored along with each table, so tables written
+     * with a different setting remain readable. */
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION =
         "knime.compress.io";
 
+    /** Java property to specify the number of chunks that are read and
+     * decoded concurrently when iterating a table stored in the (indexed)
+     * columnar table format. The chunks are decoded on a shared pool of
+     * that many threads (used by all iterators) and handed to the iterator
+     * in order, so a single consumer isn't limited by the decoding speed of
+     * one thread. The default is the number of available processors; a value
+     * of 1 disables parallel decoding (as does
+     * {@link #PROPERTY_SYNCHRONOUS_IO}).
+     * @since 3.6 */
+    public static final String PROPERTY_TABLE_DECODE_PARALLELISM =
+        "knime.table.decode.parallelism";
+
+    /** Java property to set the number of bytes a small table may occupy
+     * when it is kept in memory. Tables consisting only of primitive columns
+     * (int, long, double, boolean, string) are kept encoded outside the java
+     * heap rather than as cell objects, which makes them much smaller and
+     * doesn't burden the garbage collector. Such tables stay in memory as long
+     * as they fit into this budget (instead of being limited by
+     * {@link #PROPERTY_CELLS_IN_MEMORY}). The default is {@value
+     * org.knime.core.data.container.DataContainer#DEF_MAX_OFF_HEAP_BYTES_PER_TABLE};
+     * a value of 0 keeps all in-memory tables on the heap.
+     * @since 3.6 */
+    public static final String PROPERTY_TABLE_OFF_HEAP_BYTES =
+        "knime.table.offheap.bytes";
+
+    /** Java property to set the number of bytes all tables together may
+     * occupy in memory (on and off the java heap). If tables kept in memory
+     * exceed this budget, the least recently used ones are written to disc.
+     * The default is a quarter of the maximum heap size. See also
+     * {@link org.knime.core.data.container.TableMemoryManager}.
+     * @since 3.6 */
+    public static final String PROPERTY_TABLE_MEMORY_BUDGET =
+        "knime.table.memory.budget";
+
+    /** Java property to save tables as plain files in a directory of the
+     * node's folder rather than as a zip file when the workflow is saved.
+     * Tables that are already written to the temp directory are then
+     * hard-linked (or, if that is not possible, copied without being
+     * re-compressed), so saving large tables is much faster. Workflows saved
+     * this way can't be read by versions of KNIME prior 3.6. The default is
+     * false.
+     * @since 3.6 */
+    public static final String PROPERTY_TABLE_SAVE_UNZIPPED =
+        "knime.table.save.unzipped";
+
+    /** Java property to read tables of a loaded workflow directly from the
+     * workflow directory rather than copying them to the temp directory on
+     * first access. This only applies to tables saved as plain files (see
+     * {@link #PROPERTY_TABLE_SAVE_UNZIPPED}); zipped tables are always
+     * extracted. The files are copied to temp only once the node is modified
+     * (e.g. reset or re-saved). The default is false.
+     * @since 3.6 */
+    public static final String PROPERTY_TABLE_READ_IN_PLACE =
+        "knime.table.read.inplace";
+
+    /** Java property to execute queued nodes in the order they become
+     * executable. By default, if there are more executable nodes than
+     * threads, nodes with the longest (expected) chain of successors are
+     * executed first, see
+     * {@link org.knime.core.node.exec.CriticalPathSchedulingPolicy}.
+     * The default is false.
+     * @since 3.6 */
+    public static final String PROPERTY_NODE_SCHEDULING_FIFO =
+        "knime.scheduling.fifo";
+
+    /** Java property to execute the chunks of parallel chunk loops with
+     * copies of the loop body that are detached from the workflow (one copy
+     * per worker thread, each processing several chunks) instead of copying
+     * the loop body into the workflow once per chunk. Loop bodies that can't
+     * be executed detached (e.g. containing metanodes or nested loops) are
+     * still copied into the workflow. The default is false.
+     * @since 3.6 */
+    public static final String PROPERTY_PARALLEL_CHUNKS_DETACHED =
+        "knime.parallelchunks.detached";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -257,6 +336,12 @@ public final class KNIMEConstants {
      * @since 2.6 */
     public static final String PROPERTY_DATABASE_BATCH_WRITE_SIZE = "knime.database.batch_write_size";
 
+    /** Java property used to set the number of connections the database writer uses to write batches concurrently
+     * (only in batch mode, i.e. if the batch write size is larger than 1). Default is 1, that is all rows are written
+     * sequentially using a single connection.
+     * @since 3.6 */
+    public static final String PROPERTY_DATABASE_WRITE_CONNECTIONS = "knime.database.write_connections";
+
     /** Java property to switch on/off the database connection access (applies only for the same database connection).
      * Default is true, that is all database accesses are synchronized based on single connection; false means off,
      * that is, the access is not synchronized and may lead to database errors.
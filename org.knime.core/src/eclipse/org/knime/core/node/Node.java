@@ -55,6 +55,7 @@
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1568,6 +1569,36 @@ public void cleanOutPorts(final boolean isLoopRestart) {
         m_localTempTables.clear();
     }
 
+    /** Clears the tables contained in the first argument (and the tables they reference) that are owned by the
+     * argument node, unless they are (directly or indirectly) referenced by the port objects in the second argument.
+     * Used by executors that run node copies outside the workflow using the execution context of another node, whose
+     * intermediate tables need to be disposed before the owning node is reset.
+     * @param owner the node owning the tables
+     * @param disposable port objects no longer needed, may contain null or non-table objects
+     * @param retained port objects still in use, may contain null or non-table objects
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public static void invokeClearTables(final Node owner, final Collection<PortObject> disposable,
+        final Collection<PortObject> retained) {
+        Set<BufferedDataTable> disposableTables = new LinkedHashSet<BufferedDataTable>();
+        for (PortObject p : disposable) {
+            if (p instanceof BufferedDataTable) {
+                ((BufferedDataTable)p).collectTableAndReferencesOwnedBy(owner, disposableTables);
+            }
+        }
+        Set<BufferedDataTable> retainedTables = new HashSet<BufferedDataTable>();
+        for (PortObject p : retained) {
+            if (p instanceof BufferedDataTable) {
+                ((BufferedDataTable)p).collectTableAndReferencesOwnedBy(owner, retainedTables);
+            }
+        }
+        disposableTables.removeAll(retainedTables);
+        for (BufferedDataTable t : disposableTables) {
+            t.clearSingle(owner);
+        }
+    }
+
     private Set<BufferedDataTable> collectTableAndReferences(
             final PortObject[] objects) {
         if (objects == null || objects.length == 0) {
@@ -0,0 +1,85 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node;
+
+/**
+ * Interface a {@link NodeModel} can implement to declare the resources its execution requires. The framework uses
+ * this information when executing the node in the global thread pool (see
+ * {@link org.knime.core.util.ScheduledTask}): a node using several cores is accounted for accordingly, so that the
+ * pool doesn't start more nodes than there are cores, and nodes with a large memory footprint are not run concurrently
+ * if their total exceeds the memory available.
+ *
+ * <p>
+ * The methods are called when the node is queued for execution, i.e. after it has been configured.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public interface NodeResourceRequirements {
+
+    /**
+     * Returns the number of threads (cores) the node keeps busy during execution, including the thread executing
+     * the node. Only threads not taken from the {@linkplain KNIMEConstants#GLOBAL_THREAD_POOL global thread pool}
+     * (e.g. threads of a separate executor or a native library) must be counted. The default is 1.
+     *
+     * @return the number of threads, at least 1
+     */
+    default int getRequiredThreadCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the estimated number of bytes of heap memory the node allocates during execution, not counting the
+     * input and output tables. The default is 0, i.e. the node's memory footprint is negligible.
+     *
+     * @return the estimated memory footprint in bytes
+     */
+    default long getEstimatedMemoryFootprint() {
+        return 0;
+    }
+}
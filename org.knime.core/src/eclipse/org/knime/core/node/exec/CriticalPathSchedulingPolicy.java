@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeTimer;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * Prioritizes nodes on the critical path of a workflow: the priority of a node is the expected duration of the
+ * longest path from the node (inclusive) to any of the end nodes of its workflow. The expected duration of a node is
+ * its average execution time as recorded by its {@link NodeTimer}; nodes that haven't been executed yet count with
+ * {@value #UNKNOWN_DURATION}ms, i.e. without history the priority is the length of the longest downstream chain.
+ *
+ * <p>
+ * The path lengths are cached per workflow and recomputed after the workflow has been changed or its state changes
+ * (e.g. when it's executed again), so that durations of previous executions are taken into account. The path ends at
+ * the boundary of the node's workflow, i.e. successors of a metanode's outputs in the parent workflow are not
+ * considered; metanodes within the workflow count with their own duration.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class CriticalPathSchedulingPolicy implements NodeSchedulingPolicy {
+
+    /** Duration in ms assumed for nodes without execution history. */
+    public static final long UNKNOWN_DURATION = 1;
+
+    /** Remaining path durations per workflow, cleared by the listeners registered on the workflow. */
+    private final Map<WorkflowManager, Map<NodeID, Long>> m_remainingDurations =
+        Collections.synchronizedMap(new WeakHashMap<WorkflowManager, Map<NodeID, Long>>());
+
+    /** {@inheritDoc} */
+    @Override
+    public long getPriority(final SingleNodeContainer nc) {
+        final WorkflowManager wfm = nc.getParent();
+        return getRemainingDuration(wfm, nc.getID(), getCache(wfm));
+    }
+
+    private Map<NodeID, Long> getCache(final WorkflowManager wfm) {
+        synchronized (m_remainingDurations) {
+            Map<NodeID, Long> cache = m_remainingDurations.get(wfm);
+            if (cache == null) {
+                final Map<NodeID, Long> newCache = new ConcurrentHashMap<NodeID, Long>();
+                // the listeners must not reference the workflow, it's only weakly referenced by the map
+                wfm.addListener(e -> newCache.clear());
+                wfm.addNodeStateChangeListener(e -> newCache.clear());
+                m_remainingDurations.put(wfm, newCache);
+                cache = newCache;
+            }
+            return cache;
+        }
+    }
+
+    /** Computes the longest path using a depth first search (without recursion, chains can be very long). */
+    private static long getRemainingDuration(final WorkflowManager wfm, final NodeID id,
+        final Map<NodeID, Long> cache) {
+        Long result = cache.get(id);
+        if (result != null) {
+            return result;
+        }
+        final Deque<NodeID> stack = new ArrayDeque<NodeID>();
+        // nodes whose successors have been pushed; the duration is computed when they are on top again
+        final Set<NodeID> expanded = new HashSet<NodeID>();
+        stack.push(id);
+        while (!stack.isEmpty()) {
+            final NodeID current = stack.peek();
+            if (cache.containsKey(current)) {
+                stack.pop();
+            } else if (expanded.add(current)) {
+                for (NodeID s : getSuccessors(wfm, current)) {
+                    // expanded successors without a result would close a cycle (not possible in a workflow)
+                    if (!cache.containsKey(s) && !expanded.contains(s)) {
+                        stack.push(s);
+                    }
+                }
+            } else {
+                stack.pop();
+                long max = 0;
+                for (NodeID s : getSuccessors(wfm, current)) {
+                    // a successor may be missing if the cache has been cleared concurrently
+                    final Long d = cache.get(s);
+                    if (d != null) {
+                        max = Math.max(max, d);
+                    }
+                }
+                cache.put(current, getExpectedDuration(wfm, current) + max);
+            }
+        }
+        result = cache.get(id);
+        return result == null ? UNKNOWN_DURATION : result;
+    }
+
+    private static List<NodeID> getSuccessors(final WorkflowManager wfm, final NodeID id) {
+        final List<NodeID> result = new ArrayList<NodeID>();
+        for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(id)) {
+            // connections to the workflow's outports leave the workflow
+            if (!cc.getDest().equals(wfm.getID())) {
+                result.add(cc.getDest());
+            }
+        }
+        return result;
+    }
+
+    private static long getExpectedDuration(final WorkflowManager wfm, final NodeID id) {
+        final NodeTimer timer = wfm.getNodeContainer(id).getNodeTimer();
+        final int count = timer.getNrExecsSinceStart();
+        if (count == 0) {
+            return UNKNOWN_DURATION;
+        }
+        return Math.max(UNKNOWN_DURATION, timer.getExecutionDurationSinceStart() / count);
+    }
+}
@@ -49,25 +49,46 @@
 
 import java.util.concurrent.Future;
 
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeResourceRequirements;
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.util.ScheduledTask;
 
 /**
  * A locally executed node job. It can only execute {@link SingleNodeContainer}.
+ * The resources declared by the node model (see {@link NodeResourceRequirements})
+ * are passed on to the thread pool executing the job.
  * @author Bernd Wiswedel, University of Konstanz
  */
-public class LocalNodeExecutionJob extends NodeExecutionJob {
+public class LocalNodeExecutionJob extends NodeExecutionJob implements ScheduledTask {
 
     private Future<?> m_future;
 
+    private long m_priority;
+
+    private final int m_threadCount;
+
+    private final long m_memoryFootprint;
+
     /** Creates new local job.
      * @param snc The node container to execute.
      * @param data Its input port object.
      */
     public LocalNodeExecutionJob(final SingleNodeContainer snc, final PortObject[] data) {
         super(snc, data);
+        NodeModel model = snc instanceof NativeNodeContainer ? ((NativeNodeContainer)snc).getNodeModel() : null;
+        if (model instanceof NodeResourceRequirements) {
+            NodeResourceRequirements r = (NodeResourceRequirements)model;
+            m_threadCount = Math.max(1, r.getRequiredThreadCount());
+            m_memoryFootprint = Math.max(0, r.getEstimatedMemoryFootprint());
+        } else {
+            m_threadCount = 1;
+            m_memoryFootprint = 0;
+        }
     }
 
 
@@ -88,6 +109,32 @@ void setFuture(final Future<?> future) {
         m_future = future;
     }
 
+    /**
+     * Set the scheduling priority, must be called before the job is submitted to the thread pool.
+     * @param priority the priority, see {@link NodeSchedulingPolicy}
+     */
+    void setPriority(final long priority) {
+        m_priority = priority;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getPriority() {
+        return m_priority;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getThreadCount() {
+        return m_threadCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getMemoryFootprint() {
+        return m_memoryFootprint;
+    }
+
     /** {@inheritDoc} */
     @Override
     public NodeContainerExecutionStatus mainExecute() {
@@ -69,6 +69,10 @@ public class ThreadNodeExecutionJobManager extends AbstractNodeExecutionJobManag
 
     private final ThreadPool m_pool;
 
+    private volatile NodeSchedulingPolicy m_schedulingPolicy =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_NODE_SCHEDULING_FIFO) ? NodeSchedulingPolicy.FIFO
+            : new CriticalPathSchedulingPolicy();
+
     public ThreadNodeExecutionJobManager() {
         this(KNIMEConstants.GLOBAL_THREAD_POOL);
     }
@@ -88,11 +92,35 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
+        job.setPriority(m_schedulingPolicy.getPriority((SingleNodeContainer)nc));
         Future<?> future = m_pool.enqueue(job);
         job.setFuture(future);
         return job;
     }
 
+    /**
+     * Sets the policy that determines the order in which queued nodes are executed if there are more executable nodes
+     * than threads. The default prioritizes nodes on the critical path (see {@link CriticalPathSchedulingPolicy})
+     * unless the property {@link KNIMEConstants#PROPERTY_NODE_SCHEDULING_FIFO} is set.
+     *
+     * @param policy the new policy
+     * @since 3.6
+     */
+    public void setSchedulingPolicy(final NodeSchedulingPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("arg must not be null");
+        }
+        m_schedulingPolicy = policy;
+    }
+
+    /**
+     * @return the policy that determines the order in which queued nodes are executed
+     * @since 3.6
+     */
+    public NodeSchedulingPolicy getSchedulingPolicy() {
+        return m_schedulingPolicy;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getID() {
@@ -0,0 +1,380 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.RowOutput.OutputClosedException;
+
+/**
+ * Splits the rows of the distributed input of a node into chunks, which are assigned round robin to the partitions
+ * (i.e. the {@link org.knime.core.node.streamable.StreamableOperator}s running in parallel), and reassembles the rows
+ * the partitions push into their distributed outputs in the order of the chunks. Thereby the output has the same order
+ * as after a non-distributed execution, provided the operator pushes the result rows of an input row before it polls
+ * the next row (which is the case for {@link org.knime.core.node.streamable.StreamableFunction}s).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PartitionedRowStream {
+
+    private static final Chunk END = new Chunk(-1, Collections.<DataRow> emptyList());
+
+    private final int m_chunkSize;
+
+    private final PartitionRowInput[] m_inputs;
+
+    private final Reorderer[] m_reorderers;
+
+    /**
+     * @param partitionCount the number of partitions
+     * @param chunkSize the number of rows per chunk
+     * @param spec the spec of the distributed input
+     * @param outputs the downstream outputs of the node, <code>null</code> for non-distributed outputs
+     */
+    PartitionedRowStream(final int partitionCount, final int chunkSize, final DataTableSpec spec,
+        final RowOutput[] outputs) {
+        m_chunkSize = Math.max(1, chunkSize);
+        m_reorderers = new Reorderer[outputs.length];
+        for (int i = 0; i < outputs.length; i++) {
+            m_reorderers[i] = outputs[i] == null ? null : new Reorderer(outputs[i]);
+        }
+        m_inputs = new PartitionRowInput[partitionCount];
+        for (int p = 0; p < partitionCount; p++) {
+            m_inputs[p] = new PartitionRowInput(spec, m_reorderers.length);
+        }
+    }
+
+    /**
+     * @param partition the partition index
+     * @return the (distributed) input of the partition
+     */
+    RowInput getInput(final int partition) {
+        return m_inputs[partition];
+    }
+
+    /**
+     * @param partition the partition index
+     * @return the outputs of the partition, <code>null</code> for non-distributed outputs
+     */
+    RowOutput[] getOutputs(final int partition) {
+        return m_inputs[partition].m_outputs.clone();
+    }
+
+    /**
+     * Reads the input and distributes it to the partitions, called on the thread of the node while the partitions run.
+     *
+     * @param input the input of the node
+     * @throws InterruptedException if interrupted while waiting for the input or for a partition
+     */
+    void dispatch(final RowInput input) throws InterruptedException {
+        int chunkIndex = 0;
+        List<DataRow> rows = new ArrayList<DataRow>(m_chunkSize);
+        DataRow row;
+        while ((row = input.poll()) != null) {
+            rows.add(row);
+            if (rows.size() >= m_chunkSize) {
+                if (!put(new Chunk(chunkIndex++, rows))) {
+                    break;
+                }
+                rows = new ArrayList<DataRow>(m_chunkSize);
+            }
+        }
+        if (!rows.isEmpty()) {
+            put(new Chunk(chunkIndex++, rows));
+        }
+        input.close();
+        for (PartitionRowInput p : m_inputs) {
+            while (!p.m_isFinished && !p.m_chunks.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                // wait for the partition to take its chunks
+            }
+        }
+    }
+
+    /** @return false if all partitions are finished and no more chunks are needed */
+    private boolean put(final Chunk chunk) throws InterruptedException {
+        final PartitionRowInput partition = m_inputs[chunk.m_index % m_inputs.length];
+        boolean isQueued = false;
+        while (!isQueued && !partition.m_isFinished) {
+            isQueued = partition.m_chunks.offer(chunk, 100, TimeUnit.MILLISECONDS);
+        }
+        // if the partition finished concurrently the chunk is either skipped by the partition or removed here
+        if (!isQueued || (partition.m_isFinished && partition.m_chunks.remove(chunk))) {
+            // rows not needed by the partition, there's nothing to add to the output
+            partition.skip(chunk);
+        }
+        for (PartitionRowInput p : m_inputs) {
+            if (!p.m_isFinished) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called after the operator of a partition has finished. Hands the remaining result rows over to the output.
+     *
+     * @param partition the partition index
+     * @throws InterruptedException if interrupted while waiting for the downstream nodes
+     */
+    void finish(final int partition) throws InterruptedException {
+        m_inputs[partition].finish();
+    }
+
+    /**
+     * Called after all partitions have finished, writes the rows not associated with a chunk.
+     *
+     * @throws InterruptedException if interrupted while waiting for the downstream nodes
+     */
+    void close() throws InterruptedException {
+        for (Reorderer r : m_reorderers) {
+            if (r != null) {
+                r.close();
+            }
+        }
+    }
+
+    private static final class Chunk {
+
+        private final int m_index;
+
+        private final List<DataRow> m_rows;
+
+        private Chunk(final int index, final List<DataRow> rows) {
+            m_index = index;
+            m_rows = rows;
+        }
+    }
+
+    /** The distributed input of one partition, iterates the rows of the chunks assigned to it. */
+    private final class PartitionRowInput extends RowInput {
+
+        private final DataTableSpec m_spec;
+
+        private final BlockingQueue<Chunk> m_chunks = new ArrayBlockingQueue<Chunk>(2);
+
+        private final PartitionRowOutput[] m_outputs;
+
+        private Iterator<DataRow> m_rows = Collections.<DataRow> emptyList().iterator();
+
+        private int m_chunkIndex = -1;
+
+        private volatile boolean m_isFinished;
+
+        private PartitionRowInput(final DataTableSpec spec, final int outputCount) {
+            m_spec = spec;
+            m_outputs = new PartitionRowOutput[outputCount];
+            for (int i = 0; i < outputCount; i++) {
+                m_outputs[i] = m_reorderers[i] == null ? null : new PartitionRowOutput(m_reorderers[i]);
+            }
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_spec;
+        }
+
+        @Override
+        public DataRow poll() throws InterruptedException {
+            while (!m_rows.hasNext()) {
+                if (m_isFinished) {
+                    return null;
+                }
+                final Chunk chunk = m_chunks.take();
+                if (chunk == END) {
+                    m_isFinished = true;
+                    return null;
+                }
+                startChunk(chunk.m_index);
+                m_rows = chunk.m_rows.iterator();
+            }
+            return m_rows.next();
+        }
+
+        @Override
+        public void close() {
+            m_isFinished = true;
+            m_rows = Collections.<DataRow> emptyList().iterator();
+        }
+
+        /** All rows pushed from now on are the result of the chunk with the given index. */
+        private void startChunk(final int chunkIndex) throws InterruptedException {
+            for (PartitionRowOutput o : m_outputs) {
+                if (o != null) {
+                    o.startChunk(m_chunkIndex);
+                }
+            }
+            m_chunkIndex = chunkIndex;
+        }
+
+        private void skip(final Chunk chunk) throws InterruptedException {
+            for (Reorderer r : m_reorderers) {
+                if (r != null) {
+                    r.complete(chunk.m_index, Collections.<DataRow> emptyList());
+                }
+            }
+        }
+
+        private void finish() throws InterruptedException {
+            close();
+            for (PartitionRowOutput o : m_outputs) {
+                if (o != null) {
+                    o.finish(m_chunkIndex);
+                }
+            }
+            // chunks assigned but not read anymore
+            Chunk chunk;
+            while ((chunk = m_chunks.poll()) != null) {
+                if (chunk != END) {
+                    skip(chunk);
+                }
+            }
+        }
+    }
+
+    /** A distributed output of one partition, collects the rows pushed while a chunk is processed. */
+    private static final class PartitionRowOutput extends RowOutput {
+
+        private final Reorderer m_reorderer;
+
+        private List<DataRow> m_rows = new ArrayList<DataRow>();
+
+        private PartitionRowOutput(final Reorderer reorderer) {
+            m_reorderer = reorderer;
+        }
+
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            m_rows.add(row);
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            // completed when the partition finishes
+        }
+
+        private void startChunk(final int previousChunk) throws InterruptedException {
+            if (previousChunk >= 0) {
+                // rows pushed before the first chunk was read are assigned to the first chunk
+                m_reorderer.complete(previousChunk, m_rows);
+                m_rows = new ArrayList<DataRow>();
+            }
+        }
+
+        private void finish(final int lastChunk) throws InterruptedException {
+            if (lastChunk >= 0) {
+                m_reorderer.complete(lastChunk, m_rows);
+            } else {
+                m_reorderer.addTrailing(m_rows);
+            }
+            m_rows = new ArrayList<DataRow>();
+        }
+    }
+
+    /** Writes the results of the chunks into the downstream output in the order of the chunks. */
+    private static final class Reorderer {
+
+        private final RowOutput m_output;
+
+        private final Map<Integer, List<DataRow>> m_pending = new HashMap<Integer, List<DataRow>>();
+
+        private final List<DataRow> m_trailing = new ArrayList<DataRow>();
+
+        private int m_nextChunk;
+
+        private boolean m_isOutputClosed;
+
+        private Reorderer(final RowOutput output) {
+            m_output = output;
+        }
+
+        private synchronized void complete(final int chunk, final List<DataRow> rows) throws InterruptedException {
+            m_pending.put(chunk, rows);
+            List<DataRow> next;
+            while ((next = m_pending.remove(m_nextChunk)) != null) {
+                m_nextChunk++;
+                write(next);
+            }
+        }
+
+        private synchronized void addTrailing(final List<DataRow> rows) {
+            m_trailing.addAll(rows);
+        }
+
+        private synchronized void close() throws InterruptedException {
+            assert m_pending.isEmpty() : "Results of chunks not written: " + m_pending.keySet();
+            write(m_trailing);
+            m_trailing.clear();
+        }
+
+        private void write(final List<DataRow> rows) throws InterruptedException {
+            if (m_isOutputClosed) {
+                return;
+            }
+            try {
+                for (DataRow r : rows) {
+                    m_output.push(r);
+                }
+            } catch (OutputClosedException e) {
+                // downstream nodes don't need more rows, the partitions continue until they are done
+                m_isOutputClosed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * Bounded in-memory queue connecting the table output of one streamed node with the input of another. Rows are
+ * exchanged in batches (see {@link StreamingRowOutput}) so that producer and consumer don't need to synchronize on
+ * each single row. The producer blocks if the queue is full; if the consumer {@linkplain RowInput#close() closes} its
+ * input, queued and subsequently offered rows are discarded.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowQueue {
+
+    private final int m_capacity;
+
+    private final ArrayDeque<List<DataRow>> m_batches;
+
+    private boolean m_isProducerClosed;
+
+    private boolean m_isConsumerClosed;
+
+    /**
+     * @param capacity the maximum number of batches held in the queue, at least 1
+     */
+    RowQueue(final int capacity) {
+        m_capacity = Math.max(1, capacity);
+        m_batches = new ArrayDeque<List<DataRow>>(m_capacity);
+    }
+
+    /**
+     * Adds a batch of rows, blocking while the queue is full.
+     *
+     * @param batch the rows, must not be modified afterwards
+     * @return <code>false</code> if the consumer has closed its input and the rows were discarded
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized boolean offer(final List<DataRow> batch) throws InterruptedException {
+        while (m_batches.size() >= m_capacity && !m_isConsumerClosed) {
+            wait();
+        }
+        if (m_isConsumerClosed) {
+            return false;
+        }
+        m_batches.addLast(batch);
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Takes the next batch, blocking while the queue is empty.
+     *
+     * @return the next batch or <code>null</code> if the producer has closed the queue (or the consumer has closed its
+     *         input) and all batches have been taken
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized List<DataRow> take() throws InterruptedException {
+        while (m_batches.isEmpty() && !m_isProducerClosed && !m_isConsumerClosed) {
+            wait();
+        }
+        final List<DataRow> batch = m_batches.pollFirst();
+        if (batch != null) {
+            notifyAll();
+        }
+        return batch;
+    }
+
+    /** Called by the producer after the last batch has been offered. */
+    synchronized void closeProducer() {
+        m_isProducerClosed = true;
+        notifyAll();
+    }
+
+    /** Called by the consumer if it doesn't need any further rows. */
+    synchronized void closeConsumer() {
+        m_isConsumerClosed = true;
+        m_batches.clear();
+        notifyAll();
+    }
+
+    /** @return whether the consumer has closed its input */
+    synchronized boolean isConsumerClosed() {
+        return m_isConsumerClosed;
+    }
+
+    /**
+     * Creates the input of the consuming node. As the queue can only be read once, the method must only be called
+     * once.
+     *
+     * @param spec the spec of the rows in the queue
+     * @return a new input reading the queue
+     */
+    RowInput createRowInput(final DataTableSpec spec) {
+        return new QueueRowInput(spec);
+    }
+
+    /** The input of the consuming node. */
+    private final class QueueRowInput extends RowInput {
+
+        private final DataTableSpec m_spec;
+
+        private Iterator<DataRow> m_batch = Collections.<DataRow> emptyList().iterator();
+
+        private QueueRowInput(final DataTableSpec spec) {
+            m_spec = spec;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_spec;
+        }
+
+        @Override
+        public DataRow poll() throws InterruptedException {
+            while (!m_batch.hasNext()) {
+                final List<DataRow> batch = take();
+                if (batch == null) {
+                    return null;
+                }
+                m_batch = batch.iterator();
+            }
+            return m_batch.next();
+        }
+
+        @Override
+        public void close() {
+            closeConsumer();
+        }
+    }
+}
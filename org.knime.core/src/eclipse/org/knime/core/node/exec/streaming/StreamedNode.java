@@ -0,0 +1,413 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.RowOutput.OutputClosedException;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * A node in a streamed workflow, executed by its {@link StreamableOperator}(s) on a thread of its own. Table inputs
+ * are read from {@link RowQueue}s filled concurrently by the upstream nodes; the node's table outputs are
+ * {@link StreamingRowOutput}s feeding the queues of the downstream nodes. A table input is only materialized into a
+ * table if
+ * <ul>
+ * <li>the node declares it as non-streamable (which is the default for nodes not implementing the streaming API),</li>
+ * <li>the node has more than one connected table input (reading the inputs in the node's order could block an
+ * upstream node feeding several of them),</li>
+ * <li>the node iterates on the data (see {@link NodeModel#iterate(StreamableOperatorInternals)}), or</li>
+ * <li>it's a non-distributed input of a node executed in several partitions.</li>
+ * </ul>
+ * A node with one distributed streamable table input is executed in several partitions in parallel (see
+ * {@link PartitionedRowStream}), the internals of the partitions are combined with the node's {@link MergeOperator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamedNode implements Callable<Void> {
+
+    private final NativeNodeContainer m_nnc;
+
+    private final int m_partitionCount;
+
+    private final int m_chunkSize;
+
+    private final ExecutorService m_executor;
+
+    private final RowQueue[] m_inQueues;
+
+    private final PortObjectSpec[] m_inSpecs;
+
+    private final DataTableSpec[] m_inTableSpecs;
+
+    private final StreamingPortObjectOutput[] m_inObjects;
+
+    private final PortOutput[] m_outputs;
+
+    private boolean m_hasConnectedObjectOutput;
+
+    /**
+     * @param nnc the node
+     * @param batchSize the number of rows passed to the downstream nodes at once
+     * @param chunkSize the number of rows per chunk if the node is executed in several partitions
+     * @param partitionCount the number of partitions to execute distributable nodes in
+     * @param executor executor to run partitions and materialize inputs
+     */
+    StreamedNode(final NativeNodeContainer nnc, final int batchSize, final int chunkSize, final int partitionCount,
+        final ExecutorService executor) {
+        m_nnc = nnc;
+        m_chunkSize = chunkSize;
+        m_partitionCount = partitionCount;
+        m_executor = executor;
+        // port 0 of the node container is the flow variable port, which isn't streamed
+        final int inCount = nnc.getNrInPorts() - 1;
+        m_inQueues = new RowQueue[inCount];
+        m_inSpecs = new PortObjectSpec[inCount];
+        m_inTableSpecs = new DataTableSpec[inCount];
+        m_inObjects = new StreamingPortObjectOutput[inCount];
+        m_outputs = new PortOutput[nnc.getNrOutPorts() - 1];
+        final List<StreamingRowOutput> rowOutputs = new ArrayList<StreamingRowOutput>();
+        for (int i = 0; i < m_outputs.length; i++) {
+            if (isTable(nnc.getOutPort(i + 1).getPortType().getPortObjectClass())) {
+                StreamingRowOutput out = new StreamingRowOutput(batchSize);
+                out.setNodeOutputClosedCheck(() -> rowOutputs.stream().allMatch(StreamingRowOutput::isConsumerClosed)
+                    && !hasConnectedObjectOutput());
+                rowOutputs.add(out);
+                m_outputs[i] = out;
+            } else {
+                m_outputs[i] = new StreamingPortObjectOutput();
+            }
+        }
+    }
+
+    private boolean hasConnectedObjectOutput() {
+        return m_hasConnectedObjectOutput;
+    }
+
+    /** @return the node */
+    NativeNodeContainer getNodeContainer() {
+        return m_nnc;
+    }
+
+    /**
+     * Connects an input of this node with the output of an upstream node. Must be called before the nodes are started.
+     *
+     * @param inPort the input port of the node model (i.e. without flow variable port)
+     * @param source the upstream node
+     * @param sourcePort the output port of the upstream node model
+     * @param queueCapacity the capacity of the queue between the nodes in batches
+     */
+    void connect(final int inPort, final StreamedNode source, final int sourcePort, final int queueCapacity) {
+        final PortOutput sourceOutput = source.m_outputs[sourcePort];
+        m_inSpecs[inPort] = source.m_nnc.getOutPort(sourcePort + 1).getPortObjectSpec();
+        if (sourceOutput instanceof StreamingRowOutput) {
+            final RowQueue queue = new RowQueue(queueCapacity);
+            ((StreamingRowOutput)sourceOutput).addConsumer(queue);
+            m_inQueues[inPort] = queue;
+            m_inTableSpecs[inPort] = (DataTableSpec)m_inSpecs[inPort];
+        } else {
+            m_inObjects[inPort] = (StreamingPortObjectOutput)sourceOutput;
+            source.m_hasConnectedObjectOutput = true;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Void call() throws Exception {
+        NodeContext.pushContext(m_nnc);
+        try {
+            if (m_nnc.getNodeContainerState().isExecuted()) {
+                // executed before the workflow was streamed, just pass on the data
+                for (int i = 0; i < m_outputs.length; i++) {
+                    final PortObject po = m_nnc.getOutPort(i + 1).getPortObject();
+                    if (m_outputs[i] instanceof StreamingRowOutput) {
+                        ((StreamingRowOutput)m_outputs[i]).setFully((BufferedDataTable)po);
+                    } else {
+                        ((StreamingPortObjectOutput)m_outputs[i]).setPortObject(po);
+                    }
+                }
+            } else {
+                final ExecutionContext exec = m_nnc.createExecutionContext();
+                m_nnc.getNode().openFileStoreHandler(exec);
+                execute(exec);
+            }
+            for (PortOutput o : m_outputs) {
+                if (o instanceof StreamingRowOutput) {
+                    ((StreamingRowOutput)o).close();
+                } else {
+                    ((StreamingPortObjectOutput)o).close();
+                }
+            }
+        } finally {
+            NodeContext.removeLastContext();
+        }
+        return null;
+    }
+
+    private void execute(final ExecutionContext exec) throws Exception {
+        final NodeModel model = m_nnc.getNodeModel();
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        final OutputPortRole[] outRoles = model.getOutputPortRoles();
+        final PortObjectSpec[] inSpecs = m_inSpecs.clone();
+        final MergeOperator mergeOperator = model.createMergeOperator();
+        StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+        final boolean isIterating = internals != null && model.iterate(internals);
+        boolean isDistributed = false;
+        int tableInputCount = 0;
+        int splitPort = -1;
+        for (int i = 0; i < inRoles.length; i++) {
+            if (inRoles[i].isDistributable()) {
+                // only a single streamed table input can be split into partitions
+                splitPort = !isDistributed && m_inQueues[i] != null && inRoles[i].isStreamable() ? i : -1;
+                isDistributed = true;
+            }
+            tableInputCount += m_inQueues[i] != null ? 1 : 0;
+        }
+        boolean isAllOutputsDistributed = true;
+        for (OutputPortRole r : outRoles) {
+            isAllOutputsDistributed &= r.isDistributable();
+        }
+        // in the distributed protocol runFinal creates the distributed outputs only, the others are created after
+        // the merge in finishStreamableExecution
+        final boolean isDistributedProtocol = isDistributed && (mergeOperator != null || isAllOutputsDistributed);
+        final int partitionCount = isDistributedProtocol && !isIterating && splitPort >= 0 ? m_partitionCount : 1;
+        if (partitionCount == 1) {
+            splitPort = -1;
+        }
+
+        // materialize the inputs that can't be streamed, concurrently to not block any upstream node
+        final BufferedDataTable[] tables = new BufferedDataTable[m_inQueues.length];
+        final List<Future<BufferedDataTable>> futures = new ArrayList<Future<BufferedDataTable>>();
+        for (int i = 0; i < m_inQueues.length; i++) {
+            final int port = i;
+            boolean isMaterialize = m_inQueues[i] != null && i != splitPort && (isIterating || tableInputCount > 1
+                || !inRoles[i].isStreamable() || partitionCount > 1);
+            futures.add(isMaterialize ? m_executor.submit(() -> materialize(port, exec)) : null);
+        }
+        final PortObject[] objects = new PortObject[m_inQueues.length];
+        for (int i = 0; i < m_inQueues.length; i++) {
+            tables[i] = futures.get(i) == null ? null : get(futures.get(i));
+            if (m_inObjects[i] != null) {
+                objects[i] = m_inObjects[i].await();
+                if (objects[i] == null) {
+                    throw new IllegalStateException("No data at input port " + i + " (upstream node didn't create it)");
+                }
+            }
+        }
+
+        if (isIterating) {
+            do {
+                final StreamableOperator op = model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs);
+                op.loadInternals(internals);
+                op.runIntermediate(createInputs(inRoles, tables, objects), exec);
+                internals = op.saveInternals();
+                if (mergeOperator != null) {
+                    internals = mergeOperator.mergeIntermediate(new StreamableOperatorInternals[]{internals});
+                }
+            } while (model.iterate(internals));
+            model.computeFinalOutputSpecs(internals, inSpecs);
+        }
+
+        final PortOutput[] operatorOutputs = new PortOutput[m_outputs.length];
+        final PortOutput[] mergeOutputs = new PortOutput[m_outputs.length];
+        for (int i = 0; i < m_outputs.length; i++) {
+            boolean isOperatorOutput = !isDistributedProtocol || outRoles[i].isDistributable();
+            operatorOutputs[i] = isOperatorOutput ? m_outputs[i] : null;
+            mergeOutputs[i] = isOperatorOutput ? null : m_outputs[i];
+        }
+        final StreamableOperatorInternals[] operatorInternals;
+        if (partitionCount == 1) {
+            final StreamableOperator op = model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs);
+            if (internals != null) {
+                op.loadInternals(internals);
+            }
+            runFinal(op, createInputs(inRoles, tables, objects), operatorOutputs, exec);
+            operatorInternals = new StreamableOperatorInternals[]{op.saveInternals()};
+        } else {
+            operatorInternals = runPartitions(model, inSpecs, internals, inRoles, tables, objects, splitPort,
+                partitionCount, operatorOutputs, exec);
+        }
+        if (isDistributedProtocol && mergeOperator != null) {
+            model.finishStreamableExecution(mergeOperator.mergeFinal(operatorInternals), exec, mergeOutputs);
+        }
+    }
+
+    private StreamableOperatorInternals[] runPartitions(final NodeModel model, final PortObjectSpec[] inSpecs,
+        final StreamableOperatorInternals internals, final InputPortRole[] inRoles, final BufferedDataTable[] tables,
+        final PortObject[] objects, final int splitPort, final int partitionCount, final PortOutput[] outputs,
+        final ExecutionContext exec) throws Exception {
+        final RowOutput[] rowOutputs = new RowOutput[outputs.length];
+        for (int i = 0; i < outputs.length; i++) {
+            rowOutputs[i] = (RowOutput)outputs[i];
+        }
+        final PartitionedRowStream stream =
+            new PartitionedRowStream(partitionCount, m_chunkSize, m_inTableSpecs[splitPort], rowOutputs);
+        final List<Future<StreamableOperatorInternals>> futures =
+            new ArrayList<Future<StreamableOperatorInternals>>(partitionCount);
+        for (int p = 0; p < partitionCount; p++) {
+            final StreamableOperator op = model.createStreamableOperator(new PartitionInfo(p, partitionCount), inSpecs);
+            if (internals != null) {
+                op.loadInternals(internals);
+            }
+            final PortInput[] inputs = createInputs(inRoles, tables, objects);
+            inputs[splitPort] = stream.getInput(p);
+            final int partition = p;
+            final ExecutionContext partitionExec = exec.createSubExecutionContext(1.0 / partitionCount);
+            futures.add(m_executor.submit(() -> {
+                NodeContext.pushContext(m_nnc);
+                try {
+                    runFinal(op, inputs, stream.getOutputs(partition), partitionExec);
+                    stream.finish(partition);
+                    return op.saveInternals();
+                } catch (Exception e) {
+                    // don't let the dispatcher wait for the failed partition
+                    ((RowInput)inputs[splitPort]).close();
+                    throw e;
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            }));
+        }
+        stream.dispatch(m_inQueues[splitPort].createRowInput(m_inTableSpecs[splitPort]));
+        final StreamableOperatorInternals[] result = new StreamableOperatorInternals[partitionCount];
+        for (int p = 0; p < partitionCount; p++) {
+            result[p] = get(futures.get(p));
+        }
+        stream.close();
+        return result;
+    }
+
+    private PortInput[] createInputs(final InputPortRole[] inRoles, final BufferedDataTable[] tables,
+        final PortObject[] objects) {
+        final PortInput[] inputs = new PortInput[m_inQueues.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (tables[i] != null) {
+                inputs[i] = inRoles[i].isStreamable() ? new DataTableRowInput(tables[i]) : new PortObjectInput(tables[i]);
+            } else if (m_inQueues[i] != null) {
+                inputs[i] = m_inQueues[i].createRowInput(m_inTableSpecs[i]);
+            } else if (m_inObjects[i] != null) {
+                inputs[i] = new PortObjectInput(objects[i]);
+            }
+            // else: optional input not connected
+        }
+        return inputs;
+    }
+
+    private static void runFinal(final StreamableOperator op, final PortInput[] inputs, final PortOutput[] outputs,
+        final ExecutionContext exec) throws Exception {
+        try {
+            op.runFinal(inputs, outputs, exec);
+        } catch (OutputClosedException e) {
+            // none of the downstream nodes needs more rows
+        }
+        for (PortInput in : inputs) {
+            if (in instanceof RowInput) {
+                // release upstream nodes if the operator didn't read all rows
+                ((RowInput)in).close();
+            }
+        }
+    }
+
+    private BufferedDataTable materialize(final int port, final ExecutionContext exec) throws Exception {
+        NodeContext.pushContext(m_nnc);
+        try {
+            final RowInput input = m_inQueues[port].createRowInput(m_inTableSpecs[port]);
+            final BufferedDataContainer container = exec.createDataContainer(m_inTableSpecs[port]);
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                container.addRowToTable(row);
+            }
+            container.close();
+            return container.getTable();
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    private static <T> T get(final Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isTable(final Class<? extends PortObject> portObjectClass) {
+        return BufferedDataTable.class.isAssignableFrom(portObjectClass);
+    }
+}
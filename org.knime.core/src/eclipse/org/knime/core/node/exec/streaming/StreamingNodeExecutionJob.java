@@ -0,0 +1,267 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.LoopEndNode;
+import org.knime.core.node.workflow.LoopStartNode;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.util.ScheduledTask;
+
+/**
+ * Executes the content of a wrapped metanode by streaming the rows between its nodes (see {@link StreamedNode}). All
+ * contained nodes run concurrently on threads of their own, so no intermediate table is written unless a node can't
+ * process its input as a stream. The contained nodes are marked as executed afterwards but don't hold any output data.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingNodeExecutionJob extends NodeExecutionJob implements ScheduledTask {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingNodeExecutionJob.class);
+
+    /** Number of rows passed between nodes at once. */
+    static final int BATCH_SIZE = 64;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Status of the streamed node, all contained nodes are executed successfully. */
+    private static final NodeContainerExecutionStatus SUCCESS = new NodeContainerExecutionStatus() {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public NodeContainerExecutionStatus getChildStatus(final int idSuffix) {
+            return this;
+        }
+    };
+
+    private final int m_queueSize;
+
+    private final int m_partitionCount;
+
+    private final int m_threadCount;
+
+    private Future<?> m_future;
+
+    /**
+     * @param snc the wrapped metanode to execute
+     * @param data its input data
+     * @param queueSize the number of rows buffered per connection
+     * @param partitionCount the number of partitions distributable nodes are executed in
+     */
+    StreamingNodeExecutionJob(final SubNodeContainer snc, final PortObject[] data, final int queueSize,
+        final int partitionCount) {
+        super(snc, data);
+        m_queueSize = queueSize;
+        m_partitionCount = partitionCount;
+        m_threadCount = countThreads(snc.getWorkflowManager().getNodeContainers(), partitionCount);
+    }
+
+    /**
+     * Set the future that represents the pending execution.
+     * @param future the future to set
+     */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        if (m_future == null) {
+            throw new IllegalStateException("Future that represents the execution has not been set.");
+        }
+        return m_future.cancel(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getThreadCount() {
+        return m_threadCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        final SubNodeContainer snc = (SubNodeContainer)getNodeContainer();
+        final WorkflowManager wfm = snc.getWorkflowManager();
+        final List<NodeContainer> ncs = new ArrayList<NodeContainer>(wfm.getNodeContainers());
+        final String notStreamable = checkStreamable(ncs);
+        if (notStreamable != null) {
+            snc.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, "Can't stream content: " + notStreamable));
+            return NodeContainerExecutionStatus.FAILURE;
+        }
+        // the streamed nodes wait for each other's rows, hence every task needs a thread of its own
+        final ExecutorService executor = Executors.newFixedThreadPool(m_threadCount, r -> {
+            Thread t = new Thread(r, "KNIME-Streaming-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            final Map<NodeID, StreamedNode> nodes = new LinkedHashMap<NodeID, StreamedNode>();
+            for (NodeContainer nc : ncs) {
+                nodes.put(nc.getID(), new StreamedNode((NativeNodeContainer)nc, BATCH_SIZE, m_queueSize,
+                    m_partitionCount, executor));
+            }
+            final int queueCapacity = Math.max(1, m_queueSize / BATCH_SIZE);
+            for (StreamedNode node : nodes.values()) {
+                for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(node.getNodeContainer().getID())) {
+                    // flow variables are propagated during configuration, the flow variable ports aren't streamed
+                    if (cc.getDestPort() > 0 && cc.getSourcePort() > 0) {
+                        node.connect(cc.getDestPort() - 1, nodes.get(cc.getSource()), cc.getSourcePort() - 1,
+                            queueCapacity);
+                    }
+                }
+            }
+            final CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executor);
+            final Map<Future<Void>, StreamedNode> futures = new HashMap<Future<Void>, StreamedNode>();
+            for (StreamedNode node : nodes.values()) {
+                futures.put(completionService.submit(node), node);
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final Future<Void> future = completionService.take();
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // the other nodes are stopped when the executor is shut down
+                    final NodeContainer failed = futures.get(future).getNodeContainer();
+                    final Throwable cause = e.getCause();
+                    final String message = cause.getMessage() == null
+                        ? cause.getClass().getSimpleName() : cause.getMessage();
+                    LOGGER.debug("Streaming execution of " + failed.getNameWithID() + " failed: " + message, cause);
+                    failed.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, "Execute failed: " + message));
+                    snc.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR,
+                        "Streaming execution failed in \"" + failed.getNameWithID() + "\": " + message));
+                    return NodeContainerExecutionStatus.FAILURE;
+                }
+            }
+            return SUCCESS;
+        } catch (InterruptedException e) {
+            snc.setNodeMessage(new NodeMessage(NodeMessage.Type.WARNING, "Execution canceled"));
+            return NodeContainerExecutionStatus.FAILURE;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the maximum number of tasks running concurrently when streaming the given nodes: one per node, one per
+     * table input that may be materialized and one per partition of a node that may be distributed.
+     *
+     * @param ncs the nodes to stream
+     * @param partitionCount the number of partitions distributable nodes are executed in
+     * @return the number of threads required
+     */
+    private static int countThreads(final Collection<NodeContainer> ncs, final int partitionCount) {
+        int threadCount = 0;
+        for (NodeContainer nc : ncs) {
+            threadCount++;
+            if (nc instanceof NativeNodeContainer) {
+                final InputPortRole[] inRoles = ((NativeNodeContainer)nc).getNodeModel().getInputPortRoles();
+                threadCount += inRoles.length;
+                if (partitionCount > 1 && Arrays.stream(inRoles).anyMatch(InputPortRole::isDistributable)) {
+                    threadCount += partitionCount;
+                }
+            }
+        }
+        return Math.max(1, threadCount);
+    }
+
+    /** @return a message why the nodes can't be streamed or <code>null</code> if they can */
+    private static String checkStreamable(final List<NodeContainer> ncs) {
+        for (NodeContainer nc : ncs) {
+            if (!(nc instanceof NativeNodeContainer)) {
+                return "\"" + nc.getNameWithID() + "\" is a metanode";
+            }
+            final NativeNodeContainer nnc = (NativeNodeContainer)nc;
+            if (nnc.isModelCompatibleTo(LoopStartNode.class) || nnc.isModelCompatibleTo(LoopEndNode.class)) {
+                return "\"" + nc.getNameWithID() + "\" is part of a loop";
+            }
+            for (int i = 0; i < nnc.getNrOutPorts(); i++) {
+                if (nnc.getOutPort(i).getPortObjectSpec() instanceof InactiveBranchPortObjectSpec) {
+                    return "\"" + nc.getNameWithID() + "\" is part of an inactive branch";
+                }
+            }
+        }
+        return null;
+    }
+}
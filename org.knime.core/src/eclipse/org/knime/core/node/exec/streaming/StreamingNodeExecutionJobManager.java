@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.net.URL;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContainer.NodeContainerSettings.SplitType;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeExecutionJobManagerPanel;
+import org.knime.core.node.workflow.SubNodeContainer;
+
+/**
+ * Job manager for wrapped metanodes that streams the rows between the contained nodes through bounded in-memory
+ * queues instead of materializing a table at each node. Nodes implementing the streaming API (see
+ * {@link org.knime.core.node.streamable.StreamableOperator}) process the rows as soon as their upstream node produces
+ * them, distributable nodes are executed in several partitions in parallel. A chain of streamable nodes, e.g. reader,
+ * column filter, math formula, row filter and writer, therefore runs without writing any intermediate table. Nodes not
+ * supporting streaming are executed as usual once their input is complete.
+ *
+ * <p>
+ * The contained nodes don't hold any data after the execution, only the output of the wrapped metanode is kept.
+ * Wrapped metanodes containing metanodes or loops can't be streamed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class StreamingNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    /** Settings key for the number of rows buffered per connection. */
+    static final String CFG_QUEUE_SIZE = "queue_size";
+
+    /** Settings key for the number of partitions distributable nodes are executed in. */
+    static final String CFG_PARTITION_COUNT = "partition_count";
+
+    /** Default number of rows buffered per connection. */
+    static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    /** Default number of partitions, the number of available processors. */
+    static final int DEFAULT_PARTITION_COUNT = Runtime.getRuntime().availableProcessors();
+
+    private int m_queueSize = DEFAULT_QUEUE_SIZE;
+
+    private int m_partitionCount = DEFAULT_PARTITION_COUNT;
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof SubNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                + " is only able to execute wrapped metanodes: " + nc.getNameWithID());
+        }
+        StreamingNodeExecutionJob job =
+            new StreamingNodeExecutionJob((SubNodeContainer)nc, data, m_queueSize, m_partitionCount);
+        Future<?> future = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof SubNodeContainer;
+    }
+
+    /**
+     * @return the number of rows buffered per connection before the upstream node has to wait
+     */
+    public int getQueueSize() {
+        return m_queueSize;
+    }
+
+    /**
+     * @return the number of partitions distributable nodes are executed in
+     */
+    public int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJobManagerPanel getSettingsPanelComponent(final SplitType nodeSplitType) {
+        return new StreamingNodeExecutionJobManagerPanel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void save(final NodeSettingsWO settings) {
+        settings.addInt(CFG_QUEUE_SIZE, m_queueSize);
+        settings.addInt(CFG_PARTITION_COUNT, m_partitionCount);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void load(final NodeSettingsRO settings) throws InvalidSettingsException {
+        int queueSize = settings.getInt(CFG_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        int partitionCount = settings.getInt(CFG_PARTITION_COUNT, DEFAULT_PARTITION_COUNT);
+        if (queueSize < 1) {
+            throw new InvalidSettingsException("Queue size must be positive: " + queueSize);
+        }
+        if (partitionCount < 1) {
+            throw new InvalidSettingsException("Partition count must be positive: " + partitionCount);
+        }
+        m_queueSize = queueSize;
+        m_partitionCount = partitionCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.awt.GridBagConstraints;
+import java.awt.GridBagLayout;
+import java.awt.Insets;
+import java.text.ParseException;
+
+import javax.swing.JLabel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.NodeExecutionJobManagerPanel;
+
+/**
+ * Settings panel of the {@link StreamingNodeExecutionJobManager}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("serial")
+final class StreamingNodeExecutionJobManagerPanel extends NodeExecutionJobManagerPanel {
+
+    private final JSpinner m_queueSizeSpinner = new JSpinner(new SpinnerNumberModel(
+        StreamingNodeExecutionJobManager.DEFAULT_QUEUE_SIZE, 1, Integer.MAX_VALUE, 100));
+
+    private final JSpinner m_partitionCountSpinner = new JSpinner(new SpinnerNumberModel(
+        StreamingNodeExecutionJobManager.DEFAULT_PARTITION_COUNT, 1, 1024, 1));
+
+    StreamingNodeExecutionJobManagerPanel() {
+        setLayout(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.anchor = GridBagConstraints.WEST;
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        add(new JLabel("Rows buffered per connection: "), gbc);
+        gbc.gridx = 1;
+        add(m_queueSizeSpinner, gbc);
+        gbc.gridx = 0;
+        gbc.gridy += 1;
+        add(new JLabel("Partitions of distributable nodes: "), gbc);
+        gbc.gridx = 1;
+        add(m_partitionCountSpinner, gbc);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveSettings(final NodeSettingsWO settings) throws InvalidSettingsException {
+        try {
+            m_queueSizeSpinner.commitEdit();
+            m_partitionCountSpinner.commitEdit();
+        } catch (ParseException e) {
+            throw new InvalidSettingsException("Invalid number: " + e.getMessage(), e);
+        }
+        settings.addInt(StreamingNodeExecutionJobManager.CFG_QUEUE_SIZE, (Integer)m_queueSizeSpinner.getValue());
+        settings.addInt(StreamingNodeExecutionJobManager.CFG_PARTITION_COUNT,
+            (Integer)m_partitionCountSpinner.getValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void loadSettings(final NodeSettingsRO settings) {
+        m_queueSizeSpinner.setValue(Math.max(1, settings.getInt(StreamingNodeExecutionJobManager.CFG_QUEUE_SIZE,
+            StreamingNodeExecutionJobManager.DEFAULT_QUEUE_SIZE)));
+        m_partitionCountSpinner.setValue(Math.max(1, Math.min(1024, settings.getInt(
+            StreamingNodeExecutionJobManager.CFG_PARTITION_COUNT,
+            StreamingNodeExecutionJobManager.DEFAULT_PARTITION_COUNT))));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateInputSpecs(final PortObjectSpec[] inSpecs) {
+        // no dependency on the input
+    }
+}
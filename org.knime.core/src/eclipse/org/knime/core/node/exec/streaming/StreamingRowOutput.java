@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.exec.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Table output of a streamed node. The rows are collected in batches and each batch is offered to the
+ * {@link RowQueue queues} of all nodes consuming the output. If none of the consumers needs further rows, the rows are
+ * discarded; if additionally none of the other outputs of the node has an open consumer,
+ * {@link #push(DataRow)} throws an {@link OutputClosedException} to stop the node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingRowOutput extends RowOutput {
+
+    private final int m_batchSize;
+
+    private final List<RowQueue> m_queues = new CopyOnWriteArrayList<RowQueue>();
+
+    private BooleanSupplier m_isNodeOutputClosed = () -> true;
+
+    private List<DataRow> m_batch;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param batchSize the number of rows collected before they are offered to the consumers
+     */
+    StreamingRowOutput(final int batchSize) {
+        m_batchSize = Math.max(1, batchSize);
+        m_batch = new ArrayList<DataRow>(m_batchSize);
+    }
+
+    /**
+     * Adds a consumer, must be called before the producing node starts.
+     *
+     * @param queue the queue of the consumer
+     */
+    void addConsumer(final RowQueue queue) {
+        m_queues.add(queue);
+    }
+
+    /**
+     * Sets the check whether all outputs of the producing node are closed, see class description.
+     *
+     * @param isNodeOutputClosed the check
+     */
+    void setNodeOutputClosedCheck(final BooleanSupplier isNodeOutputClosed) {
+        m_isNodeOutputClosed = isNodeOutputClosed;
+    }
+
+    /** @return whether all consumers of this output have closed their input (also true if there are no consumers) */
+    boolean isConsumerClosed() {
+        for (RowQueue q : m_queues) {
+            if (!q.isConsumerClosed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(final DataRow row) throws InterruptedException {
+        if (m_isClosed) {
+            throw new IllegalStateException("Output has already been closed");
+        }
+        m_batch.add(row);
+        if (m_batch.size() >= m_batchSize) {
+            flush();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFully(final BufferedDataTable table) throws InterruptedException {
+        for (DataRow r : table) {
+            push(r);
+            if (isConsumerClosed()) {
+                break;
+            }
+        }
+        close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws InterruptedException {
+        if (m_isClosed) {
+            return;
+        }
+        try {
+            if (!m_batch.isEmpty()) {
+                offer(m_batch);
+            }
+        } finally {
+            m_isClosed = true;
+            m_batch = null;
+            for (RowQueue q : m_queues) {
+                q.closeProducer();
+            }
+        }
+    }
+
+    private void flush() throws InterruptedException {
+        final List<DataRow> batch = m_batch;
+        m_batch = new ArrayList<DataRow>(m_batchSize);
+        if (!offer(batch) && m_isNodeOutputClosed.getAsBoolean()) {
+            throw new OutputClosedException();
+        }
+    }
+
+    /** @return whether any consumer accepted the batch */
+    private boolean offer(final List<DataRow> batch) throws InterruptedException {
+        boolean isAccepted = false;
+        for (RowQueue q : m_queues) {
+            isAccepted |= q.offer(batch);
+        }
+        return isAccepted;
+    }
+}
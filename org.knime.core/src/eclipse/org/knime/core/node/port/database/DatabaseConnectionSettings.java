@@ -257,6 +257,29 @@ private static int initBatchWriteSize() {
         return 1;
     }
 
+    /** Number of connections used to write batches concurrently into the database, see
+     * {@link KNIMEConstants#PROPERTY_DATABASE_WRITE_CONNECTIONS}.
+     * @since 3.6 */
+    public static final int WRITE_CONNECTION_COUNT = initWriteConnectionCount();
+    private static int initWriteConnectionCount() {
+        String count = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_WRITE_CONNECTIONS);
+        if (count != null) {
+            try {
+                final int connectionCount = Integer.parseInt(count);
+                if (connectionCount > 0) {
+                    LOGGER.debug("Database write connections: " + connectionCount);
+                    return connectionCount;
+                } else {
+                    LOGGER.warn("Database property " + KNIMEConstants.PROPERTY_DATABASE_WRITE_CONNECTIONS + "="
+                        + connectionCount + " can't be smaller than 1, using 1 as default.");
+                }
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database write connections not valid '" + count + "', using 1 as default.");
+            }
+        }
+        return 1;
+    }
+
     private String m_driver;
     private String m_credName = null;
 
@@ -202,43 +202,62 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
                 }
             }
 
-            final Driver d;
-            try {
-                d = getDriverFactory().getDriver(settings);
-            } catch (Exception ex1) {
-                throw new InvalidSettingsException(ex1);
-            }
-            if (!d.acceptsURL(jdbcUrl)) {
-                throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
-            }
             // if a connection is not available
-            Callable<Connection> callable = new Callable<Connection>() {
-                /** {@inheritDoc} */
-                @Override
-                public Connection call() throws Exception {
-                    LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
-                    return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
-                }
-            };
-            //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
-            //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
-            //alive for ages
-            Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
-            try {
-                conn = task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
-                CONNECTION_MAP.put(databaseConnKey, conn);
-                return conn;
-            } catch (ExecutionException ee) {
-                if (ee.getCause() instanceof SQLException) {
-                    throw (SQLException) ee.getCause();
-                } else {
-                    throw new SQLException(ee.getCause());
-                }
-            } catch (InterruptedException ex) {
-                throw new SQLException("Thread was interrupted while waiting for database to respond");
-            } catch (TimeoutException ex) {
-                throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
+            conn = openConnection(settings, jdbcUrl, user, pass, kerberos);
+            CONNECTION_MAP.put(databaseConnKey, conn);
+            return conn;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The connection is created the same way as the cached connections but isn't added to the cache.
+     * @since 3.6
+     */
+    @Override
+    public Connection createAdditionalConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        final String jdbcUrl = settings.getJDBCUrl();
+        return openConnection(settings, jdbcUrl, settings.getUserName(cp), settings.getPassword(cp),
+            settings.useKerberos());
+    }
+
+    private Connection openConnection(final DatabaseConnectionSettings settings, final String jdbcUrl,
+        final String user, final String pass, final boolean kerberos)
+        throws InvalidSettingsException, SQLException, IOException {
+        final Driver d;
+        try {
+            d = getDriverFactory().getDriver(settings);
+        } catch (Exception ex1) {
+            throw new InvalidSettingsException(ex1);
+        }
+        if (!d.acceptsURL(jdbcUrl)) {
+            throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+        }
+        Callable<Connection> callable = new Callable<Connection>() {
+            /** {@inheritDoc} */
+            @Override
+            public Connection call() throws Exception {
+                LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
+                return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
+            }
+        };
+        //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
+        //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
+        //alive for ages
+        Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
+        try {
+            return task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof SQLException) {
+                throw (SQLException) ee.getCause();
+            } else {
+                throw new SQLException(ee.getCause());
             }
+        } catch (InterruptedException ex) {
+            throw new SQLException("Thread was interrupted while waiting for database to respond");
+        } catch (TimeoutException ex) {
+            throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
         }
     }
 
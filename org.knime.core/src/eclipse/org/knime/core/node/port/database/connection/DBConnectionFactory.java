@@ -74,6 +74,24 @@ public interface DBConnectionFactory {
     Connection getConnection(final CredentialsProvider cp,
         final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException;
 
+    /**
+     * Creates a new connection that is not shared with other users of this factory, e.g. to write into a database
+     * using several connections concurrently. The default implementation doesn't support additional connections.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return a new {@link Connection} which needs to be closed by the caller, or <code>null</code> if the factory
+     *         doesn't support additional connections
+     * @throws InvalidSettingsException
+     * @throws SQLException
+     * @throws IOException
+     * @since 3.6
+     */
+    default Connection createAdditionalConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        return null;
+    }
+
     /**
      * @return the {@link DBDriverFactory} the connection factory uses
      */
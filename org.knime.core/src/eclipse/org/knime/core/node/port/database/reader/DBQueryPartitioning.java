@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.port.database.reader;
+
+/**
+ * Describes how the select query of a {@link DBReader} is split into sub-queries that are read concurrently, see
+ * {@link DBReader#createTable(org.knime.core.node.ExecutionContext, org.knime.core.node.workflow.CredentialsProvider,
+ * DBQueryPartitioning)}. Each sub-query selects the rows of the query whose value in the partitioning column falls
+ * into one partition; rows with a missing value are read with the first partition.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class DBQueryPartitioning {
+
+    /** The ways to assign the rows to the partitions. */
+    public enum Method {
+        /**
+         * Splits the range between the minimum and the maximum value of a numeric or date column into intervals of
+         * equal size.
+         */
+        RANGE,
+        /** Assigns the rows by the absolute value of the (integer) column modulo the number of partitions. */
+        MODULO;
+    }
+
+    private final String m_column;
+
+    private final int m_partitionCount;
+
+    private final Method m_method;
+
+    private DBQueryPartitioning(final String column, final int partitionCount, final Method method) {
+        if (column == null || column.isEmpty()) {
+            throw new IllegalArgumentException("Partitioning column must not be empty");
+        }
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Number of partitions must be positive: " + partitionCount);
+        }
+        m_column = column;
+        m_partitionCount = partitionCount;
+        m_method = method;
+    }
+
+    /**
+     * @param column the name of the numeric or date column in the result of the query
+     * @param partitionCount the number of partitions
+     * @return a partitioning into ranges of equal size between the minimum and maximum value of the column
+     */
+    public static DBQueryPartitioning range(final String column, final int partitionCount) {
+        return new DBQueryPartitioning(column, partitionCount, Method.RANGE);
+    }
+
+    /**
+     * @param column the name of the integer column in the result of the query
+     * @param partitionCount the number of partitions
+     * @return a partitioning by the values of the column modulo the number of partitions
+     */
+    public static DBQueryPartitioning modulo(final String column, final int partitionCount) {
+        return new DBQueryPartitioning(column, partitionCount, Method.MODULO);
+    }
+
+    /** @return the name of the partitioning column */
+    public String getColumn() {
+        return m_column;
+    }
+
+    /** @return the number of partitions */
+    public int getPartitionCount() {
+        return m_partitionCount;
+    }
+
+    /** @return the way the rows are assigned to the partitions */
+    public Method getMethod() {
+        return m_method;
+    }
+
+    /**
+     * Creates the conditions of the sub-queries, the ones of a range partitioning contain placeholders for the split
+     * values, see {@link #createRangeParameters(Object[])}. Rows with a missing value are selected by the first
+     * condition.
+     *
+     * @param column the quoted name of the partitioning column
+     * @return one condition per partition, requires at least two partitions
+     */
+    String[] createConditions(final String column) {
+        final String[] conditions = new String[m_partitionCount];
+        for (int k = 0; k < m_partitionCount; k++) {
+            if (m_method == Method.MODULO) {
+                conditions[k] = "ABS(MOD(" + column + ", " + m_partitionCount + ")) = " + k;
+            } else if (k == 0) {
+                conditions[k] = column + " < ?";
+            } else if (k < m_partitionCount - 1) {
+                conditions[k] = column + " >= ? AND " + column + " < ?";
+            } else {
+                conditions[k] = column + " >= ?";
+            }
+        }
+        conditions[0] = "(" + conditions[0] + ") OR " + column + " IS NULL";
+        return conditions;
+    }
+
+    /**
+     * @param splits the values at which the range of the partitioning column is split, in ascending order
+     * @return the parameters of the conditions of a range partitioning, one array per partition
+     */
+    static Object[][] createRangeParameters(final Object[] splits) {
+        final Object[][] parameters = new Object[splits.length + 1][];
+        parameters[0] = new Object[]{splits[0]};
+        for (int k = 1; k < splits.length; k++) {
+            parameters[k] = new Object[]{splits[k - 1], splits[k]};
+        }
+        parameters[splits.length] = new Object[]{splits[splits.length - 1]};
+        return parameters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return m_method + " partitioning of column \"" + m_column + "\" into " + m_partitionCount + " partition(s)";
+    }
+}
@@ -155,6 +155,27 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return exec.createBufferedDataTable(table, exec);
     }
 
+    /**
+     * Read data from database using several connections concurrently. The select query is split into one sub-query
+     * per partition, the sub-queries are executed on separate connections (if supported by the connection factory)
+     * and the results are concatenated in the order of the partitions without copying them. Since the size of a
+     * partition is only known once it has been read, the rows are numbered within their partition and the row ids are
+     * prefixed with the index of the partition ("Row0_0", "Row0_1", ..., "Row1_0", ...), unlike when reading with a
+     * single query ("Row0", "Row1", ...). The default implementation ignores the partitioning and reads all rows with a
+     * single query.
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param partitioning how to split the query
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened or the partitioning column is not supported
+     * @since 3.6
+     */
+    default BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final DBQueryPartitioning partitioning) throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, false);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
@@ -44,14 +44,29 @@
  */
 package org.knime.core.node.port.database.reader;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -73,13 +88,16 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -97,6 +115,10 @@ public class DBReaderImpl extends DatabaseHelper implements DBReader {
 
     private BufferedDataContainer m_errorContainer;
 
+    /** Serializes the creation and closing of the containers of partitions that are read concurrently, both register
+     * their tables with the (not thread-safe) execution context. */
+    private final Object m_containerLock = new Object();
+
     /**
      * Creates a empty handle for a new connection.
      * @param conn a database connection object
@@ -258,6 +280,283 @@ public RowIterator iterator() {
 
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Queries that consist of several statements are read with a single connection, since the statements executed
+     * before the select query (e.g. creating temporary tables) may only affect their own session. The same applies if
+     * the connection factory doesn't support additional connections.
+     * @since 3.6
+     */
+    @Override
+    public BufferedDataTable createTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final DBQueryPartitioning partitioning) throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
+        final int partitionCount = partitioning.getPartitionCount();
+        if (oQueries.length > 1 || partitionCount < 2) {
+            LOGGER.debug("Reading rows from database with a single connection, query consists of "
+                + oQueries.length + " statement(s), " + partitionCount + " partition(s)");
+            return createTable(exec, cp, false);
+        }
+        final String trimmedQuery = oQueries[0].trim();
+        final String selectQuery = trimmedQuery.endsWith(";")
+            ? trimmedQuery.substring(0, trimmedQuery.length() - 1) : trimmedQuery;
+        final String tableAlias = "table_" + System.identityHashCode(this);
+        final String column = dbConn.getUtility().getStatementManipulator().quoteColumn(partitioning.getColumn());
+
+        // the condition and its parameters per partition, rows with missing values are read with the first one
+        final String[] conditions = partitioning.createConditions(column);
+        final Object[][] parameters;
+        if (partitioning.getMethod() == DBQueryPartitioning.Method.MODULO) {
+            parameters = new Object[partitionCount][0];
+        } else {
+            final Object[] splits = getRangeSplits(cp, selectQuery, tableAlias, column, partitionCount);
+            if (splits == null) {
+                LOGGER.debug("Partitioning column " + column + " has no values, reading with a single connection");
+                return createTable(exec, cp, false);
+            }
+            parameters = DBQueryPartitioning.createRangeParameters(splits);
+        }
+
+        final DBConnectionFactory connectionFactory = dbConn.getUtility().getConnectionFactory();
+        final List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < partitionCount; i++) {
+                final Connection conn = connectionFactory.createAdditionalConnection(cp, dbConn);
+                if (conn == null) {
+                    break;
+                }
+                connections.add(conn);
+            }
+        } catch (InvalidSettingsException | IOException ex) {
+            closeConnections(connections);
+            throw new SQLException(ex);
+        } catch (SQLException ex) {
+            closeConnections(connections);
+            throw ex;
+        }
+        if (connections.isEmpty()) {
+            LOGGER.debug("Connection factory doesn't support additional connections, reading with a single connection");
+            return createTable(exec, cp, false);
+        }
+
+        exec.setMessage("Start reading rows from database...");
+        LOGGER.debug("Reading " + partitioning + " using " + connections.size() + " connection(s)");
+        final BufferedDataTable[] tables = new BufferedDataTable[partitionCount];
+        final DataTableSpec[] specs = new DataTableSpec[partitionCount];
+        final AtomicInteger nextPartition = new AtomicInteger();
+        final AtomicLong rowCount = new AtomicLong();
+        final AtomicBoolean abort = new AtomicBoolean();
+        final ExecutorService executor =
+            ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(connections.size()));
+        boolean success = false;
+        try {
+            final List<Future<?>> readers = new ArrayList<>();
+            for (final Connection conn : connections) {
+                readers.add(executor.submit(() -> {
+                    int k;
+                    while (!abort.get() && (k = nextPartition.getAndIncrement()) < partitionCount) {
+                        final String query =
+                            "SELECT * FROM (" + selectQuery + ") " + tableAlias + " WHERE " + conditions[k];
+                        specs[k] = readPartition(conn, exec, query, parameters[k], k, tables, rowCount, abort);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> reader : readers) {
+                getReaderResult(reader, exec);
+            }
+            for (int k = 1; k < partitionCount; k++) {
+                if (!specs[k].equals(specs[0])) {
+                    throw new SQLException("Partition " + k + " of the query has different columns than the first "
+                        + "partition: " + specs[k] + " vs. " + specs[0]);
+                }
+            }
+            // the row ids are prefixed with the partition and therefore unique, no need to check them
+            final BufferedDataTable table = exec.createConcatenateTable(exec, Optional.empty(), false, tables);
+            m_spec = specs[0];
+            success = true;
+            return table;
+        } finally {
+            abort.set(true);
+            executor.shutdownNow();
+            // closing the connections also stops readers that still wait for the database
+            closeConnections(connections);
+            if (!success) {
+                // failed or canceled, discard the partitions read so far
+                synchronized (m_containerLock) {
+                    for (BufferedDataTable table : tables) {
+                        if (table != null) {
+                            exec.clearTable(table);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines the values of the partitioning column at which the ranges of a range partitioning are split.
+     *
+     * @return the <code>partitionCount - 1</code> split values or <code>null</code> if the column has no values
+     */
+    private Object[] getRangeSplits(final CredentialsProvider cp, final String selectQuery, final String tableAlias,
+        final String column, final int partitionCount) throws SQLException {
+        final String query = "SELECT MIN(" + column + "), MAX(" + column + ") FROM (" + selectQuery + ") " + tableAlias;
+        return getQueryConnection().execute(cp, conn -> {
+            try (final Statement stmt = initStatement(cp, conn)) {
+                LOGGER.debug("Executing SQL statement as executeQuery: " + query);
+                try (final ResultSet result = stmt.executeQuery(query)) {
+                    if (!result.next()) {
+                        return null;
+                    }
+                    final Object[] splits = new Object[partitionCount - 1];
+                    switch (result.getMetaData().getColumnType(1)) {
+                        case Types.TINYINT:
+                        case Types.SMALLINT:
+                        case Types.INTEGER:
+                        case Types.BIGINT: {
+                            final long min = result.getLong(1);
+                            final long max = result.getLong(2);
+                            if (result.wasNull()) {
+                                return null;
+                            }
+                            for (int i = 0; i < splits.length; i++) {
+                                splits[i] = min + (long)((max - (double)min) * (i + 1) / partitionCount);
+                            }
+                            return splits;
+                        }
+                        case Types.REAL:
+                        case Types.FLOAT:
+                        case Types.DOUBLE:
+                        case Types.NUMERIC:
+                        case Types.DECIMAL: {
+                            final double min = result.getDouble(1);
+                            final double max = result.getDouble(2);
+                            if (result.wasNull()) {
+                                return null;
+                            }
+                            for (int i = 0; i < splits.length; i++) {
+                                splits[i] = min + (max - min) * (i + 1) / partitionCount;
+                            }
+                            return splits;
+                        }
+                        case Types.DATE:
+                        case Types.TIMESTAMP: {
+                            final Timestamp min = result.getTimestamp(1);
+                            final Timestamp max = result.getTimestamp(2);
+                            if (min == null || max == null) {
+                                return null;
+                            }
+                            for (int i = 0; i < splits.length; i++) {
+                                splits[i] = new Timestamp(min.getTime()
+                                    + (long)((max.getTime() - (double)min.getTime()) * (i + 1) / partitionCount));
+                            }
+                            return splits;
+                        }
+                        default:
+                            throw new SQLException("Column " + column + " of type "
+                                + result.getMetaData().getColumnTypeName(1) + " can't be partitioned by range, "
+                                + "only numeric and date columns are supported");
+                    }
+                }
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        });
+    }
+
+    /**
+     * Reads the rows of one partition into a table, which is stored in the array of tables at the index of the
+     * partition. The row ids are numbered within the partition and prefixed with its index ("Row&lt;partition&gt;_0",
+     * "Row&lt;partition&gt;_1", ...), so that the partitions can be concatenated without renaming any rows.
+     *
+     * @return the spec derived from the meta data of the result set
+     */
+    private DataTableSpec readPartition(final Connection conn, final ExecutionContext exec, final String query,
+        final Object[] parameters, final int partition, final BufferedDataTable[] tables, final AtomicLong rowCount,
+        final AtomicBoolean abort)
+        throws SQLException, CanceledExecutionException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        // one factory per partition, the rows are read concurrently
+        final BinaryObjectCellFactory blobFactory = new BinaryObjectCellFactory(exec);
+        try (final PreparedStatement stmt = conn.prepareStatement(query)) {
+            int fetchsize =
+                (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
+            dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+            LOGGER.debug("Executing SQL statement as executeQuery: " + query);
+            try (final ResultSet result = stmt.executeQuery()) {
+                final DataTableSpec spec = createTableSpec(result.getMetaData());
+                final RowIterator it = createDBRowIterator(spec, dbConn, blobFactory, false, result, 0);
+                final BufferedDataContainer container;
+                synchronized (m_containerLock) {
+                    container = exec.createDataContainer(spec);
+                }
+                final String keyPrefix = "Row" + partition + "_";
+                long index = 0;
+                try {
+                    while (!abort.get() && it.hasNext()) {
+                        exec.checkCanceled();
+                        container.addRowToTable(new DefaultRow(new RowKey(keyPrefix + index++), it.next()));
+                        final long count = rowCount.incrementAndGet();
+                        exec.setMessage(() -> "Reading row " + count + " from database");
+                    }
+                } finally {
+                    synchronized (m_containerLock) {
+                        container.close();
+                        tables[partition] = container.getTable();
+                    }
+                }
+                return spec;
+            }
+        } finally {
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+    }
+
+    private static void getReaderResult(final Future<?> reader, final ExecutionMonitor exec)
+        throws SQLException, CanceledExecutionException {
+        while (true) {
+            try {
+                reader.get(100, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException ex) {
+                exec.checkCanceled();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while reading rows from database");
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof SQLException) {
+                    throw (SQLException)cause;
+                } else if (cause instanceof CanceledExecutionException) {
+                    throw (CanceledExecutionException)cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException)cause;
+                }
+                throw new SQLException(cause);
+            }
+        }
+    }
+
+    private static void closeConnections(final List<Connection> connections) {
+        for (Connection conn : connections) {
+            try {
+                conn.close();
+            } catch (SQLException ex) {
+                LOGGER.debug("Error closing additional connection: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
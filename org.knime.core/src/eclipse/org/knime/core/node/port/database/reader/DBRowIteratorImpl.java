@@ -61,6 +61,7 @@
 import java.sql.NClob;
 import java.sql.Ref;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -126,6 +127,11 @@ public class DBRowIteratorImpl extends RowIterator {
 
     protected final BinaryObjectCellFactory m_blobFactory;
 
+    /** The readers per column and the SQL types they were resolved for, see {@link #getCellReaders()}. */
+    private CellReader[] m_readers;
+
+    private int[] m_dbTypes;
+
     /**
      * @param spec {@link DataTableSpec}
      * @param conn {@link DatabaseConnectionSettings}
@@ -190,119 +196,24 @@ public boolean hasNext() {
     @Override
     public DataRow next() {
         DataCell[] cells = new DataCell[m_spec.getNumColumns()];
-        for (int i = 0; i < cells.length; i++) {
-            DataType type = m_spec.getColumnSpec(i).getType();
-            int dbType = Types.NULL;
-            final DataCell cell;
+        CellReader[] readers = null;
+        try {
+            readers = getCellReaders();
+        } catch (SQLException sqle) {
+            for (int i = 0; i < cells.length; i++) {
+                handlerException("SQL Exception reading Object of type \"" + Types.NULL + "\": ", sqle);
+                cells[i] = new MissingCell(sqle.getMessage());
+            }
+        }
+        for (int i = 0; readers != null && i < cells.length; i++) {
             try {
-                dbType = m_result.getMetaData().getColumnType(i + 1);
-                if (type.isCompatible(BooleanValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as boolean
-                        case Types.BIT:
-                        case Types.BOOLEAN:
-                            cell = readBoolean(i);
-                            break;
-                        default: cell = readBoolean(i);
-                    }
-                } else if (type.isCompatible(IntValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as integer
-                        case Types.TINYINT:
-                            cell = readByte(i);
-                            break;
-                        case Types.SMALLINT:
-                            cell = readShort(i);
-                            break;
-                        case Types.INTEGER:
-                            cell = readInt(i);
-                            break;
-                        default: cell = readInt(i);
-                    }
-                } else if (type.isCompatible(LongValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as long
-                        case Types.BIGINT:
-                            cell = readLong(i);
-                            break;
-                        default: cell = readLong(i);
-                    }
-                } else if (type.isCompatible(DoubleValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as double
-                        case Types.REAL:
-                            cell = readFloat(i);
-                            break;
-                        default: cell = readDouble(i);
-                    }
-                } else if (type.isCompatible(DateAndTimeValue.class)) {
-                    switch (dbType) {
-                        case Types.DATE:
-                            cell = readDate(i); break;
-                        case Types.TIME:
-                            cell = readTime(i); break;
-                        case Types.TIMESTAMP:
-                            cell = readTimestamp(i); break;
-                        default: cell = readString(i);
-                    }
-                } else if (type.isCompatible(BinaryObjectDataValue.class)) {
-                    switch (dbType) {
-                        case Types.BLOB:
-                            DataCell c = null;
-                            try {
-                                c = readBlob(i);
-                            } catch (SQLException ex) {
-                                // probably not supported (e.g. SQLite), therefore try another method
-                                c = readBytesAsBLOB(i);
-                            }
-                            cell = c;
-                            break;
-                        case Types.LONGVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readAsciiStream(i); break;
-                        case Types.BINARY:
-                        case Types.LONGVARBINARY:
-                        case Types.VARBINARY:
-                            cell = readBinaryStream(i); break;
-                        default: cell = readString(i);
-                    }
-                } else {
-                    switch (dbType) {
-                        case Types.CLOB:
-                            cell = readClob(i); break;
-                        case Types.ARRAY:
-                            cell = readArray(i); break;
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR:
-                            cell = readString(i); break;
-                        case Types.VARBINARY:
-                            cell = readBytesAsString(i); break;
-                        case Types.REF:
-                            cell = readRef(i); break;
-                        case Types.NCHAR:
-                        case Types.NVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readNString(i); break;
-                        case Types.NCLOB:
-                            cell = readNClob(i); break;
-                        case Types.DATALINK:
-                            cell = readURL(i); break;
-                        case Types.STRUCT:
-                        case Types.JAVA_OBJECT:
-                            cell = readObject(i); break;
-                        default:
-                            cell = readObject(i); break;
-
-                    }
-                }
                 // finally set the new cell into the array of cells
-                cells[i] = cell;
+                cells[i] = readers[i].read(i);
             } catch (SQLException sqle) {
-                handlerException("SQL Exception reading Object of type \"" + dbType + "\": ", sqle);
+                handlerException("SQL Exception reading Object of type \"" + m_dbTypes[i] + "\": ", sqle);
                 cells[i] = new MissingCell(sqle.getMessage());
             } catch (IOException ioe) {
-                handlerException("I/O Exception reading Object of type \"" + dbType + "\": ", ioe);
+                handlerException("I/O Exception reading Object of type \"" + m_dbTypes[i] + "\": ", ioe);
                 cells[i] = new MissingCell(ioe.getMessage());
             }
         }
@@ -324,6 +235,118 @@ public DataRow next() {
         return new DefaultRow(RowKey.createRowKey(rowId), cells);
     }
 
+    /**
+     * Reads the value of a column of the current row of the result set.
+     */
+    @FunctionalInterface
+    private interface CellReader {
+        DataCell read(int i) throws SQLException, IOException;
+    }
+
+    /**
+     * Returns the readers per column, which are resolved from the KNIME and the SQL column types once when reading
+     * the first row rather than for every cell.
+     */
+    private CellReader[] getCellReaders() throws SQLException {
+        if (m_readers == null) {
+            final ResultSetMetaData metaData = m_result.getMetaData();
+            final CellReader[] readers = new CellReader[m_spec.getNumColumns()];
+            final int[] dbTypes = new int[readers.length];
+            for (int i = 0; i < readers.length; i++) {
+                dbTypes[i] = metaData.getColumnType(i + 1);
+                readers[i] = createCellReader(m_spec.getColumnSpec(i).getType(), dbTypes[i]);
+            }
+            m_dbTypes = dbTypes;
+            m_readers = readers;
+        }
+        return m_readers;
+    }
+
+    private CellReader createCellReader(final DataType type, final int dbType) {
+        if (type.isCompatible(BooleanValue.class)) {
+            // all types that can be interpreted as boolean
+            return this::readBoolean;
+        } else if (type.isCompatible(IntValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as integer
+                case Types.TINYINT:
+                    return this::readByte;
+                case Types.SMALLINT:
+                    return this::readShort;
+                default:
+                    return this::readInt;
+            }
+        } else if (type.isCompatible(LongValue.class)) {
+            // all types that can be interpreted as long
+            return this::readLong;
+        } else if (type.isCompatible(DoubleValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as double
+                case Types.REAL:
+                    return this::readFloat;
+                default:
+                    return this::readDouble;
+            }
+        } else if (type.isCompatible(DateAndTimeValue.class)) {
+            switch (dbType) {
+                case Types.DATE:
+                    return this::readDate;
+                case Types.TIME:
+                    return this::readTime;
+                case Types.TIMESTAMP:
+                    return this::readTimestamp;
+                default:
+                    return this::readString;
+            }
+        } else if (type.isCompatible(BinaryObjectDataValue.class)) {
+            switch (dbType) {
+                case Types.BLOB:
+                    return i -> {
+                        try {
+                            return readBlob(i);
+                        } catch (SQLException ex) {
+                            // probably not supported (e.g. SQLite), therefore try another method
+                            return readBytesAsBLOB(i);
+                        }
+                    };
+                case Types.LONGVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return this::readAsciiStream;
+                case Types.BINARY:
+                case Types.LONGVARBINARY:
+                case Types.VARBINARY:
+                    return this::readBinaryStream;
+                default:
+                    return this::readString;
+            }
+        } else {
+            switch (dbType) {
+                case Types.CLOB:
+                    return this::readClob;
+                case Types.ARRAY:
+                    return this::readArray;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                    return this::readString;
+                case Types.VARBINARY:
+                    return this::readBytesAsString;
+                case Types.REF:
+                    return this::readRef;
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    return this::readNString;
+                case Types.NCLOB:
+                    return this::readNClob;
+                case Types.DATALINK:
+                    return this::readURL;
+                default:
+                    return this::readObject;
+            }
+        }
+    }
+
     protected DataCell readClob(final int i)
             throws IOException, SQLException {
         Clob clob = m_result.getClob(i + 1);
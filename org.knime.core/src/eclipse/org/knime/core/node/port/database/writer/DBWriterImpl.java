@@ -44,6 +44,7 @@
  */
 package org.knime.core.node.port.database.writer;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -51,9 +52,22 @@
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataCell;
@@ -74,6 +88,7 @@
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 
 /**
  * Creates a connection to write to database.
@@ -103,6 +118,19 @@ public DBWriterImpl(final DatabaseConnectionSettings conn) {
     public String writeData(final String table, final RowInput input, final long rowCount, final boolean appendData,
         final ExecutionMonitor exec, final Map<String, String> sqlTypes, final CredentialsProvider cp,
         final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError) throws Exception {
+        return writeData(table, input, rowCount, appendData, exec, sqlTypes, cp, batchSize, insertNullForMissingCols,
+            failOnError, DatabaseConnectionSettings.WRITE_CONNECTION_COUNT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public String writeData(final String table, final RowInput input, final long rowCount, final boolean appendData,
+        final ExecutionMonitor exec, final Map<String, String> sqlTypes, final CredentialsProvider cp,
+        final int batchSize, final boolean insertNullForMissingCols, final boolean failOnError,
+        final int connectionCount) throws Exception {
         final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
 //        final Connection conn = conSettings.createConnection(cp);
         return conSettings.execute(cp, conn -> {
@@ -311,6 +339,11 @@ public String writeData(final String table, final RowInput input, final long row
             final String insertStamtement =
                     createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
 
+            if (batchSize > 1 && connectionCount > 1) {
+                return writeDataConcurrently(conn, insertStamtement, input, rowCount, spec, mapping, columnTypes,
+                    exec, cp, batchSize, connectionCount, insertNullForMissingCols, failOnError);
+            }
+
             // problems writing more than 13 columns. the prepare statement
             // ensures that we can set the columns directly row-by-row, the
             // database will handle the commit
@@ -439,6 +472,240 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /** Consecutive input rows written as one batch by one of the connections of a concurrent write. */
+    private static final class RowBatch {
+
+        /** Marks the end of the input, one per connection. */
+        private static final RowBatch END = new RowBatch(-1, Collections.<DataRow> emptyList());
+
+        /** Number of the first row in the input (starting with 1). */
+        private final long m_firstRowNumber;
+
+        private final List<DataRow> m_rows;
+
+        private RowBatch(final long firstRowNumber, final List<DataRow> rows) {
+            m_firstRowNumber = firstRowNumber;
+            m_rows = rows;
+        }
+
+        private String getErrorMessage(final Throwable t) {
+            return "Error while adding rows #" + m_firstRowNumber + " - #" + (m_firstRowNumber + m_rows.size() - 1)
+                + ", reason: " + t.getMessage();
+        }
+    }
+
+    /**
+     * Writes the rows in batches using several connections concurrently. The calling thread reads the input and hands
+     * the batches to one writing thread per connection, which binds the rows to its prepared statement and executes
+     * the batch. The first connection is the argument connection (the table has been created and committed at this
+     * point), the others are additional connections of the connection factory. Errors are reported in the order of
+     * the input rows, independent of the order in which the batches were written. If <code>failOnError</code> is set,
+     * reading stops upon the first error, the batches preceding the failed one are still written (so that the same
+     * error as in a sequential write is reported) and all connections are rolled back.
+     * <p>
+     * Each connection has a transaction of its own, which are committed one after the other at the end, hence the
+     * write isn't atomic across connections. If a commit fails, the connections not yet committed are rolled back,
+     * but the batches of the connections committed before remain in the table.
+     */
+    private String writeDataConcurrently(final Connection conn, final String insertStatement, final RowInput input,
+        final long rowCount, final DataTableSpec spec, final int[] mapping, final Map<Integer, Integer> columnTypes,
+        final ExecutionMonitor exec, final CredentialsProvider cp, final int batchSize, final int connectionCount,
+        final boolean insertNullForMissingCols, final boolean failOnError) throws Exception {
+        final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
+        final TimeZone timezone = conSettings.getTimeZone();
+        final List<Connection> connections = new ArrayList<Connection>();
+        connections.add(conn);
+        final boolean autoCommit = conn.getAutoCommit();
+        ExecutorService executor = null;
+        boolean success = false;
+        try {
+            for (int i = 1; i < connectionCount; i++) {
+                final Connection additionalConn =
+                    conSettings.getUtility().getConnectionFactory().createAdditionalConnection(cp, conSettings);
+                if (additionalConn == null) {
+                    LOGGER.debug("Connection factory doesn't support additional connections");
+                    break;
+                }
+                connections.add(additionalConn);
+            }
+            for (Connection c : connections) {
+                DatabaseConnectionSettings.setAutoCommit(c, false);
+            }
+            LOGGER.debug("Writing batches of " + batchSize + " rows using " + connections.size()
+                + " connection(s), executing SQL statement as prepareStatement: " + insertStatement);
+
+            // errors per first row number of the failed batch, i.e. in input order
+            final SortedMap<Long, Throwable> errors = new ConcurrentSkipListMap<Long, Throwable>();
+            final Map<Long, String> errorMessages = new ConcurrentHashMap<Long, String>();
+            // first row number of the earliest failed batch if failOnError is set, later batches aren't written
+            final AtomicLong firstFailedRow = new AtomicLong(Long.MAX_VALUE);
+            final BlockingQueue<RowBatch> queue = new ArrayBlockingQueue<RowBatch>(2 * connections.size());
+            executor = ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(connections.size()));
+            final List<Future<?>> writers = new ArrayList<Future<?>>();
+            for (final Connection c : connections) {
+                writers.add(executor.submit(() -> {
+                    try (PreparedStatement stmt = c.prepareStatement(insertStatement)) {
+                        RowBatch batch;
+                        while ((batch = queue.take()) != RowBatch.END) {
+                            if (batch.m_firstRowNumber > firstFailedRow.get()) {
+                                continue; // consume remaining batches without writing them
+                            }
+                            try {
+                                for (DataRow row : batch.m_rows) {
+                                    int dbIdx = 1;
+                                    for (int i = 0; i < mapping.length; i++) {
+                                        if (mapping[i] < 0) {
+                                            if (insertNullForMissingCols) {
+                                                stmt.setNull(dbIdx++, Types.NULL);
+                                            }
+                                        } else {
+                                            fillStatement(stmt, dbIdx++, spec.getColumnSpec(mapping[i]),
+                                                row.getCell(mapping[i]), timezone, columnTypes);
+                                        }
+                                    }
+                                    stmt.addBatch();
+                                }
+                                stmt.executeBatch();
+                            } catch (Throwable t) {
+                                errors.put(batch.m_firstRowNumber, t);
+                                errorMessages.put(batch.m_firstRowNumber, batch.getErrorMessage(t));
+                                if (failOnError) {
+                                    firstFailedRow.accumulateAndGet(batch.m_firstRowNumber, Math::min);
+                                } else if (!c.getAutoCommit()) {
+                                    // see sequential write: commit what was possible, Postgres refuses any more
+                                    // commands in a transaction after errors
+                                    c.commit();
+                                }
+                            } finally {
+                                stmt.clearBatch();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long cnt = 0;
+            List<DataRow> rows = new ArrayList<DataRow>(batchSize);
+            DataRow row;
+            while (firstFailedRow.get() == Long.MAX_VALUE && (row = input.poll()) != null) {
+                cnt++;
+                exec.checkCanceled();
+                if (rowCount > 0) {
+                    exec.setProgress(1.0 * cnt / rowCount, "Row " + "#" + cnt);
+                } else {
+                    exec.setProgress("Writing Row#" + cnt);
+                }
+                rows.add(row);
+                if (rows.size() == batchSize) {
+                    putBatch(queue, new RowBatch(cnt - rows.size() + 1, rows), writers, exec);
+                    rows = new ArrayList<DataRow>(batchSize);
+                }
+            }
+            if (!rows.isEmpty() && firstFailedRow.get() == Long.MAX_VALUE) {
+                putBatch(queue, new RowBatch(cnt - rows.size() + 1, rows), writers, exec);
+            }
+            for (int i = 0; i < connections.size(); i++) {
+                putBatch(queue, RowBatch.END, writers, exec);
+            }
+            for (Future<?> writer : writers) {
+                getWriterResult(writer);
+            }
+
+            if (failOnError && !errors.isEmpty()) {
+                final Map.Entry<Long, Throwable> first = errors.entrySet().iterator().next();
+                rollback(connections, autoCommit);
+                throw new Exception(errorMessages.get(first.getKey()), first.getValue());
+            }
+            for (int i = 0; i < connections.size(); i++) {
+                final Connection c = connections.get(i);
+                try {
+                    if (!c.getAutoCommit()) {
+                        c.commit();
+                    }
+                } catch (SQLException ex) {
+                    rollback(connections.subList(i, connections.size()), autoCommit);
+                    throw new SQLException("Commit of connection " + (i + 1) + " of " + connections.size()
+                        + " failed, the rows written with the " + i + " connection(s) committed before remain in "
+                        + "the table: " + ex.getMessage(), ex);
+                }
+            }
+            success = true;
+            int errorCnt = 0;
+            for (Map.Entry<Long, Throwable> e : errors.entrySet()) {
+                final String errorMsg = errorMessages.get(e.getKey());
+                exec.setMessage(errorMsg);
+                if (errorCnt++ < 10) {
+                    LOGGER.warn(errorMsg);
+                } else {
+                    LOGGER.warn(errorMsg + " - more errors...", e.getValue());
+                    break;
+                }
+            }
+            if (errors.isEmpty()) {
+                return null;
+            } else {
+                return "Errors \"" + errors.size() + "\" writing " + cnt + " rows.";
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (!success) {
+                rollback(connections, autoCommit);
+            }
+            DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+            for (Connection c : connections.subList(1, connections.size())) {
+                try {
+                    c.close();
+                } catch (SQLException ex) {
+                    LOGGER.debug("Error closing additional connection: " + ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    /** Hands the batch to the writing threads, waits while the queue is full unless a writer failed or the
+     * execution is canceled. */
+    private static void putBatch(final BlockingQueue<RowBatch> queue, final RowBatch batch,
+        final List<Future<?>> writers, final ExecutionMonitor exec) throws Exception {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            exec.checkCanceled();
+            for (Future<?> writer : writers) {
+                if (writer.isDone()) {
+                    // writers only finish at the end of the input, so it must have failed
+                    getWriterResult(writer);
+                }
+            }
+        }
+    }
+
+    private static void getWriterResult(final Future<?> writer) throws Exception {
+        try {
+            writer.get();
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    private static void rollback(final List<Connection> connections, final boolean autoCommit) {
+        for (Connection c : connections) {
+            try {
+                if (!c.getAutoCommit()) {
+                    c.rollback();
+                }
+            } catch (Throwable ex) {
+                LOGGER.info("Failed rollback after db exception with auto commit=" + autoCommit
+                    + ". Rollback error: " + ex.getMessage(), ex);
+            }
+        }
+        LOGGER.debug("Rollback complete transaction with auto commit=" + autoCommit);
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
@@ -1082,6 +1082,11 @@ protected DataRow getRow(final int row) {
             // clear cache, init new iterator
             clearCache();
         }
+        // rows before firstRowToCache would be released from the cache anyway
+        final int firstRowToCache = Math.min(row + m_chunkSize + 1, m_maxRowCount) - cacheSize;
+        if (firstRowToCache > m_rowCountOfInterestInIterator) {
+            seekIterator(firstRowToCache);
+        }
         assert (row >= m_rowCountOfInterestInIterator - 1);
 
         boolean wasRowCountFinal = isRowCountFinal();
@@ -1154,6 +1159,35 @@ private RowIterator getNewDataIterator() {
         return m_data.iterator();
     }
 
+    /**
+     * Clears the cache and instantiates a new iterator that starts at the given row, skipping the rows before it
+     * without caching (and, depending on the table, without reading) them. Does nothing unless all rows are shown,
+     * the row count is known and the table supports iteration from an arbitrary row.
+     *
+     * @param firstRow index of the first row to be returned by the new iterator
+     */
+    private void seekIterator(final int firstRow) {
+        if (m_tableFilter.performsFiltering() || !m_isMaxRowCountFinal || firstRow >= m_maxRowCount) {
+            return;
+        }
+        final RowIterator newIterator;
+        if (m_data instanceof BufferedDataTable) {
+            newIterator = ((BufferedDataTable)m_data).iteratorFailProve(firstRow);
+        } else if (m_data instanceof ContainerTable) {
+            newIterator = ((ContainerTable)m_data).iterator(firstRow, Long.MAX_VALUE);
+        } else {
+            return;
+        }
+        if (m_iterator instanceof CloseableRowIterator) {
+            ((CloseableRowIterator)m_iterator).close();
+        }
+        m_iterator = newIterator;
+        m_rowCountInIterator = firstRow;
+        m_rowCountOfInterestInIterator = firstRow;
+        Arrays.fill(m_cachedRows, null);
+        m_hilitSet.clear();
+    }
+
     /**
      * Clears cache, instantiates new Iterator.
      */
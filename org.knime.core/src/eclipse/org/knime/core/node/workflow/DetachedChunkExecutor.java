@@ -0,0 +1,592 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionEnvironment;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeConfigureHelper;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeProgressMonitor;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.config.ConfigEditTreeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.property.hilite.HiLiteHandler;
+import org.knime.core.node.workflow.FlowVariable.Scope;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContent;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
+
+/**
+ * Executes the chunks of a parallel chunk loop without copying the loop body into the workflow. Each worker thread
+ * creates its own copy of the loop body nodes (detached from the workflow) and executes them for one chunk after the
+ * other, reading the chunk input directly from the start node. The tables created by the copies are owned by the loop
+ * end node, so that the output of a chunk survives the reset of the copies; intermediate tables are cleared after each
+ * chunk.
+ *
+ * <p>Only loop bodies consisting of native nodes without nested scopes and default job managers are supported, see
+ * {@link #checkDetachable(WorkflowManager, NodeID, NodeID, List)}. Only the body nodes the loop end depends on are
+ * executed (same as for chunks copied into the workflow).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class DetachedChunkExecutor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DetachedChunkExecutor.class);
+
+    /** Chunk states in {@link #m_chunkClaims}. */
+    private static final int QUEUED = 0;
+    private static final int CLAIMED = 1;
+    private static final int CANCELED = 2;
+
+    /** Where the object at an input port of a body node (or the loop end) comes from. */
+    private static final class Source {
+
+        /** The start node, {@link #m_port} is its output port. */
+        static final int START = -1;
+        /** A node outside the loop body, the object is fixed. */
+        static final int EXTERNAL = -2;
+        /** Unconnected (optional) port. */
+        static final int NONE = -3;
+
+        /** Index of the source body node or one of the constants. */
+        private final int m_nodeIndex;
+        private final int m_port;
+        private final PortObject m_object;
+        private final FlowObjectStack m_stack;
+        private final HiLiteHandler m_hiLiteHandler;
+
+        private Source(final int nodeIndex, final int port, final PortObject object, final FlowObjectStack stack,
+            final HiLiteHandler hiLiteHandler) {
+            m_nodeIndex = nodeIndex;
+            m_port = port;
+            m_object = object;
+            m_stack = stack;
+            m_hiLiteHandler = hiLiteHandler;
+        }
+    }
+
+    /** The data required to create and run a copy of a body node. */
+    private static final class NodeTemplate {
+
+        private final NativeNodeContainer m_original;
+        private final NodeFactory<NodeModel> m_factory;
+        private final NodeSettingsRO m_modelSettings;
+        private final NodeSettingsRO m_variablesSettings;
+        private final MemoryPolicy m_memoryPolicy;
+        private final CredentialsProvider m_credentialsProvider;
+        private final Source[] m_sources;
+
+        private NodeTemplate(final NativeNodeContainer original, final Source[] sources) {
+            m_original = original;
+            m_factory = original.getNode().getFactory();
+            SingleNodeContainer.SingleNodeContainerSettings settings = original.getSingleNodeContainerSettings();
+            m_modelSettings = settings.getModelSettingsClone();
+            m_variablesSettings = settings.getVariablesSettings();
+            m_memoryPolicy = settings.getMemoryPolicy();
+            m_credentialsProvider = original.getNode().getCredentialsProvider();
+            m_sources = sources;
+        }
+
+        private NodeID getID() {
+            return m_original.getID();
+        }
+    }
+
+    private final NodeID m_startID;
+    private final FlowObjectStack m_startStack;
+    private final HiLiteHandler[] m_startHiLiteHandlers;
+    private final VirtualParallelizedChunkNodeInput[] m_chunkInputs;
+    private final NodeTemplate[] m_templates;
+    private final Source[] m_endSources;
+    private final Node m_owner;
+    private final HashMap<Integer, ContainerTable> m_tableRepository;
+
+    private final ParallelizedChunkContent[] m_chunks;
+    private final AtomicIntegerArray m_chunkClaims;
+    private final AtomicInteger m_nextChunk = new AtomicInteger();
+    /** Progress monitor of the node currently executing per chunk index, used to cancel it. */
+    private final Map<Integer, NodeProgressMonitor> m_runningMonitors =
+        new ConcurrentHashMap<Integer, NodeProgressMonitor>();
+
+    /**
+     * Checks if the loop body can be executed detached from the workflow.
+     *
+     * @param wfm the workflow containing the loop, locked by the current thread
+     * @param startID the loop start
+     * @param endID the loop end
+     * @param body the nodes of the loop body in topological order (excluding start and end)
+     * @return null if the body can be executed detached, otherwise the reason why not
+     */
+    static String checkDetachable(final WorkflowManager wfm, final NodeID startID, final NodeID endID,
+        final List<NodeID> body) {
+        Set<NodeID> bodyIDs = new HashSet<NodeID>(body);
+        for (NodeID id : body) {
+            NodeContainer nc = wfm.getNodeContainer(id);
+            if (!(nc instanceof NativeNodeContainer)) {
+                return "loop body contains metanode \"" + nc.getNameWithID() + "\"";
+            }
+            NativeNodeContainer nnc = (NativeNodeContainer)nc;
+            if (nnc.isModelCompatibleTo(ScopeStartNode.class) || nnc.isModelCompatibleTo(ScopeEndNode.class)) {
+                return "loop body contains nested scope node \"" + nc.getNameWithID() + "\"";
+            }
+            if (nc.getJobManager() != null) {
+                return "node \"" + nc.getNameWithID() + "\" uses a custom job manager";
+            }
+        }
+        List<NodeID> consumers = new ArrayList<NodeID>(body);
+        consumers.add(endID);
+        for (NodeID id : consumers) {
+            NodeContainer nc = wfm.getNodeContainer(id);
+            for (int p = 0; p < nc.getNrInPorts(); p++) {
+                ConnectionContainer cc = wfm.getIncomingConnectionFor(id, p);
+                if (cc != null && cc.getSource().equals(wfm.getID())) {
+                    return "\"" + nc.getNameWithID() + "\" is connected to the input of the workflow";
+                }
+                if (cc != null && !cc.getSource().equals(startID) && !bodyIDs.contains(cc.getSource())) {
+                    NodeOutPort outPort = wfm.getNodeContainer(cc.getSource()).getOutPort(cc.getSourcePort());
+                    if (outPort.getPortObject() == null) {
+                        return "predecessor of \"" + nc.getNameWithID() + "\" outside the loop is not executed";
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects everything required to execute the chunks. Must be called while holding the workflow lock, the loop
+     * body must have passed {@link #checkDetachable(WorkflowManager, NodeID, NodeID, List)}. The chunks are not
+     * executed before {@link #start()} is called.
+     *
+     * @param wfm the workflow containing the loop
+     * @param startID the loop start
+     * @param endID the loop end
+     * @param body the nodes of the loop body in topological order (excluding start and end)
+     * @param startModel the model of the loop start providing the chunk inputs
+     */
+    DetachedChunkExecutor(final WorkflowManager wfm, final NodeID startID, final NodeID endID,
+        final List<NodeID> body, final LoopStartParallelizeNode startModel) {
+        assert wfm.isLockedByCurrentThread();
+        m_startID = startID;
+        NodeContainer startNC = wfm.getNodeContainer(startID);
+        m_startStack = startNC.getOutPort(0).getFlowObjectStack();
+        m_startHiLiteHandlers = new HiLiteHandler[startNC.getNrOutPorts()];
+        for (int p = 0; p < m_startHiLiteHandlers.length; p++) {
+            m_startHiLiteHandlers[p] = startNC.getOutPort(p).getHiLiteHandler();
+        }
+        final int chunkCount = startModel.getNrRemoteChunks();
+        m_chunkInputs = new VirtualParallelizedChunkNodeInput[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            m_chunkInputs[i] = startModel.getVirtualNodeInput(i);
+        }
+
+        // only nodes the loop end depends on, in topological order
+        List<NodeID> required = new ArrayList<NodeID>();
+        Set<NodeID> requiredIDs = new HashSet<NodeID>(collectSources(wfm, endID));
+        for (int i = body.size() - 1; i >= 0; i--) {
+            NodeID id = body.get(i);
+            if (requiredIDs.contains(id)) {
+                requiredIDs.addAll(collectSources(wfm, id));
+                required.add(id);
+            }
+        }
+        Collections.reverse(required);
+        Map<NodeID, Integer> indexMap = new HashMap<NodeID, Integer>();
+        for (int i = 0; i < required.size(); i++) {
+            indexMap.put(required.get(i), i);
+        }
+        m_templates = new NodeTemplate[required.size()];
+        for (int i = 0; i < m_templates.length; i++) {
+            NativeNodeContainer nnc = (NativeNodeContainer)wfm.getNodeContainer(required.get(i));
+            m_templates[i] = new NodeTemplate(nnc, createSources(wfm, nnc.getID(), indexMap));
+        }
+        m_endSources = createSources(wfm, endID, indexMap);
+
+        m_owner = ((NativeNodeContainer)wfm.getNodeContainer(endID)).getNode();
+        m_tableRepository = wfm.getGlobalTableRepository();
+        m_chunks = new ParallelizedChunkContent[chunkCount];
+        m_chunkClaims = new AtomicIntegerArray(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            final int chunkIndex = i;
+            m_chunks[i] = new ParallelizedChunkContent(() -> cancelChunk(chunkIndex));
+        }
+    }
+
+    /** @return the IDs of the nodes connected to the inputs of the argument node */
+    private static List<NodeID> collectSources(final WorkflowManager wfm, final NodeID id) {
+        List<NodeID> result = new ArrayList<NodeID>();
+        NodeContainer nc = wfm.getNodeContainer(id);
+        for (int p = 0; p < nc.getNrInPorts(); p++) {
+            ConnectionContainer cc = wfm.getIncomingConnectionFor(id, p);
+            if (cc != null) {
+                result.add(cc.getSource());
+            }
+        }
+        return result;
+    }
+
+    private Source[] createSources(final WorkflowManager wfm, final NodeID id, final Map<NodeID, Integer> indexMap) {
+        NodeContainer nc = wfm.getNodeContainer(id);
+        Source[] sources = new Source[nc.getNrInPorts()];
+        for (int p = 0; p < sources.length; p++) {
+            ConnectionContainer cc = wfm.getIncomingConnectionFor(id, p);
+            if (cc == null) {
+                sources[p] = new Source(Source.NONE, p, null, null, null);
+            } else if (cc.getSource().equals(m_startID)) {
+                sources[p] = new Source(Source.START, cc.getSourcePort(), null, null, null);
+            } else if (indexMap.containsKey(cc.getSource())) {
+                sources[p] = new Source(indexMap.get(cc.getSource()), cc.getSourcePort(), null, null, null);
+            } else {
+                NodeOutPort outPort = wfm.getNodeContainer(cc.getSource()).getOutPort(cc.getSourcePort());
+                sources[p] = new Source(Source.EXTERNAL, cc.getSourcePort(), outPort.getPortObject(),
+                    outPort.getFlowObjectStack(), outPort.getHiLiteHandler());
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * @param index chunk index
+     * @return the chunk (detached) representing the chunk with the given index
+     */
+    ParallelizedChunkContent getChunk(final int index) {
+        return m_chunks[index];
+    }
+
+    /** Queues the workers executing the chunks in the global thread pool. */
+    void start() {
+        final int workerCount =
+            Math.max(1, Math.min(m_chunks.length, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads()));
+        LOGGER.debug("Executing " + m_chunks.length + " chunk(s) of loop " + m_startID + " detached using "
+            + workerCount + " worker(s)");
+        for (int i = 0; i < workerCount; i++) {
+            KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(this::runWorker);
+        }
+    }
+
+    /** Cancels a chunk: a queued chunk is marked as failed immediately, a running one is interrupted. */
+    private void cancelChunk(final int chunkIndex) {
+        if (m_chunkClaims.compareAndSet(chunkIndex, QUEUED, CANCELED)) {
+            m_chunks[chunkIndex].setDetachedExecuted(null);
+        } else if (m_chunkClaims.compareAndSet(chunkIndex, CLAIMED, CANCELED)) {
+            NodeProgressMonitor monitor = m_runningMonitors.get(chunkIndex);
+            if (monitor != null) {
+                monitor.setExecuteCanceled();
+            }
+        }
+    }
+
+    private boolean isCanceled(final int chunkIndex) {
+        return m_chunkClaims.get(chunkIndex) == CANCELED;
+    }
+
+    /** Claims and executes chunks until all chunks are claimed. */
+    private void runWorker() {
+        Node[] nodes = null;
+        try {
+            int chunkIndex;
+            while ((chunkIndex = m_nextChunk.getAndIncrement()) < m_chunks.length) {
+                if (!m_chunkClaims.compareAndSet(chunkIndex, QUEUED, CLAIMED)) {
+                    continue; // canceled before started
+                }
+                ParallelizedChunkContent chunk = m_chunks[chunkIndex];
+                chunk.setDetachedExecuting();
+                PortObject[] result = null;
+                try {
+                    if (nodes == null) {
+                        nodes = createNodes();
+                    }
+                    result = executeChunk(chunkIndex, nodes);
+                } catch (Throwable t) {
+                    LOGGER.error("Chunk " + chunkIndex + " of loop " + m_startID + " failed: " + t.getMessage(), t);
+                }
+                chunk.setDetachedExecuted(result);
+            }
+        } finally {
+            if (nodes != null) {
+                disposeNodes(nodes);
+            }
+        }
+    }
+
+    /** Creates the (detached) copies of the body nodes for one worker. */
+    private Node[] createNodes() throws InvalidSettingsException {
+        Node[] nodes = new Node[m_templates.length];
+        for (int i = 0; i < nodes.length; i++) {
+            NodeTemplate t = m_templates[i];
+            NodeContext.pushContext(t.m_original);
+            try {
+                Node node = new Node(t.m_factory);
+                node.validateModelSettings(t.m_modelSettings);
+                node.loadModelSettingsFrom(t.m_modelSettings);
+                node.setCredentialsProvider(t.m_credentialsProvider);
+                nodes[i] = node;
+            } finally {
+                NodeContext.removeLastContext();
+            }
+        }
+        return nodes;
+    }
+
+    private void disposeNodes(final Node[] nodes) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] != null) {
+                NodeContext.pushContext(m_templates[i].m_original);
+                try {
+                    nodes[i].cleanup();
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the body copies for one chunk.
+     *
+     * @return the objects at the input ports of the loop end (excluding the flow variable port) or null if the
+     *         execution failed or was canceled
+     */
+    private PortObject[] executeChunk(final int chunkIndex, final Node[] nodes) {
+        final VirtualParallelizedChunkNodeInput input = m_chunkInputs[chunkIndex];
+        final PortObject[] chunkObjects = input.getInputObjects();
+        final FlowObjectStack chunkStack = new FlowObjectStack(m_startID, new FlowObjectStack[]{m_startStack});
+        for (FlowVariable v : input.getFlowVariables()) {
+            chunkStack.push(FlowObjectStack.cloneUnsetOwner(v));
+        }
+        final FlowObjectStack[] outStacks = new FlowObjectStack[nodes.length];
+        final List<PortObject> createdObjects = new ArrayList<PortObject>();
+        PortObject[] result = null;
+        try {
+            for (int i = 0; i < nodes.length; i++) {
+                if (isCanceled(chunkIndex)) {
+                    return null;
+                }
+                final NodeTemplate t = m_templates[i];
+                final Node node = nodes[i];
+                final Source[] sources = t.m_sources;
+                final PortObject[] inObjects = new PortObject[sources.length];
+                final PortObjectSpec[] inSpecs = new PortObjectSpec[sources.length];
+                final FlowObjectStack[] inStacks = new FlowObjectStack[sources.length];
+                for (int p = 0; p < sources.length; p++) {
+                    inObjects[p] = getObject(sources[p], chunkObjects, nodes);
+                    inStacks[p] = getStack(sources[p], chunkStack, outStacks);
+                    inSpecs[p] = inObjects[p] == null ? null : inObjects[p].getSpec();
+                    node.setInHiLiteHandler(p, getHiLiteHandler(sources[p], nodes));
+                }
+                final FlowObjectStack inStack = new FlowObjectStack(t.getID(), inStacks);
+                final FlowObjectStack outgoingStack = new FlowObjectStack(t.getID());
+                final String[] errorMessage = new String[1];
+                final NodeMessageListener messageListener = e -> {
+                    if (e.getMessage().getMessageType() == NodeMessage.Type.ERROR) {
+                        errorMessage[0] = e.getMessage().getMessage();
+                    }
+                };
+                NodeContext.pushContext(t.m_original);
+                node.addMessageListener(messageListener);
+                try {
+                    node.setFlowObjectStack(inStack, outgoingStack);
+                    if (!node.configure(inSpecs, createConfigureHelper(t, node, inStack, outgoingStack))) {
+                        LOGGER.debug("Chunk " + chunkIndex + ": configuration of \"" + t.m_original.getNameWithID()
+                            + "\" failed" + (errorMessage[0] == null ? "" : ": " + errorMessage[0]));
+                        return null;
+                    }
+                    final DefaultNodeProgressMonitor monitor = new DefaultNodeProgressMonitor();
+                    m_runningMonitors.put(chunkIndex, monitor);
+                    if (isCanceled(chunkIndex)) {
+                        return null;
+                    }
+                    final ExecutionContext exec =
+                        new ExecutionContext(monitor, m_owner, t.m_memoryPolicy, m_tableRepository);
+                    final boolean success;
+                    try {
+                        success = node.execute(inObjects, new ExecutionEnvironment(), exec);
+                    } finally {
+                        m_runningMonitors.remove(chunkIndex);
+                    }
+                    for (int p = 0; p < node.getNrOutPorts(); p++) {
+                        createdObjects.add(node.getOutputObject(p));
+                    }
+                    if (!success) {
+                        LOGGER.debug("Chunk " + chunkIndex + ": execution of \"" + t.m_original.getNameWithID()
+                            + "\" failed" + (errorMessage[0] == null ? "" : ": " + errorMessage[0]));
+                        return null;
+                    }
+                } finally {
+                    node.removeMessageListener(messageListener);
+                    NodeContext.removeLastContext();
+                }
+                final FlowObjectStack outStack = new FlowObjectStack(t.getID(), inStack);
+                for (FlowObject o : outgoingStack.getFlowObjectsOwnedBy(t.getID(), Scope.Local)) {
+                    outStack.push(o);
+                }
+                outStacks[i] = outStack;
+            }
+            final PortObject[] endObjects = new PortObject[m_endSources.length - 1];
+            for (int p = 1; p < m_endSources.length; p++) {
+                endObjects[p - 1] = getObject(m_endSources[p], chunkObjects, nodes);
+            }
+            result = isCanceled(chunkIndex) ? null : endObjects;
+            return result;
+        } finally {
+            for (int i = 0; i < nodes.length; i++) {
+                NodeContext.pushContext(m_templates[i].m_original);
+                try {
+                    PortObject[] internalObjects = nodes[i].getInternalHeldPortObjects();
+                    if (internalObjects != null) {
+                        createdObjects.addAll(Arrays.asList(internalObjects));
+                    }
+                    nodes[i].cleanOutPorts(false);
+                    nodes[i].reset();
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            }
+            List<PortObject> retained = result == null ? Collections.<PortObject> emptyList() : Arrays.asList(result);
+            Node.invokeClearTables(m_owner, createdObjects, retained);
+        }
+    }
+
+    /** Applies the flow variables to the node settings and exports the settings variables, as
+     * {@link SingleNodeContainer#callNodeConfigure(PortObjectSpec[], boolean)} does for nodes in the workflow. */
+    private static NodeConfigureHelper createConfigureHelper(final NodeTemplate t, final Node node,
+        final FlowObjectStack inStack, final FlowObjectStack outgoingStack) {
+        return new NodeConfigureHelper() {
+
+            private List<FlowVariable> m_exportedVariables = Collections.emptyList();
+
+            @Override
+            public void preConfigure() throws InvalidSettingsException {
+                if (t.m_variablesSettings == null) {
+                    return;
+                }
+                NodeSettings fromModel = new NodeSettings("ignored");
+                t.m_modelSettings.copyTo(fromModel);
+                ConfigEditTreeModel configEditor = ConfigEditTreeModel.create(fromModel, t.m_variablesSettings);
+                m_exportedVariables = configEditor.overwriteSettings(fromModel, inStack.getAvailableFlowVariables());
+                node.validateModelSettings(fromModel);
+                node.loadModelSettingsFrom(fromModel);
+            }
+
+            @Override
+            public PortObjectSpec[] postConfigure(final PortObjectSpec[] inSpecs,
+                final PortObjectSpec[] nodeModelOutSpecs) throws InvalidSettingsException {
+                List<FlowVariable> reverseOrder = new ArrayList<FlowVariable>(m_exportedVariables);
+                Collections.reverse(reverseOrder);
+                for (FlowVariable v : reverseOrder) {
+                    outgoingStack.push(v);
+                }
+                return nodeModelOutSpecs;
+            }
+        };
+    }
+
+    private PortObject getObject(final Source source, final PortObject[] chunkObjects, final Node[] nodes) {
+        switch (source.m_nodeIndex) {
+            case Source.NONE:
+                return null;
+            case Source.EXTERNAL:
+                return source.m_object;
+            case Source.START:
+                // the chunk objects don't include the flow variable port
+                return source.m_port == 0 ? FlowVariablePortObject.INSTANCE : chunkObjects[source.m_port - 1];
+            default:
+                PortObject o = nodes[source.m_nodeIndex].getOutputObject(source.m_port);
+                return o == null && source.m_port == 0 ? FlowVariablePortObject.INSTANCE : o;
+        }
+    }
+
+    private FlowObjectStack getStack(final Source source, final FlowObjectStack chunkStack,
+        final FlowObjectStack[] outStacks) {
+        switch (source.m_nodeIndex) {
+            case Source.NONE:
+                return null;
+            case Source.EXTERNAL:
+                return source.m_stack;
+            case Source.START:
+                return chunkStack;
+            default:
+                return outStacks[source.m_nodeIndex];
+        }
+    }
+
+    private HiLiteHandler getHiLiteHandler(final Source source, final Node[] nodes) {
+        switch (source.m_nodeIndex) {
+            case Source.NONE:
+                return null;
+            case Source.EXTERNAL:
+                return source.m_hiLiteHandler;
+            case Source.START:
+                return m_startHiLiteHandlers[source.m_port];
+            default:
+                return nodes[source.m_nodeIndex].getOutputHiLiteHandler(source.m_port);
+        }
+    }
+}
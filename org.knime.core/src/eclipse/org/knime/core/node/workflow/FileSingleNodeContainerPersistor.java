@@ -60,6 +60,7 @@
 import java.util.Map;
 
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.filestore.internal.WorkflowFileStoreHandlerRepository;
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.node.BufferedDataTable;
@@ -557,6 +558,8 @@ protected static String save(final SingleNodeContainer singleNC, final Reference
         }
         boolean nodeDirDeleted = true;
         if (singleNC instanceof NativeNodeContainer) {
+            // usually done already when the node was marked dirty
+            DataContainer.copyTablesReadInPlaceToTemp(nodeDir);
             nodeDirDeleted = deleteChildren(nodeDir, SingleNodeContainer.DROP_DIR_NAME);
         }
         nodeDir.mkdirs();
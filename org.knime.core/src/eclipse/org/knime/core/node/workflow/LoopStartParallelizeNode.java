@@ -47,6 +47,7 @@
  */
 package org.knime.core.node.workflow;
 
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
 
@@ -74,4 +75,18 @@ public interface LoopStartParallelizeNode extends LoopStartNode {
      * @param pccm matching @see{ParallelizedChunkContentMaster}
      */
     public void setChunkMaster(final ParallelizedChunkContentMaster pccm);
+
+    /** Whether the remote chunks are to be executed by copies of the loop body that are detached from the workflow,
+     * one per worker thread, rather than by a copy of the loop body in the workflow per chunk. The framework falls
+     * back to copying the loop body if it can't be executed detached. Implementations should return chunks that
+     * reference the input rather than copying it in this case, see
+     * {@link org.knime.core.node.ExecutionContext#createRowRangeTable(org.knime.core.node.BufferedDataTable, long,
+     * long)}. The default is given by {@link org.knime.core.node.KNIMEConstants#PROPERTY_PARALLEL_CHUNKS_DETACHED}.
+     *
+     * @return true to execute the chunks detached
+     * @since 3.6
+     */
+    public default boolean isExecuteChunksDetached() {
+        return Boolean.getBoolean(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_DETACHED);
+    }
 }
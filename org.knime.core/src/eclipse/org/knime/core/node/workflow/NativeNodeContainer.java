@@ -58,6 +58,7 @@
 import java.util.UUID;
 
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.ILoopStartWriteFileStoreHandler;
@@ -1035,6 +1036,11 @@ public void setDirty() {
             try { // only for node context push
                 try {
                     m_node.ensureOutputDataIsRead();
+                    ReferencedFile nodeDirRef = getNodeContainerDirectory();
+                    if (nodeDirRef != null) {
+                        // tables read in place from the node directory need to be copied as well
+                        DataContainer.copyTablesReadInPlaceToTemp(nodeDirRef.getFile());
+                    }
                 } catch (Exception e) {
                     LOGGER.error("Unable to read output data", e);
                 }
@@ -150,6 +150,14 @@ public boolean executionInProgress() {
 
     private NodeMessage m_nodeMessage = NodeMessage.NONE;
 
+    /** The state counts of the workflow containing this node, updated on state and message changes. Null if this node
+     * isn't part of a workflow (or a metanode, which isn't counted). Guarded by {@link #m_stateCountsMutex}. */
+    private NodeStateCounts m_stateCounts;
+
+    /** Guards changes of the state, the message and the state counts. Never held while calling other code (as opposed
+     * to {@link #m_nodeMutex}), so it can be acquired while holding the workflow lock. */
+    private final Object m_stateCountsMutex = new Object();
+
     /**
      * Object that represents locks set on the node, i.e.
      * whether the node is allowed to be deleted, reseted or configured.
@@ -172,6 +180,8 @@ public boolean executionInProgress() {
 
     private final NodeTimer m_nodeTimer = new NodeTimer(this);
 
+    private final NodeExecutionProfiler m_executionProfiler = new NodeExecutionProfiler(this);
+
     /**
      * semaphore to make sure never try to work on inconsistent internal node
      * states. This semaphore will be used by a node alone to synchronize
@@ -750,8 +760,14 @@ public final NodeMessage getNodeMessage() {
     * @param newMessage the nodeMessage to set
     */
    public final void setNodeMessage(final NodeMessage newMessage) {
-       NodeMessage oldMessage = m_nodeMessage;
-       m_nodeMessage = newMessage == null ? NodeMessage.NONE : newMessage;
+       NodeMessage oldMessage;
+       synchronized (m_stateCountsMutex) {
+           oldMessage = m_nodeMessage;
+           m_nodeMessage = newMessage == null ? NodeMessage.NONE : newMessage;
+           if (m_stateCounts != null) {
+               m_stateCounts.messageChanged(oldMessage, m_nodeMessage);
+           }
+       }
        if (!m_nodeMessage.equals(oldMessage)) {
            notifyMessageListeners(new NodeMessageEvent(getID(), m_nodeMessage));
        }
@@ -881,7 +897,12 @@ boolean setInternalState(final InternalNodeContainerState state, final boolean s
         boolean changesMade = false;
         synchronized (m_nodeMutex) {
             if (!m_state.equals(state)) {
-                m_state = state;
+                synchronized (m_stateCountsMutex) {
+                    if (m_stateCounts != null) {
+                        m_stateCounts.stateChanged(m_state, state);
+                    }
+                    m_state = state;
+                }
                 changesMade = true;
             }
         }
@@ -898,6 +919,37 @@ boolean setInternalState(final InternalNodeContainerState state, final boolean s
         return changesMade;
     }
 
+    /**
+     * Registers this node with the state counts of the workflow it has been added to. Called by
+     * {@link NodeStateCounts#add(NodeContainer)}.
+     *
+     * @param counts the counts of the workflow
+     */
+    void setStateCounts(final NodeStateCounts counts) {
+        synchronized (m_stateCountsMutex) {
+            if (m_stateCounts != null) {
+                m_stateCounts.removeNode(m_state, m_nodeMessage);
+            }
+            m_stateCounts = counts;
+            counts.addNode(m_state, m_nodeMessage);
+        }
+    }
+
+    /**
+     * Unregisters this node from the state counts of the workflow it has been removed from. Called by
+     * {@link NodeStateCounts#remove(NodeContainer)}.
+     *
+     * @param counts the counts of the workflow, nothing is done if this node isn't registered with it
+     */
+    void unsetStateCounts(final NodeStateCounts counts) {
+        synchronized (m_stateCountsMutex) {
+            if (m_stateCounts == counts) {
+                counts.removeNode(m_state, m_nodeMessage);
+                m_stateCounts = null;
+            }
+        }
+    }
+
     /** Throws a new IllegalStateException with a meaningful error message
      * containing node name, current state and method name. This method is used
      * from the different state transition methods in
@@ -1353,6 +1405,14 @@ public NodeTimer getNodeTimer() {
         return m_nodeTimer;
     }
 
+    /**
+     * @return the profiler holding the profiles of the last executions of this node.
+     * @since 3.6
+     */
+    public NodeExecutionProfiler getExecutionProfiler() {
+        return m_executionProfiler;
+    }
+
     /** Is this node a to be locally executed workflow. In contrast to remotely
      * executed workflows, the nodes in the encapsulated workflow will be
      * executed independently (each represented by an own job), whereas remote
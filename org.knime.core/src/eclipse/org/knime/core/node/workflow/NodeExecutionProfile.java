@@ -0,0 +1,222 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+/**
+ * Profiling information about a single execution of a node, recorded by the node's {@link NodeExecutionProfiler}.
+ * All durations are in nanoseconds; values that couldn't be determined (e.g. because the JVM doesn't support CPU time
+ * measurement) are -1. The per port arrays are indexed like the ports of the node, i.e. for single nodes index 0 is
+ * the flow variable port.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class NodeExecutionProfile {
+
+    private final NodeID m_nodeID;
+
+    private final String m_nodeName;
+
+    private final boolean m_isSuccess;
+
+    private final long m_startTime;
+
+    private final long m_configureTime;
+
+    private final long m_executeTime;
+
+    private final long m_cpuTime;
+
+    private final long m_gcTime;
+
+    private final long m_allocatedBytes;
+
+    private final long[] m_inputRows;
+
+    private final long[] m_inputBytes;
+
+    private final long[] m_outputRows;
+
+    private final long[] m_outputBytes;
+
+    private final int m_spillCount;
+
+    private final long m_spilledRows;
+
+    private final String m_threadName;
+
+    private final long m_threadID;
+
+    NodeExecutionProfile(final NodeID nodeID, final String nodeName, final boolean isSuccess, final long startTime,
+        final long configureTime, final long executeTime, final long cpuTime, final long gcTime,
+        final long allocatedBytes, final long[] inputRows, final long[] inputBytes, final long[] outputRows,
+        final long[] outputBytes, final int spillCount, final long spilledRows, final String threadName,
+        final long threadID) {
+        m_nodeID = nodeID;
+        m_nodeName = nodeName;
+        m_isSuccess = isSuccess;
+        m_startTime = startTime;
+        m_configureTime = configureTime;
+        m_executeTime = executeTime;
+        m_cpuTime = cpuTime;
+        m_gcTime = gcTime;
+        m_allocatedBytes = allocatedBytes;
+        m_inputRows = inputRows;
+        m_inputBytes = inputBytes;
+        m_outputRows = outputRows;
+        m_outputBytes = outputBytes;
+        m_spillCount = spillCount;
+        m_spilledRows = spilledRows;
+        m_threadName = threadName;
+        m_threadID = threadID;
+    }
+
+    /** @return the ID of the executed node */
+    public NodeID getNodeID() {
+        return m_nodeID;
+    }
+
+    /** @return the name of the executed node */
+    public String getNodeName() {
+        return m_nodeName;
+    }
+
+    /** @return whether the execution was successful */
+    public boolean isSuccess() {
+        return m_isSuccess;
+    }
+
+    /** @return the start of the execution in milliseconds since the epoch */
+    public long getStartTime() {
+        return m_startTime;
+    }
+
+    /** @return the duration of the last configuration of the node prior to the execution, -1 if not known */
+    public long getConfigureTime() {
+        return m_configureTime;
+    }
+
+    /** @return the (wall clock) duration of the execution */
+    public long getExecuteTime() {
+        return m_executeTime;
+    }
+
+    /**
+     * @return the CPU time the thread executing the node used during the execution; time of other threads used by the
+     *         node (e.g. of its sub tasks) is not included
+     */
+    public long getCPUTime() {
+        return m_cpuTime;
+    }
+
+    /**
+     * @return the time spent in garbage collection during the execution; as the garbage collector runs for the entire
+     *         JVM the time may be caused by other nodes running concurrently
+     */
+    public long getGCTime() {
+        return m_gcTime;
+    }
+
+    /** @return the number of bytes allocated by the thread executing the node during the execution */
+    public long getAllocatedBytes() {
+        return m_allocatedBytes;
+    }
+
+    /** @return the number of rows per input port, -1 for ports not holding a table */
+    public long[] getInputRows() {
+        return m_inputRows.clone();
+    }
+
+    /**
+     * @return the size of the tables per input port (including the tables they reference), -1 for ports not holding a
+     *         table or if the size is not known
+     */
+    public long[] getInputBytes() {
+        return m_inputBytes.clone();
+    }
+
+    /** @return the number of rows per output port, -1 for ports not holding a table */
+    public long[] getOutputRows() {
+        return m_outputRows.clone();
+    }
+
+    /**
+     * @return the size of the data written per output port (excluding referenced input tables), -1 for ports not
+     *         holding a table or if the size is not known
+     */
+    public long[] getOutputBytes() {
+        return m_outputBytes.clone();
+    }
+
+    /** @return the number of tables the node created that had to be written to disc as they exceeded the memory */
+    public int getSpillCount() {
+        return m_spillCount;
+    }
+
+    /** @return the number of rows written to disc when tables were spilled, see {@link #getSpillCount()} */
+    public long getSpilledRows() {
+        return m_spilledRows;
+    }
+
+    /** @return the name of the thread that executed the node */
+    public String getThreadName() {
+        return m_threadName;
+    }
+
+    /** @return the ID of the thread that executed the node */
+    public long getThreadID() {
+        return m_threadID;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return m_nodeName + " (" + m_nodeID + "): " + (m_executeTime / 1000000) + "ms"
+            + (m_isSuccess ? "" : " - failed");
+    }
+}
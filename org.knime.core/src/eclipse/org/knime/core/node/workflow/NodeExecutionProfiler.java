@@ -0,0 +1,314 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+
+/**
+ * Records {@link NodeExecutionProfile profiles} of the executions of a node. Each {@link NodeContainer} has its own
+ * profiler (see {@link NodeContainer#getExecutionProfiler()}), which keeps the profiles of the last
+ * {@value #MAX_PROFILE_COUNT} executions (also across resets, e.g. of nodes in a loop body). The profiles of all nodes
+ * in a workflow are available via {@link WorkflowManager#getExecutionProfiles(boolean)} and can be exported using
+ * {@link NodeExecutionProfiles}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class NodeExecutionProfiler {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeExecutionProfiler.class);
+
+    /** Number of executions kept per node. */
+    public static final int MAX_PROFILE_COUNT = 100;
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    private static final boolean IS_CPU_TIME_SUPPORTED = isCpuTimeSupported();
+
+    private static final AllocationCounter ALLOCATION_COUNTER = createAllocationCounter();
+
+    private final NodeContainer m_nc;
+
+    private final Deque<NodeExecutionProfile> m_profiles = new ArrayDeque<NodeExecutionProfile>();
+
+    private volatile long m_configureTime = -1L;
+
+    private volatile Execution m_currentExecution;
+
+    NodeExecutionProfiler(final NodeContainer nc) {
+        m_nc = nc;
+    }
+
+    /**
+     * A running execution of a node. Used by the framework to record events happening during the execution.
+     *
+     * @noreference This class is not intended to be referenced by clients.
+     */
+    public static final class Execution {
+
+        private final long m_startTime = System.currentTimeMillis();
+
+        private final long m_startNanos = System.nanoTime();
+
+        private final Thread m_thread = Thread.currentThread();
+
+        private final long m_startCpuTime = getCurrentThreadCpuTime();
+
+        private final long m_startAllocatedBytes = getCurrentThreadAllocatedBytes();
+
+        private final long m_startGCTime = getGCTime();
+
+        private final AtomicInteger m_spillCount = new AtomicInteger();
+
+        private final AtomicLong m_spilledRows = new AtomicLong();
+
+        private Execution() {
+        }
+
+        /**
+         * Called when rows of a table created during the execution are written to disc as they exceed the memory.
+         *
+         * @param rowCount the number of rows written
+         */
+        public void recordSpill(final long rowCount) {
+            m_spillCount.incrementAndGet();
+            m_spilledRows.addAndGet(rowCount);
+        }
+    }
+
+    /**
+     * Returns the execution of the node in whose context (see {@link NodeContext}) the current thread runs.
+     *
+     * @return the current execution or <code>null</code> if there is no node context or the node isn't executing
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static Execution getCurrentExecution() {
+        final NodeContext context = NodeContext.getContext();
+        final NodeContainer nc = context == null ? null : context.getNodeContainer();
+        return nc == null ? null : nc.getExecutionProfiler().m_currentExecution;
+    }
+
+    /**
+     * @return the profiles of the recorded executions, the oldest first
+     */
+    public synchronized List<NodeExecutionProfile> getProfiles() {
+        return new ArrayList<NodeExecutionProfile>(m_profiles);
+    }
+
+    /**
+     * @return the profile of the last execution or <code>null</code> if the node hasn't been executed
+     */
+    public synchronized NodeExecutionProfile getLastProfile() {
+        return m_profiles.peekLast();
+    }
+
+    /** Discards all recorded profiles. */
+    public synchronized void clear() {
+        m_profiles.clear();
+    }
+
+    /** Called after the node has been configured, on the configuring thread. */
+    void configured(final long configureTime) {
+        m_configureTime = configureTime;
+    }
+
+    /** Called right before the node is executed, on the executing thread. */
+    void executionStarted() {
+        m_currentExecution = new Execution();
+    }
+
+    /**
+     * Called after the node has been executed, on the executing thread.
+     *
+     * @param isSuccess whether the execution was successful
+     * @param inData the input of the execution, may be <code>null</code> if not known
+     */
+    void executionFinished(final boolean isSuccess, final PortObject[] inData) {
+        final Execution execution = m_currentExecution;
+        m_currentExecution = null;
+        if (execution == null) {
+            return;
+        }
+        final long executeTime = System.nanoTime() - execution.m_startNanos;
+        final boolean isSameThread = execution.m_thread == Thread.currentThread();
+        final long cpuTime = isSameThread ? difference(execution.m_startCpuTime, getCurrentThreadCpuTime()) : -1L;
+        final long allocatedBytes =
+            isSameThread ? difference(execution.m_startAllocatedBytes, getCurrentThreadAllocatedBytes()) : -1L;
+        final long gcTime = difference(execution.m_startGCTime, getGCTime());
+
+        final int inCount = inData == null ? 0 : inData.length;
+        final long[] inputRows = new long[inCount];
+        final long[] inputBytes = new long[inCount];
+        for (int i = 0; i < inCount; i++) {
+            inputRows[i] = getRowCount(inData[i]);
+            inputBytes[i] = getSizeInBytes(inData[i], true);
+        }
+        final int outCount = m_nc.getNrOutPorts();
+        final long[] outputRows = new long[outCount];
+        final long[] outputBytes = new long[outCount];
+        for (int i = 0; i < outCount; i++) {
+            final PortObject out = isSuccess ? m_nc.getOutPort(i).getPortObject() : null;
+            outputRows[i] = getRowCount(out);
+            outputBytes[i] = getSizeInBytes(out, false);
+        }
+        final NodeExecutionProfile profile = new NodeExecutionProfile(m_nc.getID(), m_nc.getName(), isSuccess,
+            execution.m_startTime, m_configureTime, executeTime, cpuTime, gcTime == -1L ? -1L : gcTime * 1000000L,
+            allocatedBytes, inputRows, inputBytes, outputRows, outputBytes, execution.m_spillCount.get(),
+            execution.m_spilledRows.get(), execution.m_thread.getName(), execution.m_thread.getId());
+        synchronized (this) {
+            if (m_profiles.size() >= MAX_PROFILE_COUNT) {
+                m_profiles.removeFirst();
+            }
+            m_profiles.addLast(profile);
+        }
+    }
+
+    private static long getRowCount(final PortObject po) {
+        return po instanceof BufferedDataTable ? ((BufferedDataTable)po).size() : -1L;
+    }
+
+    private static long getSizeInBytes(final PortObject po, final boolean includeReferencedTables) {
+        if (po instanceof BufferedDataTable) {
+            try {
+                return ((BufferedDataTable)po).getSizeInBytes(includeReferencedTables);
+            } catch (RuntimeException e) {
+                // e.g. table has been cleared concurrently, the profile must not fail the execution
+                LOGGER.debug("Unable to determine table size: " + e.getMessage(), e);
+            }
+        }
+        return -1L;
+    }
+
+    private static long difference(final long start, final long end) {
+        return start < 0 || end < 0 ? -1L : end - start;
+    }
+
+    private static boolean isCpuTimeSupported() {
+        try {
+            return THREAD_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_BEAN.isThreadCpuTimeEnabled();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static long getCurrentThreadCpuTime() {
+        return IS_CPU_TIME_SUPPORTED ? THREAD_BEAN.getCurrentThreadCpuTime() : -1L;
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        return ALLOCATION_COUNTER == null ? -1L : ALLOCATION_COUNTER.getAllocatedBytes(Thread.currentThread());
+    }
+
+    private static AllocationCounter createAllocationCounter() {
+        try {
+            return AllocationCounter.create();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Thread allocation counting not available: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /** @return the accumulated garbage collection time of all collectors in ms, -1 if not available */
+    private static long getGCTime() {
+        long result = 0L;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            final long time = gcBean.getCollectionTime();
+            if (time < 0) {
+                return -1L;
+            }
+            result += time;
+        }
+        return result;
+    }
+
+    /**
+     * Counts the bytes allocated per thread using the (non-standard) extension of the {@link ThreadMXBean} in
+     * com.sun.management. The extension is only accessed by reflection, so that the bundle doesn't depend on it and a
+     * missing extension doesn't break the profiler.
+     */
+    private static final class AllocationCounter {
+
+        /** com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long). */
+        private final Method m_getThreadAllocatedBytes;
+
+        private AllocationCounter(final Method getThreadAllocatedBytes) {
+            m_getThreadAllocatedBytes = getThreadAllocatedBytes;
+        }
+
+        long getAllocatedBytes(final Thread thread) {
+            try {
+                return (Long)m_getThreadAllocatedBytes.invoke(THREAD_BEAN, thread.getId());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return -1L;
+            }
+        }
+
+        static AllocationCounter create() throws ReflectiveOperationException {
+            final Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+            if (!beanClass.isInstance(THREAD_BEAN)
+                || !(Boolean)beanClass.getMethod("isThreadAllocatedMemorySupported").invoke(THREAD_BEAN)
+                || !(Boolean)beanClass.getMethod("isThreadAllocatedMemoryEnabled").invoke(THREAD_BEAN)) {
+                return null;
+            }
+            return new AllocationCounter(beanClass.getMethod("getThreadAllocatedBytes", long.class));
+        }
+    }
+}
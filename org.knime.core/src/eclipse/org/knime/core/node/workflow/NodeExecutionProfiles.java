@@ -0,0 +1,247 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Exports {@link NodeExecutionProfile}s (e.g. as returned by {@link WorkflowManager#getExecutionProfiles(boolean)}),
+ * either as a table with one row per execution or in the trace event format of the Chrome browser (which can be
+ * opened in chrome://tracing), showing the executions on a time line per thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class NodeExecutionProfiles {
+
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private NodeExecutionProfiles() {
+    }
+
+    /**
+     * @return the spec of the table created by {@link #createTable(Collection, ExecutionContext)}
+     */
+    public static DataTableSpec createTableSpec() {
+        final DataType longList = ListCell.getCollectionType(LongCell.TYPE);
+        return new DataTableSpec(
+            new DataColumnSpecCreator("Node ID", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Node Name", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Success", BooleanCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Start Time", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Configure Time [ms]", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Execute Time [ms]", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("CPU Time [ms]", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("GC Time [ms]", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Allocated Bytes", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Input Rows", longList).createSpec(),
+            new DataColumnSpecCreator("Input Bytes", longList).createSpec(),
+            new DataColumnSpecCreator("Output Rows", longList).createSpec(),
+            new DataColumnSpecCreator("Output Bytes", longList).createSpec(),
+            new DataColumnSpecCreator("Spill Count", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Spilled Rows", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Thread", StringCell.TYPE).createSpec());
+    }
+
+    /**
+     * Creates a table with one row per profile. Unknown values are represented by missing cells.
+     *
+     * @param profiles the profiles
+     * @param exec the context to create the table
+     * @return a new table
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    public static BufferedDataTable createTable(final Collection<NodeExecutionProfile> profiles,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        final BufferedDataContainer result = exec.createDataContainer(createTableSpec());
+        long rowIndex = 0;
+        for (NodeExecutionProfile p : profiles) {
+            exec.checkCanceled();
+            result.addRowToTable(new DefaultRow(RowKey.createRowKey(rowIndex++),
+                new StringCell(p.getNodeID().toString()),
+                new StringCell(p.getNodeName()),
+                BooleanCell.get(p.isSuccess()),
+                new LongCell(p.getStartTime()),
+                createMillisCell(p.getConfigureTime()),
+                createMillisCell(p.getExecuteTime()),
+                createMillisCell(p.getCPUTime()),
+                createMillisCell(p.getGCTime()),
+                createLongCell(p.getAllocatedBytes()),
+                createListCell(p.getInputRows()),
+                createListCell(p.getInputBytes()),
+                createListCell(p.getOutputRows()),
+                createListCell(p.getOutputBytes()),
+                new IntCell(p.getSpillCount()),
+                new LongCell(p.getSpilledRows()),
+                new StringCell(p.getThreadName())));
+        }
+        result.close();
+        return result.getTable();
+    }
+
+    /**
+     * Writes the profiles as JSON in the trace event format of the Chrome browser. Each execution is a complete event
+     * ("ph":"X") on the time line of the executing thread, the other values of the profile are added as arguments.
+     *
+     * @param profiles the profiles
+     * @param writer the writer to write to, not closed by this method
+     * @throws IOException if writing fails
+     */
+    public static void writeChromeTrace(final Collection<NodeExecutionProfile> profiles, final Writer writer)
+        throws IOException {
+        writer.write("{\"traceEvents\":[");
+        final Map<Long, String> threadNames = new LinkedHashMap<Long, String>();
+        boolean isFirst = true;
+        for (NodeExecutionProfile p : profiles) {
+            if (!isFirst) {
+                writer.write(',');
+            }
+            isFirst = false;
+            threadNames.put(p.getThreadID(), p.getThreadName());
+            writer.write("\n{\"name\":");
+            writeString(p.getNodeName(), writer);
+            writer.write(",\"cat\":\"node\",\"ph\":\"X\",\"pid\":0,\"tid\":" + p.getThreadID());
+            // timestamps and durations are in microseconds
+            writer.write(",\"ts\":" + (p.getStartTime() * 1000L));
+            writer.write(",\"dur\":" + (p.getExecuteTime() / 1000L));
+            writer.write(",\"args\":{\"nodeID\":");
+            writeString(p.getNodeID().toString(), writer);
+            writer.write(",\"success\":" + p.isSuccess());
+            writer.write(",\"configureTimeMs\":" + toMillis(p.getConfigureTime()));
+            writer.write(",\"cpuTimeMs\":" + toMillis(p.getCPUTime()));
+            writer.write(",\"gcTimeMs\":" + toMillis(p.getGCTime()));
+            writer.write(",\"allocatedBytes\":" + (p.getAllocatedBytes() < 0 ? "null" : p.getAllocatedBytes()));
+            writer.write(",\"inputRows\":" + toJSONArray(p.getInputRows()));
+            writer.write(",\"inputBytes\":" + toJSONArray(p.getInputBytes()));
+            writer.write(",\"outputRows\":" + toJSONArray(p.getOutputRows()));
+            writer.write(",\"outputBytes\":" + toJSONArray(p.getOutputBytes()));
+            writer.write(",\"spillCount\":" + p.getSpillCount());
+            writer.write(",\"spilledRows\":" + p.getSpilledRows());
+            writer.write("}}");
+        }
+        for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+            if (!isFirst) {
+                writer.write(',');
+            }
+            isFirst = false;
+            writer.write("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":0,\"tid\":" + thread.getKey()
+                + ",\"args\":{\"name\":");
+            writeString(thread.getValue(), writer);
+            writer.write("}}");
+        }
+        writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+    }
+
+    private static DataCell createMillisCell(final long nanos) {
+        return nanos < 0 ? DataType.getMissingCell() : new DoubleCell(nanos / NANOS_PER_MILLI);
+    }
+
+    private static DataCell createLongCell(final long value) {
+        return value < 0 ? DataType.getMissingCell() : new LongCell(value);
+    }
+
+    private static DataCell createListCell(final long[] values) {
+        final List<DataCell> cells = new ArrayList<DataCell>(values.length);
+        for (long v : values) {
+            cells.add(createLongCell(v));
+        }
+        return CollectionCellFactory.createListCell(cells);
+    }
+
+    private static String toMillis(final long nanos) {
+        return nanos < 0 ? "null" : Double.toString(nanos / NANOS_PER_MILLI);
+    }
+
+    private static String toJSONArray(final long[] values) {
+        final StringBuilder b = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            b.append(i > 0 ? "," : "").append(values[i] < 0 ? "null" : Long.toString(values[i]));
+        }
+        return b.append(']').toString();
+    }
+
+    private static void writeString(final String s, final Writer writer) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int)c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+}
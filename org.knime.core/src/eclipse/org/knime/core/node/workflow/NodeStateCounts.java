@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Number of nodes per {@link InternalNodeContainerState} in a {@link Workflow}, used by
+ * {@link WorkflowManager#computeNewState()} to derive the workflow state without visiting all nodes. The counts are
+ * updated by the nodes themselves whenever their state or message changes (see
+ * {@link NodeContainer#setStateCounts(NodeStateCounts)}), independent of the workflow lock. All updates and reads
+ * synchronize on this object, so that a node that changes its state is never seen in both or in neither of its old
+ * and new state.
+ *
+ * <p>
+ * Metanodes are not counted as their state is computed lazily when the (shared) workflow lock is released, see
+ * {@link WorkflowManager#getInternalState()}; they are kept in a separate list instead.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeStateCounts {
+
+    /** Guarded by this. */
+    private final int[] m_nodesInState = new int[InternalNodeContainerState.values().length];
+
+    /** Guarded by this. */
+    private int m_nodesWithError;
+
+    private final Collection<WorkflowManager> m_metaNodes = new CopyOnWriteArraySet<WorkflowManager>();
+
+    /**
+     * Adds a node that has been put into the workflow.
+     *
+     * @param nc the new node
+     */
+    void add(final NodeContainer nc) {
+        if (nc instanceof WorkflowManager) {
+            m_metaNodes.add((WorkflowManager)nc);
+        } else {
+            nc.setStateCounts(this);
+        }
+    }
+
+    /**
+     * Removes a node that has been removed from the workflow.
+     *
+     * @param nc the removed node
+     */
+    void remove(final NodeContainer nc) {
+        if (nc instanceof WorkflowManager) {
+            m_metaNodes.remove(nc);
+        } else {
+            nc.unsetStateCounts(this);
+        }
+    }
+
+    /** Called by a node when it's registered, while holding the node's state mutex. */
+    synchronized void addNode(final InternalNodeContainerState state, final NodeMessage message) {
+        m_nodesInState[state.ordinal()]++;
+        if (isError(message)) {
+            m_nodesWithError++;
+        }
+    }
+
+    /** Called by a node when it's unregistered, while holding the node's state mutex. */
+    synchronized void removeNode(final InternalNodeContainerState state, final NodeMessage message) {
+        m_nodesInState[state.ordinal()]--;
+        if (isError(message)) {
+            m_nodesWithError--;
+        }
+    }
+
+    /** Called by a node when its state changes, while holding the node's state mutex. */
+    synchronized void stateChanged(final InternalNodeContainerState oldState,
+        final InternalNodeContainerState newState) {
+        m_nodesInState[oldState.ordinal()]--;
+        m_nodesInState[newState.ordinal()]++;
+    }
+
+    /** Called by a node when its message changes, while holding the node's state mutex. */
+    synchronized void messageChanged(final NodeMessage oldMessage, final NodeMessage newMessage) {
+        final boolean wasError = isError(oldMessage);
+        final boolean isError = isError(newMessage);
+        if (wasError != isError) {
+            m_nodesWithError += isError ? 1 : -1;
+        }
+    }
+
+    /**
+     * @return a new array with the number of nodes (excluding metanodes) per state, indexed by the ordinal of the
+     *         state
+     */
+    synchronized int[] getNodesInState() {
+        return m_nodesInState.clone();
+    }
+
+    /** @return whether any node (excluding metanodes) has an error message. */
+    synchronized boolean hasNodeWithError() {
+        return m_nodesWithError > 0;
+    }
+
+    /** @return the metanodes in the workflow, not counted otherwise. */
+    Collection<WorkflowManager> getMetaNodes() {
+        return m_metaNodes;
+    }
+
+    private static boolean isError(final NodeMessage message) {
+        return message != null && message.getMessageType() == NodeMessage.Type.ERROR;
+    }
+}
@@ -298,9 +298,11 @@ public PortObjectSpec[] postConfigure(final PortObjectSpec[] inObjSpecs,
             }
         };
         NodeContext.pushContext(this);
+        final long start = System.nanoTime();
         try {
             return performConfigure(inSpecs, nch, keepNodeMessage);
         } finally {
+            getExecutionProfiler().configured(System.nanoTime() - start);
             NodeContext.removeLastContext();
         }
     }
@@ -79,6 +79,9 @@ class Workflow {
     /** mapping from NodeID to Nodes. */
     private final TreeMap<NodeID, NodeContainer> m_nodes = new TreeMap<NodeID, NodeContainer>();
 
+    /** Number of nodes in {@link #m_nodes} per state. */
+    private final NodeStateCounts m_nodeStateCounts = new NodeStateCounts();
+
     // Connections (by node, source and destination). Note that meta
     // connections (in- and outgoing of this workflow) are also part
     // of these maps. They will have our own ID as source/dest ID.
@@ -154,7 +157,11 @@ void putNode(final NodeID id, final NodeContainer nc) {
         m_connectionsBySource.put(id, new LinkedHashSet<ConnectionContainer>());
         m_connectionsByDest.put(id, new LinkedHashSet<ConnectionContainer>());
         // and then add node (avoid inconsistent node - connection setup)
-        m_nodes.put(id, nc);
+        NodeContainer oldNode = m_nodes.put(id, nc);
+        if (oldNode != null) {
+            m_nodeStateCounts.remove(oldNode);
+        }
+        m_nodeStateCounts.add(nc);
         clearGraphAnnotationCache();
     }
 
@@ -166,6 +173,9 @@ void putNode(final NodeID id, final NodeContainer nc) {
     NodeContainer removeNode(final NodeID id) {
         // remove node
         NodeContainer node = m_nodes.remove(id);
+        if (node != null) {
+            m_nodeStateCounts.remove(node);
+        }
         // and then clean up the connection lists  (avoid inconsistent node - connection setup)
         m_connectionsBySource.remove(id);
         m_connectionsByDest.remove(id);
@@ -190,6 +200,13 @@ Set<NodeID> getNodeIDs() {
         return Collections.unmodifiableSet(sn);
     }
 
+    /**
+     * @return the number of nodes per state, updated by the nodes on each state change
+     */
+    NodeStateCounts getNodeStateCounts() {
+        return m_nodeStateCounts;
+    }
+
     /**
      * @return number of nodes
      */
@@ -73,6 +73,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -113,6 +114,7 @@
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
@@ -2958,6 +2960,7 @@ void doBeforeExecution(final NodeContainer nc) {
             // allow NNC to update states etc
             LOGGER.debug(nc.getNameWithID() + " doBeforeExecution");
             nc.getNodeTimer().startExec();
+            nc.getExecutionProfiler().executionStarted();
             if (nc instanceof SingleNodeContainer) {
                 FlowObjectStack flowObjectStack = nc.getFlowObjectStack();
                 FlowLoopContext slc = flowObjectStack.peek(FlowLoopContext.class);
@@ -3023,6 +3026,8 @@ void doAfterExecution(final NodeContainer nc, final NodeContainerExecutionStatus
         boolean success = status.isSuccess();
         try (WorkflowLock lock = lock()) {
             nc.getNodeTimer().endExec(success);
+            NodeExecutionJob job = nc.getExecutionJob();
+            nc.getExecutionProfiler().executionFinished(success, job == null ? null : job.getPortObjects());
             String st = success ? " - success" : " - failure";
             LOGGER.debug(nc.getNameWithID() + " doAfterExecute" + st);
             if (!success) {
@@ -3378,6 +3383,24 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
                 extInConnections.put(npi, index);
                 index++;
             }
+            if (startNode.getNrRemoteChunks() > 0 && startNode.isExecuteChunksDetached()) {
+                final List<NodeID> bodyIDs = Arrays.asList(loopNodes);
+                final String reason = DetachedChunkExecutor.checkDetachable(this, startID, endID, bodyIDs);
+                if (reason == null) {
+                    DetachedChunkExecutor executor =
+                        new DetachedChunkExecutor(this, startID, endID, bodyIDs, startNode);
+                    ParallelizedChunkContentMaster pccm =
+                        new ParallelizedChunkContentMaster(null, endNode, startNode.getNrRemoteChunks());
+                    for (int i = 0; i < startNode.getNrRemoteChunks(); i++) {
+                        pccm.addParallelChunk(i, executor.getChunk(i));
+                    }
+                    startNode.setChunkMaster(pccm);
+                    executor.start();
+                    return;
+                }
+                LOGGER.debug("Copying loop body of " + startID + " into workflow, can't execute chunks detached: "
+                    + reason);
+            }
             WorkflowManager subwfm = null;
             if (startNode.getNrRemoteChunks() > 0) {
                 subwfm = createAndAddSubWorkflow(exposedInportTypes, new PortType[0], "Parallel Chunks");
@@ -5537,17 +5560,21 @@ public WorkflowFileStoreHandlerRepository getFileStoreHandlerRepository() {
      */
     InternalNodeContainerState computeNewState() {
         assert m_workflowLock.isHeldByCurrentThread();
-        int[] nrNodesInState = new int[InternalNodeContainerState.values().length];
-        int nrNodes = 0;
-        boolean internalNodeHasError = false;
-        for (NodeContainer ncIt : m_workflow.getNodeValues()) {
+        // the counts are maintained by the nodes, only metanodes need to be visited (their state is computed lazily)
+        final NodeStateCounts nodeStateCounts = m_workflow.getNodeStateCounts();
+        int[] nrNodesInState = nodeStateCounts.getNodesInState();
+        boolean internalNodeHasError = nodeStateCounts.hasNodeWithError();
+        for (NodeContainer ncIt : nodeStateCounts.getMetaNodes()) {
             nrNodesInState[ncIt.getInternalState().ordinal()]++;
-            nrNodes++;
             if ((ncIt.getNodeMessage() != null)
                 && (ncIt.getNodeMessage().getMessageType().equals(NodeMessage.Type.ERROR))) {
                 internalNodeHasError = true;
             }
         }
+        int nrNodes = 0;
+        for (int count : nrNodesInState) {
+            nrNodes += count;
+        }
         // set summarization message if any of the internal nodes has an error
         if (internalNodeHasError) {
             setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, "Error in sub flow."));
@@ -6289,6 +6316,53 @@ public Collection<NodeContainer> getNodeContainers() {
         }
     }
 
+    /**
+     * Returns the profiles of the recorded executions of the nodes in this workflow (see
+     * {@link NodeContainer#getExecutionProfiler()}), ordered by their start time. Use {@link NodeExecutionProfiles}
+     * to export them.
+     *
+     * @param recurse whether to include the nodes contained in metanodes and components
+     * @return a new list of profiles
+     * @since 3.6
+     */
+    public List<NodeExecutionProfile> getExecutionProfiles(final boolean recurse) {
+        final List<NodeExecutionProfile> result = new ArrayList<NodeExecutionProfile>();
+        for (NodeContainer nc : getNodeContainersCopy()) {
+            result.addAll(nc.getExecutionProfiler().getProfiles());
+            if (recurse && nc instanceof WorkflowManager) {
+                result.addAll(((WorkflowManager)nc).getExecutionProfiles(true));
+            } else if (recurse && nc instanceof SubNodeContainer) {
+                result.addAll(((SubNodeContainer)nc).getWorkflowManager().getExecutionProfiles(true));
+            }
+        }
+        result.sort(Comparator.comparingLong(NodeExecutionProfile::getStartTime));
+        return result;
+    }
+
+    /**
+     * Discards the recorded execution profiles of all nodes in this workflow, including the nodes contained in
+     * metanodes and components.
+     *
+     * @since 3.6
+     */
+    public void clearExecutionProfiles() {
+        for (NodeContainer nc : getNodeContainersCopy()) {
+            nc.getExecutionProfiler().clear();
+            if (nc instanceof WorkflowManager) {
+                ((WorkflowManager)nc).clearExecutionProfiles();
+            } else if (nc instanceof SubNodeContainer) {
+                ((SubNodeContainer)nc).getWorkflowManager().clearExecutionProfiles();
+            }
+        }
+    }
+
+    /** @return a copy of the nodes in this workflow, which can be iterated without holding the lock. */
+    private List<NodeContainer> getNodeContainersCopy() {
+        try (WorkflowLock lock = lock()) {
+            return new ArrayList<NodeContainer>(m_workflow.getNodeValues());
+        }
+    }
+
     /**
      * @return collection of ConnectionContainer in this WFM
      */
@@ -8440,6 +8514,14 @@ private void setDirtyAll() {
         for (ContainerTable t : m_globalTableRepository.values()) {
             t.ensureOpen();
         }
+        ReferencedFile workflowDirRef = getNodeContainerDirectory();
+        if (workflowDirRef != null) {
+            try {
+                DataContainer.copyTablesReadInPlaceToTemp(workflowDirRef.getFile());
+            } catch (IOException e) {
+                LOGGER.error("Could not copy tables in " + workflowDirRef + " to temp", e);
+            }
+        }
         for (IWriteFileStoreHandler writeFileStoreHandler : m_fileStoreHandlerRepository.getWriteFileStoreHandlers()) {
             try {
                 writeFileStoreHandler.ensureOpenAfterLoad();
@@ -49,21 +49,35 @@
 package org.knime.core.node.workflow.virtual.parchunk;
 
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.WorkflowManager;
 
 /**
  * An object representing the copied content of a chunk that is executed in
- * parallel.
+ * parallel. The chunk is either a copy of the loop body in the workflow or, if
+ * created with {@link #ParallelizedChunkContent(Runnable)}, executed by a copy of
+ * the loop body detached from the workflow, which is reused for several chunks.
  * @author wiswedel, University of Konstanz
  */
 public final class ParallelizedChunkContent {
 
+    /** Execution status of a chunk executed detached from the workflow. */
+    private enum DetachedStatus {
+        QUEUED, EXECUTING, EXECUTED, FAILED
+    }
+
 	private final WorkflowManager m_manager;
 	private final NodeID m_virtualInputID;
 	private final NodeID m_virtualOutputID;
 	private final NodeID[] m_copiedLoopContent;
 
+	/** Called to cancel a detached chunk, null if the chunk is part of the workflow. */
+	private final Runnable m_detachedCancelHandler;
+	private volatile DetachedStatus m_detachedStatus;
+	private volatile PortObject[] m_detachedOutput;
+	private volatile ParallelizedChunkContentMaster m_detachedListener;
+
 	/**
 	 * @param manager
 	 * @param virtualInputID
@@ -84,10 +98,71 @@ public ParallelizedChunkContent(final WorkflowManager manager,
 		m_virtualInputID = virtualInputID;
 		m_virtualOutputID = virtualOutputID;
 		m_copiedLoopContent = copiedLoopContent;
+		m_detachedCancelHandler = null;
 	}
 
+    /**
+     * Creates a chunk that is not copied into the workflow but executed by a copy of the loop body that is detached
+     * from the workflow. The executor reports the progress via {@link #setDetachedExecuting()} and
+     * {@link #setDetachedExecuted(PortObject[])}. The chunk is queued initially.
+     *
+     * @param cancelHandler called when the execution of the chunk is to be canceled
+     * @noreference This constructor is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public ParallelizedChunkContent(final Runnable cancelHandler) {
+        m_manager = null;
+        m_virtualInputID = null;
+        m_virtualOutputID = null;
+        m_copiedLoopContent = new NodeID[0];
+        m_detachedCancelHandler = CheckUtils.checkArgumentNotNull(cancelHandler, "Cancel handler must not be null");
+        m_detachedStatus = DetachedStatus.QUEUED;
+    }
+
+    /**
+     * @return true if the chunk is executed detached from the workflow (has no nodes in the workflow)
+     * @since 3.6
+     */
+    public boolean isDetached() {
+        return m_detachedCancelHandler != null;
+    }
+
+    /**
+     * Called by the executor of a detached chunk when its execution starts.
+     *
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public void setDetachedExecuting() {
+        CheckUtils.checkState(isDetached(), "Chunk is not executed detached");
+        setDetachedStatus(DetachedStatus.EXECUTING);
+    }
+
+    /**
+     * Called by the executor of a detached chunk when its execution has finished.
+     *
+     * @param output the objects at the end node of this chunk (excluding the flow variable port), null if the
+     *            execution failed or was canceled
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 3.6
+     */
+    public void setDetachedExecuted(final PortObject[] output) {
+        CheckUtils.checkState(isDetached(), "Chunk is not executed detached");
+        m_detachedOutput = output;
+        setDetachedStatus(output == null ? DetachedStatus.FAILED : DetachedStatus.EXECUTED);
+    }
+
+    private void setDetachedStatus(final DetachedStatus status) {
+        m_detachedStatus = status;
+        ParallelizedChunkContentMaster listener = m_detachedListener;
+        if (listener != null) {
+            listener.detachedChunkStatusChanged();
+        }
+    }
+
 	/**
-	 * Trigger execution of branch for this chunk.
+	 * Trigger execution of branch for this chunk. Ignored for detached chunks,
+	 * they are queued upon creation.
 	 */
 	public void executeChunk() {
 	    if (m_manager != null) {
@@ -96,14 +171,14 @@ public void executeChunk() {
 	}
 
 	/**
-	 * @return the virtualOutputID
+	 * @return the virtualOutputID, null for detached chunks
 	 */
 	public NodeID getVirtualOutputID() {
 		return m_virtualOutputID;
 	}
 
 	/**
-	 * @return the copiedLoopContent
+	 * @return the copiedLoopContent, empty for detached chunks
 	 */
 	public NodeID[] getCopiedLoopContent() {
 		return m_copiedLoopContent;
@@ -114,6 +189,10 @@ public NodeID[] getCopiedLoopContent() {
      */
     public void registerLoopEndStateChangeListener(
             final ParallelizedChunkContentMaster pccm) {
+        if (isDetached()) {
+            m_detachedListener = pccm;
+            return;
+        }
         m_manager.getNodeContainer(m_virtualOutputID)
                 .addNodeStateChangeListener(pccm);
     }
@@ -123,6 +202,10 @@ public void registerLoopEndStateChangeListener(
      */
     public void removeLoopEndStateChangeListener(
             final ParallelizedChunkContentMaster pccm) {
+        if (isDetached()) {
+            m_detachedListener = null;
+            return;
+        }
         m_manager.getNodeContainer(m_virtualOutputID)
                 .removeNodeStateChangeListener(pccm);
     }
@@ -144,6 +227,9 @@ public void removeAllNodesFromWorkflow() {
      * @return true if chunk is completely executed.
      */
     public boolean isExecuted() {
+        if (isDetached()) {
+            return m_detachedStatus == DetachedStatus.EXECUTED;
+        }
         return m_manager.getNodeContainer(m_virtualOutputID).getNodeContainerState().isExecuted();
     }
 
@@ -151,6 +237,10 @@ public boolean isExecuted() {
      * @return true if chunk is still being executed (or waiting to be...)
      */
     public boolean executionInProgress() {
+        if (isDetached()) {
+            DetachedStatus status = m_detachedStatus;
+            return status == DetachedStatus.QUEUED || status == DetachedStatus.EXECUTING;
+        }
         return m_manager.getNodeContainer(m_virtualOutputID).getNodeContainerState().isExecutionInProgress();
     }
 
@@ -158,6 +248,10 @@ public boolean executionInProgress() {
      * Cancel execution.
      */
     public void cancelExecution() {
+        if (isDetached()) {
+            m_detachedCancelHandler.run();
+            return;
+        }
         m_manager.cancelExecution(m_manager.getNodeContainer(m_virtualInputID));
         for (NodeID id : m_copiedLoopContent) {
             m_manager.cancelExecution(m_manager.getNodeContainer(id));
@@ -170,6 +264,9 @@ public void cancelExecution() {
      * @return array with PortObjects at the end node of this chunk.
      */
     public PortObject[] getOutportContent() {
+        if (isDetached()) {
+            return m_detachedOutput;
+        }
         VirtualParallelizedChunkPortObjectOutNodeModel vpoonm = m_manager.castNodeModel(
                 m_virtualOutputID, VirtualParallelizedChunkPortObjectOutNodeModel.class);
         return vpoonm.getOutObjects();
@@ -74,6 +74,7 @@ public class ParallelizedChunkContentMaster implements NodeStateChangeListener {
      * the chunks are located in.
      *
      * @param wfm the workflowmanager holding the chunks - can be <code>null</code> if no 'remote' chunks are available
+     * or if the chunks are executed detached from the workflow
      * @param endNode corresponding end node of the loop
      * @param chunkCount the number of chunks.
      */
@@ -192,6 +193,10 @@ public void cleanupChunks() {
                 ParallelizedChunkContent pbc = m_chunks[i];
                 if (pbc != null) {
                     pbc.removeLoopEndStateChangeListener(this);
+                    if (pbc.isDetached() && pbc.executionInProgress()) {
+                        // detached chunks are not removed with the nodes, stop them explicitly
+                        pbc.cancelExecution();
+                    }
                     m_chunks[i] = null;
                 }
             }
@@ -218,4 +223,10 @@ public void stateChanged(final NodeStateEvent state) {
         m_endNode.updateStatus();
     }
 
+    /** Called by a chunk executed detached from the workflow (which has no node to listen to) when its status
+     * changed. */
+    void detachedChunkStatusChanged() {
+        m_endNode.updateStatus();
+    }
+
 }
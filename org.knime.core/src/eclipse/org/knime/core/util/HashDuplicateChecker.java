@@ -0,0 +1,402 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Checks for duplicates in an (almost) arbitrary number of strings, e.g. the row keys of a table. In contrast to the
+ * {@link DuplicateChecker} the keys are not sorted on disk. The checking is done in two stages: the first keys are
+ * kept in a hash set (as in the {@link DuplicateChecker}); if there are more keys than fit into the set, all further
+ * keys are only recorded in a bloom filter (about two bytes per key) and appended to a temporary file. A key that is
+ * not contained in the filter is known to be new. Only the keys hitting the filter (duplicates and a small fraction of
+ * false positives) are kept in memory and, if any, checked for duplicates in {@link #checkForDuplicates()} by reading
+ * the file once.
+ *
+ * <p>
+ * The filters together use at most {@link #MAX_TOTAL_FILTER_BITS} bits. If more are needed, or if the memory gets low
+ * (see {@link MemoryAlertSystem#isMemoryLow()}), the filters are dropped and all keys are passed on to a sort based
+ * {@link DuplicateChecker}, whose memory consumption is bounded.
+ *
+ * <p>
+ * Note: This implementation is not thread-safe, it's supposed to be used by a single thread only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class HashDuplicateChecker {
+
+    /** Bits in the bloom filters per expected key, giving a false positive rate of about 0.05% per filter. */
+    private static final int BITS_PER_KEY = 16;
+
+    /** Number of bits set per key, optimal for {@link #BITS_PER_KEY}. */
+    private static final int HASH_FUNCTION_COUNT = 11;
+
+    /** Maximum size of a single bloom filter (32MB); further filters are added when it's full. */
+    private static final int MAX_FILTER_BITS = 1 << 28;
+
+    /** Maximum size of all bloom filters together (64MB), about 33 million keys. */
+    private static final long MAX_TOTAL_FILTER_BITS = 1L << 29;
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    private final int m_maxKeysInMemory;
+
+    private final long m_maxTotalFilterBits;
+
+    /** The keys, as long as there are less than {@link #m_maxKeysInMemory}; null afterwards. */
+    private Set<String> m_keys = new HashSet<String>();
+
+    /** The filters, the last one receives new keys. */
+    private final List<BloomFilter> m_filters = new ArrayList<BloomFilter>();
+
+    /** Keys hitting the filter, to be checked against all keys in the file. */
+    private final Set<String> m_candidates = new HashSet<String>();
+
+    private File m_keyFile;
+
+    private DataOutputStream m_keyOut;
+
+    private long m_keyFileCount;
+
+    /** Number of bits of all filters. */
+    private long m_filterBits;
+
+    /** Checks all keys once the filters exceed their budget or memory got low, null before. */
+    private DuplicateChecker m_sortChecker;
+
+    /**
+     * Creates a new duplicate checker, keeping up to {@link DuplicateChecker#MAX_CHUNK_SIZE} keys in memory.
+     */
+    public HashDuplicateChecker() {
+        this(DuplicateChecker.MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param maxKeysInMemory the maximum number of keys kept in memory before the bloom filter is used
+     * @throws IllegalArgumentException If the argument is not positive
+     */
+    public HashDuplicateChecker(final int maxKeysInMemory) {
+        this(maxKeysInMemory, MAX_TOTAL_FILTER_BITS);
+    }
+
+    /**
+     * Creates a new duplicate checker with a custom budget for the bloom filters, used by the tests.
+     *
+     * @param maxKeysInMemory the maximum number of keys kept in memory before the bloom filter is used
+     * @param maxTotalFilterBits the maximum number of bits of all bloom filters
+     * @throws IllegalArgumentException If an argument is not positive
+     */
+    HashDuplicateChecker(final int maxKeysInMemory, final long maxTotalFilterBits) {
+        if (maxKeysInMemory <= 0) {
+            throw new IllegalArgumentException("Number of keys must be positive: " + maxKeysInMemory);
+        }
+        if (maxTotalFilterBits <= 0) {
+            throw new IllegalArgumentException("Number of filter bits must be positive: " + maxTotalFilterBits);
+        }
+        m_maxKeysInMemory = maxKeysInMemory;
+        m_maxTotalFilterBits = maxTotalFilterBits;
+    }
+
+    /**
+     * Adds a new key to the duplicate checker.
+     *
+     * @param s the key
+     * @throws DuplicateKeyException if a duplicate has been detected
+     * @throws IOException if an I/O error occurs while writing the key to disk
+     */
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        if (m_keys != null) {
+            // keys may be just wrappers of very large strings (bug #1737)
+            if (!m_keys.add(new String(s))) {
+                throw new DuplicateKeyException(s);
+            }
+            if (m_keys.size() >= m_maxKeysInMemory) {
+                switchToFilter();
+            }
+            return;
+        }
+        if (m_sortChecker == null && MemoryAlertSystem.getInstance().isMemoryLow()) {
+            switchToSortChecker();
+        }
+        if (m_sortChecker != null) {
+            m_sortChecker.addKey(s);
+            return;
+        }
+        final long hash = hash(s);
+        if (mightContain(hash) && !m_candidates.add(new String(s))) {
+            // a candidate is only added if it hit the filter, hence the key has been added twice before
+            throw new DuplicateKeyException(s);
+        }
+        addToFilterAndFile(s, hash);
+    }
+
+    /**
+     * Checks for duplicates in all added keys. This method must only be called once after all keys have been added.
+     *
+     * @throws DuplicateKeyException if a duplicate key has been detected
+     * @throws IOException if an I/O error occurs
+     */
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_sortChecker != null) {
+            m_sortChecker.checkForDuplicates();
+            return;
+        }
+        if (m_keyOut == null) {
+            // all keys fit into memory and have been checked in addKey
+            return;
+        }
+        m_keyOut.close();
+        m_keyOut = null;
+        if (m_candidates.isEmpty()) {
+            return;
+        }
+        final Set<String> seenCandidates = new HashSet<String>();
+        try (DataInputStream in =
+            new DataInputStream(new BufferedInputStream(new FileInputStream(m_keyFile)))) {
+            for (long i = 0; i < m_keyFileCount; i++) {
+                final String key = in.readUTF();
+                if (m_candidates.contains(key) && !seenCandidates.add(key)) {
+                    throw new DuplicateKeyException(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the checker, i.e. removes the temporary file and all keys in memory.
+     */
+    public void clear() {
+        if (m_keyOut != null) {
+            try {
+                m_keyOut.close();
+            } catch (IOException ioe) {
+                // ignore, file is deleted anyway
+            }
+            m_keyOut = null;
+        }
+        if (m_keyFile != null) {
+            m_keyFile.delete();
+            m_keyFile = null;
+        }
+        m_keyFileCount = 0;
+        m_keys = new HashSet<String>();
+        m_filters.clear();
+        m_filterBits = 0;
+        m_candidates.clear();
+        if (m_sortChecker != null) {
+            m_sortChecker.clear();
+            m_sortChecker = null;
+        }
+    }
+
+    /** Moves the keys in memory into the filter and the file. */
+    private void switchToFilter() throws DuplicateKeyException, IOException {
+        m_keyFile = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
+        m_keyOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_keyFile)));
+        final Set<String> keys = m_keys;
+        m_keys = null;
+        for (String key : keys) {
+            addToFilterAndFile(key, hash(key));
+        }
+    }
+
+    /**
+     * Passes all keys written to the file on to a sort based duplicate checker, which checks all further keys, and
+     * releases the filters.
+     */
+    private void switchToSortChecker() throws DuplicateKeyException, IOException {
+        m_keyOut.close();
+        m_keyOut = null;
+        m_filters.clear();
+        m_filterBits = 0;
+        m_candidates.clear();
+        m_sortChecker = new DuplicateChecker();
+        try (DataInputStream in =
+            new DataInputStream(new BufferedInputStream(new FileInputStream(m_keyFile)))) {
+            for (long i = 0; i < m_keyFileCount; i++) {
+                m_sortChecker.addKey(in.readUTF());
+            }
+        }
+        m_keyFile.delete();
+        m_keyFile = null;
+        m_keyFileCount = 0;
+    }
+
+    private void addToFilterAndFile(final String s, final long hash) throws DuplicateKeyException, IOException {
+        if (m_sortChecker != null) {
+            // switched while moving the keys in memory into the filter
+            m_sortChecker.addKey(s);
+            return;
+        }
+        BloomFilter filter = m_filters.isEmpty() ? null : m_filters.get(m_filters.size() - 1);
+        if (filter == null || filter.isFull()) {
+            // filters grow geometrically, starting at four times the number of keys kept in memory
+            final long bits = filter == null ? 4L * m_maxKeysInMemory * BITS_PER_KEY : 2L * filter.m_bits.length * 64;
+            final long size = BloomFilter.getSize((int)Math.min(bits, MAX_FILTER_BITS));
+            if (filter != null && m_filterBits + size > m_maxTotalFilterBits) {
+                // the first filter is always created, it's small compared to the keys in memory before
+                switchToSortChecker();
+                m_sortChecker.addKey(s);
+                return;
+            }
+            filter = new BloomFilter(size);
+            m_filters.add(filter);
+            m_filterBits += size;
+        }
+        filter.add(hash);
+        m_keyOut.writeUTF(s);
+        m_keyFileCount++;
+    }
+
+    private boolean mightContain(final long hash) {
+        for (BloomFilter filter : m_filters) {
+            if (filter.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 64 bit hash of the string (FNV-1a on the chars, followed by the MurmurHash3 finalizer). */
+    private static long hash(final String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** Bloom filter on 64 bit hashes, bit positions are derived from the two halves of the hash. */
+    private static final class BloomFilter {
+
+        private final long[] m_bits;
+
+        private final long m_mask;
+
+        private final long m_capacity;
+
+        private long m_count;
+
+        /** @param size number of bits, see {@link #getSize(int)} */
+        BloomFilter(final long size) {
+            m_bits = new long[(int)(size >>> 6)];
+            m_mask = size - 1;
+            m_capacity = size / BITS_PER_KEY;
+        }
+
+        /**
+         * @param bitCount the requested number of bits
+         * @return the number of bits, rounded up to a power of two
+         */
+        static long getSize(final int bitCount) {
+            return Math.max(64, Long.highestOneBit(bitCount - 1L) << 1);
+        }
+
+        boolean isFull() {
+            return m_count >= m_capacity;
+        }
+
+        void add(final long hash) {
+            final long h2 = (hash >>> 32) | 1L;
+            long bit = hash;
+            for (int i = 0; i < HASH_FUNCTION_COUNT; i++, bit += h2) {
+                final long index = bit & m_mask;
+                m_bits[(int)(index >>> 6)] |= 1L << index;
+            }
+            m_count++;
+        }
+
+        boolean mightContain(final long hash) {
+            final long h2 = (hash >>> 32) | 1L;
+            long bit = hash;
+            for (int i = 0; i < HASH_FUNCTION_COUNT; i++, bit += h2) {
+                final long index = bit & m_mask;
+                if ((m_bits[(int)(index >>> 6)] & (1L << index)) == 0L) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void finalize() throws Throwable {
+        super.finalize();
+        clear();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.core.util;
+
+/**
+ * Optional interface for tasks ({@link Runnable}s or {@link java.util.concurrent.Callable}s) submitted to a
+ * {@link ThreadPool}, which lets the pool order and pack the queued tasks. Tasks with a higher
+ * {@linkplain #getPriority() priority} are started before tasks with a lower priority, tasks with the same priority
+ * are started in the order they have been submitted. A task is only started if the threads and the memory it declares
+ * are still available in the pool; otherwise other (smaller) tasks further back in the queue may be started first.
+ *
+ * <p>
+ * The values are read once when the task is submitted.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public interface ScheduledTask {
+
+    /**
+     * Returns the priority of the task, tasks with a higher priority are started first. The default is 0.
+     *
+     * @return the priority
+     */
+    default long getPriority() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of threads (cores) the task keeps busy while running, including the thread running the task
+     * itself. Threads the task takes out of the same pool (e.g. of a {@linkplain ThreadPool#createSubPool() sub pool})
+     * must not be counted. The value is limited to the maximum number of threads of the pool. The default is 1.
+     *
+     * @return the number of threads, at least 1
+     */
+    default int getThreadCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the estimated number of bytes of memory the task allocates while running. The total of all running
+     * tasks is kept below the {@linkplain ThreadPool#getMaxMemory() memory limit} of the pool, unless no other task
+     * with a memory footprint is running. The default is 0, i.e. the memory is not limiting the task.
+     *
+     * @return the memory footprint in bytes
+     */
+    default long getMemoryFootprint() {
+        return 0;
+    }
+}
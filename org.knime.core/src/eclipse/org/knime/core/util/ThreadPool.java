@@ -48,9 +48,12 @@
  */
 package org.knime.core.util;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -63,6 +66,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.NodeLogger;
@@ -70,19 +74,49 @@
 /**
  * Implements a sophisticated thread pool.
  *
+ * <p>
+ * Queued tasks are started in the order of their {@linkplain ScheduledTask#getPriority() priority} and, within the
+ * same priority, in the order they have been submitted. Tasks implementing {@link ScheduledTask} may also declare the
+ * number of threads and the memory they use, which is taken into account when deciding whether a task can be
+ * started.
+ *
+ * <p>
+ * A queued task that needs more than one thread or declares a memory footprint may be passed by smaller tasks
+ * submitted after it as long as it does not fit. Once this has happened {@value #MAX_BYPASSES} times, no further tasks
+ * are started ahead of it until it has been started; only tasks submitted from within running tasks are exempt, as
+ * the running task may wait for them.
+ *
  * @author Thorsten Meinl, University of Konstanz
  */
 public class ThreadPool {
+    /**
+     * Number of times a queued task that needs more than one thread or declares a memory footprint may be passed by
+     * tasks submitted after it, before the free resources are reserved for it.
+     */
+    static final int MAX_BYPASSES = 8;
 
     private class MyFuture<T> extends FutureTask<T> {
         private final CountDownLatch m_startWaiter = new CountDownLatch(1);
         private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
 
+        private long m_priority;
+
+        private int m_threadCount = 1;
+
+        private long m_memory;
+
+        /** Whether this task has been submitted from within a running task. */
+        private final boolean m_isNested = Thread.currentThread() instanceof Worker;
+
+        /** Number of tasks started ahead of this one while queued, guarded by the queue. */
+        private int m_bypassCount;
+
         /**
          * @see FutureTask#FutureTask(Callable)
          */
         public MyFuture(final Callable<T> callable) {
             super(ThreadUtils.callableWithContext(callable, false));
+            initSchedule(callable);
         }
 
         /**
@@ -99,6 +133,24 @@ public MyFuture(final Callable<T> callable) {
          */
         public MyFuture(final Runnable runnable, final T result) {
             super(ThreadUtils.runnableWithContext(runnable, false), result);
+            initSchedule(runnable);
+        }
+
+        private void initSchedule(final Object task) {
+            if (task instanceof ScheduledTask) {
+                ScheduledTask st = (ScheduledTask)task;
+                m_priority = st.getPriority();
+                m_threadCount = Math.max(1, st.getThreadCount());
+                m_memory = Math.max(0, st.getMemoryFootprint());
+            }
+        }
+
+        private boolean isLarge() {
+            return m_threadCount > 1 || m_memory > 0;
+        }
+
+        private boolean isReserving() {
+            return isLarge() && m_bypassCount >= MAX_BYPASSES && !isCancelled();
         }
 
         /**
@@ -203,6 +255,11 @@ private static class Worker extends Thread {
 
         private ThreadPool m_startedFrom;
 
+        /** Threads and memory accounted for the current task, still valid in {@link ThreadPool#workerFinished(Worker)}. */
+        private int m_threadCount;
+
+        private long m_memory;
+
         private boolean m_stopped;
 
         // set context class loader after each runnable#run -- we had problems with some cxf web service client that
@@ -275,16 +332,19 @@ public void run() {
          *
          * @param r the Runnable to run
          * @param pool the pool from which the worker is taken from
+         * @param threadCount the number of threads accounted for the runnable
          * @return <code>true</code> if the worker has been woken up,
          *         <code>false</code> if not because the thread has already died
          */
-        public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
+        public boolean wakeup(final MyFuture<?> r, final ThreadPool pool, final int threadCount) {
             synchronized (m_lock) {
                 if (m_stopped || !isAlive()) {
                     return false;
                 }
                 m_runnable = r;
                 m_startedFrom = pool;
+                m_threadCount = threadCount;
+                m_memory = r.m_memory;
                 m_lock.notifyAll();
             }
             return true;
@@ -301,10 +361,18 @@ public boolean wakeup(final MyFuture<?> r, final ThreadPool pool) {
 
     private final ThreadPool m_parent;
 
-    private final Queue<MyFuture<?>> m_queuedFutures;
+    private final AtomicLong m_maxMemory = new AtomicLong(Runtime.getRuntime().maxMemory());
+
+    private final LinkedList<MyFuture<?>> m_queuedFutures;
 
     private final Set<Worker> m_runningWorkers = new HashSet<Worker>();
 
+    /** Sum of the thread counts of the running workers, guarded by {@link #m_runningWorkers}. */
+    private int m_runningThreadCount;
+
+    /** Sum of the memory of the running workers (root pool only), guarded by {@link #m_runningWorkers}. */
+    private long m_runningMemory;
+
     /**
      * Creates a new ThreadPool with a maximum number of threads.
      *
@@ -337,22 +405,92 @@ protected ThreadPool(final int maxThreads, final ThreadPool parent) {
     }
 
     private boolean checkQueue() {
+        boolean started = false;
         synchronized (m_queuedFutures) {
+            final ThreadPool root = getRoot();
+            // large tasks earlier in the queue that did not fit in this pass
+            final List<MyFuture<?>> passed = new ArrayList<MyFuture<?>>();
+            boolean reserved = false;
             for (Iterator<MyFuture<?>> it = m_queuedFutures.iterator(); it
                     .hasNext();) {
                 MyFuture<?> f = it.next();
                 if (f.isCancelled()) {
                     it.remove();
-                } else {
+                } else if (!reserved || f.m_isNested) {
                     ThreadPool pool = f.getPool();
                     if (pool.wakeupWorker(f, pool) != null) {
                         it.remove();
-                        return true;
+                        started = true;
+                        for (MyFuture<?> p : passed) {
+                            p.m_bypassCount++;
+                        }
+                        // a finished task may free more than one thread, continue until all threads are in use
+                        if (!root.hasFreeThread()) {
+                            return true;
+                        }
+                    } else if (f.isReserving()) {
+                        reserved = true;
+                    } else if (f.isLarge()) {
+                        passed.add(f);
                     }
                 }
             }
         }
-        return false;
+        return started;
+    }
+
+    /**
+     * Starts a newly submitted task if a thread is free and no queued task it would be queued behind has reserved the
+     * free resources. Must be called while holding the lock on the queue.
+     *
+     * @return <code>true</code> if the task has been started, <code>false</code> otherwise
+     */
+    private boolean startImmediately(final MyFuture<?> task) {
+        if (!task.m_isNested) {
+            for (MyFuture<?> f : m_queuedFutures) {
+                if ((f.m_priority >= task.m_priority) && f.isReserving()) {
+                    return false;
+                }
+            }
+        }
+        if (wakeupWorker(task, this) == null) {
+            return false;
+        }
+        for (MyFuture<?> f : m_queuedFutures) {
+            if ((f.m_priority >= task.m_priority) && f.isLarge()) {
+                f.m_bypassCount++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a task to the queue, behind all tasks with the same or a higher priority. Must be called while holding the
+     * lock on the queue.
+     */
+    private void addToQueue(final MyFuture<?> f) {
+        ListIterator<MyFuture<?>> it = m_queuedFutures.listIterator(m_queuedFutures.size());
+        while (it.hasPrevious()) {
+            if (it.previous().m_priority >= f.m_priority) {
+                it.next();
+                break;
+            }
+        }
+        it.add(f);
+    }
+
+    private ThreadPool getRoot() {
+        ThreadPool pool = this;
+        while (pool.m_parent != null) {
+            pool = pool.m_parent;
+        }
+        return pool;
+    }
+
+    private boolean hasFreeThread() {
+        synchronized (m_runningWorkers) {
+            return m_runningThreadCount - m_invisibleThreads.get() < m_maxThreads.get();
+        }
     }
 
     /**
@@ -408,8 +546,8 @@ public <T> Future<T> enqueue(final Callable<T> task) {
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+            if (!startImmediately(ftask)) {
+                addToQueue(ftask);
             }
         }
 
@@ -450,8 +588,8 @@ public Future<?> enqueue(final Runnable r) {
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
-                m_queuedFutures.add(ftask);
+            if (!startImmediately(ftask)) {
+                addToQueue(ftask);
             }
         }
 
@@ -487,7 +625,7 @@ public <T> Future<T> trySubmit(final Callable<T> t) {
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
+            if (!startImmediately(ftask)) {
                 decrementPendingJobs();
                 return null;
             }
@@ -513,7 +651,7 @@ public Future<?> trySubmit(final Runnable r) {
 
         synchronized (m_queuedFutures) {
             incrementPendingJobs();
-            if (wakeupWorker(ftask, this) == null) {
+            if (!startImmediately(ftask)) {
                 decrementPendingJobs();
                 return null;
             }
@@ -523,22 +661,35 @@ public Future<?> trySubmit(final Runnable r) {
     }
 
     private Worker wakeupWorker(final MyFuture<?> task, final ThreadPool pool) {
+        // a task never requests more threads than any of the pools it runs in has; the same count is accounted for
+        // in all pools and released again in workerFinished
+        int threadCount = task.m_threadCount;
+        for (ThreadPool p = pool; p != null; p = p.m_parent) {
+            threadCount = Math.min(threadCount, p.m_maxThreads.get());
+        }
+        return wakeupWorker(task, pool, Math.max(1, threadCount));
+    }
+
+    private Worker wakeupWorker(final MyFuture<?> task, final ThreadPool pool, final int threadCount) {
         synchronized (m_runningWorkers) {
-            if (m_runningWorkers.size() - m_invisibleThreads.get() < m_maxThreads
-                    .get()) {
+            if (m_runningThreadCount - m_invisibleThreads.get() + threadCount <= m_maxThreads.get()
+                    && (m_parent != null || task.m_memory == 0 || m_runningMemory == 0
+                        || m_runningMemory + task.m_memory <= m_maxMemory.get())) {
                 Worker w;
                 if (m_parent == null) {
                     w = m_availableWorkers.poll();
-                    while ((w == null) || !w.wakeup(task, pool)) {
+                    while ((w == null) || !w.wakeup(task, pool, threadCount)) {
                         w = new Worker();
                         w.start();
                     }
+                    m_runningMemory += task.m_memory;
                 } else {
-                    w = m_parent.wakeupWorker(task, pool);
+                    w = m_parent.wakeupWorker(task, pool, threadCount);
                 }
 
                 if (w != null) {
                     m_runningWorkers.add(w);
+                    m_runningThreadCount += threadCount;
                 }
                 return w;
             } else {
@@ -558,12 +709,44 @@ public int getMaxThreads() {
 
     /**
      * Returns the number of currently running threads in this pool and its sub
-     * pools.
+     * pools. Tasks that declare to use more than one thread (see
+     * {@link ScheduledTask#getThreadCount()}) are counted accordingly.
      *
      * @return the number of running threads
      */
     public int getRunningThreads() {
-        return m_runningWorkers.size() - m_invisibleThreads.get();
+        synchronized (m_runningWorkers) {
+            return m_runningThreadCount - m_invisibleThreads.get();
+        }
+    }
+
+    /**
+     * Returns the number of bytes the running tasks may use in total, see
+     * {@link ScheduledTask#getMemoryFootprint()}. The limit applies to the
+     * root pool including all its sub pools.
+     *
+     * @return the memory limit in bytes
+     * @since 3.6
+     */
+    public long getMaxMemory() {
+        return getRoot().m_maxMemory.get();
+    }
+
+    /**
+     * Sets the number of bytes the running tasks may use in total, see
+     * {@link ScheduledTask#getMemoryFootprint()}. The default is the maximum
+     * heap size. If the new value is bigger than the old one, waiting jobs
+     * will be started immediately.
+     *
+     * @param newValue the new memory limit in bytes
+     * @since 3.6
+     */
+    public void setMaxMemory(final long newValue) {
+        if (newValue < 0) {
+            throw new IllegalArgumentException("Memory must be >= 0");
+        }
+        getRoot().m_maxMemory.set(newValue);
+        checkQueue();
     }
 
     /**
@@ -758,11 +941,14 @@ protected void workerFinished(final Worker w) {
         if (m_parent != null) {
             synchronized (m_runningWorkers) {
                 m_runningWorkers.remove(w);
+                m_runningThreadCount -= w.m_threadCount;
             }
             m_parent.workerFinished(w);
         } else { // this is the root pool
             synchronized (m_runningWorkers) {
                 m_runningWorkers.remove(w);
+                m_runningThreadCount -= w.m_threadCount;
+                m_runningMemory -= w.m_memory;
                 m_availableWorkers.add(w);
             }
             if (checkQueue()) {
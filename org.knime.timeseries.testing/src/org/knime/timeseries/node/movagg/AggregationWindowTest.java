@@ -0,0 +1,267 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.timeseries.node.movagg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.OperatorColumnSettings;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.MaxOperator;
+import org.knime.base.data.aggregation.general.MinOperator;
+import org.knime.base.data.aggregation.general.PercentOperator;
+import org.knime.base.data.aggregation.numerical.GeometricStdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.MeanOperator;
+import org.knime.base.data.aggregation.numerical.MedianOperator;
+import org.knime.base.data.aggregation.numerical.ProductOperator;
+import org.knime.base.data.aggregation.numerical.RangeOperator;
+import org.knime.base.data.aggregation.numerical.StdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.base.data.aggregation.numerical.VarianceOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+
+/**
+ * Compares the results of the {@link AggregationWindow} with the results of operators that aggregate all rows of the
+ * window anew, for all mergeable operators and the ways the {@link MovingAggregationTableFactory} moves the window.
+ * Floating point results are compared with a relative tolerance, as merging partial results changes the order in
+ * which the values are summed up.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AggregationWindowTest {
+
+    private static final int ROW_COUNT = 60;
+
+    private static final DataColumnSpec DOUBLE_SPEC = new DataColumnSpecCreator("Double", DoubleCell.TYPE).createSpec();
+
+    private static final DataColumnSpec INT_SPEC = new DataColumnSpecCreator("Int", IntCell.TYPE).createSpec();
+
+    private List<DataRow> m_rows;
+
+    /** The operators of the window created last and the columns they aggregate. */
+    private AggregationOperator[] m_ops;
+
+    private int[] m_colIdxs;
+
+    /** Creates rows with a double and an int column, both with missing values, and positive values only. */
+    @Before
+    public void setUp() {
+        final Random random = new Random(42);
+        m_rows = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final DataCell d = i % 5 == 2 ? DataType.getMissingCell() : new DoubleCell(0.5 + random.nextDouble());
+            // a run of missing values fills complete windows
+            final DataCell n = i % 7 == 0 || (i >= 20 && i < 26) ? DataType.getMissingCell()
+                : new IntCell(1 + random.nextInt(100));
+            m_rows.add(new DefaultRow("Row" + i, d, n));
+        }
+    }
+
+    /**
+     * Backward windows of length 1, of a length at which the window is always full, and longer than the input.
+     */
+    @Test
+    public void testBackward() {
+        for (final int length : new int[]{1, 2, 7, ROW_COUNT, ROW_COUNT + 5}) {
+            final AggregationWindow window = createWindow(length);
+            for (final DataRow row : m_rows) {
+                window.add(row);
+                checkResults(window, "backward " + length);
+                if (window.size() >= length) {
+                    window.removeFirst();
+                }
+            }
+        }
+    }
+
+    /**
+     * Center windows, also with an even length.
+     */
+    @Test
+    public void testCenter() {
+        for (final int length : new int[]{1, 2, 3, 8, ROW_COUNT, ROW_COUNT + 5}) {
+            final AggregationWindow window = createWindow(length);
+            int centerIdx = -1;
+            for (final DataRow row : m_rows) {
+                window.add(row);
+                centerIdx = window.size() - length / 2 - 1;
+                if (centerIdx < 0) {
+                    continue;
+                }
+                checkResults(window, "center " + length);
+                if (window.size() >= length) {
+                    window.removeFirst();
+                }
+            }
+            while (window.size() > centerIdx) {
+                checkResults(window, "center " + length);
+                window.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Forward windows, including the shrinking windows at the end of the input.
+     */
+    @Test
+    public void testForward() {
+        for (final int length : new int[]{1, 2, 7, ROW_COUNT, ROW_COUNT + 5}) {
+            final AggregationWindow window = createWindow(length);
+            for (final DataRow row : m_rows) {
+                window.add(row);
+                if (window.size() < length) {
+                    continue;
+                }
+                checkResults(window, "forward " + length);
+                window.removeFirst();
+            }
+            while (!window.isEmpty()) {
+                checkResults(window, "forward " + length);
+                window.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * A window that is filled to its capacity, emptied completely and filled again.
+     */
+    @Test
+    public void testEmptyAndRefill() {
+        final int length = 9;
+        final AggregationWindow window = createWindow(length);
+        int next = 0;
+        for (int round = 0; round < 3; round++) {
+            while (window.size() < length) {
+                window.add(m_rows.get(next++));
+                checkResults(window, "refill round " + round);
+            }
+            while (!window.isEmpty()) {
+                window.removeFirst();
+                checkResults(window, "empty round " + round);
+            }
+        }
+    }
+
+    /** @return a window with every mergeable operator, and a median as not mergeable one, on both columns */
+    private AggregationWindow createWindow(final int capacity) {
+        final List<AggregationOperator> ops = new ArrayList<>();
+        final List<Integer> colIdxs = new ArrayList<>();
+        final GlobalSettings settings = GlobalSettings.builder().setNoOfRows(ROW_COUNT).build();
+        final DataColumnSpec[] specs = new DataColumnSpec[]{DOUBLE_SPEC, INT_SPEC};
+        for (int colIdx = 0; colIdx < specs.length; colIdx++) {
+            for (final boolean inclMissing : new boolean[]{false, true}) {
+                final OperatorColumnSettings colSettings = new OperatorColumnSettings(inclMissing, specs[colIdx]);
+                final AggregationOperator[] colOps = new AggregationOperator[]{
+                    new SumOperator(settings, colSettings), new MeanOperator(settings, colSettings),
+                    new VarianceOperator(settings, colSettings), new StdDeviationOperator(settings, colSettings),
+                    new GeometricStdDeviationOperator(settings, colSettings),
+                    new ProductOperator(settings, colSettings), new CountOperator(settings, colSettings),
+                    new PercentOperator(settings, colSettings), new MinOperator(settings, colSettings),
+                    new MaxOperator(settings, colSettings), new RangeOperator(settings, colSettings),
+                    new MedianOperator(settings, colSettings)};
+                for (final AggregationOperator op : colOps) {
+                    assertTrue(op.getLabel() + " not mergeable",
+                        op.isMergeable() || op instanceof MedianOperator);
+                    ops.add(op);
+                    colIdxs.add(colIdx);
+                }
+            }
+        }
+        m_ops = ops.toArray(new AggregationOperator[0]);
+        m_colIdxs = new int[colIdxs.size()];
+        for (int i = 0; i < m_colIdxs.length; i++) {
+            m_colIdxs[i] = colIdxs.get(i);
+        }
+        return new AggregationWindow(m_ops, m_colIdxs, capacity);
+    }
+
+    /** Compares the result of each operator of the window with the result of a new operator over the window. */
+    private void checkResults(final AggregationWindow window, final String name) {
+        for (int opIdx = 0; opIdx < m_ops.length; opIdx++) {
+            final AggregationOperator op = m_ops[opIdx];
+            final AggregationOperator reference =
+                op.createInstance(op.getGlobalSettings(), op.getOperatorColumnSettings());
+            for (int i = 0; i < window.size(); i++) {
+                reference.compute(window.get(i), m_colIdxs[opIdx]);
+            }
+            final String message = name + ", " + op.getLabel() + " on column " + m_colIdxs[opIdx]
+                + " (incl. missing: " + op.getOperatorColumnSettings().inclMissingCells() + "), window "
+                + (window.isEmpty() ? "empty" : "starting at " + window.getFirst().getKey());
+            assertResult(message, reference.getResult(), window.getResult(opIdx));
+        }
+    }
+
+    private static void assertResult(final String message, final DataCell expected, final DataCell actual) {
+        if (!expected.isMissing() && !(expected instanceof IntValue || expected instanceof LongValue)
+            && expected instanceof DoubleValue && actual instanceof DoubleValue) {
+            final double e = ((DoubleValue)expected).getDoubleValue();
+            final double a = ((DoubleValue)actual).getDoubleValue();
+            assertEquals(message, e, a, 1e-9 * Math.max(1, Math.abs(e)));
+        } else {
+            assertEquals(message, expected, actual);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026: created
+ */
+package org.knime.timeseries.node.movagg;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+
+/**
+ * Sliding window of rows used by the {@link MovingAggregationTableFactory}. The rows are kept in a ring buffer and
+ * the aggregates of the window are maintained incrementally while rows are added at the end and removed from the
+ * front of the window.
+ *
+ * {@link AggregationOperator#isMergeable() Mergeable} operators are evaluated using the two stacks algorithm:
+ * new rows are added to a back aggregate. When the first row is removed while the front stack is empty, the suffix
+ * aggregates of all rows currently in the window are computed once and the back aggregate is cleared. The result of
+ * a window is the merge of the top of the front stack and the back aggregate. Each row is therefore considered at
+ * most twice which makes the costs per row independent of the window length. All other operators are computed over
+ * all rows of the window for each result.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AggregationWindow {
+
+    private final DataRow[] m_rows;
+
+    private int m_first = 0;
+
+    private int m_size = 0;
+
+    private final ColumnWindow[] m_cols;
+
+    /**
+     * @param ops the operators to compute, one per aggregation column
+     * @param colIdxs the indices of the aggregation columns
+     * @param capacity the maximum number of rows in the window
+     */
+    AggregationWindow(final AggregationOperator[] ops, final int[] colIdxs, final int capacity) {
+        m_rows = new DataRow[capacity];
+        m_cols = new ColumnWindow[ops.length];
+        for (int i = 0; i < ops.length; i++) {
+            m_cols[i] = new ColumnWindow(ops[i], colIdxs[i], capacity);
+        }
+    }
+
+    /**
+     * @param row the row to add at the end of the window
+     * @throws IllegalStateException if the window is full
+     */
+    void add(final DataRow row) {
+        if (m_size == m_rows.length) {
+            throw new IllegalStateException("Window is full");
+        }
+        m_rows[(m_first + m_size) % m_rows.length] = row;
+        m_size++;
+        for (final ColumnWindow col : m_cols) {
+            col.add(row);
+        }
+    }
+
+    /**
+     * Removes the first row of the window.
+     */
+    void removeFirst() {
+        if (m_size == 0) {
+            throw new IllegalStateException("Window is empty");
+        }
+        for (final ColumnWindow col : m_cols) {
+            col.removeFirst();
+        }
+        m_rows[m_first] = null;
+        m_first = (m_first + 1) % m_rows.length;
+        m_size--;
+    }
+
+    /**
+     * @param i the position of the row in the window
+     * @return the row at the given position
+     */
+    DataRow get(final int i) {
+        return m_rows[(m_first + i) % m_rows.length];
+    }
+
+    /**
+     * @return the first row of the window
+     */
+    DataRow getFirst() {
+        return get(0);
+    }
+
+    /**
+     * @return the number of rows in the window
+     */
+    int size() {
+        return m_size;
+    }
+
+    /**
+     * @return <code>true</code> if the window contains no rows
+     */
+    boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    /**
+     * @param opIdx the index of the operator
+     * @return the result of the operator over all rows of the window
+     */
+    DataCell getResult(final int opIdx) {
+        return m_cols[opIdx].getResult();
+    }
+
+    /** Aggregation state of a single operator. */
+    private final class ColumnWindow {
+
+        private final AggregationOperator m_op;
+
+        private final int m_colIdx;
+
+        /** Aggregate of the rows that have been added since the last flip, <code>null</code> if not mergeable. */
+        private final AggregationOperator m_back;
+
+        /** m_front[i] is the aggregate of the rows i to the end of the front stack at the time of the last flip. */
+        private final AggregationOperator[] m_front;
+
+        private int m_frontStart = 0;
+
+        private int m_frontSize = 0;
+
+        ColumnWindow(final AggregationOperator op, final int colIdx, final int capacity) {
+            m_op = op;
+            m_colIdx = colIdx;
+            if (op.isMergeable()) {
+                m_back = createInstance();
+                m_front = new AggregationOperator[capacity];
+            } else {
+                m_back = null;
+                m_front = null;
+            }
+        }
+
+        private AggregationOperator createInstance() {
+            return m_op.createInstance(m_op.getGlobalSettings(), m_op.getOperatorColumnSettings());
+        }
+
+        void add(final DataRow row) {
+            if (m_back != null) {
+                m_back.compute(row, m_colIdx);
+            }
+        }
+
+        /** Must be called before the row is removed from the ring buffer. */
+        void removeFirst() {
+            if (m_back == null) {
+                return;
+            }
+            if (m_frontSize == 0) {
+                //all rows of the window belong to the back, move them to the front stack
+                for (int i = m_size - 1; i >= 0; i--) {
+                    if (m_front[i] == null) {
+                        m_front[i] = createInstance();
+                    }
+                    final AggregationOperator front = m_front[i];
+                    front.reset();
+                    if (i < m_size - 1) {
+                        front.merge(m_front[i + 1]);
+                    }
+                    front.compute(get(i), m_colIdx);
+                }
+                m_frontStart = 0;
+                m_frontSize = m_size;
+                m_back.reset();
+            }
+            m_frontStart++;
+            m_frontSize--;
+        }
+
+        DataCell getResult() {
+            if (m_back == null) {
+                for (int i = 0; i < m_size; i++) {
+                    m_op.compute(get(i), m_colIdx);
+                }
+            } else {
+                if (m_frontSize > 0) {
+                    m_op.merge(m_front[m_frontStart]);
+                }
+                m_op.merge(m_back);
+            }
+            final DataCell result = m_op.getResult();
+            m_op.reset();
+            return result;
+        }
+    }
+}
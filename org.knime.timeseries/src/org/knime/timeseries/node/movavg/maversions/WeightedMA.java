@@ -48,7 +48,6 @@
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataType;
 import org.knime.core.data.def.DoubleCell;
-import org.knime.timeseries.util.SlidingWindow;
 
 /**
  * calculates a freely weighted time series.
@@ -58,7 +57,10 @@
  */
 public class WeightedMA extends MovingAverage {
 
-    private SlidingWindow<Double> m_window;
+    /** ring buffer with the values of the window, the oldest value is at m_first. */
+    private final double[] m_window;
+    private int m_first = 0;
+    private int m_count = 0;
     private double[] m_weights;
 
     /**
@@ -66,7 +68,7 @@ public class WeightedMA extends MovingAverage {
      * they should sum up to 1 (if not... you get bad results, thats all)
      */
     public WeightedMA(final double[] weights) {
-        m_window = new SlidingWindow<Double>(weights.length);
+        m_window = new double[weights.length];
         m_weights = new double[weights.length];
         System.arraycopy(weights, 0, m_weights, 0, weights.length);
     }
@@ -77,8 +79,13 @@ public WeightedMA(final double[] weights) {
     @Override
     public DataCell getMeanandUpdate(final double newValue) {
         // insert the value to the window
-        m_window.addandget(newValue);
-        if (!m_window.isFull()) {
+        if (m_count < m_window.length) {
+            m_window[m_count++] = newValue;
+        } else if (m_window.length > 0) {
+            m_window[m_first] = newValue;
+            m_first = (m_first + 1) % m_window.length;
+        }
+        if (m_count < m_window.length) {
             return DataType.getMissingCell();
         }
         return new DoubleCell(getMean());
@@ -156,10 +163,13 @@ public static WeightedMA getForwardGaussianWeightedInstance(
    public double getMean() {
 
         double avg = 0;
-        int counter = 0;
-        for (Double d : m_window.getList()) {
-            avg += d.doubleValue() * m_weights[counter];
-            counter++;
+        // the values from the oldest to the end of the buffer, followed by the wrapped around ones
+        final int tail = m_count - m_first;
+        for (int i = 0; i < tail; i++) {
+            avg += m_window[m_first + i] * m_weights[i];
+        }
+        for (int i = 0; i < m_first; i++) {
+            avg += m_window[i] * m_weights[tail + i];
         }
         return avg;
     }
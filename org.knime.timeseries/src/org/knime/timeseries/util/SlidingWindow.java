@@ -50,7 +50,8 @@
 /**
  * This class provides a sliding window. It controls the size of the window.
  * It is only possible to insert new values, replace previous ones or get the
- * whole list.
+ * whole list. The values are kept in a ring buffer, so all operations except
+ * {@link #getList()} take constant time.
  *
  * @author Adae, University of Konstanz
  * @param <T> the object stored in the window.
@@ -58,14 +59,16 @@
 public class SlidingWindow<T extends Object> {
 
     private final int m_size;
-    private LinkedList<T> m_list;
+    private final Object[] m_values;
+    private int m_first = 0;
+    private int m_count = 0;
 
     /**
      * @param size the size of the sliding window
      */
     public SlidingWindow(final int size) {
         m_size = size;
-        m_list = new LinkedList<T>();
+        m_values = new Object[size];
     }
 
 
@@ -75,28 +78,35 @@ public SlidingWindow(final int size) {
      * if the window was not yet full.
      */
     public T addandget(final T e) {
-        T ret = null;
-        if (m_list.size() >= m_size) {
-            // remove the first
-            ret = m_list.removeFirst();
+        if (m_size == 0) {
+            return e;
         }
-        m_list.add(e);
+        if (m_count < m_size) {
+            m_values[(m_first + m_count) % m_size] = e;
+            m_count++;
+            return null;
+        }
+        // replace the first
+        final T ret = elementAt(m_first);
+        m_values[m_first] = e;
+        m_first = (m_first + 1) % m_size;
         return ret;
     }
 
+    @SuppressWarnings("unchecked")
+    private T elementAt(final int idx) {
+        return (T)m_values[idx];
+    }
+
     /**
      * @param i the position of the wished row  in the window
      * @return the data row on position i, or null, if there  is no such row.
      */
     public T get(final int i) {
-        if (i >= m_size) {
-            return null;
-        }
-        try {
-            return m_list.get(i);
-        } catch (IndexOutOfBoundsException e) {
+        if (i < 0 || i >= m_count) {
             return null;
         }
+        return elementAt((m_first + i) % m_size);
     }
 
     /**Replaces the Data Row at position i with the given.
@@ -105,22 +115,30 @@ public T get(final int i) {
      * @return true, if the replacement was successful, false otherwise.
      */
     public boolean replace(final int i, final T e) {
-        if (i >= m_size || e == null) {
-            return false;
-        }
-        try {
-            m_list.set(i, e);
-        } catch (final IndexOutOfBoundsException exp) {
+        if (i < 0 || i >= m_count || e == null) {
             return false;
         }
+        m_values[(m_first + i) % m_size] = e;
         return true;
     }
 
     /**
-     * @return the complete stored window.
+     * @return a copy of the complete stored window.
      */
     public LinkedList<T> getList() {
-        return m_list;
+        final LinkedList<T> list = new LinkedList<T>();
+        for (int i = 0; i < m_count; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    /**
+     * @return the number of elements in the window
+     * @since 3.6
+     */
+    public int size() {
+        return m_count;
     }
 
     /**
@@ -128,7 +146,7 @@ public LinkedList<T> getList() {
      *  @since 2.10
      */
     public boolean isFull() {
-        return (m_list.size() >= m_size);
+        return (m_count >= m_size);
     }
 
 }